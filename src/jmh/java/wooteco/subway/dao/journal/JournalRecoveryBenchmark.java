@@ -0,0 +1,81 @@
+package wooteco.subway.dao.journal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import wooteco.subway.dao.memory.MemoryStore;
+import wooteco.subway.domain.Station;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JournalRecoveryBenchmark {
+    private static final int RECORD_COUNT = 1_000_000;
+    private static final int STATION_COUNT = 10_000;
+    private static final int LINE_COUNT = 1_000;
+    private static final int SEGMENT_BYTES = 64 * 1024 * 1024;
+
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal-benchmark");
+        Journal journal = new Journal(directory, SEGMENT_BYTES);
+        journal.recover(new MemoryStore());
+        for (int i = 1; i <= STATION_COUNT; i++) {
+            journal.stationSaved(new Station((long)i, "역" + i));
+        }
+        for (int i = 1; i <= LINE_COUNT; i++) {
+            journal.lineSaved(i, "노선" + i, "bg-red-600", 0, 0L);
+        }
+        int sectionCount = RECORD_COUNT - STATION_COUNT - LINE_COUNT;
+        for (int i = 1; i <= sectionCount; i++) {
+            long up = i % STATION_COUNT + 1;
+            long down = (i + 1) % STATION_COUNT + 1;
+            journal.sectionSaved(i, i % LINE_COUNT + 1, up, down, 1);
+        }
+        journal.sync();
+        journal.close();
+    }
+
+    @Benchmark
+    public MemoryStore recover() {
+        Journal journal = new Journal(directory, SEGMENT_BYTES);
+        MemoryStore store = new MemoryStore(journal);
+        journal.recover(store);
+        journal.close();
+        return store;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            List<Path> paths = files.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+            for (Path path : paths) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
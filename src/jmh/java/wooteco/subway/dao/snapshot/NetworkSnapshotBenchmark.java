@@ -0,0 +1,85 @@
+package wooteco.subway.dao.snapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import wooteco.subway.dao.memory.MemorySnapshotDao;
+import wooteco.subway.dao.memory.MemoryStore;
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NetworkSnapshotBenchmark {
+    private static final int LINE_COUNT = 1_000;
+    private static final int SECTIONS_PER_LINE = 100;
+
+    private Path directory;
+    private Path path;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<Station> stations = new ArrayList<>();
+        List<Line> lines = new ArrayList<>();
+        long sectionId = 1L;
+        for (int line = 0; line < LINE_COUNT; line++) {
+            List<Section> sections = new ArrayList<>();
+            Station up = station(stations);
+            for (int i = 0; i < SECTIONS_PER_LINE; i++) {
+                Station down = station(stations);
+                sections.add(new Section(sectionId++, up, down, 1));
+                up = down;
+            }
+            lines.add(Line.from(new Line((long)line + 1, "노선" + line, "bg-red-600"), sections));
+        }
+        directory = Files.createTempDirectory("snapshot-benchmark");
+        path = directory.resolve("network.snapshot");
+        NetworkSnapshotFormat.write(NetworkSnapshot.of(stations, lines), path);
+    }
+
+    private Station station(List<Station> stations) {
+        Station station = new Station((long)stations.size() + 1, "역" + stations.size());
+        stations.add(station);
+        return station;
+    }
+
+    @Benchmark
+    public NetworkSnapshot map() {
+        return NetworkSnapshotFormat.map(path);
+    }
+
+    @Benchmark
+    public MemoryStore warmStart() {
+        MemoryStore store = new MemoryStore();
+        new MemorySnapshotDao(store).replace(NetworkSnapshotFormat.map(path));
+        return store;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+        Files.deleteIfExists(directory);
+    }
+}
@@ -0,0 +1,101 @@
+package wooteco.subway.domain.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.demand.DemandMatrix;
+import wooteco.subway.domain.graph.StationGraph;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SimulationBenchmark {
+    private static final int GRID_SIZE = 20;
+    private static final int OD_PAIRS = 20_000;
+    private static final int TRIPS_PER_PAIR = 50;
+
+    @Param({"1", "2", "4", "8"})
+    private int cores;
+
+    private ForkJoinPool pool;
+    private Simulation simulation;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class EventCounter {
+        public long events;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new ForkJoinPool(cores);
+        StationGraph graph = StationGraph.from(gridLines());
+        DemandMatrix matrix = new DemandMatrix(graph);
+        Random random = new Random(42);
+        int stationCount = GRID_SIZE * GRID_SIZE;
+        for (int pair = 0; pair < OD_PAIRS; pair++) {
+            matrix.add(random.nextInt(stationCount) + 1, random.nextInt(stationCount) + 1, TRIPS_PER_PAIR);
+        }
+        simulation = Simulation.prepare(graph, matrix, SimulationOptions.standard());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public SimulationResult simulate(EventCounter counter) {
+        SimulationResult result = pool.submit(simulation::run).join();
+        counter.events += result.getEvents();
+        return result;
+    }
+
+    private List<Line> gridLines() {
+        Station[][] stations = new Station[GRID_SIZE][GRID_SIZE];
+        for (int row = 0; row < GRID_SIZE; row++) {
+            for (int column = 0; column < GRID_SIZE; column++) {
+                long id = row * GRID_SIZE + column + 1;
+                stations[row][column] = new Station(id, String.valueOf(id));
+            }
+        }
+
+        List<Line> lines = new ArrayList<>();
+        long sectionId = 1;
+        for (int i = 0; i < GRID_SIZE; i++) {
+            List<Section> rowSections = new ArrayList<>();
+            List<Section> columnSections = new ArrayList<>();
+            for (int j = 0; j + 1 < GRID_SIZE; j++) {
+                rowSections.add(new Section(sectionId++, stations[i][j], stations[i][j + 1], 2));
+                columnSections.add(new Section(sectionId++, stations[j][i], stations[j + 1][i], 2));
+            }
+            lines.add(Line.from(new Line(i * 2L + 1, "가로" + i, "bg-red-600"), rowSections));
+            lines.add(Line.from(new Line(i * 2L + 2, "세로" + i, "bg-blue-600"), columnSections));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,102 @@
+package wooteco.subway.domain.timetable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TimetableRaptorBenchmark {
+    private static final int GRID_SIZE = 30;
+    private static final int QUERY_COUNT = 1024;
+    private static final int FIRST_DEPARTURE = 5 * 3600;
+    private static final int HEADWAY = 300;
+    private static final int TRIPS_PER_DIRECTION = 200;
+    private static final int SECONDS_PER_STOP = 120;
+
+    private TimetableRaptor raptor;
+    private int[] sources;
+    private int[] targets;
+    private int[] departures;
+    private int query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Line> lines = new ArrayList<>();
+        List<Trip> trips = new ArrayList<>();
+        Station[][] stations = new Station[GRID_SIZE][GRID_SIZE];
+        for (int row = 0; row < GRID_SIZE; row++) {
+            for (int column = 0; column < GRID_SIZE; column++) {
+                long id = row * GRID_SIZE + column + 1;
+                stations[row][column] = new Station(id, String.valueOf(id));
+            }
+        }
+
+        long sectionId = 1;
+        for (int i = 0; i < GRID_SIZE; i++) {
+            List<Section> rowSections = new ArrayList<>();
+            List<Section> columnSections = new ArrayList<>();
+            for (int j = 0; j + 1 < GRID_SIZE; j++) {
+                rowSections.add(new Section(sectionId++, stations[i][j], stations[i][j + 1], 2));
+                columnSections.add(new Section(sectionId++, stations[j][i], stations[j + 1][i], 2));
+            }
+            Line rowLine = Line.from(new Line(i * 2L + 1, "가로" + i, "bg-red-600"), rowSections);
+            Line columnLine = Line.from(new Line(i * 2L + 2, "세로" + i, "bg-blue-600"), columnSections);
+            lines.add(rowLine);
+            lines.add(columnLine);
+            addTrips(trips, rowLine.getId(), i * 17);
+            addTrips(trips, columnLine.getId(), i * 31);
+        }
+
+        TimetableNetwork network = TimetableNetwork.from(lines, trips);
+        raptor = new TimetableRaptor(network, 8);
+        Random random = new Random(42);
+        sources = new int[QUERY_COUNT];
+        targets = new int[QUERY_COUNT];
+        departures = new int[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            sources[i] = random.nextInt(network.stopCount());
+            targets[i] = random.nextInt(network.stopCount());
+            departures[i] = FIRST_DEPARTURE + random.nextInt(TRIPS_PER_DIRECTION * HEADWAY / 2);
+        }
+    }
+
+    private void addTrips(List<Trip> trips, Long lineId, int offset) {
+        for (TripDirection direction : TripDirection.values()) {
+            for (int trip = 0; trip < TRIPS_PER_DIRECTION; trip++) {
+                int[] times = new int[GRID_SIZE];
+                for (int stop = 0; stop < GRID_SIZE; stop++) {
+                    times[stop] = FIRST_DEPARTURE + offset + trip * HEADWAY + stop * SECONDS_PER_STOP;
+                }
+                trips.add(new Trip(lineId, direction, times));
+            }
+        }
+    }
+
+    @Benchmark
+    public int earliestArrival() {
+        int index = query++ & (QUERY_COUNT - 1);
+        return raptor.search(sources[index], targets[index], departures[index]).legCount();
+    }
+}
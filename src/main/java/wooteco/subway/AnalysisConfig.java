@@ -0,0 +1,16 @@
+package wooteco.subway;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AnalysisConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool analysisPool() {
+        int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        return new ForkJoinPool(parallelism);
+    }
+}
@@ -0,0 +1,47 @@
+package wooteco.subway;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import wooteco.subway.dao.feed.ChangeFeedDao;
+import wooteco.subway.dao.feed.ChangeFeedDaoImpl;
+import wooteco.subway.dao.feed.ChangeFeedPublisher;
+import wooteco.subway.dao.feed.ChangeFeedSubscriber;
+
+@Configuration
+@ConditionalOnProperty(name = "subway.change-feed.enabled", havingValue = "true", matchIfMissing = true)
+public class ChangeFeedConfig {
+
+    @Bean
+    public ChangeFeedDao changeFeedDao(JdbcTemplate jdbcTemplate) {
+        return new ChangeFeedDaoImpl(jdbcTemplate);
+    }
+
+    @Bean
+    public ChangeFeedPublisher changeFeedPublisher(ChangeFeedDao changeFeedDao,
+        @Value("${subway.node-id:}") String nodeId) {
+        if (nodeId.isBlank()) {
+            return new ChangeFeedPublisher(changeFeedDao, UUID.randomUUID().toString());
+        }
+        return new ChangeFeedPublisher(changeFeedDao, nodeId);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ChangeFeedSubscriber changeFeedSubscriber(ChangeFeedDao changeFeedDao,
+        ChangeFeedPublisher changeFeedPublisher, ApplicationEventPublisher eventPublisher,
+        @Value("${subway.change-feed.poll-millis:200}") long pollMillis,
+        @Value("${subway.change-feed.max-staleness-millis:5000}") long maxStalenessMillis,
+        @Value("${subway.change-feed.gap-timeout-millis:1000}") long gapTimeoutMillis,
+        @Value("${subway.change-feed.retention-millis:600000}") long retentionMillis) {
+        ChangeFeedSubscriber subscriber = new ChangeFeedSubscriber(changeFeedDao, eventPublisher,
+            changeFeedPublisher.getNodeId(), maxStalenessMillis, gapTimeoutMillis, retentionMillis);
+        subscriber.start(pollMillis);
+        return subscriber;
+    }
+}
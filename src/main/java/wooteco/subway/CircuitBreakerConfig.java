@@ -0,0 +1,50 @@
+package wooteco.subway;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.dao.breaker.CircuitBreaker;
+import wooteco.subway.dao.breaker.CircuitBreakerLineDao;
+import wooteco.subway.dao.breaker.CircuitBreakerStationDao;
+import wooteco.subway.domain.NetworkReplacedEvent;
+
+@Configuration
+@ConditionalOnProperty(name = "subway.circuit-breaker.enabled", havingValue = "true", matchIfMissing = true)
+public class CircuitBreakerConfig {
+
+    @Bean
+    public CircuitBreaker databaseCircuitBreaker(
+        @Value("${subway.circuit-breaker.slow-call-millis:500}") long slowCallMillis,
+        @Value("${subway.circuit-breaker.failure-rate-threshold:50}") int failureRatePercent,
+        @Value("${subway.circuit-breaker.window-size:50}") int windowSize,
+        @Value("${subway.circuit-breaker.minimum-calls:20}") int minimumCalls,
+        @Value("${subway.circuit-breaker.open-millis:5000}") long openMillis,
+        @Value("${subway.circuit-breaker.half-open-probes:3}") int halfOpenProbes,
+        @Value("${subway.circuit-breaker.max-concurrent-reads:16}") int maxConcurrentReads,
+        ApplicationEventPublisher eventPublisher) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(slowCallMillis, failureRatePercent, windowSize,
+            minimumCalls, openMillis, halfOpenProbes, maxConcurrentReads);
+        circuitBreaker.onRecovery(() -> eventPublisher.publishEvent(new NetworkReplacedEvent(true)));
+        return circuitBreaker;
+    }
+
+    @Bean
+    @Primary
+    public LineDao circuitBreakerLineDao(LineDao lineDao, CircuitBreaker databaseCircuitBreaker,
+        @Value("${subway.circuit-breaker.snapshot-max-age-millis:60000}") long snapshotMaxAgeMillis) {
+        return new CircuitBreakerLineDao(lineDao, databaseCircuitBreaker, snapshotMaxAgeMillis);
+    }
+
+    @Bean
+    @Primary
+    public StationDao circuitBreakerStationDao(StationDao stationDao, CircuitBreaker databaseCircuitBreaker,
+        @Value("${subway.circuit-breaker.snapshot-max-age-millis:60000}") long snapshotMaxAgeMillis) {
+        return new CircuitBreakerStationDao(stationDao, databaseCircuitBreaker, snapshotMaxAgeMillis);
+    }
+}
@@ -0,0 +1,31 @@
+package wooteco.subway;
+
+import java.nio.file.Paths;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import wooteco.subway.dao.journal.Journal;
+import wooteco.subway.dao.memory.MemoryStore;
+
+@Configuration
+@Profile("journal")
+public class JournalStorageConfig {
+
+    @Bean(destroyMethod = "close")
+    public Journal journal(@Value("${subway.journal.directory:subway-journal}") String directory,
+        @Value("${subway.journal.segment-bytes:67108864}") int segmentBytes) {
+        return new Journal(Paths.get(directory), segmentBytes);
+    }
+
+    @Bean
+    public MemoryStore memoryStore(Journal journal,
+        @Value("${subway.journal.compaction-interval-seconds:300}") long compactionIntervalSeconds) {
+        MemoryStore store = new MemoryStore(journal);
+        journal.recover(store);
+        journal.startCompaction(compactionIntervalSeconds);
+        return store;
+    }
+}
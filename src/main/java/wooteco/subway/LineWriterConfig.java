@@ -0,0 +1,17 @@
+package wooteco.subway;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LineWriterConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService lineWriterPool() {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        return Executors.newFixedThreadPool(threads);
+    }
+}
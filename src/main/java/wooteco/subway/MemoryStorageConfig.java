@@ -0,0 +1,36 @@
+package wooteco.subway;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import wooteco.subway.dao.memory.MemorySnapshotFile;
+import wooteco.subway.dao.memory.MemorySnapshotter;
+import wooteco.subway.dao.memory.MemoryStore;
+
+@Configuration
+@Profile("memory")
+public class MemoryStorageConfig {
+
+    @Bean
+    public MemoryStore memoryStore(@Value("${subway.memory.snapshot-path:subway-memory.snapshot}") String path) {
+        MemoryStore store = new MemoryStore();
+        Path snapshotPath = Paths.get(path);
+        if (Files.exists(snapshotPath)) {
+            store.restore(MemorySnapshotFile.read(snapshotPath));
+        }
+        return store;
+    }
+
+    @Bean(destroyMethod = "close")
+    public MemorySnapshotter memorySnapshotter(MemoryStore memoryStore,
+        @Value("${subway.memory.snapshot-path:subway-memory.snapshot}") String path,
+        @Value("${subway.memory.snapshot-interval-seconds:60}") long intervalSeconds) {
+        return new MemorySnapshotter(memoryStore, Paths.get(path), intervalSeconds);
+    }
+}
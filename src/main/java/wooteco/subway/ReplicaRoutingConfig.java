@@ -0,0 +1,79 @@
+package wooteco.subway;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import wooteco.subway.dao.routing.DataSourcePool;
+import wooteco.subway.dao.routing.ReplicaLagMonitor;
+import wooteco.subway.dao.routing.ReplicaRoutingDataSource;
+import wooteco.subway.ui.PrimaryPinInterceptor;
+
+@Configuration
+@ConditionalOnProperty("subway.datasource.replica-urls")
+public class ReplicaRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties,
+        @Value("${subway.datasource.replica-urls}") String[] replicaUrls,
+        @Value("${subway.datasource.replica-max-lag-millis:1000}") long maxLagMillis,
+        @Value("${subway.datasource.read-your-writes-millis:2000}") long pinMillis) {
+        HikariDataSource primary = pool(properties, properties.determineUrl(), "primary");
+        List<DataSourcePool> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.length; i++) {
+            String name = "replica-" + i;
+            HikariDataSource replica = pool(properties, replicaUrls[i].trim(), name);
+            replica.setReadOnly(true);
+            replicas.add(DataSourcePool.replica(name, replica));
+        }
+        return new ReplicaRoutingDataSource(DataSourcePool.primary(primary), replicas, maxLagMillis,
+            pinMillis);
+    }
+
+    private HikariDataSource pool(DataSourceProperties properties, String url, String name) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .url(url)
+            .build();
+        dataSource.setPoolName(name);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+        @Value("${subway.datasource.replica-lag-check-millis:500}") long intervalMillis) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaRoutingDataSource);
+        monitor.start(intervalMillis);
+        return monitor;
+    }
+
+    @Bean
+    public WebMvcConfigurer primaryPinConfigurer(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        PrimaryPinInterceptor interceptor = new PrimaryPinInterceptor(replicaRoutingDataSource.getPinMillis());
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor);
+            }
+        };
+    }
+}
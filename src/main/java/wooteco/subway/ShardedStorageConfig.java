@@ -0,0 +1,48 @@
+package wooteco.subway;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import wooteco.subway.dao.shard.ShardPlacement;
+import wooteco.subway.dao.shard.Shards;
+
+@Configuration
+@Profile("sharded")
+public class ShardedStorageConfig {
+
+    @Bean(destroyMethod = "close")
+    public Shards shards(DataSource dataSource, DataSourceProperties properties,
+        @Value("${subway.shard.urls}") String[] shardUrls,
+        @Value("${subway.shard.slots:64}") int slots,
+        @Value("${subway.shard.placement:}") String placement,
+        @Value("${subway.shard.initialize-schema:true}") boolean initializeSchema) {
+        List<DataSource> dataSources = new ArrayList<>();
+        dataSources.add(dataSource);
+        for (int i = 0; i < shardUrls.length; i++) {
+            HikariDataSource shard = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(shardUrls[i].trim())
+                .build();
+            shard.setPoolName("shard-" + (i + 1));
+            if (initializeSchema) {
+                new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(shard);
+            }
+            dataSources.add(shard);
+        }
+        Shards shards = new Shards(dataSources, ShardPlacement.of(slots, dataSources.size(), placement));
+        shards.recover();
+        return shards;
+    }
+}
@@ -0,0 +1,56 @@
+package wooteco.subway;
+
+import java.nio.file.Paths;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import wooteco.subway.service.SnapshotService;
+
+@Configuration
+@ConditionalOnProperty("subway.snapshot.warm-start-path")
+public class WarmStartConfig {
+    private static final int BEFORE_WEB_SERVER_PHASE = 0;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Bean
+    public SmartLifecycle snapshotWarmStart(SnapshotService snapshotService,
+        @Value("${subway.snapshot.warm-start-path}") String path) {
+        return new SmartLifecycle() {
+            private volatile boolean running;
+
+            @Override
+            public void start() {
+                long started = System.nanoTime();
+                if (snapshotService.warmStart(Paths.get(path))) {
+                    logger.info(String.format("스냅샷 %s 을(를) %dms 만에 불러왔습니다.", path,
+                        (System.nanoTime() - started) / 1_000_000));
+                } else {
+                    logger.info("저장된 노선도가 있어 스냅샷을 불러오지 않습니다.");
+                }
+                running = true;
+            }
+
+            @Override
+            public void stop() {
+                running = false;
+            }
+
+            @Override
+            public boolean isRunning() {
+                return running;
+            }
+
+            @Override
+            public int getPhase() {
+                return BEFORE_WEB_SERVER_PHASE;
+            }
+        };
+    }
+}
@@ -8,6 +8,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
@@ -20,6 +21,7 @@ import wooteco.subway.domain.Section;
 import wooteco.subway.domain.Station;
 
 @Repository
+@Profile("!memory & !journal & !sharded")
 public class LineDaoImpl implements LineDao {
 
     private final JdbcTemplate jdbcTemplate;
@@ -30,13 +32,14 @@ public class LineDaoImpl implements LineDao {
 
     @Override
     public Long save(Line line) {
-        final String sql = "INSERT INTO LINE (name, color) VALUES (?, ?)";
+        final String sql = "INSERT INTO LINE (name, color, extra_fare) VALUES (?, ?, ?)";
 
         KeyHolder keyHolder = new GeneratedKeyHolder();
         jdbcTemplate.update(connection -> {
             PreparedStatement ps = connection.prepareStatement(sql, new String[] {"id"});
             ps.setString(1, line.getName());
             ps.setString(2, line.getColor());
+            ps.setInt(3, line.getExtraFare());
             return ps;
         }, keyHolder);
 
@@ -45,8 +48,8 @@ public class LineDaoImpl implements LineDao {
 
     @Override
     public List<Line> findAll() {
-        final String sql = "SELECT l.id as line_id, l.name as line_name, l.color as line_color, "
-            + "s.id as section_id, s.up_station_id, us.name as up_station_name, s.down_station_id, "
+        final String sql = "SELECT l.id as line_id, l.name as line_name, l.color as line_color, l.extra_fare as line_extra_fare, "
+            + "l.version as line_version, s.id as section_id, s.up_station_id, us.name as up_station_name, s.down_station_id, "
             + "ds.name as down_station_name, s.distance "
             + "FROM LINE as l "
             + "LEFT JOIN SECTION AS s ON s.line_id = l.id "
@@ -74,7 +77,9 @@ public class LineDaoImpl implements LineDao {
             final Long lineId = resultSet.getLong("line_id");
             final String name = resultSet.getString("line_name");
             final String color = resultSet.getString("line_color");
-            Line line = new Line(lineId, name, color);
+            final int extraFare = resultSet.getInt("line_extra_fare");
+            final long version = resultSet.getLong("line_version");
+            Line line = new Line(lineId, name, color, extraFare, version);
 
             Section section = serializeSection(resultSet);
             return new LineSection(line, section);
@@ -95,6 +100,7 @@ public class LineDaoImpl implements LineDao {
 
     @Override
     public boolean deleteById(Long id) {
+        jdbcTemplate.update("DELETE FROM SECTION WHERE line_id = ?", id);
         final String sql = "DELETE FROM LINE WHERE id = ?";
         int updateSize = jdbcTemplate.update(sql, id);
         return updateSize != 0;
@@ -102,8 +108,8 @@ public class LineDaoImpl implements LineDao {
 
     @Override
     public Optional<Line> findById(Long id) {
-        final String sql = "SELECT l.id as line_id, l.name as line_name, l.color as line_color, "
-            + "s.id as section_id, s.up_station_id, us.name as up_station_name, s.down_station_id, "
+        final String sql = "SELECT l.id as line_id, l.name as line_name, l.color as line_color, l.extra_fare as line_extra_fare, "
+            + "l.version as line_version, s.id as section_id, s.up_station_id, us.name as up_station_name, s.down_station_id, "
             + "ds.name as down_station_name, s.distance "
             + "FROM LINE as l "
             + "LEFT JOIN SECTION AS s ON s.line_id = l.id "
@@ -128,8 +134,15 @@ public class LineDaoImpl implements LineDao {
 
     @Override
     public boolean updateById(Long id, Line line) {
-        final String sql = "UPDATE LINE SET name = ?, color = ? WHERE id = ?";
-        int updateSize = jdbcTemplate.update(sql, line.getName(), line.getColor(), id);
+        final String sql = "UPDATE LINE SET name = ?, color = ?, extra_fare = ?, version = version + 1 WHERE id = ?";
+        int updateSize = jdbcTemplate.update(sql, line.getName(), line.getColor(), line.getExtraFare(), id);
+        return updateSize != 0;
+    }
+
+    @Override
+    public boolean compareAndIncrementVersion(Long id, long expectedVersion) {
+        final String sql = "UPDATE LINE SET version = version + 1 WHERE id = ? AND version = ?";
+        int updateSize = jdbcTemplate.update(sql, id, expectedVersion);
         return updateSize != 0;
     }
 
@@ -0,0 +1,22 @@
+package wooteco.subway.dao;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import wooteco.subway.domain.Line;
+
+public interface LineHistoryDao {
+
+    long nextRevision();
+
+    long findRevisionAt(LocalDateTime time);
+
+    void record(long revision, Line line);
+
+    void recordDeleted(long revision, Long lineId);
+
+    Optional<Line> findById(Long id, long revision);
+
+    List<Line> findAll(long revision);
+}
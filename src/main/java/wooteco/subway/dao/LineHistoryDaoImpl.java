@@ -0,0 +1,189 @@
+package wooteco.subway.dao;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+@Repository
+public class LineHistoryDaoImpl implements LineHistoryDao {
+    private static final long OPEN = Long.MAX_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LineHistoryDaoImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public long nextRevision() {
+        final String sql = "INSERT INTO REVISION (created_at) VALUES (?)";
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, new String[] {"id"});
+            ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+            return ps;
+        }, keyHolder);
+
+        return keyHolder.getKey().longValue();
+    }
+
+    @Override
+    public long findRevisionAt(LocalDateTime time) {
+        final String sql = "SELECT id FROM REVISION WHERE created_at <= ? ORDER BY created_at DESC, id DESC LIMIT 1";
+        List<Long> revisions = jdbcTemplate.queryForList(sql, Long.class, Timestamp.valueOf(time));
+        if (revisions.isEmpty()) {
+            return 0L;
+        }
+        return revisions.get(0);
+    }
+
+    @Override
+    public void record(long revision, Line line) {
+        recordLine(revision, line);
+        recordSections(revision, line);
+    }
+
+    private void recordLine(long revision, Line line) {
+        final String sql = "SELECT line_id, name, color, extra_fare FROM LINE_HISTORY "
+            + "WHERE line_id = ? AND valid_to = ?";
+        List<Line> open = jdbcTemplate.query(sql, lineMapper(), line.getId(), OPEN);
+        if (!open.isEmpty() && sameLine(open.get(0), line)) {
+            return;
+        }
+        closeLine(revision, line.getId());
+        final String insertSql = "INSERT INTO LINE_HISTORY (line_id, name, color, extra_fare, valid_from, valid_to) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+        jdbcTemplate.update(insertSql, line.getId(), line.getName(), line.getColor(), line.getExtraFare(), revision,
+            OPEN);
+    }
+
+    private boolean sameLine(Line recorded, Line line) {
+        return recorded.getName().equals(line.getName())
+            && recorded.getColor().equals(line.getColor())
+            && recorded.getExtraFare() == line.getExtraFare();
+    }
+
+    private void recordSections(long revision, Line line) {
+        final String sql = "SELECT section_id, up_station_id, up_station_name, down_station_id, down_station_name, "
+            + "distance FROM SECTION_HISTORY WHERE line_id = ? AND valid_to = ?";
+        Map<Long, Section> open = jdbcTemplate.query(sql, sectionMapper(), line.getId(), OPEN).stream()
+            .collect(Collectors.toMap(Section::getId, Function.identity()));
+        Map<Long, Section> current = new HashMap<>();
+        for (Section section : line.getSections()) {
+            current.put(section.getId(), section);
+        }
+
+        List<Object[]> closed = new ArrayList<>();
+        for (Section section : open.values()) {
+            if (!sameSection(section, current.get(section.getId()))) {
+                closed.add(new Object[] {revision, section.getId(), OPEN});
+            }
+        }
+        List<Object[]> inserted = new ArrayList<>();
+        for (Section section : current.values()) {
+            if (!sameSection(section, open.get(section.getId()))) {
+                inserted.add(new Object[] {section.getId(), line.getId(),
+                    section.getUpStation().getId(), section.getUpStation().getName(),
+                    section.getDownStation().getId(), section.getDownStation().getName(),
+                    section.getDistance(), revision, OPEN});
+            }
+        }
+
+        final String closeSql = "UPDATE SECTION_HISTORY SET valid_to = ? WHERE section_id = ? AND valid_to = ?";
+        jdbcTemplate.batchUpdate(closeSql, closed);
+        final String insertSql = "INSERT INTO SECTION_HISTORY (section_id, line_id, up_station_id, up_station_name, "
+            + "down_station_id, down_station_name, distance, valid_from, valid_to) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        jdbcTemplate.batchUpdate(insertSql, inserted);
+    }
+
+    private boolean sameSection(Section recorded, Section section) {
+        return section != null
+            && Objects.equals(recorded.getUpStation().getId(), section.getUpStation().getId())
+            && Objects.equals(recorded.getDownStation().getId(), section.getDownStation().getId())
+            && recorded.getDistance() == section.getDistance();
+    }
+
+    @Override
+    public void recordDeleted(long revision, Long lineId) {
+        closeLine(revision, lineId);
+        final String sql = "UPDATE SECTION_HISTORY SET valid_to = ? WHERE line_id = ? AND valid_to = ?";
+        jdbcTemplate.update(sql, revision, lineId, OPEN);
+    }
+
+    private void closeLine(long revision, Long lineId) {
+        final String sql = "UPDATE LINE_HISTORY SET valid_to = ? WHERE line_id = ? AND valid_to = ?";
+        jdbcTemplate.update(sql, revision, lineId, OPEN);
+    }
+
+    @Override
+    public Optional<Line> findById(Long id, long revision) {
+        final String sql = "SELECT line_id, name, color, extra_fare FROM LINE_HISTORY "
+            + "WHERE line_id = ? AND valid_to > ? AND valid_from <= ?";
+        List<Line> lines = jdbcTemplate.query(sql, lineMapper(), id, revision, revision);
+        if (lines.isEmpty()) {
+            return Optional.empty();
+        }
+        final String sectionSql = "SELECT section_id, up_station_id, up_station_name, down_station_id, "
+            + "down_station_name, distance FROM SECTION_HISTORY WHERE line_id = ? AND valid_to > ? AND valid_from <= ?";
+        List<Section> sections = jdbcTemplate.query(sectionSql, sectionMapper(), id, revision, revision);
+        if (sections.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(Line.from(lines.get(0), sections));
+    }
+
+    @Override
+    public List<Line> findAll(long revision) {
+        final String sql = "SELECT line_id, name, color, extra_fare FROM LINE_HISTORY "
+            + "WHERE valid_to > ? AND valid_from <= ?";
+        List<Line> lines = jdbcTemplate.query(sql, lineMapper(), revision, revision);
+
+        final String sectionSql = "SELECT line_id, section_id, up_station_id, up_station_name, down_station_id, "
+            + "down_station_name, distance FROM SECTION_HISTORY WHERE valid_to > ? AND valid_from <= ?";
+        Map<Long, List<Section>> sections = new HashMap<>();
+        jdbcTemplate.query(sectionSql, resultSet -> {
+            sections.computeIfAbsent(resultSet.getLong("line_id"), lineId -> new ArrayList<>())
+                .add(sectionMapper().mapRow(resultSet, resultSet.getRow()));
+        }, revision, revision);
+
+        return lines.stream()
+            .filter(line -> sections.containsKey(line.getId()))
+            .map(line -> Line.from(line, sections.get(line.getId())))
+            .collect(Collectors.toList());
+    }
+
+    private RowMapper<Line> lineMapper() {
+        return (resultSet, rowNum) -> new Line(
+            resultSet.getLong("line_id"),
+            resultSet.getString("name"),
+            resultSet.getString("color"),
+            resultSet.getInt("extra_fare"));
+    }
+
+    private RowMapper<Section> sectionMapper() {
+        return (resultSet, rowNum) -> new Section(
+            resultSet.getLong("section_id"),
+            new Station(resultSet.getLong("up_station_id"), resultSet.getString("up_station_name")),
+            new Station(resultSet.getLong("down_station_id"), resultSet.getString("down_station_name")),
+            resultSet.getInt("distance"));
+    }
+}
@@ -0,0 +1,17 @@
+package wooteco.subway.dao;
+
+import java.util.List;
+import java.util.Optional;
+
+import wooteco.subway.domain.Namespace;
+
+public interface NamespaceDao {
+
+    void save(Namespace namespace);
+
+    List<Namespace> findAll();
+
+    Optional<Namespace> findById(String id);
+
+    boolean deleteById(String id);
+}
@@ -0,0 +1,53 @@
+package wooteco.subway.dao;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import wooteco.subway.domain.Namespace;
+
+@Repository
+public class NamespaceDaoImpl implements NamespaceDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NamespaceDaoImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void save(Namespace namespace) {
+        final String sql = "INSERT INTO NETWORK (id, name) VALUES (?, ?)";
+        jdbcTemplate.update(sql, namespace.getId(), namespace.getName());
+    }
+
+    @Override
+    public List<Namespace> findAll() {
+        final String sql = "SELECT id, name FROM NETWORK ORDER BY id";
+        return jdbcTemplate.query(sql, namespaceMapper());
+    }
+
+    @Override
+    public Optional<Namespace> findById(String id) {
+        final String sql = "SELECT id, name FROM NETWORK WHERE id = ?";
+        try {
+            return Optional.of(jdbcTemplate.queryForObject(sql, namespaceMapper(), id));
+        } catch (EmptyResultDataAccessException exception) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean deleteById(String id) {
+        final String sql = "DELETE FROM NETWORK WHERE id = ?";
+        return jdbcTemplate.update(sql, id) != 0;
+    }
+
+    private RowMapper<Namespace> namespaceMapper() {
+        return (resultSet, rowNum) -> new Namespace(resultSet.getString("id"), resultSet.getString("name"));
+    }
+}
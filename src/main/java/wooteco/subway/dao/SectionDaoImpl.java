@@ -4,6 +4,7 @@ import java.sql.PreparedStatement;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Repository;
 import wooteco.subway.domain.Section;
 
 @Repository
+@Profile("!memory & !journal & !sharded")
 public class SectionDaoImpl implements SectionDao{
     private final JdbcTemplate jdbcTemplate;
 
@@ -0,0 +1,7 @@
+package wooteco.subway.dao;
+
+import wooteco.subway.dao.snapshot.NetworkSnapshot;
+
+public interface SnapshotDao {
+    void replace(NetworkSnapshot snapshot);
+}
@@ -0,0 +1,78 @@
+package wooteco.subway.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import wooteco.subway.dao.snapshot.NetworkSnapshot;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.geo.Coordinate;
+
+@Repository
+@Profile("!memory & !journal & !sharded")
+public class SnapshotDaoImpl implements SnapshotDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SnapshotDaoImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void replace(NetworkSnapshot snapshot) {
+        restartIdentity("STATION", snapshot.maxStationId());
+        restartIdentity("LINE", snapshot.maxLineId());
+        restartIdentity("SECTION", snapshot.maxSectionId());
+        jdbcTemplate.update("DELETE FROM SECTION");
+        jdbcTemplate.update("DELETE FROM LINE");
+        jdbcTemplate.update("DELETE FROM STATION");
+        insertStations(snapshot);
+        insertLines(snapshot);
+        insertSections(snapshot);
+    }
+
+    private void insertStations(NetworkSnapshot snapshot) {
+        final String sql = "INSERT INTO STATION (id, name, latitude, longitude) VALUES (?, ?, ?, ?)";
+        List<Object[]> stations = new ArrayList<>(snapshot.stationCount());
+        for (int i = 0; i < snapshot.stationCount(); i++) {
+            Station station = snapshot.station(i);
+            Coordinate coordinate = station.getCoordinate();
+            stations.add(new Object[] {station.getId(), station.getName(),
+                coordinate == null ? null : coordinate.getLatitude(),
+                coordinate == null ? null : coordinate.getLongitude()});
+        }
+        jdbcTemplate.batchUpdate(sql, stations);
+    }
+
+    private void insertLines(NetworkSnapshot snapshot) {
+        final String sql = "INSERT INTO LINE (id, name, color, extra_fare, version) VALUES (?, ?, ?, ?, ?)";
+        List<Object[]> lines = new ArrayList<>(snapshot.lineCount());
+        for (int i = 0; i < snapshot.lineCount(); i++) {
+            lines.add(new Object[] {snapshot.lineId(i), snapshot.lineName(i), snapshot.lineColor(i),
+                snapshot.extraFare(i), snapshot.version(i)});
+        }
+        jdbcTemplate.batchUpdate(sql, lines);
+    }
+
+    private void insertSections(NetworkSnapshot snapshot) {
+        final String sql = "INSERT INTO SECTION (id, line_id, up_station_id, down_station_id, distance) "
+            + "VALUES (?, ?, ?, ?, ?)";
+        List<Object[]> sections = new ArrayList<>(snapshot.sectionCount());
+        for (int line = 0; line < snapshot.lineCount(); line++) {
+            for (int i = snapshot.firstSection(line); i < snapshot.endSection(line); i++) {
+                sections.add(new Object[] {snapshot.sectionId(i), snapshot.lineId(line), snapshot.upStationId(i),
+                    snapshot.downStationId(i), snapshot.distance(i)});
+            }
+        }
+        jdbcTemplate.batchUpdate(sql, sections);
+    }
+
+    private void restartIdentity(String table, long maxId) {
+        Long currentMaxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        long next = Math.max(maxId, currentMaxId) + 1;
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+    }
+}
@@ -4,6 +4,7 @@ import java.sql.PreparedStatement;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
@@ -12,8 +13,10 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import wooteco.subway.domain.Station;
+import wooteco.subway.domain.geo.Coordinate;
 
 @Repository
+@Profile("!memory & !journal & !sharded")
 public class StationDaoImpl implements StationDao {
 
     private final JdbcTemplate jdbcTemplate;
@@ -24,7 +27,7 @@ public class StationDaoImpl implements StationDao {
 
     @Override
     public Optional<Station> findById(Long id) {
-        final String sql = "SELECT id, name FROM STATION WHERE id = ?";
+        final String sql = "SELECT id, name, latitude, longitude FROM STATION WHERE id = ?";
 
         try {
             return Optional.of(jdbcTemplate.queryForObject(sql, stationMapper(), id));
@@ -35,28 +38,33 @@ public class StationDaoImpl implements StationDao {
 
     @Override
     public Station save(Station station) {
-        final String sql = "INSERT INTO STATION (name) VALUES (?)";
+        final String sql = "INSERT INTO STATION (name, latitude, longitude) VALUES (?, ?, ?)";
+        Coordinate coordinate = station.getCoordinate();
         KeyHolder keyHolder = new GeneratedKeyHolder();
         jdbcTemplate.update(connection -> {
             PreparedStatement ps = connection.prepareStatement(sql, new String[] {"id"});
             ps.setString(1, station.getName());
+            ps.setObject(2, coordinate == null ? null : coordinate.getLatitude());
+            ps.setObject(3, coordinate == null ? null : coordinate.getLongitude());
             return ps;
         }, keyHolder);
         long id = keyHolder.getKey().longValue();
 
-        return new Station(id, station.getName());
+        return new Station(id, station.getName(), coordinate);
     }
 
     @Override
     public List<Station> findAll() {
-        final String sql = "SELECT id, name FROM STATION";
+        final String sql = "SELECT id, name, latitude, longitude FROM STATION";
         return jdbcTemplate.query(sql, stationMapper());
     }
 
     private RowMapper<Station> stationMapper() {
         return (resultSet, rowNum) -> new Station(
             resultSet.getLong("id"),
-            resultSet.getString("name")
+            resultSet.getString("name"),
+            Coordinate.of(resultSet.getObject("latitude", Double.class),
+                resultSet.getObject("longitude", Double.class))
         );
     }
 
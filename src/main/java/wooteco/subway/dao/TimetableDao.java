@@ -0,0 +1,13 @@
+package wooteco.subway.dao;
+
+import java.util.List;
+
+import wooteco.subway.domain.timetable.Trip;
+
+public interface TimetableDao {
+    Long save(Trip trip);
+
+    List<Trip> findAll();
+
+    void deleteByLineId(Long lineId);
+}
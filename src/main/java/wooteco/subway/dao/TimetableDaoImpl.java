@@ -0,0 +1,103 @@
+package wooteco.subway.dao;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import wooteco.subway.domain.timetable.Trip;
+import wooteco.subway.domain.timetable.TripDirection;
+
+@Repository
+public class TimetableDaoImpl implements TimetableDao {
+    private final JdbcTemplate jdbcTemplate;
+
+    public TimetableDaoImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Long save(Trip trip) {
+        final String sql = "INSERT INTO TRIP (line_id, direction) VALUES (?, ?)";
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, new String[] {"id"});
+            ps.setLong(1, trip.getLineId());
+            ps.setString(2, trip.getDirection().name());
+            return ps;
+        }, keyHolder);
+        Long tripId = keyHolder.getKey().longValue();
+
+        final String stopTimeSql = "INSERT INTO STOP_TIME (trip_id, stop_sequence, departure) VALUES (?, ?, ?)";
+        List<Object[]> stopTimes = new ArrayList<>();
+        int[] departures = trip.getDepartures();
+        for (int sequence = 0; sequence < departures.length; sequence++) {
+            stopTimes.add(new Object[] {tripId, sequence, departures[sequence]});
+        }
+        jdbcTemplate.batchUpdate(stopTimeSql, stopTimes);
+        return tripId;
+    }
+
+    @Override
+    public List<Trip> findAll() {
+        final String sql = "SELECT t.id, t.line_id, t.direction, st.departure "
+            + "FROM TRIP AS t "
+            + "JOIN STOP_TIME AS st ON st.trip_id = t.id "
+            + "ORDER BY t.id, st.stop_sequence";
+
+        TripCollector collector = new TripCollector();
+        jdbcTemplate.query(sql, resultSet -> {
+            collector.add(resultSet.getLong("id"), resultSet.getLong("line_id"),
+                TripDirection.valueOf(resultSet.getString("direction")), resultSet.getInt("departure"));
+        });
+        return collector.finish();
+    }
+
+    @Override
+    public void deleteByLineId(Long lineId) {
+        final String stopTimeSql = "DELETE FROM STOP_TIME WHERE trip_id IN (SELECT id FROM TRIP WHERE line_id = ?)";
+        jdbcTemplate.update(stopTimeSql, lineId);
+        final String sql = "DELETE FROM TRIP WHERE line_id = ?";
+        jdbcTemplate.update(sql, lineId);
+    }
+
+    private static class TripCollector {
+        private final List<Trip> trips = new ArrayList<>();
+        private long tripId = -1;
+        private long lineId;
+        private TripDirection direction;
+        private int[] departures = new int[16];
+        private int size;
+
+        void add(long tripId, long lineId, TripDirection direction, int departure) {
+            if (this.tripId != tripId) {
+                flush();
+                this.tripId = tripId;
+                this.lineId = lineId;
+                this.direction = direction;
+            }
+            if (size == departures.length) {
+                departures = Arrays.copyOf(departures, size * 2);
+            }
+            departures[size++] = departure;
+        }
+
+        List<Trip> finish() {
+            flush();
+            return trips;
+        }
+
+        private void flush() {
+            if (size > 0) {
+                trips.add(new Trip(lineId, direction, Arrays.copyOf(departures, size)));
+            }
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package wooteco.subway.dao.breaker;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import wooteco.subway.exception.CircuitOpenException;
+
+public class CircuitBreaker {
+    private static final String OPEN_MESSAGE = "데이터베이스 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요.";
+    private static final String BUSY_MESSAGE = "동시에 처리 중인 조회가 많습니다. 잠시 후 다시 시도해주세요.";
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private enum Permit {
+        CALL,
+        BULKHEAD_CALL,
+        PROBE,
+        DENIED
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final long slowCallNanos;
+    private final int failureRatePercent;
+    private final int minimumCalls;
+    private final long openMillis;
+    private final int halfOpenProbes;
+    private final Semaphore readPermits;
+    private final boolean[] window;
+    private final AtomicLong staleReads = new AtomicLong();
+    private final AtomicLong rejectedReads = new AtomicLong();
+    private final AtomicLong rejectedWrites = new AtomicLong();
+    private final List<Runnable> recoveryListeners = new CopyOnWriteArrayList<>();
+
+    private State state = State.CLOSED;
+    private int windowIndex;
+    private int windowCalls;
+    private int badCalls;
+    private long openedAt;
+    private boolean probing;
+    private int successfulProbes;
+    private boolean recoveryPending;
+    private long trips;
+    private long oldestServedAt;
+
+    public CircuitBreaker(long slowCallMillis, int failureRatePercent, int windowSize, int minimumCalls,
+        long openMillis, int halfOpenProbes, int maxConcurrentReads) {
+        if (failureRatePercent < 1 || failureRatePercent > 100 || minimumCalls < 1 || windowSize < minimumCalls
+            || halfOpenProbes < 1 || maxConcurrentReads < 1) {
+            throw new IllegalArgumentException("회로 차단기 설정이 올바르지 않습니다.");
+        }
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMillis);
+        this.failureRatePercent = failureRatePercent;
+        this.minimumCalls = minimumCalls;
+        this.openMillis = openMillis;
+        this.halfOpenProbes = halfOpenProbes;
+        this.readPermits = new Semaphore(maxConcurrentReads);
+        this.window = new boolean[windowSize];
+    }
+
+    public void onRecovery(Runnable listener) {
+        recoveryListeners.add(listener);
+    }
+
+    public <T> T read(Supplier<T> call, Supplier<T> snapshot) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return write(call);
+        }
+        Supplier<T> fallback = FreshReads.isRequired() ? () -> null : snapshot;
+        Permit permit = acquire();
+        if (permit == Permit.DENIED) {
+            rejectedReads.incrementAndGet();
+            return stale(fallback, this::openException);
+        }
+        if (permit == Permit.CALL) {
+            if (!awaitReadPermit()) {
+                rejectedReads.incrementAndGet();
+                throw new CircuitOpenException(BUSY_MESSAGE, 1L);
+            }
+            permit = Permit.BULKHEAD_CALL;
+        }
+        try {
+            return execute(permit, call);
+        } catch (DataAccessException exception) {
+            if (!isUnavailable(exception) || getState() == State.CLOSED) {
+                throw exception;
+            }
+            return stale(fallback, () -> exception);
+        } finally {
+            release(permit);
+            notifyRecovery();
+        }
+    }
+
+    public <T> T write(Supplier<T> call) {
+        Permit permit = acquire();
+        if (permit == Permit.DENIED) {
+            rejectedWrites.incrementAndGet();
+            throw openException();
+        }
+        try {
+            return execute(permit, call);
+        } finally {
+            release(permit);
+            notifyRecovery();
+        }
+    }
+
+    private <T> T execute(Permit permit, Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            record(permit, System.nanoTime() - start > slowCallNanos);
+            return result;
+        } catch (DataAccessException exception) {
+            record(permit, isUnavailable(exception) || System.nanoTime() - start > slowCallNanos);
+            throw exception;
+        }
+    }
+
+    private void notifyRecovery() {
+        synchronized (this) {
+            if (!recoveryPending) {
+                return;
+            }
+            recoveryPending = false;
+        }
+        for (Runnable listener : recoveryListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException exception) {
+                logger.warn("회로가 닫힌 뒤 캐시를 무효화하지 못했습니다.", exception);
+            }
+        }
+    }
+
+    private <T> T stale(Supplier<T> snapshot, Supplier<RuntimeException> otherwise) {
+        T value = snapshot.get();
+        if (value == null) {
+            throw otherwise.get();
+        }
+        staleReads.incrementAndGet();
+        return value;
+    }
+
+    private boolean isUnavailable(DataAccessException exception) {
+        return exception instanceof DataAccessResourceFailureException
+            || exception instanceof QueryTimeoutException
+            || exception instanceof TransientDataAccessResourceException
+            || exception instanceof RecoverableDataAccessException;
+    }
+
+    private boolean awaitReadPermit() {
+        try {
+            return readPermits.tryAcquire(slowCallNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    synchronized void servedSnapshot(long takenAt) {
+        if (oldestServedAt == 0L || takenAt < oldestServedAt) {
+            oldestServedAt = takenAt;
+        }
+    }
+
+    private synchronized Permit acquire() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+            state = State.HALF_OPEN;
+            successfulProbes = 0;
+            logger.info("데이터베이스 회로를 반개방 상태로 전환하고 확인 요청을 보냅니다.");
+        }
+        if (state == State.OPEN) {
+            return Permit.DENIED;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probing) {
+                return Permit.DENIED;
+            }
+            probing = true;
+            return Permit.PROBE;
+        }
+        return Permit.CALL;
+    }
+
+    private void release(Permit permit) {
+        if (permit == Permit.BULKHEAD_CALL) {
+            readPermits.release();
+        }
+        if (permit == Permit.PROBE) {
+            synchronized (this) {
+                probing = false;
+            }
+        }
+    }
+
+    private synchronized void record(Permit permit, boolean bad) {
+        if (permit == Permit.PROBE) {
+            if (bad) {
+                open();
+                return;
+            }
+            successfulProbes++;
+            if (successfulProbes >= halfOpenProbes) {
+                close();
+                recoveryPending = true;
+            }
+            return;
+        }
+        if (state != State.CLOSED) {
+            return;
+        }
+        if (windowCalls == window.length && window[windowIndex]) {
+            badCalls--;
+        }
+        window[windowIndex] = bad;
+        windowIndex = (windowIndex + 1) % window.length;
+        windowCalls = Math.min(windowCalls + 1, window.length);
+        if (bad) {
+            badCalls++;
+        }
+        if (windowCalls >= minimumCalls && badCalls * 100 >= failureRatePercent * windowCalls) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        trips++;
+        resetWindow();
+        logger.warn(String.format("데이터베이스 응답이 느려 회로를 엽니다. %dms 동안 마지막 조회 결과로 응답합니다.",
+            openMillis));
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        oldestServedAt = 0L;
+        resetWindow();
+        logger.info("데이터베이스 응답이 회복되어 회로를 닫습니다.");
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        windowCalls = 0;
+        badCalls = 0;
+    }
+
+    private synchronized CircuitOpenException openException() {
+        long remainingMillis = Math.max(0L, openMillis - (System.currentTimeMillis() - openedAt));
+        long retryAfterSeconds = Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(remainingMillis));
+        return new CircuitOpenException(OPEN_MESSAGE, retryAfterSeconds);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized Optional<Long> staleSince() {
+        if (state == State.CLOSED || oldestServedAt == 0L) {
+            return Optional.empty();
+        }
+        return Optional.of(oldestServedAt);
+    }
+
+    public synchronized int getBadCallRate() {
+        if (windowCalls == 0) {
+            return 0;
+        }
+        return badCalls * 100 / windowCalls;
+    }
+
+    public synchronized int getWindowCalls() {
+        return windowCalls;
+    }
+
+    public synchronized long getTrips() {
+        return trips;
+    }
+
+    public long getStaleReads() {
+        return staleReads.get();
+    }
+
+    public long getRejectedReads() {
+        return rejectedReads.get();
+    }
+
+    public long getRejectedWrites() {
+        return rejectedWrites.get();
+    }
+}
@@ -0,0 +1,88 @@
+package wooteco.subway.dao.breaker;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.LineChangedEvent;
+import wooteco.subway.domain.NetworkReplacedEvent;
+
+public class CircuitBreakerLineDao implements LineDao {
+
+    private final LineDao lineDao;
+    private final CircuitBreaker circuitBreaker;
+    private final ReadSnapshot<Line> snapshot;
+
+    public CircuitBreakerLineDao(LineDao lineDao, CircuitBreaker circuitBreaker, long snapshotMaxAgeMillis) {
+        this.lineDao = lineDao;
+        this.circuitBreaker = circuitBreaker;
+        this.snapshot = new ReadSnapshot<>(Line::getId, snapshotMaxAgeMillis, circuitBreaker::servedSnapshot);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLineChanged(LineChangedEvent event) {
+        snapshot.evict(event.getLineId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkReplaced(NetworkReplacedEvent event) {
+        snapshot.evictAll();
+    }
+
+    @Override
+    public Long save(Line line) {
+        Long id = circuitBreaker.write(() -> lineDao.save(line));
+        snapshot.evict(id);
+        return id;
+    }
+
+    @Override
+    public List<Line> findAll() {
+        long generation = snapshot.generation();
+        return circuitBreaker.read(() -> {
+            List<Line> lines = lineDao.findAll();
+            snapshot.storeAll(generation, lines);
+            return lines;
+        }, snapshot::staleAll);
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        try {
+            return circuitBreaker.write(() -> lineDao.deleteById(id));
+        } finally {
+            snapshot.evict(id);
+        }
+    }
+
+    @Override
+    public Optional<Line> findById(Long id) {
+        long generation = snapshot.generation();
+        return circuitBreaker.read(() -> {
+            Optional<Line> line = lineDao.findById(id);
+            snapshot.store(generation, id, line);
+            return line;
+        }, () -> snapshot.staleById(id));
+    }
+
+    @Override
+    public boolean updateById(Long id, Line line) {
+        try {
+            return circuitBreaker.write(() -> lineDao.updateById(id, line));
+        } finally {
+            snapshot.evict(id);
+        }
+    }
+
+    @Override
+    public boolean compareAndIncrementVersion(Long id, long expectedVersion) {
+        try {
+            return circuitBreaker.write(() -> lineDao.compareAndIncrementVersion(id, expectedVersion));
+        } finally {
+            snapshot.evict(id);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package wooteco.subway.dao.breaker;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.domain.NetworkReplacedEvent;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.StationChangedEvent;
+
+public class CircuitBreakerStationDao implements StationDao {
+
+    private final StationDao stationDao;
+    private final CircuitBreaker circuitBreaker;
+    private final ReadSnapshot<Station> snapshot;
+
+    public CircuitBreakerStationDao(StationDao stationDao, CircuitBreaker circuitBreaker, long snapshotMaxAgeMillis) {
+        this.stationDao = stationDao;
+        this.circuitBreaker = circuitBreaker;
+        this.snapshot = new ReadSnapshot<>(Station::getId, snapshotMaxAgeMillis, circuitBreaker::servedSnapshot);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStationChanged(StationChangedEvent event) {
+        snapshot.evict(event.getStationId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkReplaced(NetworkReplacedEvent event) {
+        snapshot.evictAll();
+    }
+
+    @Override
+    public Station save(Station station) {
+        Station saved = circuitBreaker.write(() -> stationDao.save(station));
+        snapshot.evict(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public List<Station> findAll() {
+        long generation = snapshot.generation();
+        return circuitBreaker.read(() -> {
+            List<Station> stations = stationDao.findAll();
+            snapshot.storeAll(generation, stations);
+            return stations;
+        }, snapshot::staleAll);
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        try {
+            return circuitBreaker.write(() -> stationDao.deleteById(id));
+        } finally {
+            snapshot.evict(id);
+        }
+    }
+
+    @Override
+    public Optional<Station> findById(Long id) {
+        long generation = snapshot.generation();
+        return circuitBreaker.read(() -> {
+            Optional<Station> station = stationDao.findById(id);
+            snapshot.store(generation, id, station);
+            return station;
+        }, () -> snapshot.staleById(id));
+    }
+}
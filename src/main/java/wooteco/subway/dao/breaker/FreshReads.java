@@ -0,0 +1,28 @@
+package wooteco.subway.dao.breaker;
+
+import java.util.function.Supplier;
+
+public class FreshReads {
+    private static final ThreadLocal<Integer> DEPTH = new ThreadLocal<>();
+
+    private FreshReads() {
+    }
+
+    public static <T> T require(Supplier<T> read) {
+        Integer depth = DEPTH.get();
+        DEPTH.set(depth == null ? 1 : depth + 1);
+        try {
+            return read.get();
+        } finally {
+            if (depth == null) {
+                DEPTH.remove();
+            } else {
+                DEPTH.set(depth);
+            }
+        }
+    }
+
+    static boolean isRequired() {
+        return DEPTH.get() != null;
+    }
+}
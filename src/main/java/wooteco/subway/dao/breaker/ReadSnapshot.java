@@ -0,0 +1,100 @@
+package wooteco.subway.dao.breaker;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+public class ReadSnapshot<T> {
+    private final Function<T, Long> idOf;
+    private final long maxAgeMillis;
+    private final LongConsumer onServed;
+    private final Map<Long, Entry<Optional<T>>> byId = new ConcurrentHashMap<>();
+    private volatile Entry<Map<Long, T>> all;
+    private long generation;
+
+    public ReadSnapshot(Function<T, Long> idOf, long maxAgeMillis, LongConsumer onServed) {
+        this.idOf = idOf;
+        this.maxAgeMillis = maxAgeMillis;
+        this.onServed = onServed;
+    }
+
+    public synchronized long generation() {
+        return generation;
+    }
+
+    public synchronized void storeAll(long readGeneration, List<T> values) {
+        if (readGeneration != generation) {
+            return;
+        }
+        Map<Long, T> valuesById = values.stream()
+            .collect(Collectors.toMap(idOf, value -> value, (first, second) -> first, LinkedHashMap::new));
+        all = new Entry<>(Collections.unmodifiableMap(valuesById), System.currentTimeMillis());
+    }
+
+    public synchronized void store(long readGeneration, Long id, Optional<T> value) {
+        if (readGeneration != generation) {
+            return;
+        }
+        byId.put(id, new Entry<>(value, System.currentTimeMillis()));
+    }
+
+    public synchronized void evict(Long id) {
+        generation++;
+        byId.remove(id);
+        all = null;
+    }
+
+    public synchronized void evictAll() {
+        generation++;
+        byId.clear();
+        all = null;
+    }
+
+    public List<T> staleAll() {
+        Entry<Map<Long, T>> snapshot = all;
+        if (!isServable(snapshot)) {
+            return null;
+        }
+        serve(snapshot.takenAt);
+        return List.copyOf(snapshot.value.values());
+    }
+
+    public Optional<T> staleById(Long id) {
+        Entry<Optional<T>> single = byId.get(id);
+        Entry<Map<Long, T>> snapshot = all;
+        if (isServable(single) && (!isServable(snapshot) || single.takenAt >= snapshot.takenAt)) {
+            serve(single.takenAt);
+            return single.value;
+        }
+        if (!isServable(snapshot)) {
+            return null;
+        }
+        serve(snapshot.takenAt);
+        return Optional.ofNullable(snapshot.value.get(id));
+    }
+
+    private boolean isServable(Entry<?> entry) {
+        return entry != null && System.currentTimeMillis() - entry.takenAt <= maxAgeMillis;
+    }
+
+    private void serve(long takenAt) {
+        StaleReads.mark(takenAt);
+        onServed.accept(takenAt);
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long takenAt;
+
+        Entry(V value, long takenAt) {
+            this.value = value;
+            this.takenAt = takenAt;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package wooteco.subway.dao.breaker;
+
+import java.util.Optional;
+
+public class StaleReads {
+    private static final ThreadLocal<Long> OLDEST_SNAPSHOT = new ThreadLocal<>();
+
+    private StaleReads() {
+    }
+
+    static void mark(long takenAt) {
+        Long oldest = OLDEST_SNAPSHOT.get();
+        if (oldest == null || takenAt < oldest) {
+            OLDEST_SNAPSHOT.set(takenAt);
+        }
+    }
+
+    public static Optional<Long> oldestSnapshot() {
+        return Optional.ofNullable(OLDEST_SNAPSHOT.get());
+    }
+
+    public static void clear() {
+        OLDEST_SNAPSHOT.remove();
+    }
+}
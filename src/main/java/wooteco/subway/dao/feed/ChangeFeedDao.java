@@ -0,0 +1,14 @@
+package wooteco.subway.dao.feed;
+
+import java.util.List;
+
+public interface ChangeFeedDao {
+
+    void append(String nodeId, ChangeKind kind, Long entityId, long createdAt);
+
+    List<ChangeFeedEntry> findAfter(long id, int limit);
+
+    long findLastId();
+
+    int deleteBefore(long createdAt);
+}
@@ -0,0 +1,50 @@
+package wooteco.subway.dao.feed;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+public class ChangeFeedDaoImpl implements ChangeFeedDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChangeFeedDaoImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void append(String nodeId, ChangeKind kind, Long entityId, long createdAt) {
+        final String sql = "INSERT INTO CHANGE_FEED (node_id, kind, entity_id, created_at) VALUES (?, ?, ?, ?)";
+        jdbcTemplate.update(sql, nodeId, kind.name(), entityId, createdAt);
+    }
+
+    @Override
+    public List<ChangeFeedEntry> findAfter(long id, int limit) {
+        final String sql = "SELECT id, node_id, kind, entity_id, created_at FROM CHANGE_FEED "
+            + "WHERE id > ? ORDER BY id LIMIT ?";
+        return jdbcTemplate.query(sql, entryMapper(), id, limit);
+    }
+
+    @Override
+    public long findLastId() {
+        final String sql = "SELECT COALESCE(MAX(id), 0) FROM CHANGE_FEED";
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    @Override
+    public int deleteBefore(long createdAt) {
+        final String sql = "DELETE FROM CHANGE_FEED WHERE created_at < ?";
+        return jdbcTemplate.update(sql, createdAt);
+    }
+
+    private RowMapper<ChangeFeedEntry> entryMapper() {
+        return (resultSet, rowNum) -> new ChangeFeedEntry(
+            resultSet.getLong("id"),
+            resultSet.getString("node_id"),
+            ChangeKind.valueOf(resultSet.getString("kind")),
+            resultSet.getObject("entity_id", Long.class),
+            resultSet.getLong("created_at")
+        );
+    }
+}
@@ -0,0 +1,37 @@
+package wooteco.subway.dao.feed;
+
+public class ChangeFeedEntry {
+    private final Long id;
+    private final String nodeId;
+    private final ChangeKind kind;
+    private final Long entityId;
+    private final long createdAt;
+
+    public ChangeFeedEntry(Long id, String nodeId, ChangeKind kind, Long entityId, long createdAt) {
+        this.id = id;
+        this.nodeId = nodeId;
+        this.kind = kind;
+        this.entityId = entityId;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public ChangeKind getKind() {
+        return kind;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+}
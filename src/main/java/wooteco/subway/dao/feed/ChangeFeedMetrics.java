@@ -0,0 +1,81 @@
+package wooteco.subway.dao.feed;
+
+public class ChangeFeedMetrics {
+    private final String nodeId;
+    private final long cursor;
+    private final long applied;
+    private final long lastLagMillis;
+    private final long averageLagMillis;
+    private final long maxLagMillis;
+    private final long stalenessMillis;
+    private final long maxStalenessMillis;
+    private final int pendingIds;
+    private final long skippedIds;
+    private final long pollFailures;
+    private final long fullInvalidations;
+
+    public ChangeFeedMetrics(String nodeId, long cursor, long applied, long lastLagMillis, long averageLagMillis,
+        long maxLagMillis, long stalenessMillis, long maxStalenessMillis, int pendingIds, long skippedIds,
+        long pollFailures, long fullInvalidations) {
+        this.nodeId = nodeId;
+        this.cursor = cursor;
+        this.applied = applied;
+        this.lastLagMillis = lastLagMillis;
+        this.averageLagMillis = averageLagMillis;
+        this.maxLagMillis = maxLagMillis;
+        this.stalenessMillis = stalenessMillis;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.pendingIds = pendingIds;
+        this.skippedIds = skippedIds;
+        this.pollFailures = pollFailures;
+        this.fullInvalidations = fullInvalidations;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public long getCursor() {
+        return cursor;
+    }
+
+    public long getApplied() {
+        return applied;
+    }
+
+    public long getLastLagMillis() {
+        return lastLagMillis;
+    }
+
+    public long getAverageLagMillis() {
+        return averageLagMillis;
+    }
+
+    public long getMaxLagMillis() {
+        return maxLagMillis;
+    }
+
+    public long getStalenessMillis() {
+        return stalenessMillis;
+    }
+
+    public long getMaxStalenessMillis() {
+        return maxStalenessMillis;
+    }
+
+    public int getPendingIds() {
+        return pendingIds;
+    }
+
+    public long getSkippedIds() {
+        return skippedIds;
+    }
+
+    public long getPollFailures() {
+        return pollFailures;
+    }
+
+    public long getFullInvalidations() {
+        return fullInvalidations;
+    }
+}
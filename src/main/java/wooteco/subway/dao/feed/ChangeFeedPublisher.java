@@ -0,0 +1,47 @@
+package wooteco.subway.dao.feed;
+
+import org.springframework.context.event.EventListener;
+
+import wooteco.subway.domain.LineChangedEvent;
+import wooteco.subway.domain.NetworkReplacedEvent;
+import wooteco.subway.domain.StationChangedEvent;
+
+public class ChangeFeedPublisher {
+
+    private final ChangeFeedDao changeFeedDao;
+    private final String nodeId;
+
+    public ChangeFeedPublisher(ChangeFeedDao changeFeedDao, String nodeId) {
+        this.changeFeedDao = changeFeedDao;
+        this.nodeId = nodeId;
+    }
+
+    @EventListener
+    public void onLineChanged(LineChangedEvent event) {
+        if (!event.isRemote()) {
+            append(ChangeKind.LINE, event.getLineId());
+        }
+    }
+
+    @EventListener
+    public void onStationChanged(StationChangedEvent event) {
+        if (!event.isRemote()) {
+            append(ChangeKind.STATION, event.getStationId());
+        }
+    }
+
+    @EventListener
+    public void onNetworkReplaced(NetworkReplacedEvent event) {
+        if (!event.isRemote()) {
+            append(ChangeKind.NETWORK, null);
+        }
+    }
+
+    private void append(ChangeKind kind, Long entityId) {
+        changeFeedDao.append(nodeId, kind, entityId, System.currentTimeMillis());
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,193 @@
+package wooteco.subway.dao.feed;
+
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+
+import wooteco.subway.domain.LineChangedEvent;
+import wooteco.subway.domain.NetworkReplacedEvent;
+import wooteco.subway.domain.StationChangedEvent;
+
+public class ChangeFeedSubscriber {
+    private static final int BATCH_SIZE = 256;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final ChangeFeedDao changeFeedDao;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId;
+    private final long maxStalenessMillis;
+    private final long gapTimeoutMillis;
+    private final long retentionMillis;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final NavigableSet<Long> seenAboveCursor = new TreeSet<>();
+
+    private long cursor;
+    private long gapSince;
+    private long lastPolledAt;
+    private long lastPrunedAt;
+    private long applied;
+    private long lagSumMillis;
+    private long lastLagMillis;
+    private long maxLagMillis;
+    private long skippedIds;
+    private long pollFailures;
+    private long fullInvalidations;
+
+    public ChangeFeedSubscriber(ChangeFeedDao changeFeedDao, ApplicationEventPublisher eventPublisher, String nodeId,
+        long maxStalenessMillis, long gapTimeoutMillis, long retentionMillis) {
+        if (retentionMillis <= maxStalenessMillis) {
+            throw new IllegalArgumentException("변경 피드 보관 기간은 최대 지연 허용 시간보다 길어야 합니다.");
+        }
+        this.changeFeedDao = changeFeedDao;
+        this.eventPublisher = eventPublisher;
+        this.nodeId = nodeId;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.retentionMillis = retentionMillis;
+    }
+
+    public synchronized void initialize() {
+        cursor = changeFeedDao.findLastId();
+        lastPolledAt = System.currentTimeMillis();
+        lastPrunedAt = lastPolledAt;
+    }
+
+    public void start(long pollMillis) {
+        initialize();
+        scheduler.scheduleWithFixedDelay(this::pollSafely, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException exception) {
+            synchronized (this) {
+                pollFailures++;
+            }
+            logger.warn("변경 피드를 읽지 못했습니다. " + exception.getMessage());
+        }
+    }
+
+    public synchronized void poll() {
+        long now = System.currentTimeMillis();
+        if (now - lastPolledAt > maxStalenessMillis) {
+            invalidateAll(now);
+            return;
+        }
+        List<ChangeFeedEntry> entries = changeFeedDao.findAfter(cursor, BATCH_SIZE);
+        for (ChangeFeedEntry entry : entries) {
+            if (!seenAboveCursor.contains(entry.getId())) {
+                apply(entry, now);
+                seenAboveCursor.add(entry.getId());
+            }
+        }
+        advanceCursor(now);
+        lastPolledAt = now;
+        prune(now);
+    }
+
+    private void invalidateAll(long now) {
+        long lastId;
+        try {
+            lastId = changeFeedDao.findLastId();
+        } catch (RuntimeException exception) {
+            publishFullInvalidation();
+            throw exception;
+        }
+        logger.warn(String.format("변경 피드를 %dms 동안 읽지 못해 캐시 전체를 무효화합니다.", now - lastPolledAt));
+        publishFullInvalidation();
+        cursor = lastId;
+        seenAboveCursor.clear();
+        gapSince = 0;
+        lastPolledAt = now;
+    }
+
+    private void publishFullInvalidation() {
+        eventPublisher.publishEvent(new NetworkReplacedEvent(true));
+        fullInvalidations++;
+    }
+
+    private void apply(ChangeFeedEntry entry, long now) {
+        if (nodeId.equals(entry.getNodeId())) {
+            return;
+        }
+        if (entry.getKind() == ChangeKind.LINE) {
+            eventPublisher.publishEvent(new LineChangedEvent(entry.getEntityId(), true));
+        }
+        if (entry.getKind() == ChangeKind.STATION) {
+            eventPublisher.publishEvent(new StationChangedEvent(entry.getEntityId(), true));
+        }
+        if (entry.getKind() == ChangeKind.NETWORK) {
+            eventPublisher.publishEvent(new NetworkReplacedEvent(true));
+        }
+        long lag = Math.max(0L, now - entry.getCreatedAt());
+        applied++;
+        lagSumMillis += lag;
+        lastLagMillis = lag;
+        maxLagMillis = Math.max(maxLagMillis, lag);
+    }
+
+    private void advanceCursor(long now) {
+        long skippedBefore = skippedIds;
+        advanceCursorOverGaps(now);
+        if (skippedIds > skippedBefore) {
+            logger.warn(String.format("변경 피드에서 %d개의 id가 %dms 동안 나타나지 않아 캐시 전체를 무효화합니다.",
+                skippedIds - skippedBefore, gapTimeoutMillis));
+            publishFullInvalidation();
+        }
+    }
+
+    private void advanceCursorOverGaps(long now) {
+        while (!seenAboveCursor.isEmpty()) {
+            if (seenAboveCursor.first() == cursor + 1) {
+                cursor = seenAboveCursor.pollFirst();
+                gapSince = 0;
+                continue;
+            }
+            if (gapSince == 0) {
+                gapSince = now;
+            }
+            if (now - gapSince < gapTimeoutMillis) {
+                return;
+            }
+            long next = seenAboveCursor.first();
+            skippedIds += next - cursor - 1;
+            cursor = next - 1;
+        }
+    }
+
+    private void prune(long now) {
+        if (now - lastPrunedAt < retentionMillis / 10) {
+            return;
+        }
+        changeFeedDao.deleteBefore(now - retentionMillis);
+        lastPrunedAt = now;
+    }
+
+    public synchronized Optional<Long> staleSince() {
+        if (System.currentTimeMillis() - lastPolledAt <= maxStalenessMillis) {
+            return Optional.empty();
+        }
+        return Optional.of(lastPolledAt);
+    }
+
+    public synchronized ChangeFeedMetrics metrics() {
+        long now = System.currentTimeMillis();
+        long averageLagMillis = applied == 0 ? 0L : lagSumMillis / applied;
+        return new ChangeFeedMetrics(nodeId, cursor, applied, lastLagMillis, averageLagMillis, maxLagMillis,
+            now - lastPolledAt, maxStalenessMillis, seenAboveCursor.size(), skippedIds, pollFailures,
+            fullInvalidations);
+    }
+
+    public void close() {
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,7 @@
+package wooteco.subway.dao.feed;
+
+public enum ChangeKind {
+    LINE,
+    STATION,
+    NETWORK
+}
@@ -0,0 +1,380 @@
+package wooteco.subway.dao.journal;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import wooteco.subway.dao.memory.MemorySnapshotFile;
+import wooteco.subway.dao.memory.MemoryStore;
+import wooteco.subway.dao.memory.MemoryStoreState;
+import wooteco.subway.dao.memory.MutationLog;
+import wooteco.subway.domain.Station;
+
+public class Journal implements MutationLog {
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d+)\\.log");
+    private static final Pattern SNAPSHOT_NAME = Pattern.compile("snapshot-(\\d+)\\.bin");
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final int MAX_RECORD_BYTES = 4096;
+    private static final long NOTHING_WRITTEN = -1L;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final Object appendLock = new Object();
+    private final Object flushMonitor = new Object();
+    private final ThreadLocal<ByteBuffer> scratch = ThreadLocal.withInitial(
+        () -> ByteBuffer.allocate(MAX_RECORD_BYTES));
+    private final ThreadLocal<long[]> lastAppended = ThreadLocal.withInitial(() -> new long[] {NOTHING_WRITTEN});
+    private final ScheduledExecutorService compactor = Executors.newSingleThreadScheduledExecutor();
+
+    private MemoryStore store;
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long segmentNumber;
+    private volatile long appended;
+    private long durable;
+    private boolean flushing;
+
+    public Journal(Path directory, int segmentBytes) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+    }
+
+    public void recover(MemoryStore store) {
+        this.store = store;
+        try {
+            Files.createDirectories(directory);
+            long firstSegment = restoreSnapshot(store);
+            List<Long> segments = numbers(SEGMENT_NAME);
+            SegmentEnd last = new SegmentEnd(firstSegment, 0, false);
+            for (long number : segments) {
+                if (last.corrupt) {
+                    discard(number);
+                } else if (number >= firstSegment) {
+                    last = replaySegment(number, store);
+                }
+            }
+            if (last.corrupt) {
+                truncate(last);
+            }
+            openSegment(last.number, last.position);
+            durable = appended;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public void startCompaction(long intervalSeconds) {
+        compactor.scheduleWithFixedDelay(() -> {
+            try {
+                if (numbers(SEGMENT_NAME).size() > 1) {
+                    compact();
+                }
+            } catch (UncheckedIOException | IOException exception) {
+                logger.error("저널 압축에 실패했습니다. " + exception.getMessage());
+            }
+        }, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    private long restoreSnapshot(MemoryStore store) throws IOException {
+        List<Long> snapshots = numbers(SNAPSHOT_NAME);
+        if (snapshots.isEmpty()) {
+            return 0L;
+        }
+        long latest = snapshots.get(snapshots.size() - 1);
+        store.restore(MemorySnapshotFile.read(snapshotPath(latest)));
+        return latest;
+    }
+
+    private SegmentEnd replaySegment(long number, MemoryStore store) throws IOException {
+        try (FileChannel readChannel = FileChannel.open(segmentPath(number), StandardOpenOption.READ)) {
+            ByteBuffer buffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size());
+            CRC32 crc = new CRC32();
+            while (buffer.remaining() >= HEADER_BYTES) {
+                int start = buffer.position();
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                if (length == 0) {
+                    return new SegmentEnd(number, start, false);
+                }
+                if (length < 0 || length > buffer.remaining()) {
+                    return new SegmentEnd(number, start, true);
+                }
+                ByteBuffer body = buffer.slice();
+                body.limit(length);
+                crc.reset();
+                crc.update(body.duplicate());
+                if ((int)crc.getValue() != checksum) {
+                    return new SegmentEnd(number, start, true);
+                }
+                JournalRecord.replay(body, store);
+                buffer.position(buffer.position() + length);
+            }
+            return new SegmentEnd(number, buffer.position(), false);
+        }
+    }
+
+    private void truncate(SegmentEnd end) throws IOException {
+        logger.error(String.format("저널 세그먼트 %d의 %d번째 바이트에서 손상된 레코드를 발견해 그 뒤를 잘라냈습니다.",
+            end.number, end.position));
+        try (FileChannel writeChannel = FileChannel.open(segmentPath(end.number), StandardOpenOption.WRITE)) {
+            writeChannel.truncate(end.position);
+            writeChannel.force(true);
+        }
+    }
+
+    private void discard(long number) throws IOException {
+        Path discarded = directory.resolve(segmentPath(number).getFileName() + ".discarded");
+        Files.move(segmentPath(number), discarded, StandardCopyOption.REPLACE_EXISTING);
+        logger.error(String.format("손상된 레코드 뒤에 있는 저널 세그먼트 %d를 복구하지 않고 %s로 옮겼습니다.", number,
+            discarded.getFileName()));
+    }
+
+    public void compact() throws IOException {
+        long[] boundary = new long[1];
+        MemoryStoreState state = store.capture(() -> {
+            synchronized (appendLock) {
+                roll();
+                boundary[0] = segmentNumber;
+            }
+        });
+        MemorySnapshotFile.write(state, snapshotPath(boundary[0]));
+        for (long number : numbers(SEGMENT_NAME)) {
+            if (number < boundary[0]) {
+                Files.deleteIfExists(segmentPath(number));
+            }
+        }
+        for (long number : numbers(SNAPSHOT_NAME)) {
+            if (number < boundary[0]) {
+                Files.deleteIfExists(snapshotPath(number));
+            }
+        }
+    }
+
+    @Override
+    public void checkpoint() {
+        try {
+            compact();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    public void stationSaved(Station station) {
+        int size = Byte.BYTES + Long.BYTES + JournalRecord.sizeOf(station.getName()) + Byte.BYTES
+            + (station.hasCoordinate() ? Double.BYTES * 2 : 0);
+        append(size, body -> {
+            body.put(JournalRecord.STATION_SAVED);
+            body.putLong(station.getId());
+            JournalRecord.putString(body, station.getName());
+            body.put((byte)(station.hasCoordinate() ? 1 : 0));
+            if (station.hasCoordinate()) {
+                body.putDouble(station.getCoordinate().getLatitude());
+                body.putDouble(station.getCoordinate().getLongitude());
+            }
+        });
+    }
+
+    @Override
+    public void stationDeleted(long id) {
+        append(Byte.BYTES + Long.BYTES, body -> body.put(JournalRecord.STATION_DELETED).putLong(id));
+    }
+
+    @Override
+    public void lineSaved(long id, String name, String color, int extraFare, long version) {
+        int size = Byte.BYTES + Long.BYTES + JournalRecord.sizeOf(name) + JournalRecord.sizeOf(color) + Integer.BYTES
+            + Long.BYTES;
+        append(size, body -> {
+            body.put(JournalRecord.LINE_SAVED);
+            body.putLong(id);
+            JournalRecord.putString(body, name);
+            JournalRecord.putString(body, color);
+            body.putInt(extraFare);
+            body.putLong(version);
+        });
+    }
+
+    @Override
+    public void lineDeleted(long id) {
+        append(Byte.BYTES + Long.BYTES, body -> body.put(JournalRecord.LINE_DELETED).putLong(id));
+    }
+
+    @Override
+    public void sectionSaved(long id, long lineId, long upStationId, long downStationId, int distance) {
+        append(Byte.BYTES + Long.BYTES * 4 + Integer.BYTES, body -> body.put(JournalRecord.SECTION_SAVED)
+            .putLong(id)
+            .putLong(lineId)
+            .putLong(upStationId)
+            .putLong(downStationId)
+            .putInt(distance));
+    }
+
+    @Override
+    public void sectionDeleted(long id) {
+        append(Byte.BYTES + Long.BYTES, body -> body.put(JournalRecord.SECTION_DELETED).putLong(id));
+    }
+
+    private void append(int size, Consumer<ByteBuffer> encoder) {
+        if (HEADER_BYTES + size > segmentBytes) {
+            throw new IllegalArgumentException(String.format("저널 세그먼트(%d바이트)보다 큰 레코드(%d바이트)는 기록할 수 없습니다.",
+                segmentBytes, HEADER_BYTES + size));
+        }
+        ByteBuffer body = size <= MAX_RECORD_BYTES ? scratch.get() : ByteBuffer.allocate(size);
+        body.clear();
+        encoder.accept(body);
+        body.flip();
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+
+        synchronized (appendLock) {
+            if (segment.remaining() < HEADER_BYTES + body.remaining()) {
+                roll();
+            }
+            segment.putInt(body.remaining());
+            segment.putInt((int)crc.getValue());
+            segment.put(body);
+            appended = position();
+        }
+        lastAppended.get()[0] = appended;
+    }
+
+    @Override
+    public void sync() {
+        long[] pending = lastAppended.get();
+        long target = pending[0];
+        if (target == NOTHING_WRITTEN) {
+            return;
+        }
+        pending[0] = NOTHING_WRITTEN;
+        while (true) {
+            synchronized (flushMonitor) {
+                while (flushing && durable < target) {
+                    awaitFlush();
+                }
+                if (durable >= target) {
+                    return;
+                }
+                flushing = true;
+            }
+            flush();
+        }
+    }
+
+    private void awaitFlush() {
+        try {
+            flushMonitor.wait();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException("저널 기록을 기다리다 중단되었습니다."));
+        }
+    }
+
+    private void flush() {
+        long flushedTo = NOTHING_WRITTEN;
+        try {
+            MappedByteBuffer current;
+            synchronized (appendLock) {
+                flushedTo = appended;
+                current = segment;
+            }
+            current.force();
+        } finally {
+            synchronized (flushMonitor) {
+                durable = Math.max(durable, flushedTo);
+                flushing = false;
+                flushMonitor.notifyAll();
+            }
+        }
+    }
+
+    private void roll() {
+        segment.force();
+        long sealedEnd = position();
+        try {
+            channel.close();
+            openSegment(segmentNumber + 1, 0);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        synchronized (flushMonitor) {
+            durable = Math.max(durable, sealedEnd);
+        }
+    }
+
+    private void openSegment(long number, int position) throws IOException {
+        channel = FileChannel.open(segmentPath(number), StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        segment.position(position);
+        segmentNumber = number;
+        appended = position();
+    }
+
+    private long position() {
+        return segmentNumber * segmentBytes + segment.position();
+    }
+
+    public void close() {
+        compactor.shutdown();
+        synchronized (appendLock) {
+            segment.force();
+            try {
+                channel.close();
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+    }
+
+    private static class SegmentEnd {
+        final long number;
+        final int position;
+        final boolean corrupt;
+
+        SegmentEnd(long number, int position, boolean corrupt) {
+            this.number = number;
+            this.position = position;
+            this.corrupt = corrupt;
+        }
+    }
+
+    private List<Long> numbers(Pattern pattern) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> pattern.matcher(path.getFileName().toString()))
+                .filter(Matcher::matches)
+                .map(matcher -> Long.parseLong(matcher.group(1)))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("segment-%020d.log", number));
+    }
+
+    private Path snapshotPath(long number) {
+        return directory.resolve(String.format("snapshot-%020d.bin", number));
+    }
+}
@@ -0,0 +1,78 @@
+package wooteco.subway.dao.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import wooteco.subway.dao.memory.MemoryStore;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.geo.Coordinate;
+
+final class JournalRecord {
+    static final byte STATION_SAVED = 1;
+    static final byte STATION_DELETED = 2;
+    static final byte LINE_SAVED = 3;
+    static final byte LINE_DELETED = 4;
+    static final byte SECTION_SAVED = 5;
+    static final byte SECTION_DELETED = 6;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private JournalRecord() {
+    }
+
+    static int sizeOf(String value) {
+        return Short.BYTES + encode(value).length;
+    }
+
+    static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = encode(value);
+        buffer.putShort((short)bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static byte[] encode(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException(String.format("저널에는 %d바이트보다 긴 문자열을 기록할 수 없습니다.",
+                MAX_STRING_BYTES));
+        }
+        return bytes;
+    }
+
+    static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void replay(ByteBuffer body, MemoryStore store) {
+        byte type = body.get();
+        switch (type) {
+            case STATION_SAVED:
+                long stationId = body.getLong();
+                String stationName = getString(body);
+                Coordinate coordinate = null;
+                if (body.get() == 1) {
+                    coordinate = new Coordinate(body.getDouble(), body.getDouble());
+                }
+                store.replayStation(new Station(stationId, stationName, coordinate));
+                return;
+            case STATION_DELETED:
+                store.replayStationDeleted(body.getLong());
+                return;
+            case LINE_SAVED:
+                store.replayLine(body.getLong(), getString(body), getString(body), body.getInt(), body.getLong());
+                return;
+            case LINE_DELETED:
+                store.replayLineDeleted(body.getLong());
+                return;
+            case SECTION_SAVED:
+                store.replaySection(body.getLong(), body.getLong(), body.getLong(), body.getLong(), body.getInt());
+                return;
+            case SECTION_DELETED:
+                store.replaySectionDeleted(body.getLong());
+                return;
+            default:
+                throw new IllegalStateException("알 수 없는 저널 레코드입니다. " + type);
+        }
+    }
+}
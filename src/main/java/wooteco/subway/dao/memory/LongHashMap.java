@@ -0,0 +1,130 @@
+package wooteco.subway.dao.memory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class LongHashMap<V> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    V get(long key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        return valueAt(index);
+    }
+
+    boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("null 값은 저장할 수 없습니다.");
+        }
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        for (int index = slotOf(key, mask); ; index = (index + 1) & mask) {
+            if (values[index] == null) {
+                keys[index] = key;
+                values[index] = value;
+                size++;
+                return null;
+            }
+            if (keys[index] == key) {
+                V previous = valueAt(index);
+                values[index] = value;
+                return previous;
+            }
+        }
+    }
+
+    V remove(long key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V removed = valueAt(index);
+        shiftBack(index);
+        size--;
+        return removed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    List<V> values() {
+        List<V> result = new ArrayList<>(size);
+        for (int index = 0; index < values.length; index++) {
+            if (values[index] != null) {
+                result.add(valueAt(index));
+            }
+        }
+        return result;
+    }
+
+    void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private int indexOf(long key) {
+        int mask = keys.length - 1;
+        for (int index = slotOf(key, mask); values[index] != null; index = (index + 1) & mask) {
+            if (keys[index] == key) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void shiftBack(int removed) {
+        int mask = keys.length - 1;
+        int gap = removed;
+        for (int index = (gap + 1) & mask; values[index] != null; index = (index + 1) & mask) {
+            int slot = slotOf(keys[index], mask);
+            if (((index - slot) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+        }
+        values[gap] = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        size = 0;
+        for (int index = 0; index < oldValues.length; index++) {
+            if (oldValues[index] != null) {
+                put(oldKeys[index], (V)oldValues[index]);
+            }
+        }
+    }
+
+    private static int slotOf(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int)(hash ^ (hash >>> 32)) & mask;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        return (V)values[index];
+    }
+}
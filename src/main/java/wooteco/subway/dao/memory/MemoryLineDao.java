@@ -0,0 +1,51 @@
+package wooteco.subway.dao.memory;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.domain.Line;
+
+@Repository
+@Profile({"memory", "journal"})
+public class MemoryLineDao implements LineDao {
+
+    private final MemoryStore store;
+
+    public MemoryLineDao(MemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Long save(Line line) {
+        return store.saveLine(line);
+    }
+
+    @Override
+    public List<Line> findAll() {
+        return store.findAllLines();
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        return store.deleteLine(id);
+    }
+
+    @Override
+    public Optional<Line> findById(Long id) {
+        return store.findLine(id);
+    }
+
+    @Override
+    public boolean updateById(Long id, Line line) {
+        return store.updateLine(id, line);
+    }
+
+    @Override
+    public boolean compareAndIncrementVersion(Long id, long expectedVersion) {
+        return store.compareAndIncrementVersion(id, expectedVersion);
+    }
+}
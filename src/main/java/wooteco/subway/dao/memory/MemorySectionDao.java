@@ -0,0 +1,35 @@
+package wooteco.subway.dao.memory;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import wooteco.subway.dao.SectionDao;
+import wooteco.subway.domain.Section;
+
+@Repository
+@Profile({"memory", "journal"})
+public class MemorySectionDao implements SectionDao {
+
+    private final MemoryStore store;
+
+    public MemorySectionDao(MemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Long save(Section section, Long lineId) {
+        return store.saveSection(section, lineId);
+    }
+
+    @Override
+    public void update(List<Section> sections) {
+        store.updateSections(sections);
+    }
+
+    @Override
+    public boolean delete(Long deletedSectionId) {
+        return store.deleteSection(deletedSectionId);
+    }
+}
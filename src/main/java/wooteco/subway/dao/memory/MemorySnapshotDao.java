@@ -0,0 +1,49 @@
+package wooteco.subway.dao.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import wooteco.subway.dao.SnapshotDao;
+import wooteco.subway.dao.memory.MemoryStore.LineRecord;
+import wooteco.subway.dao.memory.MemoryStore.SectionRecord;
+import wooteco.subway.dao.snapshot.NetworkSnapshot;
+import wooteco.subway.domain.Station;
+
+@Repository
+@Profile({"memory", "journal"})
+public class MemorySnapshotDao implements SnapshotDao {
+
+    private final MemoryStore store;
+
+    public MemorySnapshotDao(MemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void replace(NetworkSnapshot snapshot) {
+        store.replace(toState(snapshot));
+    }
+
+    private MemoryStoreState toState(NetworkSnapshot snapshot) {
+        List<Station> stations = new ArrayList<>(snapshot.stationCount());
+        for (int i = 0; i < snapshot.stationCount(); i++) {
+            stations.add(snapshot.station(i));
+        }
+        List<LineRecord> lines = new ArrayList<>(snapshot.lineCount());
+        List<SectionRecord> sections = new ArrayList<>(snapshot.sectionCount());
+        for (int line = 0; line < snapshot.lineCount(); line++) {
+            long lineId = snapshot.lineId(line);
+            lines.add(new LineRecord(lineId, snapshot.lineName(line), snapshot.lineColor(line),
+                snapshot.extraFare(line), snapshot.version(line)));
+            for (int i = snapshot.firstSection(line); i < snapshot.endSection(line); i++) {
+                sections.add(new SectionRecord(snapshot.sectionId(i), lineId, snapshot.upStationId(i),
+                    snapshot.downStationId(i), snapshot.distance(i)));
+            }
+        }
+        return new MemoryStoreState(stations, lines, sections, snapshot.maxStationId(), snapshot.maxLineId(),
+            snapshot.maxSectionId());
+    }
+}
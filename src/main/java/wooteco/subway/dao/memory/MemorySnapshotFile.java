@@ -0,0 +1,133 @@
+package wooteco.subway.dao.memory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import wooteco.subway.dao.memory.MemoryStore.LineRecord;
+import wooteco.subway.dao.memory.MemoryStore.SectionRecord;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.geo.Coordinate;
+
+public class MemorySnapshotFile {
+    private static final int MAGIC = 0x534D454D;
+    private static final int VERSION = 1;
+
+    private MemorySnapshotFile() {
+    }
+
+    public static void write(MemoryStoreState state, Path path) {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream output = new DataOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(state.getStationSequence());
+            output.writeLong(state.getLineSequence());
+            output.writeLong(state.getSectionSequence());
+            writeStations(output, state.getStations());
+            writeLines(output, state.getLines());
+            writeSections(output, state.getSections());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        try {
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static void writeStations(DataOutputStream output, List<Station> stations) throws IOException {
+        output.writeInt(stations.size());
+        for (Station station : stations) {
+            output.writeLong(station.getId());
+            output.writeUTF(station.getName());
+            output.writeBoolean(station.hasCoordinate());
+            if (station.hasCoordinate()) {
+                output.writeDouble(station.getCoordinate().getLatitude());
+                output.writeDouble(station.getCoordinate().getLongitude());
+            }
+        }
+    }
+
+    private static void writeLines(DataOutputStream output, List<LineRecord> lines) throws IOException {
+        output.writeInt(lines.size());
+        for (LineRecord line : lines) {
+            output.writeLong(line.id);
+            output.writeUTF(line.name);
+            output.writeUTF(line.color);
+            output.writeInt(line.extraFare);
+            output.writeLong(line.version);
+        }
+    }
+
+    private static void writeSections(DataOutputStream output, List<SectionRecord> sections) throws IOException {
+        output.writeInt(sections.size());
+        for (SectionRecord section : sections) {
+            output.writeLong(section.id);
+            output.writeLong(section.lineId);
+            output.writeLong(section.upStationId);
+            output.writeLong(section.downStationId);
+            output.writeInt(section.distance);
+        }
+    }
+
+    public static MemoryStoreState read(Path path) {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 스냅샷 파일입니다.");
+            }
+            long stationSequence = input.readLong();
+            long lineSequence = input.readLong();
+            long sectionSequence = input.readLong();
+            return new MemoryStoreState(readStations(input), readLines(input), readSections(input),
+                stationSequence, lineSequence, sectionSequence);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static List<Station> readStations(DataInputStream input) throws IOException {
+        int count = input.readInt();
+        List<Station> stations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = input.readLong();
+            String name = input.readUTF();
+            Coordinate coordinate = null;
+            if (input.readBoolean()) {
+                coordinate = new Coordinate(input.readDouble(), input.readDouble());
+            }
+            stations.add(new Station(id, name, coordinate));
+        }
+        return stations;
+    }
+
+    private static List<LineRecord> readLines(DataInputStream input) throws IOException {
+        int count = input.readInt();
+        List<LineRecord> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lines.add(new LineRecord(input.readLong(), input.readUTF(), input.readUTF(), input.readInt(),
+                input.readLong()));
+        }
+        return lines;
+    }
+
+    private static List<SectionRecord> readSections(DataInputStream input) throws IOException {
+        int count = input.readInt();
+        List<SectionRecord> sections = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            sections.add(new SectionRecord(input.readLong(), input.readLong(), input.readLong(),
+                input.readLong(), input.readInt()));
+        }
+        return sections;
+    }
+}
@@ -0,0 +1,37 @@
+package wooteco.subway.dao.memory;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class MemorySnapshotter {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final MemoryStore store;
+    private final Path path;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    public MemorySnapshotter(MemoryStore store, Path path, long intervalSeconds) {
+        this.store = store;
+        this.path = path;
+        scheduler.scheduleWithFixedDelay(this::snapshot, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public void snapshot() {
+        try {
+            MemorySnapshotFile.write(store.capture(), path);
+        } catch (UncheckedIOException exception) {
+            logger.error("스냅샷 저장에 실패했습니다. " + exception.getMessage());
+        }
+    }
+
+    public void close() {
+        scheduler.shutdown();
+        snapshot();
+    }
+}
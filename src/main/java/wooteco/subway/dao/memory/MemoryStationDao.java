@@ -0,0 +1,41 @@
+package wooteco.subway.dao.memory;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.domain.Station;
+
+@Repository
+@Profile({"memory", "journal"})
+public class MemoryStationDao implements StationDao {
+
+    private final MemoryStore store;
+
+    public MemoryStationDao(MemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Station save(Station station) {
+        return store.saveStation(station);
+    }
+
+    @Override
+    public List<Station> findAll() {
+        return store.findAllStations();
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        return store.deleteStation(id);
+    }
+
+    @Override
+    public Optional<Station> findById(Long id) {
+        return store.findStation(id);
+    }
+}
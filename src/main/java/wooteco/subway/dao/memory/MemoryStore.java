@@ -0,0 +1,768 @@
+package wooteco.subway.dao.memory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+public class MemoryStore {
+    private static final int STRIPES = 64;
+    private static final long LOCK_TIMEOUT_SECONDS = 5L;
+    private static final String DUPLICATE_MESSAGE = "이미 존재하는 데이터 입니다.";
+    private static final String STATION_IN_USE_MESSAGE = "구간에서 참조하는 역은 삭제할 수 없습니다.";
+    private static final String STATION_MISSING_MESSAGE = "구간의 역이 존재하지 않습니다.";
+    private static final String LOCK_TIMEOUT_MESSAGE = "다른 요청이 노선을 수정하고 있습니다. 잠시 후 다시 시도해주세요.";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final LongHashMap<StationEntry> stations = new LongHashMap<>();
+    private final Map<String, Long> stationNames = new HashMap<>();
+    private final ReadWriteLock stationLock = new ReentrantReadWriteLock();
+    private final Map<String, Long> lineNames = new ConcurrentHashMap<>();
+    private final LongHashMap<SectionRecord> sections = new LongHashMap<>();
+    private final ReadWriteLock sectionLock = new ReentrantReadWriteLock();
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final AtomicLong stationSequence = new AtomicLong();
+    private final AtomicLong lineSequence = new AtomicLong();
+    private final AtomicLong sectionSequence = new AtomicLong();
+    private final ReentrantReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+    private final MutationLog mutationLog;
+
+    public MemoryStore() {
+        this(MutationLog.NONE);
+    }
+
+    public MemoryStore(MutationLog mutationLog) {
+        this.mutationLog = mutationLog;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public Station saveStation(Station station) {
+        return mutate(transaction -> {
+            long id = stationSequence.incrementAndGet();
+            Station saved = new Station(id, station.getName(), station.getCoordinate());
+            withLock(stationLock.writeLock(), () -> putStation(saved));
+            transaction.undo(() -> withLock(stationLock.writeLock(), () -> {
+                stations.remove(id);
+                return stationNames.remove(saved.getName(), id);
+            }));
+            transaction.log(log -> log.stationSaved(saved));
+            return saved;
+        });
+    }
+
+    private StationEntry putStation(Station station) {
+        if (stationNames.putIfAbsent(station.getName(), station.getId()) != null) {
+            throw new DuplicateKeyException(DUPLICATE_MESSAGE);
+        }
+        StationEntry entry = new StationEntry(station);
+        stations.put(station.getId(), entry);
+        return entry;
+    }
+
+    public Optional<Station> findStation(Long id) {
+        return withLock(stationLock.readLock(), () -> Optional.ofNullable(stations.get(id))
+            .map(entry -> entry.station));
+    }
+
+    public List<Station> findAllStations() {
+        return withLock(stationLock.readLock(), () -> {
+            List<Station> result = new ArrayList<>(stations.size());
+            for (StationEntry entry : stations.values()) {
+                result.add(entry.station);
+            }
+            return result;
+        });
+    }
+
+    public boolean deleteStation(Long id) {
+        return mutate(transaction -> withLock(stationLock.writeLock(), () -> {
+            StationEntry entry = stations.get(id);
+            if (entry == null) {
+                return false;
+            }
+            if (entry.references > 0) {
+                throw new DataIntegrityViolationException(STATION_IN_USE_MESSAGE);
+            }
+            stations.remove(id);
+            transaction.undo(() -> withLock(stationLock.writeLock(), () -> stations.put(id, entry)));
+            transaction.onCommit(() -> withLock(stationLock.writeLock(),
+                () -> stationNames.remove(entry.station.getName(), id)));
+            transaction.log(log -> log.stationDeleted(id));
+            return true;
+        }));
+    }
+
+    public Long saveLine(Line line) {
+        return mutate(transaction -> {
+            long id = lineSequence.incrementAndGet();
+            Stripe stripe = transaction.lock(id);
+            LineRecord record = new LineRecord(id, line.getName(), line.getColor(), line.getExtraFare(), 0L);
+            putLine(stripe, record);
+            transaction.undo(() -> {
+                stripe.lines.remove(id);
+                lineNames.remove(record.name, id);
+            });
+            logLine(transaction, record);
+            return id;
+        });
+    }
+
+    private void putLine(Stripe stripe, LineRecord line) {
+        if (lineNames.putIfAbsent(line.name, line.id) != null) {
+            throw new DuplicateKeyException(DUPLICATE_MESSAGE);
+        }
+        stripe.lines.put(line.id, line);
+    }
+
+    public Optional<Line> findLine(Long id) {
+        Stripe stripe = stripeOf(id);
+        return withLock(stripe.lock.readLock(), () -> Optional.ofNullable(stripe.lines.get(id))
+            .map(record -> toLine(stripe, record)));
+    }
+
+    public List<Line> findAllLines() {
+        List<Line> result = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            withLock(stripe.lock.readLock(), () -> {
+                for (LineRecord record : stripe.lines.values()) {
+                    result.add(toLine(stripe, record));
+                }
+                return null;
+            });
+        }
+        return result;
+    }
+
+    public boolean deleteLine(Long id) {
+        return mutate(transaction -> {
+            Stripe stripe = transaction.lock(id);
+            LineRecord removed = stripe.lines.remove(id);
+            if (removed == null) {
+                return false;
+            }
+            transaction.undo(() -> stripe.lines.put(id, removed));
+            transaction.onCommit(() -> lineNames.remove(removed.name, id));
+            LongHashMap<SectionRecord> lineSections = stripe.lineSections.remove(id);
+            if (lineSections != null) {
+                transaction.undo(() -> stripe.lineSections.put(id, lineSections));
+                for (SectionRecord section : lineSections.values()) {
+                    withLock(sectionLock.writeLock(), () -> sections.remove(section.id));
+                    transaction.undo(() -> withLock(sectionLock.writeLock(), () -> sections.put(section.id, section)));
+                    transaction.onCommit(() -> release(section));
+                }
+            }
+            transaction.log(log -> log.lineDeleted(id));
+            return true;
+        });
+    }
+
+    public boolean updateLine(Long id, Line line) {
+        return mutate(transaction -> {
+            Stripe stripe = transaction.lock(id);
+            LineRecord current = stripe.lines.get(id);
+            if (current == null) {
+                return false;
+            }
+            if (!current.name.equals(line.getName())) {
+                if (lineNames.putIfAbsent(line.getName(), id) != null) {
+                    throw new DuplicateKeyException(DUPLICATE_MESSAGE);
+                }
+                transaction.undo(() -> lineNames.remove(line.getName(), id));
+                transaction.onCommit(() -> lineNames.remove(current.name, id));
+            }
+            LineRecord record = new LineRecord(id, line.getName(), line.getColor(), line.getExtraFare(),
+                current.version + 1);
+            replaceLine(transaction, stripe, current, record);
+            return true;
+        });
+    }
+
+    public boolean compareAndIncrementVersion(Long id, long expectedVersion) {
+        return mutate(transaction -> {
+            Stripe stripe = transaction.lock(id);
+            LineRecord current = stripe.lines.get(id);
+            if (current == null || current.version != expectedVersion) {
+                return false;
+            }
+            LineRecord record = new LineRecord(id, current.name, current.color, current.extraFare,
+                expectedVersion + 1);
+            replaceLine(transaction, stripe, current, record);
+            return true;
+        });
+    }
+
+    private void replaceLine(Transaction transaction, Stripe stripe, LineRecord current, LineRecord record) {
+        stripe.lines.put(record.id, record);
+        transaction.undo(() -> stripe.lines.put(current.id, current));
+        logLine(transaction, record);
+    }
+
+    public Long saveSection(Section section, Long lineId) {
+        return mutate(transaction -> {
+            Stripe stripe = transaction.lock(lineId);
+            long id = sectionSequence.incrementAndGet();
+            SectionRecord record = new SectionRecord(id, lineId, section.getUpStation().getId(),
+                section.getDownStation().getId(), section.getDistance());
+            reference(transaction, record);
+            putSection(stripe, record);
+            transaction.undo(() -> removeSection(stripe, record));
+            logSection(transaction, record);
+            return id;
+        });
+    }
+
+    private void reference(Transaction transaction, SectionRecord section) {
+        withLock(stationLock.writeLock(), () -> {
+            StationEntry upStation = stations.get(section.upStationId);
+            StationEntry downStation = stations.get(section.downStationId);
+            if (upStation == null || downStation == null) {
+                throw new DataIntegrityViolationException(STATION_MISSING_MESSAGE);
+            }
+            upStation.references++;
+            downStation.references++;
+            return null;
+        });
+        transaction.undo(() -> release(section));
+    }
+
+    private void release(SectionRecord section) {
+        withLock(stationLock.writeLock(), () -> {
+            releaseStation(section.upStationId);
+            releaseStation(section.downStationId);
+            return null;
+        });
+    }
+
+    private void releaseStation(long id) {
+        StationEntry entry = stations.get(id);
+        if (entry != null && entry.references > 0) {
+            entry.references--;
+        }
+    }
+
+    private void putSection(Stripe stripe, SectionRecord section) {
+        withLock(sectionLock.writeLock(), () -> sections.put(section.id, section));
+        LongHashMap<SectionRecord> lineSections = stripe.lineSections.get(section.lineId);
+        if (lineSections == null) {
+            lineSections = new LongHashMap<>();
+            stripe.lineSections.put(section.lineId, lineSections);
+        }
+        lineSections.put(section.id, section);
+    }
+
+    private void removeSection(Stripe stripe, SectionRecord section) {
+        withLock(sectionLock.writeLock(), () -> sections.remove(section.id));
+        LongHashMap<SectionRecord> lineSections = stripe.lineSections.get(section.lineId);
+        if (lineSections != null) {
+            lineSections.remove(section.id);
+            if (lineSections.isEmpty()) {
+                stripe.lineSections.remove(section.lineId);
+            }
+        }
+    }
+
+    public void updateSections(List<Section> updatedSections) {
+        SortedSet<Integer> touched = new TreeSet<>();
+        for (Section section : updatedSections) {
+            SectionRecord current = findSection(section.getId());
+            if (current != null) {
+                touched.add(stripeIndexOf(current.lineId));
+            }
+        }
+        if (touched.isEmpty()) {
+            return;
+        }
+        mutate(transaction -> {
+            touched.forEach(transaction::lockStripe);
+            for (Section section : updatedSections) {
+                SectionRecord current = findSection(section.getId());
+                if (current == null || current.matches(section)) {
+                    continue;
+                }
+                SectionRecord record = new SectionRecord(current.id, current.lineId, section.getUpStation().getId(),
+                    section.getDownStation().getId(), section.getDistance());
+                reference(transaction, record);
+                Stripe stripe = transaction.lock(current.lineId);
+                putSection(stripe, record);
+                transaction.undo(() -> putSection(stripe, current));
+                transaction.onCommit(() -> release(current));
+                logSection(transaction, record);
+            }
+            return null;
+        });
+    }
+
+    public boolean deleteSection(Long id) {
+        SectionRecord current = findSection(id);
+        if (current == null) {
+            return false;
+        }
+        return mutate(transaction -> {
+            Stripe stripe = transaction.lock(current.lineId);
+            SectionRecord removed = findSection(id);
+            if (removed == null) {
+                return false;
+            }
+            removeSection(stripe, removed);
+            transaction.undo(() -> putSection(stripe, removed));
+            transaction.onCommit(() -> release(removed));
+            transaction.log(log -> log.sectionDeleted(id));
+            return true;
+        });
+    }
+
+    private SectionRecord findSection(long id) {
+        return withLock(sectionLock.readLock(), () -> sections.get(id));
+    }
+
+    private void logLine(Transaction transaction, LineRecord record) {
+        transaction.log(log -> log.lineSaved(record.id, record.name, record.color, record.extraFare, record.version));
+    }
+
+    private void logSection(Transaction transaction, SectionRecord record) {
+        transaction.log(log -> log.sectionSaved(record.id, record.lineId, record.upStationId, record.downStationId,
+            record.distance));
+    }
+
+    public void replayStation(Station station) {
+        withLock(stationLock.writeLock(), () -> {
+            StationEntry previous = stations.remove(station.getId());
+            if (previous != null) {
+                stationNames.remove(previous.station.getName(), previous.station.getId());
+            }
+            putStation(station).references = previous == null ? 0 : previous.references;
+            return null;
+        });
+        advance(stationSequence, station.getId());
+    }
+
+    public void replayStationDeleted(long id) {
+        withLock(stationLock.writeLock(), () -> {
+            StationEntry removed = stations.remove(id);
+            if (removed != null) {
+                stationNames.remove(removed.station.getName(), id);
+            }
+            return null;
+        });
+    }
+
+    public void replayLine(long id, String name, String color, int extraFare, long version) {
+        Stripe stripe = stripeOf(id);
+        withLock(stripe.lock.writeLock(), () -> {
+            LineRecord previous = stripe.lines.remove(id);
+            if (previous != null) {
+                lineNames.remove(previous.name, id);
+            }
+            putLine(stripe, new LineRecord(id, name, color, extraFare, version));
+            return null;
+        });
+        advance(lineSequence, id);
+    }
+
+    public void replayLineDeleted(long id) {
+        Stripe stripe = stripeOf(id);
+        withLock(stripe.lock.writeLock(), () -> {
+            LineRecord removed = stripe.lines.remove(id);
+            if (removed != null) {
+                lineNames.remove(removed.name, id);
+            }
+            LongHashMap<SectionRecord> lineSections = stripe.lineSections.remove(id);
+            if (lineSections != null) {
+                for (SectionRecord section : lineSections.values()) {
+                    withLock(sectionLock.writeLock(), () -> sections.remove(section.id));
+                    release(section);
+                }
+            }
+            return null;
+        });
+    }
+
+    public void replaySection(long id, long lineId, long upStationId, long downStationId, int distance) {
+        SectionRecord record = new SectionRecord(id, lineId, upStationId, downStationId, distance);
+        Stripe stripe = stripeOf(lineId);
+        withLock(stripe.lock.writeLock(), () -> {
+            SectionRecord previous = findSection(id);
+            if (previous != null) {
+                removeSection(stripeOf(previous.lineId), previous);
+                release(previous);
+            }
+            putSection(stripe, record);
+            withLock(stationLock.writeLock(), () -> {
+                referenceStation(upStationId);
+                referenceStation(downStationId);
+                return null;
+            });
+            return null;
+        });
+        advance(sectionSequence, id);
+    }
+
+    private void referenceStation(long id) {
+        StationEntry entry = stations.get(id);
+        if (entry != null) {
+            entry.references++;
+        }
+    }
+
+    public void replaySectionDeleted(long id) {
+        SectionRecord removed = findSection(id);
+        if (removed == null) {
+            return;
+        }
+        Stripe stripe = stripeOf(removed.lineId);
+        withLock(stripe.lock.writeLock(), () -> {
+            removeSection(stripe, removed);
+            release(removed);
+            return null;
+        });
+    }
+
+    private void advance(AtomicLong sequence, long id) {
+        sequence.accumulateAndGet(id, Math::max);
+    }
+
+    private Line toLine(Stripe stripe, LineRecord record) {
+        Line line = new Line(record.id, record.name, record.color, record.extraFare, record.version);
+        LongHashMap<SectionRecord> lineSections = stripe.lineSections.get(record.id);
+        if (lineSections == null || lineSections.isEmpty()) {
+            return line;
+        }
+        List<Section> lineSectionList = new ArrayList<>(lineSections.size());
+        withLock(stationLock.readLock(), () -> {
+            for (SectionRecord section : lineSections.values()) {
+                lineSectionList.add(new Section(section.id, stationOf(section.upStationId),
+                    stationOf(section.downStationId), section.distance));
+            }
+            return null;
+        });
+        return Line.from(line, lineSectionList);
+    }
+
+    private Station stationOf(long id) {
+        StationEntry entry = stations.get(id);
+        if (entry == null) {
+            return new Station(id, null);
+        }
+        return entry.station;
+    }
+
+    private <T> T withLock(Lock lock, Supplier<T> action) {
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T> T mutate(Function<Transaction, T> action) {
+        Transaction bound = boundTransaction();
+        if (bound != null) {
+            Savepoint savepoint = bound.savepoint();
+            try {
+                return action.apply(bound);
+            } catch (RuntimeException exception) {
+                bound.rollbackTo(savepoint);
+                throw exception;
+            }
+        }
+        Transaction transaction = new Transaction();
+        boolean committed = false;
+        try {
+            T result = action.apply(transaction);
+            transaction.writeLog();
+            committed = true;
+            return result;
+        } finally {
+            transaction.complete(committed);
+        }
+    }
+
+    private Transaction boundTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+            || !TransactionSynchronizationManager.isActualTransactionActive()
+            || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return null;
+        }
+        Transaction transaction = (Transaction)TransactionSynchronizationManager.getResource(this);
+        if (transaction == null) {
+            transaction = new Transaction();
+            TransactionSynchronizationManager.bindResource(this, transaction);
+            TransactionSynchronizationManager.registerSynchronization(transaction);
+        }
+        return transaction;
+    }
+
+    private Stripe stripeOf(long lineId) {
+        return stripes[stripeIndexOf(lineId)];
+    }
+
+    private int stripeIndexOf(long lineId) {
+        return Long.hashCode(lineId) & (STRIPES - 1);
+    }
+
+    public MemoryStoreState capture() {
+        return capture(() -> {
+        });
+    }
+
+    public MemoryStoreState capture(Runnable barrier) {
+        lockSnapshot();
+        try {
+            barrier.run();
+            List<Station> capturedStations = new ArrayList<>(stations.size());
+            for (StationEntry entry : stations.values()) {
+                capturedStations.add(entry.station);
+            }
+            List<LineRecord> capturedLines = new ArrayList<>();
+            for (Stripe stripe : stripes) {
+                capturedLines.addAll(stripe.lines.values());
+            }
+            return new MemoryStoreState(capturedStations, capturedLines, sections.values(), stationSequence.get(),
+                lineSequence.get(), sectionSequence.get());
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+    }
+
+    public void replace(MemoryStoreState state) {
+        restore(state);
+        mutationLog.checkpoint();
+    }
+
+    public void restore(MemoryStoreState state) {
+        lockSnapshot();
+        for (Stripe stripe : stripes) {
+            stripe.lock.writeLock().lock();
+        }
+        stationLock.writeLock().lock();
+        sectionLock.writeLock().lock();
+        try {
+            stations.clear();
+            stationNames.clear();
+            lineNames.clear();
+            sections.clear();
+            for (Stripe stripe : stripes) {
+                stripe.lines.clear();
+                stripe.lineSections.clear();
+            }
+            state.getStations().forEach(this::putStation);
+            state.getLines().forEach(line -> putLine(stripeOf(line.id), line));
+            for (SectionRecord section : state.getSections()) {
+                putSection(stripeOf(section.lineId), section);
+                referenceStation(section.upStationId);
+                referenceStation(section.downStationId);
+            }
+            stationSequence.set(state.getStationSequence());
+            lineSequence.set(state.getLineSequence());
+            sectionSequence.set(state.getSectionSequence());
+        } finally {
+            sectionLock.writeLock().unlock();
+            stationLock.writeLock().unlock();
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                stripes[i].lock.writeLock().unlock();
+            }
+            snapshotLock.writeLock().unlock();
+        }
+    }
+
+    private void lockSnapshot() {
+        if (snapshotLock.getReadHoldCount() > 0) {
+            throw new IllegalStateException("메모리 저장소를 수정한 트랜잭션 안에서는 전체 상태를 읽거나 바꿀 수 없습니다.");
+        }
+        snapshotLock.writeLock().lock();
+    }
+
+    private class Transaction implements TransactionSynchronization {
+        private final List<Stripe> locked = new ArrayList<>();
+        private final List<Runnable> undoActions = new ArrayList<>();
+        private final List<Runnable> commitActions = new ArrayList<>();
+        private final List<Consumer<MutationLog>> records = new ArrayList<>();
+
+        Transaction() {
+            snapshotLock.readLock().lock();
+        }
+
+        Stripe lock(long lineId) {
+            return lockStripe(stripeIndexOf(lineId));
+        }
+
+        Stripe lockStripe(int index) {
+            Stripe stripe = stripes[index];
+            if (locked.contains(stripe)) {
+                return stripe;
+            }
+            try {
+                if (!stripe.lock.writeLock().tryLock(LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    throw new CannotAcquireLockException(LOCK_TIMEOUT_MESSAGE);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new CannotAcquireLockException(LOCK_TIMEOUT_MESSAGE, exception);
+            }
+            locked.add(stripe);
+            return stripe;
+        }
+
+        void undo(Runnable action) {
+            undoActions.add(action);
+        }
+
+        void onCommit(Runnable action) {
+            commitActions.add(action);
+        }
+
+        void log(Consumer<MutationLog> record) {
+            records.add(record);
+        }
+
+        Savepoint savepoint() {
+            return new Savepoint(undoActions.size(), commitActions.size(), records.size());
+        }
+
+        void rollbackTo(Savepoint savepoint) {
+            for (int i = undoActions.size() - 1; i >= savepoint.undoActions; i--) {
+                undoActions.remove(i).run();
+            }
+            commitActions.subList(savepoint.commitActions, commitActions.size()).clear();
+            records.subList(savepoint.records, records.size()).clear();
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(MemoryStore.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(MemoryStore.this, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            writeLog();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(MemoryStore.this);
+            complete(status == STATUS_COMMITTED);
+        }
+
+        void writeLog() {
+            records.forEach(record -> record.accept(mutationLog));
+            records.clear();
+            mutationLog.sync();
+        }
+
+        void complete(boolean committed) {
+            try {
+                if (committed) {
+                    commitActions.forEach(Runnable::run);
+                } else {
+                    for (int i = undoActions.size() - 1; i >= 0; i--) {
+                        undoActions.get(i).run();
+                    }
+                }
+            } catch (RuntimeException exception) {
+                logger.error("메모리 저장소의 트랜잭션을 마무리하지 못했습니다.", exception);
+            } finally {
+                for (int i = locked.size() - 1; i >= 0; i--) {
+                    locked.get(i).lock.writeLock().unlock();
+                }
+                snapshotLock.readLock().unlock();
+            }
+        }
+    }
+
+    private static class Savepoint {
+        final int undoActions;
+        final int commitActions;
+        final int records;
+
+        Savepoint(int undoActions, int commitActions, int records) {
+            this.undoActions = undoActions;
+            this.commitActions = commitActions;
+            this.records = records;
+        }
+    }
+
+    private static class Stripe {
+        final ReadWriteLock lock = new ReentrantReadWriteLock();
+        final LongHashMap<LineRecord> lines = new LongHashMap<>();
+        final LongHashMap<LongHashMap<SectionRecord>> lineSections = new LongHashMap<>();
+    }
+
+    private static class StationEntry {
+        final Station station;
+        int references;
+
+        StationEntry(Station station) {
+            this.station = station;
+        }
+    }
+
+    static class LineRecord {
+        final long id;
+        final String name;
+        final String color;
+        final int extraFare;
+        final long version;
+
+        LineRecord(long id, String name, String color, int extraFare, long version) {
+            this.id = id;
+            this.name = name;
+            this.color = color;
+            this.extraFare = extraFare;
+            this.version = version;
+        }
+    }
+
+    static class SectionRecord {
+        final long id;
+        final long lineId;
+        final long upStationId;
+        final long downStationId;
+        final int distance;
+
+        SectionRecord(long id, long lineId, long upStationId, long downStationId, int distance) {
+            this.id = id;
+            this.lineId = lineId;
+            this.upStationId = upStationId;
+            this.downStationId = downStationId;
+            this.distance = distance;
+        }
+
+        boolean matches(Section section) {
+            return upStationId == section.getUpStation().getId()
+                && downStationId == section.getDownStation().getId()
+                && distance == section.getDistance();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package wooteco.subway.dao.memory;
+
+import java.util.List;
+
+import wooteco.subway.dao.memory.MemoryStore.LineRecord;
+import wooteco.subway.dao.memory.MemoryStore.SectionRecord;
+import wooteco.subway.domain.Station;
+
+public class MemoryStoreState {
+    private final List<Station> stations;
+    private final List<LineRecord> lines;
+    private final List<SectionRecord> sections;
+    private final long stationSequence;
+    private final long lineSequence;
+    private final long sectionSequence;
+
+    MemoryStoreState(List<Station> stations, List<LineRecord> lines, List<SectionRecord> sections,
+        long stationSequence, long lineSequence, long sectionSequence) {
+        this.stations = stations;
+        this.lines = lines;
+        this.sections = sections;
+        this.stationSequence = stationSequence;
+        this.lineSequence = lineSequence;
+        this.sectionSequence = sectionSequence;
+    }
+
+    List<Station> getStations() {
+        return stations;
+    }
+
+    List<LineRecord> getLines() {
+        return lines;
+    }
+
+    List<SectionRecord> getSections() {
+        return sections;
+    }
+
+    long getStationSequence() {
+        return stationSequence;
+    }
+
+    long getLineSequence() {
+        return lineSequence;
+    }
+
+    long getSectionSequence() {
+        return sectionSequence;
+    }
+}
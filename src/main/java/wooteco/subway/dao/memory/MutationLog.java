@@ -0,0 +1,32 @@
+package wooteco.subway.dao.memory;
+
+import wooteco.subway.domain.Station;
+
+public interface MutationLog {
+    MutationLog NONE = new MutationLog() {
+    };
+
+    default void stationSaved(Station station) {
+    }
+
+    default void stationDeleted(long id) {
+    }
+
+    default void lineSaved(long id, String name, String color, int extraFare, long version) {
+    }
+
+    default void lineDeleted(long id) {
+    }
+
+    default void sectionSaved(long id, long lineId, long upStationId, long downStationId, int distance) {
+    }
+
+    default void sectionDeleted(long id) {
+    }
+
+    default void sync() {
+    }
+
+    default void checkpoint() {
+    }
+}
@@ -0,0 +1,105 @@
+package wooteco.subway.dao.routing;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+public class DataSourcePool {
+    public static final long UNKNOWN_LAG = Long.MAX_VALUE;
+    private static final int UNKNOWN = -1;
+
+    private final String name;
+    private final DataSource dataSource;
+    private final AtomicLong borrowed = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile long lagMillis;
+
+    public DataSourcePool(String name, DataSource dataSource, long lagMillis) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.lagMillis = lagMillis;
+    }
+
+    public static DataSourcePool primary(DataSource dataSource) {
+        return new DataSourcePool("primary", dataSource, 0L);
+    }
+
+    public static DataSourcePool replica(String name, DataSource dataSource) {
+        return new DataSourcePool(name, dataSource, UNKNOWN_LAG);
+    }
+
+    Connection getConnection() throws SQLException {
+        try {
+            Connection connection = dataSource.getConnection();
+            borrowed.incrementAndGet();
+            return connection;
+        } catch (SQLException exception) {
+            failures.incrementAndGet();
+            throw exception;
+        }
+    }
+
+    boolean isWithin(long maxLagMillis) {
+        return lagMillis <= maxLagMillis;
+    }
+
+    void updateLag(long lagMillis) {
+        this.lagMillis = lagMillis;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public long getBorrowed() {
+        return borrowed.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    public int getActiveConnections() {
+        HikariPoolMXBean pool = hikariPool();
+        if (pool == null) {
+            return UNKNOWN;
+        }
+        return pool.getActiveConnections();
+    }
+
+    public int getIdleConnections() {
+        HikariPoolMXBean pool = hikariPool();
+        if (pool == null) {
+            return UNKNOWN;
+        }
+        return pool.getIdleConnections();
+    }
+
+    public int getThreadsAwaitingConnection() {
+        HikariPoolMXBean pool = hikariPool();
+        if (pool == null) {
+            return UNKNOWN;
+        }
+        return pool.getThreadsAwaitingConnection();
+    }
+
+    private HikariPoolMXBean hikariPool() {
+        if (dataSource instanceof HikariDataSource) {
+            return ((HikariDataSource)dataSource).getHikariPoolMXBean();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,30 @@
+package wooteco.subway.dao.routing;
+
+import java.util.Optional;
+
+public class PrimaryPin {
+    private static final ThreadLocal<Long> PINNED_UNTIL = new ThreadLocal<>();
+
+    private PrimaryPin() {
+    }
+
+    public static void pinUntil(long until) {
+        Long current = PINNED_UNTIL.get();
+        if (current == null || until > current) {
+            PINNED_UNTIL.set(until);
+        }
+    }
+
+    static boolean isPinned(long now) {
+        Long until = PINNED_UNTIL.get();
+        return until != null && now < until;
+    }
+
+    public static Optional<Long> pinnedUntil() {
+        return Optional.ofNullable(PINNED_UNTIL.get());
+    }
+
+    public static void clear() {
+        PINNED_UNTIL.remove();
+    }
+}
@@ -0,0 +1,59 @@
+package wooteco.subway.dao.routing;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class ReplicaLagMonitor {
+    private static final String BEAT_SQL = "MERGE INTO REPLICA_HEARTBEAT (id, beat_at) KEY (id) VALUES (1, ?)";
+    private static final String READ_SQL = "SELECT beat_at FROM REPLICA_HEARTBEAT WHERE id = 1";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final ReplicaRoutingDataSource dataSource;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public void start(long intervalMillis) {
+        scheduler.scheduleWithFixedDelay(this::check, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void check() {
+        long beat = System.currentTimeMillis();
+        try {
+            new JdbcTemplate(dataSource.getPrimary().getDataSource()).update(BEAT_SQL, beat);
+        } catch (DataAccessException exception) {
+            logger.error("복제 지연 측정용 기록에 실패했습니다. " + exception.getMessage());
+            return;
+        }
+        for (DataSourcePool replica : dataSource.getReplicas()) {
+            replica.updateLag(lagOf(replica, beat));
+        }
+    }
+
+    private long lagOf(DataSourcePool replica, long beat) {
+        try {
+            List<Long> beats = new JdbcTemplate(replica.getDataSource()).queryForList(READ_SQL, Long.class);
+            if (beats.isEmpty()) {
+                return DataSourcePool.UNKNOWN_LAG;
+            }
+            return Math.max(0L, beat - beats.get(0));
+        } catch (DataAccessException exception) {
+            logger.warn(String.format("%s 복제본의 지연을 측정하지 못했습니다. %s", replica.getName(),
+                exception.getMessage()));
+            return DataSourcePool.UNKNOWN_LAG;
+        }
+    }
+
+    public void close() {
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,105 @@
+package wooteco.subway.dao.routing;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+    private final DataSourcePool primary;
+    private final List<DataSourcePool> replicas;
+    private final long maxLagMillis;
+    private final long pinMillis;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final AtomicLong fallbacks = new AtomicLong();
+    private final AtomicLong pinnedReads = new AtomicLong();
+
+    public ReplicaRoutingDataSource(DataSourcePool primary, List<DataSourcePool> replicas, long maxLagMillis,
+        long pinMillis) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLagMillis = maxLagMillis;
+        this.pinMillis = pinMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long now = System.currentTimeMillis();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            PrimaryPin.pinUntil(now + pinMillis);
+            return primary.getConnection();
+        }
+        if (PrimaryPin.isPinned(now)) {
+            pinnedReads.incrementAndGet();
+            return primary.getConnection();
+        }
+        return readConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        PrimaryPin.pinUntil(System.currentTimeMillis() + pinMillis);
+        return primary.getDataSource().getConnection(username, password);
+    }
+
+    private Connection readConnection() throws SQLException {
+        int start = Math.floorMod(cursor.getAndIncrement(), Math.max(1, replicas.size()));
+        for (int i = 0; i < replicas.size(); i++) {
+            DataSourcePool replica = replicas.get((start + i) % replicas.size());
+            if (!replica.isWithin(maxLagMillis)) {
+                continue;
+            }
+            try {
+                return replica.getConnection();
+            } catch (SQLException exception) {
+                replica.updateLag(DataSourcePool.UNKNOWN_LAG);
+            }
+        }
+        fallbacks.incrementAndGet();
+        return primary.getConnection();
+    }
+
+    public List<DataSourcePool> getPools() {
+        List<DataSourcePool> pools = new ArrayList<>();
+        pools.add(primary);
+        pools.addAll(replicas);
+        return pools;
+    }
+
+    public DataSourcePool getPrimary() {
+        return primary;
+    }
+
+    public List<DataSourcePool> getReplicas() {
+        return replicas;
+    }
+
+    public long getMaxLagMillis() {
+        return maxLagMillis;
+    }
+
+    public long getFallbacks() {
+        return fallbacks.get();
+    }
+
+    public long getPinMillis() {
+        return pinMillis;
+    }
+
+    public long getPinnedReads() {
+        return pinnedReads.get();
+    }
+
+    public void close() throws Exception {
+        for (DataSourcePool pool : getPools()) {
+            if (pool.getDataSource() instanceof AutoCloseable) {
+                ((AutoCloseable)pool.getDataSource()).close();
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package wooteco.subway.dao.shard;
+
+import java.util.Arrays;
+
+public class ShardPlacement {
+    private static final String INVALID_MESSAGE = "샤드 배치 설정이 올바르지 않습니다.";
+
+    private final int[] slotToShard;
+    private final int shardCount;
+
+    private ShardPlacement(int[] slotToShard, int shardCount) {
+        this.slotToShard = slotToShard;
+        this.shardCount = shardCount;
+    }
+
+    public static ShardPlacement of(int slots, int shardCount, String placement) {
+        if (slots <= 0 || shardCount <= 0) {
+            throw new IllegalArgumentException(INVALID_MESSAGE);
+        }
+        if (placement == null || placement.isBlank()) {
+            int[] slotToShard = new int[slots];
+            Arrays.setAll(slotToShard, slot -> slot % shardCount);
+            return new ShardPlacement(slotToShard, shardCount);
+        }
+        String[] shards = placement.split(",");
+        if (shards.length != slots) {
+            throw new IllegalArgumentException(INVALID_MESSAGE);
+        }
+        int[] slotToShard = new int[slots];
+        for (int slot = 0; slot < slots; slot++) {
+            slotToShard[slot] = shardIndex(shards[slot].trim(), shardCount);
+        }
+        return new ShardPlacement(slotToShard, shardCount);
+    }
+
+    private static int shardIndex(String value, int shardCount) {
+        try {
+            int shard = Integer.parseInt(value);
+            if (shard < 0 || shard >= shardCount) {
+                throw new IllegalArgumentException(INVALID_MESSAGE);
+            }
+            return shard;
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException(INVALID_MESSAGE);
+        }
+    }
+
+    public int slotOf(long id) {
+        return (int)Math.floorMod(id, (long)slotToShard.length);
+    }
+
+    public int shardOf(long id) {
+        return slotToShard[slotOf(id)];
+    }
+
+    public long sectionId(long sequence, long lineId) {
+        return sequence * slotToShard.length + slotOf(lineId);
+    }
+
+    public int getSlots() {
+        return slotToShard.length;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+}
@@ -0,0 +1,210 @@
+package wooteco.subway.dao.shard;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ShardTransaction implements TransactionSynchronization {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private static final String XID_PREFIX = "SUBWAY_";
+
+    private final Object key;
+    private final DataSource catalog;
+    private final String id = UUID.randomUUID().toString().replace("-", "").toUpperCase(Locale.ROOT);
+    private final List<Branch> branches = new ArrayList<>();
+
+    private ShardTransaction(Object key, DataSource catalog) {
+        this.key = key;
+        this.catalog = catalog;
+    }
+
+    static void join(Object key, DataSource catalog, int shard, DataSource dataSource) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+            || !TransactionSynchronizationManager.isActualTransactionActive()
+            || TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            || TransactionSynchronizationManager.hasResource(dataSource)) {
+            return;
+        }
+        Connection connection = begin(shard, dataSource);
+        ShardTransaction transaction = (ShardTransaction)TransactionSynchronizationManager.getResource(key);
+        if (transaction == null) {
+            transaction = new ShardTransaction(key, catalog);
+            TransactionSynchronizationManager.bindResource(key, transaction);
+            TransactionSynchronizationManager.registerSynchronization(transaction);
+        }
+        transaction.addBranch(shard, dataSource, connection);
+    }
+
+    private void addBranch(int shard, DataSource dataSource, Connection connection) {
+        Branch branch = new Branch(shard, dataSource, connection);
+        branches.add(branch);
+        TransactionSynchronizationManager.bindResource(dataSource, branch.holder);
+    }
+
+    private static Connection begin(int shard, DataSource dataSource) {
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(false);
+            return connection;
+        } catch (SQLException exception) {
+            if (connection != null) {
+                try {
+                    connection.close();
+                } catch (SQLException closeException) {
+                    exception.addSuppressed(closeException);
+                }
+            }
+            throw new CannotGetJdbcConnectionException(String.format("샤드 %d의 트랜잭션을 시작하지 못했습니다.", shard),
+                exception);
+        }
+    }
+
+    static boolean isShardXid(String xid) {
+        return xid.startsWith(XID_PREFIX);
+    }
+
+    static String idOf(String xid) {
+        return xid.substring(XID_PREFIX.length(), xid.lastIndexOf('_'));
+    }
+
+    private String xidOf(Branch branch) {
+        return XID_PREFIX + id + "_" + branch.shard;
+    }
+
+    @Override
+    public void suspend() {
+        TransactionSynchronizationManager.unbindResource(key);
+        branches.forEach(branch -> TransactionSynchronizationManager.unbindResource(branch.dataSource));
+    }
+
+    @Override
+    public void resume() {
+        TransactionSynchronizationManager.bindResource(key, this);
+        branches.forEach(branch -> TransactionSynchronizationManager.bindResource(branch.dataSource, branch.holder));
+    }
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+        for (Branch branch : branches) {
+            branch.prepare(xidOf(branch));
+        }
+        new JdbcTemplate(catalog).update("INSERT INTO SHARD_COMMIT (id, committed_at) VALUES (?, ?)", id,
+            System.currentTimeMillis());
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(key);
+        branches.forEach(branch -> TransactionSynchronizationManager.unbindResourceIfPossible(branch.dataSource));
+        boolean commit = status == STATUS_COMMITTED || status == STATUS_UNKNOWN && isDecided();
+        boolean completed = true;
+        for (Branch branch : branches) {
+            completed &= commit ? branch.commit(xidOf(branch)) : branch.rollback();
+        }
+        if (commit && completed) {
+            forget();
+        }
+    }
+
+    private boolean isDecided() {
+        try (Connection connection = catalog.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                 "SELECT COUNT(*) FROM SHARD_COMMIT WHERE id = ?")) {
+            statement.setString(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) > 0;
+            }
+        } catch (SQLException exception) {
+            logger.error(String.format("분산 트랜잭션 %s의 커밋 여부를 확인하지 못했습니다. 재시작할 때 복구합니다.", id),
+                exception);
+            return false;
+        }
+    }
+
+    private void forget() {
+        try (Connection connection = catalog.getConnection();
+             PreparedStatement statement = connection.prepareStatement("DELETE FROM SHARD_COMMIT WHERE id = ?")) {
+            statement.setString(1, id);
+            statement.executeUpdate();
+        } catch (SQLException exception) {
+            logger.warn(String.format("분산 트랜잭션 %s의 커밋 기록을 지우지 못했습니다.", id), exception);
+        }
+    }
+
+    private class Branch {
+        private final int shard;
+        private final DataSource dataSource;
+        private final Connection connection;
+        private final ConnectionHolder holder;
+
+        Branch(int shard, DataSource dataSource, Connection connection) {
+            this.shard = shard;
+            this.dataSource = dataSource;
+            this.connection = connection;
+            this.holder = new ConnectionHolder(connection);
+            this.holder.setSynchronizedWithTransaction(true);
+        }
+
+        void prepare(String xid) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PREPARE COMMIT " + xid);
+            } catch (SQLException exception) {
+                throw new TransactionSystemException(String.format("샤드 %d의 트랜잭션을 커밋 준비하지 못했습니다.", shard),
+                    exception);
+            }
+        }
+
+        boolean commit(String xid) {
+            try {
+                connection.commit();
+                connection.setAutoCommit(true);
+                return true;
+            } catch (SQLException exception) {
+                logger.error(String.format("샤드 %d의 준비된 트랜잭션 %s를 커밋하지 못했습니다. 재시작할 때 커밋 기록을 보고 복구합니다.",
+                    shard, xid), exception);
+                return false;
+            } finally {
+                close();
+            }
+        }
+
+        boolean rollback() {
+            try {
+                connection.rollback();
+                connection.setAutoCommit(true);
+                return true;
+            } catch (SQLException exception) {
+                logger.error(String.format("샤드 %d의 트랜잭션을 되돌리지 못했습니다.", shard), exception);
+                return false;
+            } finally {
+                close();
+            }
+        }
+
+        private void close() {
+            try {
+                connection.close();
+            } catch (SQLException exception) {
+                logger.warn(String.format("샤드 %d의 연결을 닫지 못했습니다.", shard), exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package wooteco.subway.dao.shard;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+@Repository
+@Profile("sharded")
+public class ShardedLineDao implements LineDao {
+    private static final int STREAM_CAPACITY = 256;
+    private static final String SELECT_SQL = "SELECT l.id as line_id, l.name as line_name, l.color as line_color, "
+        + "l.extra_fare as line_extra_fare, l.version as line_version, s.id as section_id, s.up_station_id, "
+        + "us.name as up_station_name, s.down_station_id, ds.name as down_station_name, s.distance "
+        + "FROM LINE as l "
+        + "LEFT JOIN SECTION AS s ON s.line_id = l.id "
+        + "LEFT JOIN STATION AS us ON us.id = s.up_station_id "
+        + "LEFT JOIN STATION AS ds ON ds.id = s.down_station_id ";
+
+    private final Shards shards;
+
+    public ShardedLineDao(Shards shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public Long save(Line line) {
+        long id = shards.nextLineId();
+        shards.catalog().update("INSERT INTO LINE_NAME (name, line_id) VALUES (?, ?)", line.getName(), id);
+        shards.forLine(id).update("INSERT INTO LINE (id, name, color, extra_fare) VALUES (?, ?, ?, ?)",
+            id, line.getName(), line.getColor(), line.getExtraFare());
+        return id;
+    }
+
+    @Override
+    public List<Line> findAll() {
+        List<LineStream> streams = new ArrayList<>();
+        for (JdbcTemplate shard : shards.all().subList(1, shards.size())) {
+            LineStream stream = new LineStream(new ArrayBlockingQueue<>(STREAM_CAPACITY));
+            stream.task = shards.scatterPool().submit(() -> stream.fill(shard));
+            streams.add(stream);
+        }
+        try {
+            LineStream catalog = new LineStream(new LinkedBlockingQueue<>());
+            catalog.fill(shards.catalog());
+            streams.add(catalog);
+            return merge(streams);
+        } finally {
+            streams.stream()
+                .filter(stream -> stream.task != null)
+                .forEach(stream -> stream.task.cancel(true));
+        }
+    }
+
+    private List<Line> merge(List<LineStream> streams) {
+        PriorityQueue<LineStream> heads = new PriorityQueue<>(Comparator.comparing(stream -> stream.head.getId()));
+        for (LineStream stream : streams) {
+            if (stream.advance()) {
+                heads.add(stream);
+            }
+        }
+        List<Line> lines = new ArrayList<>();
+        while (!heads.isEmpty()) {
+            LineStream stream = heads.poll();
+            lines.add(stream.head);
+            if (stream.advance()) {
+                heads.add(stream);
+            }
+        }
+        return lines;
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        shards.catalog().update("DELETE FROM LINE_NAME WHERE line_id = ?", id);
+        shards.forLine(id).update("DELETE FROM SECTION WHERE line_id = ?", id);
+        return shards.forLine(id).update("DELETE FROM LINE WHERE id = ?", id) != 0;
+    }
+
+    @Override
+    public Optional<Line> findById(Long id) {
+        LineCollector collector = new LineCollector(line -> {
+            throw new IllegalStateException("같은 id의 노선이 여러 개 조회되었습니다.");
+        });
+        shards.forLine(id).query(SELECT_SQL + "WHERE l.id = ?", collector, id);
+        return Optional.ofNullable(collector.finish());
+    }
+
+    @Override
+    public boolean updateById(Long id, Line line) {
+        shards.catalog().update("UPDATE LINE_NAME SET name = ? WHERE line_id = ?", line.getName(), id);
+        final String sql = "UPDATE LINE SET name = ?, color = ?, extra_fare = ?, version = version + 1 WHERE id = ?";
+        return shards.forLine(id).update(sql, line.getName(), line.getColor(), line.getExtraFare(), id) != 0;
+    }
+
+    @Override
+    public boolean compareAndIncrementVersion(Long id, long expectedVersion) {
+        final String sql = "UPDATE LINE SET version = version + 1 WHERE id = ? AND version = ?";
+        return shards.forLine(id).update(sql, id, expectedVersion) != 0;
+    }
+
+    private static class LineStream {
+        private static final Line END = new Line(Long.MAX_VALUE, "", "");
+
+        private final BlockingQueue<Object> queue;
+        private Future<?> task;
+        private Line head;
+
+        LineStream(BlockingQueue<Object> queue) {
+            this.queue = queue;
+        }
+
+        void fill(JdbcTemplate shard) {
+            try {
+                LineCollector collector = new LineCollector(this::put);
+                shard.query(SELECT_SQL + "ORDER BY l.id, s.id", collector);
+                Line last = collector.finish();
+                if (last != null) {
+                    put(last);
+                }
+                put(END);
+            } catch (RuntimeException exception) {
+                queue.clear();
+                queue.offer(exception);
+            }
+        }
+
+        private void put(Line line) {
+            try {
+                queue.put(line);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("노선 조회가 중단되었습니다.");
+            }
+        }
+
+        boolean advance() {
+            Object next;
+            try {
+                next = queue.take();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("노선 조회가 중단되었습니다.");
+            }
+            if (next instanceof RuntimeException) {
+                throw (RuntimeException)next;
+            }
+            head = (Line)next;
+            return head != END;
+        }
+    }
+
+    private static class LineCollector implements RowCallbackHandler {
+        private final Consumer<Line> consumer;
+        private Line line;
+        private List<Section> sections = new ArrayList<>();
+
+        LineCollector(Consumer<Line> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            long lineId = resultSet.getLong("line_id");
+            if (line != null && line.getId() != lineId) {
+                consumer.accept(Line.from(line, sections));
+                sections = new ArrayList<>();
+            }
+            if (line == null || line.getId() != lineId) {
+                line = new Line(lineId, resultSet.getString("line_name"), resultSet.getString("line_color"),
+                    resultSet.getInt("line_extra_fare"), resultSet.getLong("line_version"));
+            }
+            sections.add(new Section(resultSet.getLong("section_id"),
+                new Station(resultSet.getLong("up_station_id"), resultSet.getString("up_station_name")),
+                new Station(resultSet.getLong("down_station_id"), resultSet.getString("down_station_name")),
+                resultSet.getInt("distance")));
+        }
+
+        Line finish() {
+            if (line == null) {
+                return null;
+            }
+            return Line.from(line, sections);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package wooteco.subway.dao.shard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import wooteco.subway.dao.SectionDao;
+import wooteco.subway.domain.Section;
+
+@Repository
+@Profile("sharded")
+public class ShardedSectionDao implements SectionDao {
+    private final Shards shards;
+
+    public ShardedSectionDao(Shards shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public Long save(Section section, Long lineId) {
+        long id = shards.nextSectionId(lineId);
+        final String sql = "INSERT INTO SECTION (id, line_id, up_station_id, down_station_id, distance) "
+            + "VALUES (?, ?, ?, ?, ?)";
+        shards.forLine(lineId).update(sql, id, lineId, section.getUpStation().getId(),
+            section.getDownStation().getId(), section.getDistance());
+        return id;
+    }
+
+    @Override
+    public void update(List<Section> sections) {
+        final String sql = "UPDATE SECTION SET up_station_id = ?, down_station_id = ?, distance = ? WHERE id = ?";
+        Map<Integer, List<Object[]>> byShard = new HashMap<>();
+        for (Section section : sections) {
+            if (section.getId() == null) {
+                continue;
+            }
+            byShard.computeIfAbsent(shards.shardOfSection(section.getId()), shard -> new ArrayList<>())
+                .add(new Object[] {section.getUpStation().getId(), section.getDownStation().getId(),
+                    section.getDistance(), section.getId()});
+        }
+        byShard.forEach((shard, updates) -> shards.get(shard).batchUpdate(sql, updates));
+    }
+
+    @Override
+    public boolean delete(Long id) {
+        return shards.forSection(id).update("DELETE FROM SECTION WHERE id = ?", id) != 0;
+    }
+}
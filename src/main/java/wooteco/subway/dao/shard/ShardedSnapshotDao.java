@@ -0,0 +1,93 @@
+package wooteco.subway.dao.shard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import wooteco.subway.dao.SnapshotDao;
+import wooteco.subway.dao.snapshot.NetworkSnapshot;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.geo.Coordinate;
+
+@Repository
+@Profile("sharded")
+public class ShardedSnapshotDao implements SnapshotDao {
+    private final Shards shards;
+
+    public ShardedSnapshotDao(Shards shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public void replace(NetworkSnapshot snapshot) {
+        Long currentMaxStationId = shards.catalog().queryForObject("SELECT COALESCE(MAX(id), 0) FROM STATION",
+            Long.class);
+        shards.catalog().execute("ALTER TABLE STATION ALTER COLUMN id RESTART WITH "
+            + (Math.max(snapshot.maxStationId(), currentMaxStationId) + 1));
+        shards.catalog().update("DELETE FROM LINE_NAME");
+        for (JdbcTemplate shard : shards.all()) {
+            shard.update("DELETE FROM SECTION");
+            shard.update("DELETE FROM LINE");
+            shard.update("DELETE FROM STATION");
+        }
+        insertStations(snapshot);
+        insertLines(snapshot);
+        long sections = insertSections(snapshot);
+        shards.catalog().execute("ALTER SEQUENCE LINE_ID_SEQ RESTART WITH " + (snapshot.maxLineId() + 1));
+        shards.catalog().execute("ALTER SEQUENCE SECTION_ID_SEQ RESTART WITH " + (sections + 1));
+    }
+
+    private void insertStations(NetworkSnapshot snapshot) {
+        final String sql = "INSERT INTO STATION (id, name, latitude, longitude) VALUES (?, ?, ?, ?)";
+        List<Object[]> stations = new ArrayList<>(snapshot.stationCount());
+        for (int i = 0; i < snapshot.stationCount(); i++) {
+            Station station = snapshot.station(i);
+            Coordinate coordinate = station.getCoordinate();
+            stations.add(new Object[] {station.getId(), station.getName(),
+                coordinate == null ? null : coordinate.getLatitude(),
+                coordinate == null ? null : coordinate.getLongitude()});
+        }
+        for (JdbcTemplate shard : shards.all()) {
+            shard.batchUpdate(sql, stations);
+        }
+    }
+
+    private void insertLines(NetworkSnapshot snapshot) {
+        final String sql = "INSERT INTO LINE (id, name, color, extra_fare, version) VALUES (?, ?, ?, ?, ?)";
+        Map<Integer, List<Object[]>> byShard = new HashMap<>();
+        List<Object[]> names = new ArrayList<>(snapshot.lineCount());
+        for (int i = 0; i < snapshot.lineCount(); i++) {
+            long lineId = snapshot.lineId(i);
+            byShard.computeIfAbsent(shards.getPlacement().shardOf(lineId), shard -> new ArrayList<>())
+                .add(new Object[] {lineId, snapshot.lineName(i), snapshot.lineColor(i), snapshot.extraFare(i),
+                    snapshot.version(i)});
+            names.add(new Object[] {snapshot.lineName(i), lineId});
+        }
+        shards.catalog().batchUpdate("INSERT INTO LINE_NAME (name, line_id) VALUES (?, ?)", names);
+        byShard.forEach((shard, lines) -> shards.get(shard).batchUpdate(sql, lines));
+    }
+
+    private long insertSections(NetworkSnapshot snapshot) {
+        final String sql = "INSERT INTO SECTION (id, line_id, up_station_id, down_station_id, distance) "
+            + "VALUES (?, ?, ?, ?, ?)";
+        Map<Integer, List<Object[]>> byShard = new HashMap<>();
+        long sequence = 0L;
+        for (int line = 0; line < snapshot.lineCount(); line++) {
+            long lineId = snapshot.lineId(line);
+            List<Object[]> sections = byShard.computeIfAbsent(shards.getPlacement().shardOf(lineId),
+                shard -> new ArrayList<>());
+            for (int i = snapshot.firstSection(line); i < snapshot.endSection(line); i++) {
+                long sectionId = shards.getPlacement().sectionId(++sequence, lineId);
+                sections.add(new Object[] {sectionId, lineId, snapshot.upStationId(i), snapshot.downStationId(i),
+                    snapshot.distance(i)});
+            }
+        }
+        byShard.forEach((shard, sections) -> shards.get(shard).batchUpdate(sql, sections));
+        return sequence;
+    }
+}
@@ -0,0 +1,83 @@
+package wooteco.subway.dao.shard;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.geo.Coordinate;
+
+@Repository
+@Profile("sharded")
+public class ShardedStationDao implements StationDao {
+    private final Shards shards;
+
+    public ShardedStationDao(Shards shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public Station save(Station station) {
+        final String sql = "INSERT INTO STATION (name, latitude, longitude) VALUES (?, ?, ?)";
+        Coordinate coordinate = station.getCoordinate();
+        Double latitude = coordinate == null ? null : coordinate.getLatitude();
+        Double longitude = coordinate == null ? null : coordinate.getLongitude();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        shards.catalog().update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, new String[] {"id"});
+            ps.setString(1, station.getName());
+            ps.setObject(2, latitude);
+            ps.setObject(3, longitude);
+            return ps;
+        }, keyHolder);
+        long id = keyHolder.getKey().longValue();
+
+        final String replicateSql = "INSERT INTO STATION (id, name, latitude, longitude) VALUES (?, ?, ?, ?)";
+        for (JdbcTemplate shard : shards.all().subList(1, shards.size())) {
+            shard.update(replicateSql, id, station.getName(), latitude, longitude);
+        }
+        return new Station(id, station.getName(), coordinate);
+    }
+
+    @Override
+    public List<Station> findAll() {
+        return shards.catalog().query("SELECT id, name, latitude, longitude FROM STATION", stationMapper());
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        boolean deleted = shards.catalog().update("DELETE FROM STATION WHERE id = ?", id) != 0;
+        for (JdbcTemplate shard : shards.all().subList(1, shards.size())) {
+            shard.update("DELETE FROM STATION WHERE id = ?", id);
+        }
+        return deleted;
+    }
+
+    @Override
+    public Optional<Station> findById(Long id) {
+        final String sql = "SELECT id, name, latitude, longitude FROM STATION WHERE id = ?";
+        try {
+            return Optional.of(shards.catalog().queryForObject(sql, stationMapper(), id));
+        } catch (EmptyResultDataAccessException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private RowMapper<Station> stationMapper() {
+        return (resultSet, rowNum) -> new Station(
+            resultSet.getLong("id"),
+            resultSet.getString("name"),
+            Coordinate.of(resultSet.getObject("latitude", Double.class),
+                resultSet.getObject("longitude", Double.class))
+        );
+    }
+}
@@ -0,0 +1,125 @@
+package wooteco.subway.dao.shard;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class Shards {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final List<DataSource> dataSources;
+    private final List<JdbcTemplate> templates;
+    private final ShardPlacement placement;
+    private final ExecutorService scatterPool;
+    private final AtomicInteger scatterThreads = new AtomicInteger();
+
+    public Shards(List<DataSource> dataSources, ShardPlacement placement) {
+        if (dataSources.size() != placement.getShardCount()) {
+            throw new IllegalArgumentException("샤드 배치 설정이 올바르지 않습니다.");
+        }
+        this.dataSources = List.copyOf(dataSources);
+        this.templates = dataSources.stream()
+            .map(JdbcTemplate::new)
+            .collect(Collectors.toList());
+        this.placement = placement;
+        this.scatterPool = Executors.newCachedThreadPool(this::scatterThread);
+    }
+
+    private Thread scatterThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "shard-scatter-" + scatterThreads.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    public JdbcTemplate catalog() {
+        return templates.get(0);
+    }
+
+    public JdbcTemplate forLine(Long lineId) {
+        return get(placement.shardOf(lineId));
+    }
+
+    public JdbcTemplate forSection(Long sectionId) {
+        return get(placement.shardOf(sectionId));
+    }
+
+    public int shardOfSection(Long sectionId) {
+        return placement.shardOf(sectionId);
+    }
+
+    public JdbcTemplate get(int shard) {
+        if (shard != 0) {
+            ShardTransaction.join(this, dataSources.get(0), shard, dataSources.get(shard));
+        }
+        return templates.get(shard);
+    }
+
+    public List<JdbcTemplate> all() {
+        return IntStream.range(0, templates.size())
+            .mapToObj(this::get)
+            .collect(Collectors.toList());
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    public long nextLineId() {
+        return catalog().queryForObject("SELECT NEXT VALUE FOR LINE_ID_SEQ", Long.class);
+    }
+
+    public long nextSectionId(Long lineId) {
+        long sequence = catalog().queryForObject("SELECT NEXT VALUE FOR SECTION_ID_SEQ", Long.class);
+        return placement.sectionId(sequence, lineId);
+    }
+
+    public void recover() {
+        Set<String> resolved = new LinkedHashSet<>();
+        for (int shard = 1; shard < templates.size(); shard++) {
+            JdbcTemplate template = templates.get(shard);
+            List<String> inDoubt = template.query("SELECT * FROM INFORMATION_SCHEMA.IN_DOUBT",
+                (resultSet, rowNumber) -> resultSet.getString(1));
+            for (String xid : inDoubt) {
+                if (!ShardTransaction.isShardXid(xid)) {
+                    continue;
+                }
+                String id = ShardTransaction.idOf(xid);
+                Integer decided = catalog().queryForObject("SELECT COUNT(*) FROM SHARD_COMMIT WHERE id = ?",
+                    Integer.class, id);
+                boolean commit = decided != null && decided > 0;
+                template.execute((commit ? "COMMIT TRANSACTION " : "ROLLBACK TRANSACTION ") + xid);
+                resolved.add(id);
+                logger.warn(String.format("샤드 %d에 남아 있던 분산 트랜잭션 %s를 %s했습니다.", shard, xid,
+                    commit ? "커밋" : "롤백"));
+            }
+        }
+        resolved.forEach(id -> catalog().update("DELETE FROM SHARD_COMMIT WHERE id = ?", id));
+    }
+
+    public ShardPlacement getPlacement() {
+        return placement;
+    }
+
+    ExecutorService scatterPool() {
+        return scatterPool;
+    }
+
+    public void close() throws Exception {
+        scatterPool.shutdownNow();
+        for (DataSource dataSource : dataSources.subList(1, dataSources.size())) {
+            if (dataSource instanceof AutoCloseable) {
+                ((AutoCloseable)dataSource).close();
+            }
+        }
+    }
+}
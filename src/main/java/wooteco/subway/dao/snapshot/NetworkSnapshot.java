@@ -0,0 +1,254 @@
+package wooteco.subway.dao.snapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.geo.Coordinate;
+
+public class NetworkSnapshot {
+    private static final String INVALID_MESSAGE = "올바르지 않은 스냅샷 파일입니다.";
+
+    final SnapshotStrings strings;
+    final long[] stationIds;
+    final int[] stationNames;
+    final double[] latitudes;
+    final double[] longitudes;
+    final long[] lineIds;
+    final int[] lineNames;
+    final int[] lineColors;
+    final int[] extraFares;
+    final long[] versions;
+    final int[] sectionOffsets;
+    final long[] sectionIds;
+    final long[] upStationIds;
+    final long[] downStationIds;
+    final int[] distances;
+
+    NetworkSnapshot(SnapshotStrings strings, long[] stationIds, int[] stationNames, double[] latitudes,
+        double[] longitudes, long[] lineIds, int[] lineNames, int[] lineColors, int[] extraFares, long[] versions,
+        int[] sectionOffsets, long[] sectionIds, long[] upStationIds, long[] downStationIds, int[] distances) {
+        this.strings = strings;
+        this.stationIds = stationIds;
+        this.stationNames = stationNames;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.lineIds = lineIds;
+        this.lineNames = lineNames;
+        this.lineColors = lineColors;
+        this.extraFares = extraFares;
+        this.versions = versions;
+        this.sectionOffsets = sectionOffsets;
+        this.sectionIds = sectionIds;
+        this.upStationIds = upStationIds;
+        this.downStationIds = downStationIds;
+        this.distances = distances;
+    }
+
+    public static NetworkSnapshot of(List<Station> unsortedStations, List<Line> lines) {
+        List<Station> stations = sortedById(unsortedStations);
+        StringTable strings = new StringTable();
+        int stationCount = stations.size();
+        long[] stationIds = new long[stationCount];
+        int[] stationNames = new int[stationCount];
+        double[] latitudes = new double[stationCount];
+        double[] longitudes = new double[stationCount];
+        for (int i = 0; i < stationCount; i++) {
+            Station station = stations.get(i);
+            stationIds[i] = station.getId();
+            stationNames[i] = strings.ref(station.getName());
+            latitudes[i] = station.hasCoordinate() ? station.getCoordinate().getLatitude() : Double.NaN;
+            longitudes[i] = station.hasCoordinate() ? station.getCoordinate().getLongitude() : Double.NaN;
+        }
+
+        int lineCount = lines.size();
+        long[] lineIds = new long[lineCount];
+        int[] lineNames = new int[lineCount];
+        int[] lineColors = new int[lineCount];
+        int[] extraFares = new int[lineCount];
+        long[] versions = new long[lineCount];
+        int[] sectionOffsets = new int[lineCount + 1];
+        List<Section> sections = new ArrayList<>();
+        for (int i = 0; i < lineCount; i++) {
+            Line line = lines.get(i);
+            lineIds[i] = line.getId();
+            lineNames[i] = strings.ref(line.getName());
+            lineColors[i] = strings.ref(line.getColor());
+            extraFares[i] = line.getExtraFare();
+            versions[i] = line.getVersion();
+            sections.addAll(line.getSections());
+            sectionOffsets[i + 1] = sections.size();
+        }
+
+        int sectionCount = sections.size();
+        long[] sectionIds = new long[sectionCount];
+        long[] upStationIds = new long[sectionCount];
+        long[] downStationIds = new long[sectionCount];
+        int[] distances = new int[sectionCount];
+        for (int i = 0; i < sectionCount; i++) {
+            Section section = sections.get(i);
+            sectionIds[i] = section.getId();
+            upStationIds[i] = section.getUpStation().getId();
+            downStationIds[i] = section.getDownStation().getId();
+            distances[i] = section.getDistance();
+        }
+
+        return new NetworkSnapshot(strings.toStrings(), stationIds, stationNames, latitudes, longitudes, lineIds,
+            lineNames, lineColors, extraFares, versions, sectionOffsets, sectionIds, upStationIds, downStationIds,
+            distances);
+    }
+
+    private static List<Station> sortedById(List<Station> stations) {
+        List<Station> sorted = new ArrayList<>(stations);
+        sorted.sort(Comparator.comparing(Station::getId));
+        return sorted;
+    }
+
+    void validate() {
+        if (sectionOffsets.length != lineIds.length + 1 || sectionOffsets[0] != 0
+            || sectionOffsets[lineIds.length] != sectionIds.length) {
+            throw new IllegalArgumentException(INVALID_MESSAGE);
+        }
+        for (int i = 0; i < lineIds.length; i++) {
+            if (sectionOffsets[i] > sectionOffsets[i + 1]) {
+                throw new IllegalArgumentException(INVALID_MESSAGE);
+            }
+            validateRef(lineNames[i]);
+            validateRef(lineColors[i]);
+        }
+        for (int i = 0; i < stationIds.length; i++) {
+            validateRef(stationNames[i]);
+            if (i > 0 && stationIds[i - 1] >= stationIds[i]) {
+                throw new IllegalArgumentException(INVALID_MESSAGE);
+            }
+        }
+        for (int i = 0; i < sectionIds.length; i++) {
+            if (!hasStation(upStationIds[i]) || !hasStation(downStationIds[i])) {
+                throw new IllegalArgumentException(INVALID_MESSAGE);
+            }
+        }
+    }
+
+    private boolean hasStation(long id) {
+        if (stationIds.length == 0) {
+            return false;
+        }
+        long offset = id - stationIds[0];
+        if (offset >= 0 && offset < stationIds.length && stationIds[(int)offset] == id) {
+            return true;
+        }
+        return Arrays.binarySearch(stationIds, id) >= 0;
+    }
+
+    private void validateRef(int ref) {
+        if (ref < 0 || ref >= strings.size()) {
+            throw new IllegalArgumentException(INVALID_MESSAGE);
+        }
+    }
+
+    public int stationCount() {
+        return stationIds.length;
+    }
+
+    public Station station(int index) {
+        Coordinate coordinate = null;
+        if (!Double.isNaN(latitudes[index])) {
+            coordinate = new Coordinate(latitudes[index], longitudes[index]);
+        }
+        return new Station(stationIds[index], strings.get(stationNames[index]), coordinate);
+    }
+
+    public int lineCount() {
+        return lineIds.length;
+    }
+
+    public long lineId(int index) {
+        return lineIds[index];
+    }
+
+    public String lineName(int index) {
+        return strings.get(lineNames[index]);
+    }
+
+    public String lineColor(int index) {
+        return strings.get(lineColors[index]);
+    }
+
+    public int extraFare(int index) {
+        return extraFares[index];
+    }
+
+    public long version(int index) {
+        return versions[index];
+    }
+
+    public int firstSection(int lineIndex) {
+        return sectionOffsets[lineIndex];
+    }
+
+    public int endSection(int lineIndex) {
+        return sectionOffsets[lineIndex + 1];
+    }
+
+    public int sectionCount() {
+        return sectionIds.length;
+    }
+
+    public long sectionId(int index) {
+        return sectionIds[index];
+    }
+
+    public long upStationId(int index) {
+        return upStationIds[index];
+    }
+
+    public long downStationId(int index) {
+        return downStationIds[index];
+    }
+
+    public int distance(int index) {
+        return distances[index];
+    }
+
+    public long maxStationId() {
+        return max(stationIds);
+    }
+
+    public long maxLineId() {
+        return max(lineIds);
+    }
+
+    public long maxSectionId() {
+        return max(sectionIds);
+    }
+
+    private static long max(long[] ids) {
+        long max = 0L;
+        for (long id : ids) {
+            max = Math.max(max, id);
+        }
+        return max;
+    }
+
+    private static class StringTable {
+        private final Map<String, Integer> refs = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        int ref(String value) {
+            return refs.computeIfAbsent(value, key -> {
+                strings.add(key);
+                return strings.size() - 1;
+            });
+        }
+
+        SnapshotStrings toStrings() {
+            return SnapshotStrings.of(strings);
+        }
+    }
+}
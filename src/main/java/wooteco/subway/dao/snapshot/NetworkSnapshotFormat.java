@@ -0,0 +1,241 @@
+package wooteco.subway.dao.snapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+public class NetworkSnapshotFormat {
+    private static final int MAGIC = 0x5355424E;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES * 8;
+    private static final int CHECKSUM_BYTES = Integer.BYTES;
+    private static final String INVALID_MESSAGE = "올바르지 않은 스냅샷 파일입니다.";
+
+    private NetworkSnapshotFormat() {
+    }
+
+    public static byte[] encode(NetworkSnapshot snapshot) {
+        int stringCount = snapshot.strings.size();
+        byte[] stringData = snapshot.strings.data();
+        int stations = snapshot.stationIds.length;
+        int lines = snapshot.lineIds.length;
+        int sections = snapshot.sectionIds.length;
+
+        ByteBuffer buffer = ByteBuffer.allocate(size(stringCount, stringData.length, stations, lines, sections))
+            .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION)
+            .putInt(stringCount).putInt(stringData.length)
+            .putInt(stations).putInt(lines).putInt(sections)
+            .putInt(0);
+
+        buffer.asIntBuffer().put(snapshot.strings.offsets());
+        skip(buffer, Integer.BYTES, stringCount + 1);
+        buffer.put(stringData);
+        align(buffer);
+
+        buffer.asLongBuffer().put(snapshot.stationIds);
+        skip(buffer, Long.BYTES, stations);
+        buffer.asDoubleBuffer().put(snapshot.latitudes);
+        skip(buffer, Double.BYTES, stations);
+        buffer.asDoubleBuffer().put(snapshot.longitudes);
+        skip(buffer, Double.BYTES, stations);
+        buffer.asIntBuffer().put(snapshot.stationNames);
+        skip(buffer, Integer.BYTES, stations);
+        align(buffer);
+
+        buffer.asLongBuffer().put(snapshot.lineIds);
+        skip(buffer, Long.BYTES, lines);
+        buffer.asLongBuffer().put(snapshot.versions);
+        skip(buffer, Long.BYTES, lines);
+        buffer.asIntBuffer().put(snapshot.lineNames);
+        skip(buffer, Integer.BYTES, lines);
+        buffer.asIntBuffer().put(snapshot.lineColors);
+        skip(buffer, Integer.BYTES, lines);
+        buffer.asIntBuffer().put(snapshot.extraFares);
+        skip(buffer, Integer.BYTES, lines);
+        buffer.asIntBuffer().put(snapshot.sectionOffsets);
+        skip(buffer, Integer.BYTES, lines + 1);
+        align(buffer);
+
+        buffer.asLongBuffer().put(snapshot.sectionIds);
+        skip(buffer, Long.BYTES, sections);
+        buffer.asLongBuffer().put(snapshot.upStationIds);
+        skip(buffer, Long.BYTES, sections);
+        buffer.asLongBuffer().put(snapshot.downStationIds);
+        skip(buffer, Long.BYTES, sections);
+        buffer.asIntBuffer().put(snapshot.distances);
+        skip(buffer, Integer.BYTES, sections);
+        align(buffer);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int)crc.getValue());
+        return buffer.array();
+    }
+
+    private static int size(int stringCount, int stringBytes, int stations, int lines, int sections) {
+        long size = HEADER_BYTES;
+        size = aligned(size + (long)Integer.BYTES * (stringCount + 1) + stringBytes);
+        size = aligned(size + (long)stations * (Long.BYTES + Double.BYTES * 2 + Integer.BYTES));
+        size = aligned(size + (long)lines * (Long.BYTES * 2 + Integer.BYTES * 4) + Integer.BYTES);
+        size = aligned(size + (long)sections * (Long.BYTES * 3 + Integer.BYTES));
+        size += CHECKSUM_BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("스냅샷 크기가 너무 큽니다.");
+        }
+        return (int)size;
+    }
+
+    private static long aligned(long position) {
+        return (position + Long.BYTES - 1) & -Long.BYTES;
+    }
+
+    private static void align(ByteBuffer buffer) {
+        buffer.position((int)aligned(buffer.position()));
+    }
+
+    private static void skip(ByteBuffer buffer, int width, int count) {
+        buffer.position(buffer.position() + width * count);
+    }
+
+    public static void write(NetworkSnapshot snapshot, Path path) {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Files.write(temporary, encode(snapshot));
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public static NetworkSnapshot map(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public static NetworkSnapshot decode(ByteBuffer source) {
+        ByteBuffer buffer = source.slice().order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            verifyChecksum(buffer);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 스냅샷 파일입니다.");
+            }
+            int stringCount = count(buffer);
+            int stringBytes = count(buffer);
+            int stations = count(buffer);
+            int lines = count(buffer);
+            int sections = count(buffer);
+            buffer.getInt();
+
+            SnapshotStrings strings = readStrings(buffer, stringCount, stringBytes);
+            align(buffer);
+
+            long[] stationIds = longs(buffer, stations);
+            double[] latitudes = doubles(buffer, stations);
+            double[] longitudes = doubles(buffer, stations);
+            int[] stationNames = ints(buffer, stations);
+            align(buffer);
+
+            long[] lineIds = longs(buffer, lines);
+            long[] versions = longs(buffer, lines);
+            int[] lineNames = ints(buffer, lines);
+            int[] lineColors = ints(buffer, lines);
+            int[] extraFares = ints(buffer, lines);
+            int[] sectionOffsets = ints(buffer, lines + 1);
+            align(buffer);
+
+            long[] sectionIds = longs(buffer, sections);
+            long[] upStationIds = longs(buffer, sections);
+            long[] downStationIds = longs(buffer, sections);
+            int[] distances = ints(buffer, sections);
+
+            NetworkSnapshot snapshot = new NetworkSnapshot(strings, stationIds, stationNames, latitudes, longitudes,
+                lineIds, lineNames, lineColors, extraFares, versions, sectionOffsets, sectionIds, upStationIds,
+                downStationIds, distances);
+            snapshot.validate();
+            return snapshot;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException exception) {
+            throw new IllegalArgumentException(INVALID_MESSAGE);
+        }
+    }
+
+    private static void verifyChecksum(ByteBuffer buffer) {
+        int end = buffer.limit() - CHECKSUM_BYTES;
+        if (end < HEADER_BYTES) {
+            throw new IllegalArgumentException(INVALID_MESSAGE);
+        }
+        ByteBuffer body = buffer.duplicate();
+        body.limit(end);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        if ((int)crc.getValue() != buffer.getInt(end)) {
+            throw new IllegalArgumentException(INVALID_MESSAGE);
+        }
+        buffer.limit(end);
+    }
+
+    private static int count(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0) {
+            throw new IllegalArgumentException(INVALID_MESSAGE);
+        }
+        return count;
+    }
+
+    private static SnapshotStrings readStrings(ByteBuffer buffer, int count, int bytes) {
+        int[] offsets = ints(buffer, count + 1);
+        if (offsets[0] != 0 || offsets[count] != bytes) {
+            throw new IllegalArgumentException(INVALID_MESSAGE);
+        }
+        for (int i = 0; i < count; i++) {
+            if (offsets[i] > offsets[i + 1]) {
+                throw new IllegalArgumentException(INVALID_MESSAGE);
+            }
+        }
+        require(buffer, Byte.BYTES, bytes);
+        byte[] data = new byte[bytes];
+        buffer.get(data);
+        return new SnapshotStrings(data, offsets);
+    }
+
+    private static void require(ByteBuffer buffer, int width, int count) {
+        if (count > buffer.remaining() / width) {
+            throw new IllegalArgumentException(INVALID_MESSAGE);
+        }
+    }
+
+    private static long[] longs(ByteBuffer buffer, int count) {
+        require(buffer, Long.BYTES, count);
+        long[] values = new long[count];
+        buffer.asLongBuffer().get(values);
+        skip(buffer, Long.BYTES, count);
+        return values;
+    }
+
+    private static double[] doubles(ByteBuffer buffer, int count) {
+        require(buffer, Double.BYTES, count);
+        double[] values = new double[count];
+        buffer.asDoubleBuffer().get(values);
+        skip(buffer, Double.BYTES, count);
+        return values;
+    }
+
+    private static int[] ints(ByteBuffer buffer, int count) {
+        require(buffer, Integer.BYTES, count);
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        skip(buffer, Integer.BYTES, count);
+        return values;
+    }
+}
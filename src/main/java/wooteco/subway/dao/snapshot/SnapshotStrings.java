@@ -0,0 +1,55 @@
+package wooteco.subway.dao.snapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+class SnapshotStrings {
+    private final byte[] data;
+    private final int[] offsets;
+    private final String[] decoded;
+
+    SnapshotStrings(byte[] data, int[] offsets) {
+        this(data, offsets, new String[offsets.length - 1]);
+    }
+
+    private SnapshotStrings(byte[] data, int[] offsets, String[] decoded) {
+        this.data = data;
+        this.offsets = offsets;
+        this.decoded = decoded;
+    }
+
+    static SnapshotStrings of(List<String> values) {
+        byte[][] encoded = new byte[values.size()][];
+        int[] offsets = new int[values.size() + 1];
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = values.get(i).getBytes(StandardCharsets.UTF_8);
+            offsets[i + 1] = offsets[i] + encoded[i].length;
+        }
+        byte[] data = new byte[offsets[encoded.length]];
+        for (int i = 0; i < encoded.length; i++) {
+            System.arraycopy(encoded[i], 0, data, offsets[i], encoded[i].length);
+        }
+        return new SnapshotStrings(data, offsets, values.toArray(new String[0]));
+    }
+
+    int size() {
+        return decoded.length;
+    }
+
+    String get(int ref) {
+        String value = decoded[ref];
+        if (value == null) {
+            value = new String(data, offsets[ref], offsets[ref + 1] - offsets[ref], StandardCharsets.UTF_8);
+            decoded[ref] = value;
+        }
+        return value;
+    }
+
+    byte[] data() {
+        return data;
+    }
+
+    int[] offsets() {
+        return offsets;
+    }
+}
@@ -6,30 +6,51 @@ public class Line {
     private final Long id;
     private String name;
     private String color;
+    private int extraFare;
+    private final long version;
     private final Sections sections;
 
-    private Line(Long id, String name, String color, Sections sections) {
+    private Line(Long id, String name, String color, int extraFare, long version, Sections sections) {
         this.id = id;
         this.name = name;
         this.color = color;
+        this.extraFare = extraFare;
+        this.version = version;
         this.sections = sections;
     }
 
     public Line(String name, String color) {
-        this(null, name, color, null);
+        this(null, name, color, 0, 0L, null);
+    }
+
+    public Line(String name, String color, int extraFare) {
+        this(null, name, color, extraFare, 0L, null);
     }
 
     public Line(Long id, String name, String color) {
-        this(id, name, color, null);
+        this(id, name, color, 0, 0L, null);
+    }
+
+    public Line(Long id, String name, String color, int extraFare) {
+        this(id, name, color, extraFare, 0L, null);
+    }
+
+    public Line(Long id, String name, String color, int extraFare, long version) {
+        this(id, name, color, extraFare, version, null);
     }
 
     public static Line from(Line line, List<Section> sections) {
-        return new Line(line.getId(), line.getName(), line.getColor(), Sections.of(sections));
+        return new Line(line.getId(), line.getName(), line.getColor(), line.getExtraFare(), line.getVersion(),
+            Sections.of(sections));
     }
 
-    public void update(String name, String color) {
+    public void update(String name, String color, int extraFare) {
+        if (extraFare < 0) {
+            throw new IllegalArgumentException("추가 요금은 0이상이어야 합니다.");
+        }
         this.name = name;
         this.color = color;
+        this.extraFare = extraFare;
     }
 
     public void insertSection(Section section) {
@@ -44,6 +65,14 @@ public class Line {
         return sections.getStations();
     }
 
+    public int distanceBetween(Station from, Station to) {
+        return sections.distanceBetween(from, to);
+    }
+
+    public List<Station> stationsBetween(Station from, Station to) {
+        return sections.stationsBetween(from, to);
+    }
+
     public Long getId() {
         return id;
     }
@@ -56,6 +85,14 @@ public class Line {
         return color;
     }
 
+    public int getExtraFare() {
+        return extraFare;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
     public List<Section> getSections() {
         return sections.getSections();
     }
@@ -0,0 +1,23 @@
+package wooteco.subway.domain;
+
+public class LineChangedEvent {
+    private final Long lineId;
+    private final boolean remote;
+
+    public LineChangedEvent(Long lineId) {
+        this(lineId, false);
+    }
+
+    public LineChangedEvent(Long lineId, boolean remote) {
+        this.lineId = lineId;
+        this.remote = remote;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public boolean isRemote() {
+        return remote;
+    }
+}
@@ -0,0 +1,26 @@
+package wooteco.subway.domain;
+
+import java.util.regex.Pattern;
+
+public class Namespace {
+    private static final Pattern ID_PATTERN = Pattern.compile("[a-z0-9-]{1,50}");
+
+    private final String id;
+    private final String name;
+
+    public Namespace(String id, String name) {
+        if (id == null || !ID_PATTERN.matcher(id).matches()) {
+            throw new IllegalArgumentException("네트워크 id는 50자 이하의 영문 소문자, 숫자, '-'로만 이루어져야 합니다.");
+        }
+        this.id = id;
+        this.name = name;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
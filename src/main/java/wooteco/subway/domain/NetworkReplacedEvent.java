@@ -0,0 +1,17 @@
+package wooteco.subway.domain;
+
+public class NetworkReplacedEvent {
+    private final boolean remote;
+
+    public NetworkReplacedEvent() {
+        this(false);
+    }
+
+    public NetworkReplacedEvent(boolean remote) {
+        this.remote = remote;
+    }
+
+    public boolean isRemote() {
+        return remote;
+    }
+}
@@ -1,8 +1,12 @@
 package wooteco.subway.domain;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 import java.util.OptionalInt;
 import java.util.stream.Collectors;
@@ -12,9 +16,13 @@ public class Sections {
     private static final int MIN_SIZE = 1;
 
     private List<Section> sections;
+    private final Map<Station, Integer> positions = new HashMap<>();
+    private final List<Station> stations = new ArrayList<>();
+    private int[] prefixDistances = new int[0];
 
     private Sections(List<Section> sections) {
         this.sections = sections;
+        refreshIndex(0);
     }
 
     public static Sections of(List<Section> sections) {
@@ -85,11 +93,11 @@ public class Sections {
                 sectionInLine.getDistance() - section.getDistance());
         }
         sections = flexibleSections;
+        refreshIndex(index);
     }
 
     private void checkContainsStation(Section section) {
-        List<Station> stations = getStations();
-        if (stations.contains(section.getUpStation()) && stations.contains(section.getDownStation())) {
+        if (positions.containsKey(section.getUpStation()) && positions.containsKey(section.getDownStation())) {
             throw new IllegalArgumentException("이미 존재하는 상행선과 하행선은 구간에 추가할 수 없습니다.");
         }
     }
@@ -99,6 +107,7 @@ public class Sections {
         if (lastSection.hasDownStation(section.getUpStation())) {
             flexibleSections.add(flexibleSections.size(), section);
             sections = flexibleSections;
+            refreshIndex(sections.size() - 1);
             return;
         }
 
@@ -106,6 +115,7 @@ public class Sections {
         if (firstSection.hasUpStation(section.getDownStation())) {
             flexibleSections.add(0, section);
             sections = flexibleSections;
+            refreshIndex(0);
             return;
         }
 
@@ -159,6 +169,13 @@ public class Sections {
     private Long removeSideStation(LinkedList<Section> flexibleSections, int index) {
         Section section = flexibleSections.remove(index);
         sections = flexibleSections;
+        if (index == 0) {
+            positions.remove(section.getUpStation());
+            refreshIndex(0);
+            return section.getId();
+        }
+        positions.remove(section.getDownStation());
+        refreshIndex(sections.size());
         return section.getId();
     }
 
@@ -184,21 +201,72 @@ public class Sections {
             leftSection.getDistance() + rightSection.getDistance());
         flexibleSections.remove(rightSection);
         sections = flexibleSections;
+        positions.remove(rightSection.getUpStation());
+        refreshIndex(index);
         return rightSection.getId();
     }
 
+    private void refreshIndex(int from) {
+        int size = sections.size();
+        if (prefixDistances.length != size + 1) {
+            prefixDistances = Arrays.copyOf(prefixDistances, size + 1);
+        }
+        while (stations.size() > size + 1) {
+            stations.remove(stations.size() - 1);
+        }
+        if (size == 0) {
+            return;
+        }
+        if (from == 0) {
+            putStation(0, sections.get(0).getUpStation());
+            prefixDistances[0] = 0;
+        }
+
+        ListIterator<Section> iterator = sections.listIterator(from);
+        for (int index = from; iterator.hasNext(); index++) {
+            Section section = iterator.next();
+            putStation(index + 1, section.getDownStation());
+            prefixDistances[index + 1] = prefixDistances[index] + section.getDistance();
+        }
+    }
+
+    private void putStation(int position, Station station) {
+        positions.put(station, position);
+        if (position < stations.size()) {
+            stations.set(position, station);
+            return;
+        }
+        stations.add(station);
+    }
+
+    public int distanceBetween(Station from, Station to) {
+        return Math.abs(prefixDistances[positionOf(to)] - prefixDistances[positionOf(from)]);
+    }
+
+    public List<Station> stationsBetween(Station from, Station to) {
+        int fromPosition = positionOf(from);
+        int toPosition = positionOf(to);
+        if (fromPosition <= toPosition) {
+            return new ArrayList<>(stations.subList(fromPosition, toPosition + 1));
+        }
+        List<Station> reversed = new ArrayList<>(stations.subList(toPosition, fromPosition + 1));
+        Collections.reverse(reversed);
+        return reversed;
+    }
+
+    private int positionOf(Station station) {
+        Integer position = positions.get(station);
+        if (position == null) {
+            throw new IllegalArgumentException("노선에 포함되지 않은 역입니다.");
+        }
+        return position;
+    }
+
     public List<Section> getSections() {
         return new LinkedList<>(sections);
     }
 
     public List<Station> getStations() {
-        List<Station> stations = new ArrayList<>();
-        for (Section section : sections) {
-            stations.add(section.getUpStation());
-            stations.add(section.getDownStation());
-        }
-        return stations.stream()
-            .distinct()
-            .collect(Collectors.toList());
+        return new ArrayList<>(stations);
     }
 }
@@ -2,9 +2,12 @@ package wooteco.subway.domain;
 
 import java.util.Objects;
 
+import wooteco.subway.domain.geo.Coordinate;
+
 public class Station {
     private Long id;
     private final String name;
+    private Coordinate coordinate;
 
     public Station(String name) {
         this.name = name;
@@ -15,6 +18,20 @@ public class Station {
         this.id = id;
     }
 
+    public Station(String name, Coordinate coordinate) {
+        this(name);
+        this.coordinate = coordinate;
+    }
+
+    public Station(Long id, String name, Coordinate coordinate) {
+        this(id, name);
+        this.coordinate = coordinate;
+    }
+
+    public boolean hasCoordinate() {
+        return coordinate != null;
+    }
+
     public Long getId() {
         return id;
     }
@@ -23,6 +40,10 @@ public class Station {
         return name;
     }
 
+    public Coordinate getCoordinate() {
+        return coordinate;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,23 @@
+package wooteco.subway.domain;
+
+public class StationChangedEvent {
+    private final Long stationId;
+    private final boolean remote;
+
+    public StationChangedEvent(Long stationId) {
+        this(stationId, false);
+    }
+
+    public StationChangedEvent(Long stationId, boolean remote) {
+        this.stationId = stationId;
+        this.remote = remote;
+    }
+
+    public Long getStationId() {
+        return stationId;
+    }
+
+    public boolean isRemote() {
+        return remote;
+    }
+}
@@ -0,0 +1,59 @@
+package wooteco.subway.domain.analytics;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import wooteco.subway.domain.graph.StationGraph;
+
+public class AnalysisJob {
+    private final Long id;
+    private final StationGraph graph;
+    private final AtomicInteger processed = new AtomicInteger();
+    private volatile JobStatus status = JobStatus.PENDING;
+    private volatile List<StationMetric> result;
+    private volatile String failure;
+
+    public AnalysisJob(Long id, StationGraph graph) {
+        this.id = id;
+        this.graph = graph;
+    }
+
+    public void run(int workers) {
+        status = JobStatus.RUNNING;
+        try {
+            result = new NetworkAnalyzer(graph).analyze(workers, processed);
+            status = JobStatus.COMPLETED;
+        } catch (RuntimeException exception) {
+            failure = exception.getMessage();
+            status = JobStatus.FAILED;
+        }
+    }
+
+    public boolean isFinished() {
+        return status == JobStatus.COMPLETED || status == JobStatus.FAILED;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public int getProcessed() {
+        return processed.get();
+    }
+
+    public int getTotal() {
+        return graph.nodeCount();
+    }
+
+    public List<StationMetric> getResult() {
+        return result;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+}
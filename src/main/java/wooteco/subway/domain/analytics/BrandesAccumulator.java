@@ -0,0 +1,106 @@
+package wooteco.subway.domain.analytics;
+
+import java.util.Arrays;
+
+import wooteco.subway.domain.graph.IntMinHeap;
+import wooteco.subway.domain.graph.StationGraph;
+
+class BrandesAccumulator {
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final StationGraph graph;
+    private final double[] betweenness;
+    private final int[] distances;
+    private final double[] pathCounts;
+    private final double[] dependencies;
+    private final int[] order;
+    private final IntMinHeap heap;
+
+    BrandesAccumulator(StationGraph graph) {
+        int nodeCount = graph.nodeCount();
+        this.graph = graph;
+        this.betweenness = new double[nodeCount];
+        this.distances = new int[nodeCount];
+        this.pathCounts = new double[nodeCount];
+        this.dependencies = new double[nodeCount];
+        this.order = new int[nodeCount];
+        this.heap = new IntMinHeap(graph.edgeCount() + 1);
+        Arrays.fill(distances, INFINITY);
+    }
+
+    void accumulate(int source, double[] closeness) {
+        int settledCount = searchShortestPaths(source);
+        long distanceSum = 0;
+        for (int i = settledCount - 1; i > 0; i--) {
+            int node = order[i];
+            distanceSum += distances[node];
+            accumulateDependencies(node);
+            betweenness[node] += dependencies[node];
+        }
+        closeness[source] = closenessOf(settledCount, distanceSum);
+
+        for (int i = 0; i < settledCount; i++) {
+            int node = order[i];
+            distances[node] = INFINITY;
+            pathCounts[node] = 0;
+            dependencies[node] = 0;
+        }
+    }
+
+    private double closenessOf(int reachedCount, long distanceSum) {
+        if (reachedCount <= 1 || distanceSum == 0) {
+            return 0;
+        }
+        double others = reachedCount - 1;
+        return (others / (betweenness.length - 1)) * (others / distanceSum);
+    }
+
+    private int searchShortestPaths(int source) {
+        int settledCount = 0;
+        heap.clear();
+        distances[source] = 0;
+        pathCounts[source] = 1;
+        heap.push(source, 0);
+        while (!heap.isEmpty()) {
+            int key = heap.peekKey();
+            int node = heap.poll();
+            if (key > distances[node]) {
+                continue;
+            }
+            order[settledCount++] = node;
+            for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+                int target = graph.target(edge);
+                int candidate = key + graph.weight(edge);
+                if (candidate < distances[target]) {
+                    distances[target] = candidate;
+                    pathCounts[target] = pathCounts[node];
+                    heap.push(target, candidate);
+                } else if (candidate == distances[target]) {
+                    pathCounts[target] += pathCounts[node];
+                }
+            }
+        }
+        return settledCount;
+    }
+
+    private void accumulateDependencies(int node) {
+        for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+            int predecessor = graph.target(edge);
+            if (distances[predecessor] != INFINITY
+                && distances[predecessor] + graph.weight(edge) == distances[node]) {
+                dependencies[predecessor] += pathCounts[predecessor] / pathCounts[node] * (1 + dependencies[node]);
+            }
+        }
+    }
+
+    BrandesAccumulator merge(BrandesAccumulator other) {
+        for (int node = 0; node < betweenness.length; node++) {
+            betweenness[node] += other.betweenness[node];
+        }
+        return this;
+    }
+
+    double betweenness(int node) {
+        return betweenness[node];
+    }
+}
@@ -0,0 +1,69 @@
+package wooteco.subway.domain.analytics;
+
+public class ClosureImpact {
+    private long evaluatedPairs;
+    private long longerPairs;
+    private long disconnectedPairs;
+    private long totalAddedDistance;
+    private int maxAddedDistance;
+    private int recomputedSources;
+
+    void evaluate() {
+        evaluatedPairs++;
+    }
+
+    void lengthen(int addedDistance) {
+        longerPairs++;
+        totalAddedDistance += addedDistance;
+        maxAddedDistance = Math.max(maxAddedDistance, addedDistance);
+    }
+
+    void disconnect() {
+        disconnectedPairs++;
+    }
+
+    void recompute() {
+        recomputedSources++;
+    }
+
+    ClosureImpact merge(ClosureImpact other) {
+        evaluatedPairs += other.evaluatedPairs;
+        longerPairs += other.longerPairs;
+        disconnectedPairs += other.disconnectedPairs;
+        totalAddedDistance += other.totalAddedDistance;
+        maxAddedDistance = Math.max(maxAddedDistance, other.maxAddedDistance);
+        recomputedSources += other.recomputedSources;
+        return this;
+    }
+
+    public double averageAddedDistance() {
+        if (longerPairs == 0) {
+            return 0;
+        }
+        return (double)totalAddedDistance / longerPairs;
+    }
+
+    public long getEvaluatedPairs() {
+        return evaluatedPairs;
+    }
+
+    public long getLongerPairs() {
+        return longerPairs;
+    }
+
+    public long getDisconnectedPairs() {
+        return disconnectedPairs;
+    }
+
+    public long getTotalAddedDistance() {
+        return totalAddedDistance;
+    }
+
+    public int getMaxAddedDistance() {
+        return maxAddedDistance;
+    }
+
+    public int getRecomputedSources() {
+        return recomputedSources;
+    }
+}
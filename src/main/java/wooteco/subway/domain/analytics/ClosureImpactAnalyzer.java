@@ -0,0 +1,153 @@
+package wooteco.subway.domain.analytics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.graph.BoundedDijkstra;
+import wooteco.subway.domain.graph.SearchSpace;
+import wooteco.subway.domain.graph.StationGraph;
+
+public class ClosureImpactAnalyzer {
+    private static final int NOT_FOUND = -1;
+
+    private final StationGraph baseGraph;
+    private final StationGraph closedGraph;
+    private final boolean[] closedNodes;
+    private final boolean[] closedEdges;
+    private final int[] closedIndexes;
+
+    private ClosureImpactAnalyzer(StationGraph baseGraph, StationGraph closedGraph, Set<Long> closedStationIds,
+        Set<Long> closedSectionIds) {
+        this.baseGraph = baseGraph;
+        this.closedGraph = closedGraph;
+        this.closedNodes = new boolean[baseGraph.nodeCount()];
+        this.closedEdges = new boolean[baseGraph.edgeCount()];
+        this.closedIndexes = new int[baseGraph.nodeCount()];
+        for (int node = 0; node < baseGraph.nodeCount(); node++) {
+            Long stationId = baseGraph.station(node).getId();
+            closedNodes[node] = closedStationIds.contains(stationId);
+            closedIndexes[node] = closedNodes[node] ? NOT_FOUND : closedGraph.indexOf(stationId);
+        }
+        for (int edge = 0; edge < baseGraph.edgeCount(); edge++) {
+            closedEdges[edge] = closedSectionIds.contains(baseGraph.sectionId(edge));
+        }
+    }
+
+    public static ClosureImpactAnalyzer of(List<Line> lines, List<Station> closedStations,
+        Set<Long> closedSectionIds) {
+        List<Line> closedLines = lines.stream()
+            .map(line -> closeStations(line, closedStations))
+            .filter(line -> line != null)
+            .collect(Collectors.toList());
+        Set<Long> closedStationIds = closedStations.stream()
+            .map(Station::getId)
+            .collect(Collectors.toSet());
+        return new ClosureImpactAnalyzer(StationGraph.from(lines), StationGraph.from(closedLines, closedSectionIds),
+            closedStationIds, closedSectionIds);
+    }
+
+    private static Line closeStations(Line line, List<Station> closedStations) {
+        List<Station> stations = line.getStations();
+        List<Station> closedInLine = closedStations.stream()
+            .filter(stations::contains)
+            .collect(Collectors.toList());
+        if (closedInLine.isEmpty()) {
+            return line;
+        }
+
+        List<Section> copiedSections = new ArrayList<>();
+        for (Section section : line.getSections()) {
+            copiedSections.add(Section.from(section.getId(), section));
+        }
+        Line copiedLine = Line.from(line, copiedSections);
+        for (Station station : closedInLine) {
+            if (copiedLine.getSections().size() == 1) {
+                return null;
+            }
+            copiedLine.deleteSection(station);
+        }
+        return copiedLine;
+    }
+
+    public ClosureImpact analyze(int workers) {
+        AtomicInteger nextSource = new AtomicInteger();
+        return IntStream.range(0, Math.max(1, workers))
+            .parallel()
+            .mapToObj(worker -> runWorker(nextSource))
+            .reduce(ClosureImpact::merge)
+            .orElseThrow();
+    }
+
+    private ClosureImpact runWorker(AtomicInteger nextSource) {
+        ClosureImpact impact = new ClosureImpact();
+        int[] baseDistances = new int[baseGraph.nodeCount()];
+        boolean[] affected = new boolean[baseGraph.nodeCount()];
+        int source;
+        while ((source = nextSource.getAndIncrement()) < baseGraph.nodeCount()) {
+            if (!closedNodes[source]) {
+                evaluateSource(source, baseDistances, affected, impact);
+            }
+        }
+        return impact;
+    }
+
+    private void evaluateSource(int source, int[] baseDistances, boolean[] affected, ClosureImpact impact) {
+        SearchSpace space = new BoundedDijkstra(baseGraph).search(source, BoundedDijkstra.UNBOUNDED);
+        boolean anyAffected = false;
+        for (int i = 0; i < space.settledCount(); i++) {
+            int node = space.settled(i);
+            baseDistances[node] = space.distance(node);
+            affected[node] = i > 0 && isAffected(space.parentEdge(node), source, affected);
+            if (node > source && !closedNodes[node]) {
+                impact.evaluate();
+                anyAffected |= affected[node];
+            }
+        }
+        if (!anyAffected) {
+            return;
+        }
+
+        int settledCount = space.settledCount();
+        int[] settled = new int[settledCount];
+        for (int i = 0; i < settledCount; i++) {
+            settled[i] = space.settled(i);
+        }
+        compareAffected(source, settled, baseDistances, affected, impact);
+    }
+
+    private boolean isAffected(int parentEdge, int source, boolean[] affected) {
+        int parent = baseGraph.source(parentEdge);
+        return affected[parent] || closedEdges[parentEdge] || (parent != source && closedNodes[parent]);
+    }
+
+    private void compareAffected(int source, int[] settled, int[] baseDistances, boolean[] affected,
+        ClosureImpact impact) {
+        impact.recompute();
+        int closedSource = closedIndexes[source];
+        SearchSpace space = null;
+        if (closedSource != NOT_FOUND) {
+            space = new BoundedDijkstra(closedGraph).search(closedSource, BoundedDijkstra.UNBOUNDED);
+        }
+        for (int node : settled) {
+            if (node <= source || closedNodes[node] || !affected[node]) {
+                continue;
+            }
+            int closedNode = closedIndexes[node];
+            if (space == null || closedNode == NOT_FOUND || !space.isReached(closedNode)) {
+                impact.disconnect();
+                continue;
+            }
+            int addedDistance = space.distance(closedNode) - baseDistances[node];
+            if (addedDistance > 0) {
+                impact.lengthen(addedDistance);
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package wooteco.subway.domain.analytics;
+
+public enum JobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
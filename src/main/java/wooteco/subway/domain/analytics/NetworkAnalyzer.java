@@ -0,0 +1,54 @@
+package wooteco.subway.domain.analytics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import wooteco.subway.domain.graph.StationGraph;
+
+public class NetworkAnalyzer {
+    private final StationGraph graph;
+
+    public NetworkAnalyzer(StationGraph graph) {
+        this.graph = graph;
+    }
+
+    public List<StationMetric> analyze(int workers, AtomicInteger progress) {
+        int nodeCount = graph.nodeCount();
+        double[] closeness = new double[nodeCount];
+        AtomicInteger nextSource = new AtomicInteger();
+
+        BrandesAccumulator accumulator = IntStream.range(0, Math.max(1, workers))
+            .parallel()
+            .mapToObj(worker -> runWorker(nextSource, closeness, progress))
+            .reduce(BrandesAccumulator::merge)
+            .orElseThrow();
+
+        List<StationMetric> metrics = new ArrayList<>();
+        for (int node = 0; node < nodeCount; node++) {
+            metrics.add(new StationMetric(graph.station(node), degreeOf(node), closeness[node],
+                accumulator.betweenness(node) / 2));
+        }
+        metrics.sort(Comparator.comparingDouble(StationMetric::getBetweenness).reversed());
+        return metrics;
+    }
+
+    private BrandesAccumulator runWorker(AtomicInteger nextSource, double[] closeness, AtomicInteger progress) {
+        BrandesAccumulator accumulator = new BrandesAccumulator(graph);
+        int source;
+        while ((source = nextSource.getAndIncrement()) < graph.nodeCount()) {
+            accumulator.accumulate(source, closeness);
+            progress.incrementAndGet();
+        }
+        return accumulator;
+    }
+
+    private int degreeOf(int node) {
+        return (int)IntStream.range(graph.firstEdge(node), graph.lastEdge(node))
+            .map(graph::target)
+            .distinct()
+            .count();
+    }
+}
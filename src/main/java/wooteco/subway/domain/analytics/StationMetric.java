@@ -0,0 +1,33 @@
+package wooteco.subway.domain.analytics;
+
+import wooteco.subway.domain.Station;
+
+public class StationMetric {
+    private final Station station;
+    private final int degree;
+    private final double closeness;
+    private final double betweenness;
+
+    public StationMetric(Station station, int degree, double closeness, double betweenness) {
+        this.station = station;
+        this.degree = degree;
+        this.closeness = closeness;
+        this.betweenness = betweenness;
+    }
+
+    public Station getStation() {
+        return station;
+    }
+
+    public int getDegree() {
+        return degree;
+    }
+
+    public double getCloseness() {
+        return closeness;
+    }
+
+    public double getBetweenness() {
+        return betweenness;
+    }
+}
@@ -0,0 +1,89 @@
+package wooteco.subway.domain.demand;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import wooteco.subway.domain.graph.BoundedDijkstra;
+import wooteco.subway.domain.graph.SearchSpace;
+import wooteco.subway.domain.graph.SectionIndex;
+import wooteco.subway.domain.graph.StationGraph;
+
+public class DemandAssigner {
+    private final StationGraph graph;
+    private final SectionIndex sectionIndex;
+
+    public DemandAssigner(StationGraph graph) {
+        this.graph = graph;
+        this.sectionIndex = SectionIndex.of(graph);
+    }
+
+    public DemandAssignment assign(DemandMatrix matrix, int workers) {
+        matrix.groupBySource();
+        LongAdder[] loads = new LongAdder[sectionIndex.sectionCount()];
+        for (int section = 0; section < loads.length; section++) {
+            loads[section] = new LongAdder();
+        }
+        LongAdder unreachableTrips = new LongAdder();
+        AtomicInteger nextSource = new AtomicInteger();
+
+        IntStream.range(0, Math.max(1, workers))
+            .parallel()
+            .forEach(worker -> runWorker(matrix, nextSource, loads, unreachableTrips));
+
+        List<SectionLoad> sectionLoads = new ArrayList<>();
+        for (int section = 0; section < loads.length; section++) {
+            sectionLoads.add(new SectionLoad(sectionIndex.sectionId(section), sectionIndex.lineId(section),
+                loads[section].sum()));
+        }
+        sectionLoads.sort(Comparator.comparingLong(SectionLoad::getLoad).reversed());
+        return new DemandAssignment(matrix.getTotalTrips(), matrix.getUnroutableTrips() + unreachableTrips.sum(),
+            sectionLoads);
+    }
+
+    private void runWorker(DemandMatrix matrix, AtomicInteger nextSource, LongAdder[] loads,
+        LongAdder unreachableTrips) {
+        long[] nodeFlows = new long[graph.nodeCount()];
+        long[] sectionFlows = new long[sectionIndex.sectionCount()];
+        int source;
+        while ((source = nextSource.getAndIncrement()) < graph.nodeCount()) {
+            if (matrix.firstDemand(source) < matrix.lastDemand(source)) {
+                assignSource(matrix, source, nodeFlows, sectionFlows, unreachableTrips);
+            }
+        }
+        for (int section = 0; section < sectionFlows.length; section++) {
+            if (sectionFlows[section] != 0) {
+                loads[section].add(sectionFlows[section]);
+            }
+        }
+    }
+
+    private void assignSource(DemandMatrix matrix, int source, long[] nodeFlows, long[] sectionFlows,
+        LongAdder unreachableTrips) {
+        SearchSpace space = new BoundedDijkstra(graph).search(source, BoundedDijkstra.UNBOUNDED);
+        for (int demand = matrix.firstDemand(source); demand < matrix.lastDemand(source); demand++) {
+            int target = matrix.target(demand);
+            if (space.isReached(target)) {
+                nodeFlows[target] += matrix.trips(demand);
+            } else {
+                unreachableTrips.add(matrix.trips(demand));
+            }
+        }
+
+        for (int i = space.settledCount() - 1; i > 0; i--) {
+            int node = space.settled(i);
+            long flow = nodeFlows[node];
+            if (flow == 0) {
+                continue;
+            }
+            nodeFlows[node] = 0;
+            int edge = space.parentEdge(node);
+            nodeFlows[graph.source(edge)] += flow;
+            sectionFlows[sectionIndex.sectionOf(edge)] += flow;
+        }
+        nodeFlows[source] = 0;
+    }
+}
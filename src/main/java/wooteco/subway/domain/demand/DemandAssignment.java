@@ -0,0 +1,31 @@
+package wooteco.subway.domain.demand;
+
+import java.util.List;
+
+public class DemandAssignment {
+    private final long totalTrips;
+    private final long unassignedTrips;
+    private final List<SectionLoad> sectionLoads;
+
+    public DemandAssignment(long totalTrips, long unassignedTrips, List<SectionLoad> sectionLoads) {
+        this.totalTrips = totalTrips;
+        this.unassignedTrips = unassignedTrips;
+        this.sectionLoads = sectionLoads;
+    }
+
+    public long getTotalTrips() {
+        return totalTrips;
+    }
+
+    public long getAssignedTrips() {
+        return totalTrips - unassignedTrips;
+    }
+
+    public long getUnassignedTrips() {
+        return unassignedTrips;
+    }
+
+    public List<SectionLoad> getSectionLoads() {
+        return sectionLoads;
+    }
+}
@@ -0,0 +1,124 @@
+package wooteco.subway.domain.demand;
+
+import java.util.Arrays;
+
+import wooteco.subway.domain.graph.StationGraph;
+
+public class DemandMatrix {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NOT_FOUND = -1;
+
+    private final long[] stationIds;
+    private final int[] stationNodes;
+    private final int nodeCount;
+    private int[] sources = new int[INITIAL_CAPACITY];
+    private int[] targets = new int[INITIAL_CAPACITY];
+    private int[] trips = new int[INITIAL_CAPACITY];
+    private int[] sourceOffsets;
+    private int size;
+    private long totalTrips;
+    private long unroutableTrips;
+
+    public DemandMatrix(StationGraph graph) {
+        this.nodeCount = graph.nodeCount();
+        this.stationIds = new long[nodeCount];
+        this.stationNodes = new int[nodeCount];
+
+        long[] keys = new long[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            keys[node] = graph.station(node).getId();
+        }
+        long[] sorted = keys.clone();
+        Arrays.sort(sorted);
+        for (int node = 0; node < nodeCount; node++) {
+            int position = Arrays.binarySearch(sorted, keys[node]);
+            stationIds[position] = keys[node];
+            stationNodes[position] = node;
+        }
+    }
+
+    public void add(long sourceId, long targetId, int tripCount) {
+        if (sourceOffsets != null) {
+            throw new IllegalStateException("이미 집계가 시작된 수요 데이터입니다.");
+        }
+        totalTrips += tripCount;
+        int source = nodeOf(sourceId);
+        int target = nodeOf(targetId);
+        if (source == NOT_FOUND || target == NOT_FOUND || source == target) {
+            unroutableTrips += tripCount;
+            return;
+        }
+        if (size == sources.length) {
+            int capacity = size + (size >> 1);
+            sources = Arrays.copyOf(sources, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+            trips = Arrays.copyOf(trips, capacity);
+        }
+        sources[size] = source;
+        targets[size] = target;
+        trips[size] = tripCount;
+        size++;
+    }
+
+    private int nodeOf(long stationId) {
+        int position = Arrays.binarySearch(stationIds, stationId);
+        if (position < 0) {
+            return NOT_FOUND;
+        }
+        return stationNodes[position];
+    }
+
+    public void groupBySource() {
+        if (sourceOffsets != null) {
+            return;
+        }
+        int[] offsets = new int[nodeCount + 1];
+        for (int i = 0; i < size; i++) {
+            offsets[sources[i] + 1]++;
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            offsets[node + 1] += offsets[node];
+        }
+
+        int[] cursors = Arrays.copyOf(offsets, nodeCount);
+        int[] groupedTargets = new int[size];
+        int[] groupedTrips = new int[size];
+        for (int i = 0; i < size; i++) {
+            int position = cursors[sources[i]]++;
+            groupedTargets[position] = targets[i];
+            groupedTrips[position] = trips[i];
+        }
+        sources = null;
+        targets = groupedTargets;
+        trips = groupedTrips;
+        sourceOffsets = offsets;
+    }
+
+    public int firstDemand(int source) {
+        return sourceOffsets[source];
+    }
+
+    public int lastDemand(int source) {
+        return sourceOffsets[source + 1];
+    }
+
+    public int target(int demand) {
+        return targets[demand];
+    }
+
+    public int trips(int demand) {
+        return trips[demand];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getTotalTrips() {
+        return totalTrips;
+    }
+
+    public long getUnroutableTrips() {
+        return unroutableTrips;
+    }
+}
@@ -0,0 +1,98 @@
+package wooteco.subway.domain.demand;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import wooteco.subway.domain.graph.StationGraph;
+
+public class DemandMatrixReader {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int FIELD_COUNT = 3;
+    private static final long MAX_FIELD_VALUE = (Long.MAX_VALUE - 9) / 10;
+    private static final String HEADER = "source,target,trips";
+
+    private final InputStream inputStream;
+    private final long[] fields = new long[FIELD_COUNT];
+    private final StringBuilder firstLine = new StringBuilder();
+    private int field;
+    private boolean digit;
+    private boolean invalid;
+    private int lineNumber = 1;
+
+    public DemandMatrixReader(InputStream inputStream) {
+        this.inputStream = inputStream;
+    }
+
+    public DemandMatrix read(StationGraph graph) {
+        DemandMatrix matrix = new DemandMatrix(graph);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    consume(buffer[i], matrix);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        endLine(matrix);
+        return matrix;
+    }
+
+    private void consume(byte b, DemandMatrix matrix) {
+        if (lineNumber == 1 && b > ' ' && firstLine.length() <= HEADER.length()) {
+            firstLine.append((char)b);
+        }
+        if (b >= '0' && b <= '9') {
+            if (fields[field] > MAX_FIELD_VALUE) {
+                invalid = true;
+                return;
+            }
+            fields[field] = fields[field] * 10 + (b - '0');
+            digit = true;
+            return;
+        }
+        if (b == ',') {
+            if (!digit || field == FIELD_COUNT - 1) {
+                invalid = true;
+                return;
+            }
+            field++;
+            digit = false;
+            return;
+        }
+        if (b == '\n') {
+            endLine(matrix);
+            return;
+        }
+        if (b != '\r' && b != ' ' && b != '\t') {
+            invalid = true;
+        }
+    }
+
+    private void endLine(DemandMatrix matrix) {
+        boolean blank = field == 0 && !digit && !invalid;
+        boolean complete = !invalid && digit && field == FIELD_COUNT - 1 && fields[2] <= Integer.MAX_VALUE;
+        if (!blank && !complete && !isHeader()) {
+            throw new IllegalArgumentException(
+                String.format("수요 데이터 형식이 올바르지 않습니다. (%d번째 줄)", lineNumber));
+        }
+        if (complete && fields[2] > 0) {
+            matrix.add(fields[0], fields[1], (int)fields[2]);
+        }
+
+        fields[0] = 0;
+        fields[1] = 0;
+        fields[2] = 0;
+        field = 0;
+        digit = false;
+        invalid = false;
+        lineNumber++;
+    }
+
+    private boolean isHeader() {
+        return lineNumber == 1 && HEADER.equalsIgnoreCase(firstLine.toString());
+    }
+}
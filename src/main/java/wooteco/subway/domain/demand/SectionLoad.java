@@ -0,0 +1,25 @@
+package wooteco.subway.domain.demand;
+
+public class SectionLoad {
+    private final long sectionId;
+    private final long lineId;
+    private final long load;
+
+    public SectionLoad(long sectionId, long lineId, long load) {
+        this.sectionId = sectionId;
+        this.lineId = lineId;
+        this.load = load;
+    }
+
+    public long getSectionId() {
+        return sectionId;
+    }
+
+    public long getLineId() {
+        return lineId;
+    }
+
+    public long getLoad() {
+        return load;
+    }
+}
@@ -0,0 +1,63 @@
+package wooteco.subway.domain.fare;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import wooteco.subway.domain.graph.BoundedDijkstra;
+import wooteco.subway.domain.graph.SearchSpace;
+import wooteco.subway.domain.graph.StationGraph;
+
+public class FareEngine {
+    private final StationGraph graph;
+    private final FareTable fareTable;
+    private final int[] edgeSurcharges;
+
+    public FareEngine(StationGraph graph, Map<Long, Integer> lineExtraFares, FareTable fareTable) {
+        this.graph = graph;
+        this.fareTable = fareTable;
+        this.edgeSurcharges = new int[graph.edgeCount()];
+        for (int edge = 0; edge < graph.edgeCount(); edge++) {
+            edgeSurcharges[edge] = lineExtraFares.getOrDefault(graph.lineId(edge), 0);
+        }
+    }
+
+    public List<FareQuote> price(List<FareQuery> queries) {
+        Map<Long, List<Integer>> indexesBySource = new LinkedHashMap<>();
+        for (int i = 0; i < queries.size(); i++) {
+            indexesBySource.computeIfAbsent(queries.get(i).getSourceId(), id -> new ArrayList<>()).add(i);
+        }
+
+        FareQuote[] quotes = new FareQuote[queries.size()];
+        indexesBySource.entrySet().parallelStream()
+            .forEach(entry -> priceFrom(entry.getKey(), entry.getValue(), queries, quotes));
+        return List.of(quotes);
+    }
+
+    private void priceFrom(Long sourceId, List<Integer> indexes, List<FareQuery> queries, FareQuote[] quotes) {
+        if (!graph.contains(sourceId)) {
+            indexes.forEach(index -> quotes[index] = FareQuote.unreachable(queries.get(index)));
+            return;
+        }
+
+        SearchSpace space = new BoundedDijkstra(graph).search(graph.indexOf(sourceId), BoundedDijkstra.UNBOUNDED);
+        int[] surcharges = new int[graph.nodeCount()];
+        for (int i = 1; i < space.settledCount(); i++) {
+            int node = space.settled(i);
+            int edge = space.parentEdge(node);
+            surcharges[node] = Math.max(surcharges[graph.source(edge)], edgeSurcharges[edge]);
+        }
+
+        for (int index : indexes) {
+            FareQuery query = queries.get(index);
+            int target = graph.indexOf(query.getTargetId());
+            if (target < 0 || !space.isReached(target)) {
+                quotes[index] = FareQuote.unreachable(query);
+                continue;
+            }
+            int distance = space.distance(target);
+            quotes[index] = FareQuote.of(query, distance, fareTable.fareOf(distance) + surcharges[target]);
+        }
+    }
+}
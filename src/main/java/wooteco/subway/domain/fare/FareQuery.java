@@ -0,0 +1,19 @@
+package wooteco.subway.domain.fare;
+
+public class FareQuery {
+    private final Long sourceId;
+    private final Long targetId;
+
+    public FareQuery(Long sourceId, Long targetId) {
+        this.sourceId = sourceId;
+        this.targetId = targetId;
+    }
+
+    public Long getSourceId() {
+        return sourceId;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+}
@@ -0,0 +1,39 @@
+package wooteco.subway.domain.fare;
+
+public class FareQuote {
+    private final FareQuery query;
+    private final boolean reachable;
+    private final int distance;
+    private final int fare;
+
+    private FareQuote(FareQuery query, boolean reachable, int distance, int fare) {
+        this.query = query;
+        this.reachable = reachable;
+        this.distance = distance;
+        this.fare = fare;
+    }
+
+    public static FareQuote of(FareQuery query, int distance, int fare) {
+        return new FareQuote(query, true, distance, fare);
+    }
+
+    public static FareQuote unreachable(FareQuery query) {
+        return new FareQuote(query, false, 0, 0);
+    }
+
+    public FareQuery getQuery() {
+        return query;
+    }
+
+    public boolean isReachable() {
+        return reachable;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+}
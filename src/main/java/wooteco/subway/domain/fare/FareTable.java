@@ -0,0 +1,46 @@
+package wooteco.subway.domain.fare;
+
+public class FareTable {
+    private static final int BASE_FARE = 1250;
+
+    private final int[] bandStarts;
+    private final int[] bandUnits;
+    private final int[] bandIncrements;
+    private final int[] bandBaseFares;
+
+    private FareTable(int baseFare, int[] bandStarts, int[] bandUnits, int[] bandIncrements) {
+        this.bandStarts = bandStarts;
+        this.bandUnits = bandUnits;
+        this.bandIncrements = bandIncrements;
+        this.bandBaseFares = compileBaseFares(baseFare, bandStarts, bandUnits, bandIncrements);
+    }
+
+    public static FareTable standard() {
+        return new FareTable(BASE_FARE, new int[] {10, 50}, new int[] {5, 8}, new int[] {100, 100});
+    }
+
+    private static int[] compileBaseFares(int baseFare, int[] bandStarts, int[] bandUnits, int[] bandIncrements) {
+        int[] baseFares = new int[bandStarts.length];
+        baseFares[0] = baseFare;
+        for (int band = 1; band < bandStarts.length; band++) {
+            int width = bandStarts[band] - bandStarts[band - 1];
+            baseFares[band] = baseFares[band - 1] + ceilDiv(width, bandUnits[band - 1]) * bandIncrements[band - 1];
+        }
+        return baseFares;
+    }
+
+    private static int ceilDiv(int value, int unit) {
+        return (value + unit - 1) / unit;
+    }
+
+    public int fareOf(int distance) {
+        int band = bandStarts.length - 1;
+        while (band >= 0 && distance <= bandStarts[band]) {
+            band--;
+        }
+        if (band < 0) {
+            return bandBaseFares[0];
+        }
+        return bandBaseFares[band] + ceilDiv(distance - bandStarts[band], bandUnits[band]) * bandIncrements[band];
+    }
+}
@@ -0,0 +1,77 @@
+package wooteco.subway.domain.geo;
+
+import java.util.Objects;
+
+public class Coordinate {
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+
+    private final double latitude;
+    private final double longitude;
+
+    public Coordinate(double latitude, double longitude) {
+        if (Double.isNaN(latitude) || latitude < -90 || latitude > 90) {
+            throw new IllegalArgumentException("위도는 -90 이상 90 이하여야 합니다.");
+        }
+        if (Double.isNaN(longitude) || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("경도는 -180 이상 180 이하여야 합니다.");
+        }
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public static Coordinate of(Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return null;
+        }
+        if (latitude == null || longitude == null) {
+            throw new IllegalArgumentException("위도와 경도는 함께 입력해야 합니다.");
+        }
+        return new Coordinate(latitude, longitude);
+    }
+
+    public static double distanceMeters(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double latitudeDelta = Math.toRadians(latitude2 - latitude1);
+        double longitudeDelta = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(latitudeDelta / 2) * Math.sin(latitudeDelta / 2)
+            + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+            * Math.sin(longitudeDelta / 2) * Math.sin(longitudeDelta / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    static double latitudeGapMeters(double latitudeDelta) {
+        return EARTH_RADIUS_METERS * Math.toRadians(Math.abs(latitudeDelta));
+    }
+
+    static double meridianGapMeters(double latitude, double longitudeDelta) {
+        double delta = Math.abs(longitudeDelta);
+        if (delta >= 90) {
+            return 0;
+        }
+        return EARTH_RADIUS_METERS * Math.asin(Math.cos(Math.toRadians(latitude)) * Math.sin(Math.toRadians(delta)));
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Coordinate that = (Coordinate)o;
+        return Double.compare(that.latitude, latitude) == 0 && Double.compare(that.longitude, longitude) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(latitude, longitude);
+    }
+}
@@ -0,0 +1,21 @@
+package wooteco.subway.domain.geo;
+
+import wooteco.subway.domain.Station;
+
+public class NearbyStation {
+    private final Station station;
+    private final double distance;
+
+    public NearbyStation(Station station, double distance) {
+        this.station = station;
+        this.distance = distance;
+    }
+
+    public Station getStation() {
+        return station;
+    }
+
+    public double getDistance() {
+        return distance;
+    }
+}
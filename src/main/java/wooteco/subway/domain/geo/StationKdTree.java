@@ -0,0 +1,277 @@
+package wooteco.subway.domain.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import wooteco.subway.domain.Station;
+
+public class StationKdTree {
+    private static final int NIL = -1;
+    private static final int LATITUDE = 0;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int DEPTH_SLACK = 4;
+
+    private Station[] stations = new Station[INITIAL_CAPACITY];
+    private double[] latitudes = new double[INITIAL_CAPACITY];
+    private double[] longitudes = new double[INITIAL_CAPACITY];
+    private int[] lefts = new int[INITIAL_CAPACITY];
+    private int[] rights = new int[INITIAL_CAPACITY];
+    private boolean[] removed = new boolean[INITIAL_CAPACITY];
+    private final Map<Long, Integer> nodeIndexes = new HashMap<>();
+    private int root = NIL;
+    private int nodeCount;
+    private int removedCount;
+
+    public void insert(Station station) {
+        remove(station.getId());
+        if (!station.hasCoordinate()) {
+            return;
+        }
+        int node = append(station);
+        if (root == NIL) {
+            root = node;
+            return;
+        }
+
+        int parent = root;
+        int depth = 0;
+        while (true) {
+            boolean left = compare(node, parent, depth % 2) < 0;
+            int child = left ? lefts[parent] : rights[parent];
+            depth++;
+            if (child == NIL) {
+                if (left) {
+                    lefts[parent] = node;
+                } else {
+                    rights[parent] = node;
+                }
+                break;
+            }
+            parent = child;
+        }
+        if (depth > maxDepth()) {
+            rebuild();
+        }
+    }
+
+    public boolean remove(Long stationId) {
+        Integer node = nodeIndexes.remove(stationId);
+        if (node == null) {
+            return false;
+        }
+        removed[node] = true;
+        removedCount++;
+        if (removedCount > size()) {
+            rebuild();
+        }
+        return true;
+    }
+
+    public int size() {
+        return nodeCount - removedCount;
+    }
+
+    public List<NearbyStation> nearest(Coordinate origin, int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("조회할 역의 개수는 1이상이어야 합니다.");
+        }
+        NearestQuery query = new NearestQuery(origin.getLatitude(), origin.getLongitude(),
+            Math.min(k, Math.max(1, size())));
+        searchNearest(root, 0, query);
+
+        List<NearbyStation> result = new ArrayList<>();
+        for (int i = 0; i < query.size; i++) {
+            result.add(new NearbyStation(stations[query.nodes[i]], query.distances[i]));
+        }
+        return result;
+    }
+
+    public List<Station> within(Coordinate southWest, Coordinate northEast) {
+        if (southWest.getLatitude() > northEast.getLatitude()
+            || southWest.getLongitude() > northEast.getLongitude()) {
+            throw new IllegalArgumentException("영역의 최솟값은 최댓값보다 클 수 없습니다.");
+        }
+        List<Station> result = new ArrayList<>();
+        searchWithin(root, 0, new double[] {southWest.getLatitude(), southWest.getLongitude()},
+            new double[] {northEast.getLatitude(), northEast.getLongitude()}, result);
+        return result;
+    }
+
+    private void searchNearest(int node, int depth, NearestQuery query) {
+        if (node == NIL) {
+            return;
+        }
+        if (!removed[node]) {
+            query.offer(node, Coordinate.distanceMeters(query.latitude, query.longitude, latitudes[node],
+                longitudes[node]));
+        }
+
+        int axis = depth % 2;
+        double delta = axis == LATITUDE ? query.latitude - latitudes[node] : query.longitude - longitudes[node];
+        int near = delta < 0 ? lefts[node] : rights[node];
+        int far = delta < 0 ? rights[node] : lefts[node];
+        searchNearest(near, depth + 1, query);
+
+        double gap = axis == LATITUDE
+            ? Coordinate.latitudeGapMeters(delta)
+            : Coordinate.meridianGapMeters(query.latitude, delta);
+        if (!query.isFull() || gap < query.worstDistance()) {
+            searchNearest(far, depth + 1, query);
+        }
+    }
+
+    private void searchWithin(int node, int depth, double[] min, double[] max, List<Station> result) {
+        if (node == NIL) {
+            return;
+        }
+        double latitude = latitudes[node];
+        double longitude = longitudes[node];
+        if (!removed[node] && min[0] <= latitude && latitude <= max[0] && min[1] <= longitude
+            && longitude <= max[1]) {
+            result.add(stations[node]);
+        }
+
+        int axis = depth % 2;
+        double value = axis == LATITUDE ? latitude : longitude;
+        if (min[axis] <= value) {
+            searchWithin(lefts[node], depth + 1, min, max, result);
+        }
+        if (value <= max[axis]) {
+            searchWithin(rights[node], depth + 1, min, max, result);
+        }
+    }
+
+    private int append(Station station) {
+        if (nodeCount == stations.length) {
+            int capacity = nodeCount * 2;
+            stations = Arrays.copyOf(stations, capacity);
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            longitudes = Arrays.copyOf(longitudes, capacity);
+            lefts = Arrays.copyOf(lefts, capacity);
+            rights = Arrays.copyOf(rights, capacity);
+            removed = Arrays.copyOf(removed, capacity);
+        }
+        int node = nodeCount++;
+        stations[node] = station;
+        latitudes[node] = station.getCoordinate().getLatitude();
+        longitudes[node] = station.getCoordinate().getLongitude();
+        lefts[node] = NIL;
+        rights[node] = NIL;
+        removed[node] = false;
+        nodeIndexes.put(station.getId(), node);
+        return node;
+    }
+
+    private int compare(int node, int other, int axis) {
+        if (axis == LATITUDE) {
+            return Double.compare(latitudes[node], latitudes[other]);
+        }
+        return Double.compare(longitudes[node], longitudes[other]);
+    }
+
+    private int maxDepth() {
+        return 2 * (32 - Integer.numberOfLeadingZeros(size())) + DEPTH_SLACK;
+    }
+
+    private void rebuild() {
+        List<Station> live = new ArrayList<>();
+        for (int node = 0; node < nodeCount; node++) {
+            if (!removed[node]) {
+                live.add(stations[node]);
+            }
+        }
+        nodeIndexes.clear();
+        nodeCount = 0;
+        removedCount = 0;
+        for (Station station : live) {
+            append(station);
+        }
+
+        int[] order = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            order[node] = node;
+        }
+        root = build(order, 0, nodeCount, 0);
+    }
+
+    private int build(int[] order, int from, int to, int depth) {
+        if (from >= to) {
+            return NIL;
+        }
+        int axis = depth % 2;
+        int middle = (from + to) >>> 1;
+        select(order, from, to - 1, middle, axis);
+        int node = order[middle];
+        lefts[node] = build(order, from, middle, depth + 1);
+        rights[node] = build(order, middle + 1, to, depth + 1);
+        return node;
+    }
+
+    private void select(int[] order, int low, int high, int target, int axis) {
+        while (low < high) {
+            int pivot = order[(low + high) >>> 1];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (compare(order[i], pivot, axis) < 0) {
+                    i++;
+                }
+                while (compare(order[j], pivot, axis) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    int temp = order[i];
+                    order[i++] = order[j];
+                    order[j--] = temp;
+                }
+            }
+            if (target <= j) {
+                high = j;
+            } else if (target >= i) {
+                low = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static class NearestQuery {
+        private final double latitude;
+        private final double longitude;
+        private final int[] nodes;
+        private final double[] distances;
+        private int size;
+
+        NearestQuery(double latitude, double longitude, int k) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.nodes = new int[k];
+            this.distances = new double[k];
+        }
+
+        boolean isFull() {
+            return size == nodes.length;
+        }
+
+        double worstDistance() {
+            return distances[size - 1];
+        }
+
+        void offer(int node, double distance) {
+            if (isFull() && distance >= worstDistance()) {
+                return;
+            }
+            int index = isFull() ? size - 1 : size++;
+            while (index > 0 && distances[index - 1] > distance) {
+                nodes[index] = nodes[index - 1];
+                distances[index] = distances[index - 1];
+                index--;
+            }
+            nodes[index] = node;
+            distances[index] = distance;
+        }
+    }
+}
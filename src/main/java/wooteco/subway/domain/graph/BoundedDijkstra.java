@@ -0,0 +1,42 @@
+package wooteco.subway.domain.graph;
+
+public class BoundedDijkstra {
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private final StationGraph graph;
+
+    public BoundedDijkstra(StationGraph graph) {
+        this.graph = graph;
+    }
+
+    public SearchSpace search(int source, int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("탐색 거리는 0이상이어야 합니다.");
+        }
+        SearchSpace space = SearchSpace.current(graph);
+        space.reachSource(source);
+        while (space.hasQueued()) {
+            int key = space.peekKey();
+            if (key > maxDistance) {
+                break;
+            }
+            int node = space.poll();
+            if (key > space.distance(node)) {
+                continue;
+            }
+            space.settle(node);
+            relax(space, node, key, maxDistance);
+        }
+        return space;
+    }
+
+    private void relax(SearchSpace space, int node, int distance, int maxDistance) {
+        for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+            int target = graph.target(edge);
+            long candidate = (long)distance + graph.weight(edge);
+            if (candidate <= maxDistance && candidate < space.distance(target)) {
+                space.reach(target, (int)candidate, edge);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package wooteco.subway.domain.graph;
+
+public class IntMinHeap {
+    private int[] nodes;
+    private int[] keys;
+    private int size;
+
+    public IntMinHeap(int capacity) {
+        this.nodes = new int[capacity];
+        this.keys = new int[capacity];
+    }
+
+    public void ensureCapacity(int capacity) {
+        if (nodes.length < capacity) {
+            nodes = new int[capacity];
+            keys = new int[capacity];
+        }
+        size = 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int peekKey() {
+        return keys[0];
+    }
+
+    public int poll() {
+        int node = nodes[0];
+        size--;
+        if (size > 0) {
+            nodes[0] = nodes[size];
+            keys[0] = keys[size];
+            siftDown(0);
+        }
+        return node;
+    }
+
+    public void push(int node, int key) {
+        int index = size++;
+        nodes[index] = node;
+        keys[index] = key;
+        siftUp(index);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (keys[parent] <= keys[index]) {
+                return;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int smallest = index;
+            int left = index * 2 + 1;
+            int right = left + 1;
+            if (left < size && keys[left] < keys[smallest]) {
+                smallest = left;
+            }
+            if (right < size && keys[right] < keys[smallest]) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(smallest, index);
+            index = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int node = nodes[i];
+        nodes[i] = nodes[j];
+        nodes[j] = node;
+        int key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+    }
+}
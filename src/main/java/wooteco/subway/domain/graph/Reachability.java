@@ -0,0 +1,49 @@
+package wooteco.subway.domain.graph;
+
+import java.util.Arrays;
+
+public class Reachability {
+    private final int[] nodes;
+    private final int[] distances;
+
+    private Reachability(int[] nodes, int[] distances) {
+        this.nodes = nodes;
+        this.distances = distances;
+    }
+
+    public static Reachability of(StationGraph graph, int source, int maxDistance) {
+        SearchSpace space = new BoundedDijkstra(graph).search(source, maxDistance);
+        int count = space.settledCount();
+        int[] nodes = new int[count];
+        int[] distances = new int[count];
+        for (int i = 0; i < count; i++) {
+            nodes[i] = space.settled(i);
+            distances[i] = space.distance(nodes[i]);
+        }
+        return new Reachability(nodes, distances);
+    }
+
+    public static int[] merge(int nodeCount, Iterable<Reachability> reachabilities) {
+        int[] merged = new int[nodeCount];
+        Arrays.fill(merged, Integer.MAX_VALUE);
+        for (Reachability reachability : reachabilities) {
+            for (int i = 0; i < reachability.size(); i++) {
+                int node = reachability.nodes[i];
+                merged[node] = Math.min(merged[node], reachability.distances[i]);
+            }
+        }
+        return merged;
+    }
+
+    public int size() {
+        return nodes.length;
+    }
+
+    public int node(int index) {
+        return nodes[index];
+    }
+
+    public int distance(int index) {
+        return distances[index];
+    }
+}
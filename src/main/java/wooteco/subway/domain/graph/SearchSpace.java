@@ -0,0 +1,86 @@
+package wooteco.subway.domain.graph;
+
+public class SearchSpace {
+    private static final ThreadLocal<SearchSpace> POOL = ThreadLocal.withInitial(SearchSpace::new);
+    private static final int NO_EDGE = -1;
+
+    private final IntMinHeap heap = new IntMinHeap(0);
+    private int[] distances = new int[0];
+    private int[] parentEdges = new int[0];
+    private int[] epochs = new int[0];
+    private int[] settled = new int[0];
+    private int epoch;
+    private int settledCount;
+
+    private SearchSpace() {
+    }
+
+    public static SearchSpace current(StationGraph graph) {
+        SearchSpace space = POOL.get();
+        space.reset(graph.nodeCount(), graph.edgeCount() + 1);
+        return space;
+    }
+
+    private void reset(int nodeCount, int heapCapacity) {
+        if (epochs.length < nodeCount) {
+            distances = new int[nodeCount];
+            parentEdges = new int[nodeCount];
+            epochs = new int[nodeCount];
+            settled = new int[nodeCount];
+            epoch = 0;
+        }
+        heap.ensureCapacity(heapCapacity);
+        epoch++;
+        settledCount = 0;
+    }
+
+    public boolean isReached(int node) {
+        return epochs[node] == epoch;
+    }
+
+    public int distance(int node) {
+        if (!isReached(node)) {
+            return Integer.MAX_VALUE;
+        }
+        return distances[node];
+    }
+
+    public int parentEdge(int node) {
+        return parentEdges[node];
+    }
+
+    public int settledCount() {
+        return settledCount;
+    }
+
+    public int settled(int index) {
+        return settled[index];
+    }
+
+    void reach(int node, int distance, int parentEdge) {
+        epochs[node] = epoch;
+        distances[node] = distance;
+        parentEdges[node] = parentEdge;
+        heap.push(node, distance);
+    }
+
+    void reachSource(int node) {
+        reach(node, 0, NO_EDGE);
+    }
+
+    void settle(int node) {
+        settled[settledCount++] = node;
+    }
+
+    boolean hasQueued() {
+        return !heap.isEmpty();
+    }
+
+    int peekKey() {
+        return heap.peekKey();
+    }
+
+    int poll() {
+        return heap.poll();
+    }
+}
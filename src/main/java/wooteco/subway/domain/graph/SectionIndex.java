@@ -0,0 +1,61 @@
+package wooteco.subway.domain.graph;
+
+import java.util.Arrays;
+
+public class SectionIndex {
+    private final long[] sectionIds;
+    private final long[] lineIds;
+    private final int[] sectionLines;
+    private final int[] edgeSections;
+
+    private SectionIndex(long[] sectionIds, long[] lineIds, int[] sectionLines, int[] edgeSections) {
+        this.sectionIds = sectionIds;
+        this.lineIds = lineIds;
+        this.sectionLines = sectionLines;
+        this.edgeSections = edgeSections;
+    }
+
+    public static SectionIndex of(StationGraph graph) {
+        long[] edgeSectionIds = new long[graph.edgeCount()];
+        long[] edgeLineIds = new long[graph.edgeCount()];
+        for (int edge = 0; edge < graph.edgeCount(); edge++) {
+            edgeSectionIds[edge] = graph.sectionId(edge);
+            edgeLineIds[edge] = graph.lineId(edge);
+        }
+        long[] sectionIds = Arrays.stream(edgeSectionIds).sorted().distinct().toArray();
+        long[] lineIds = Arrays.stream(edgeLineIds).sorted().distinct().toArray();
+
+        int[] sectionLines = new int[sectionIds.length];
+        int[] edgeSections = new int[graph.edgeCount()];
+        for (int edge = 0; edge < graph.edgeCount(); edge++) {
+            int section = Arrays.binarySearch(sectionIds, edgeSectionIds[edge]);
+            edgeSections[edge] = section;
+            sectionLines[section] = Arrays.binarySearch(lineIds, edgeLineIds[edge]);
+        }
+        return new SectionIndex(sectionIds, lineIds, sectionLines, edgeSections);
+    }
+
+    public int sectionCount() {
+        return sectionIds.length;
+    }
+
+    public int lineCount() {
+        return lineIds.length;
+    }
+
+    public int sectionOf(int edge) {
+        return edgeSections[edge];
+    }
+
+    public int lineOf(int section) {
+        return sectionLines[section];
+    }
+
+    public long sectionId(int section) {
+        return sectionIds[section];
+    }
+
+    public long lineId(int section) {
+        return lineIds[sectionLines[section]];
+    }
+}
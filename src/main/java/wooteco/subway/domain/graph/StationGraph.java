@@ -0,0 +1,154 @@
+package wooteco.subway.domain.graph;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+public class StationGraph {
+    private static final int NOT_FOUND = -1;
+
+    private final Map<Long, Integer> nodeIndexes;
+    private final Station[] nodes;
+    private final int[] offsets;
+    private final int[] sources;
+    private final int[] targets;
+    private final int[] weights;
+    private final long[] sectionIds;
+    private final long[] lineIds;
+
+    private StationGraph(Map<Long, Integer> nodeIndexes, Station[] nodes, int[] offsets, int[] sources,
+        int[] targets, int[] weights, long[] sectionIds, long[] lineIds) {
+        this.nodeIndexes = nodeIndexes;
+        this.nodes = nodes;
+        this.offsets = offsets;
+        this.sources = sources;
+        this.targets = targets;
+        this.weights = weights;
+        this.sectionIds = sectionIds;
+        this.lineIds = lineIds;
+    }
+
+    public static StationGraph from(List<Line> lines) {
+        return from(lines, Set.of());
+    }
+
+    public static StationGraph from(List<Line> lines, Set<Long> excludedSectionIds) {
+        Map<Long, Integer> nodeIndexes = new HashMap<>();
+        List<Station> nodes = new ArrayList<>();
+        List<Section> sections = new ArrayList<>();
+        List<Long> sectionLineIds = new ArrayList<>();
+        for (Line line : lines) {
+            for (Section section : line.getSections()) {
+                if (excludedSectionIds.contains(section.getId())) {
+                    continue;
+                }
+                indexOf(section.getUpStation(), nodeIndexes, nodes);
+                indexOf(section.getDownStation(), nodeIndexes, nodes);
+                sections.add(section);
+                sectionLineIds.add(line.getId());
+            }
+        }
+
+        int[] offsets = new int[nodes.size() + 1];
+        for (Section section : sections) {
+            offsets[nodeIndexes.get(section.getUpStation().getId()) + 1]++;
+            offsets[nodeIndexes.get(section.getDownStation().getId()) + 1]++;
+        }
+        for (int node = 0; node < nodes.size(); node++) {
+            offsets[node + 1] += offsets[node];
+        }
+
+        int edgeCount = sections.size() * 2;
+        int[] sources = new int[edgeCount];
+        int[] targets = new int[edgeCount];
+        int[] weights = new int[edgeCount];
+        long[] sectionIds = new long[edgeCount];
+        long[] lineIds = new long[edgeCount];
+        int[] cursors = new int[nodes.size()];
+        System.arraycopy(offsets, 0, cursors, 0, nodes.size());
+        for (int i = 0; i < sections.size(); i++) {
+            Section section = sections.get(i);
+            int up = nodeIndexes.get(section.getUpStation().getId());
+            int down = nodeIndexes.get(section.getDownStation().getId());
+            long sectionId = section.getId() == null ? 0L : section.getId();
+            long lineId = sectionLineIds.get(i) == null ? 0L : sectionLineIds.get(i);
+
+            int forward = cursors[up]++;
+            sources[forward] = up;
+            targets[forward] = down;
+            weights[forward] = section.getDistance();
+            sectionIds[forward] = sectionId;
+            lineIds[forward] = lineId;
+
+            int backward = cursors[down]++;
+            sources[backward] = down;
+            targets[backward] = up;
+            weights[backward] = section.getDistance();
+            sectionIds[backward] = sectionId;
+            lineIds[backward] = lineId;
+        }
+        return new StationGraph(nodeIndexes, nodes.toArray(new Station[0]), offsets, sources, targets, weights,
+            sectionIds, lineIds);
+    }
+
+    private static void indexOf(Station station, Map<Long, Integer> nodeIndexes, List<Station> nodes) {
+        nodeIndexes.computeIfAbsent(station.getId(), id -> {
+            nodes.add(station);
+            return nodes.size() - 1;
+        });
+    }
+
+    public int indexOf(Long stationId) {
+        return nodeIndexes.getOrDefault(stationId, NOT_FOUND);
+    }
+
+    public boolean contains(Long stationId) {
+        return nodeIndexes.containsKey(stationId);
+    }
+
+    public Station station(int node) {
+        return nodes[node];
+    }
+
+    public int nodeCount() {
+        return nodes.length;
+    }
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    public int firstEdge(int node) {
+        return offsets[node];
+    }
+
+    public int lastEdge(int node) {
+        return offsets[node + 1];
+    }
+
+    public int source(int edge) {
+        return sources[edge];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public int weight(int edge) {
+        return weights[edge];
+    }
+
+    public long sectionId(int edge) {
+        return sectionIds[edge];
+    }
+
+    public long lineId(int edge) {
+        return lineIds[edge];
+    }
+}
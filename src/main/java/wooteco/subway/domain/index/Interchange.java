@@ -0,0 +1,36 @@
+package wooteco.subway.domain.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import wooteco.subway.domain.Station;
+
+public class Interchange {
+    private final Station station;
+    private final List<StationLine> lines;
+
+    public Interchange(Station station, List<StationLine> lines) {
+        this.station = station;
+        this.lines = lines;
+    }
+
+    public List<List<Long>> linePairs() {
+        List<List<Long>> pairs = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            for (int j = i + 1; j < lines.size(); j++) {
+                Long first = lines.get(i).getLine().getId();
+                Long second = lines.get(j).getLine().getId();
+                pairs.add(List.of(Math.min(first, second), Math.max(first, second)));
+            }
+        }
+        return pairs;
+    }
+
+    public Station getStation() {
+        return station;
+    }
+
+    public List<StationLine> getLines() {
+        return lines;
+    }
+}
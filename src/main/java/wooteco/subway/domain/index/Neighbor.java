@@ -0,0 +1,34 @@
+package wooteco.subway.domain.index;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Station;
+
+public class Neighbor {
+    private final Line line;
+    private final Station station;
+    private final int distance;
+    private final boolean upward;
+
+    public Neighbor(Line line, Station station, int distance, boolean upward) {
+        this.line = line;
+        this.station = station;
+        this.distance = distance;
+        this.upward = upward;
+    }
+
+    public Line getLine() {
+        return line;
+    }
+
+    public Station getStation() {
+        return station;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public boolean isUpward() {
+        return upward;
+    }
+}
@@ -0,0 +1,155 @@
+package wooteco.subway.domain.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class NetworkConnectivity {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Long, long[]> lineStations = new HashMap<>();
+    private final Map<Long, Integer> stationIndexes = new HashMap<>();
+    private long[] stationIds = new long[INITIAL_CAPACITY];
+    private int[] parents = new int[INITIAL_CAPACITY];
+    private int[] sizes = new int[INITIAL_CAPACITY];
+    private int componentCount;
+    private boolean stale;
+    private int rebuildCount;
+
+    public synchronized void replace(Long lineId, long[] stations) {
+        long[] previous = lineStations.put(lineId, stations);
+        if (previous != null && !containsAll(stations, previous)) {
+            stale = true;
+            return;
+        }
+        if (!stale) {
+            unionAll(stations);
+        }
+    }
+
+    public synchronized void remove(Long lineId) {
+        if (lineStations.remove(lineId) != null) {
+            stale = true;
+        }
+    }
+
+    public synchronized boolean connected(Long sourceId, Long targetId) {
+        refresh();
+        Integer source = stationIndexes.get(sourceId);
+        Integer target = stationIndexes.get(targetId);
+        if (source == null || target == null) {
+            return sourceId.equals(targetId);
+        }
+        return find(source) == find(target);
+    }
+
+    public synchronized List<List<Long>> components() {
+        refresh();
+        Map<Integer, List<Long>> members = new HashMap<>();
+        for (int station = 0; station < stationIndexes.size(); station++) {
+            members.computeIfAbsent(find(station), root -> new ArrayList<>()).add(stationIds[station]);
+        }
+        List<List<Long>> components = new ArrayList<>(members.values());
+        components.sort(Comparator.<List<Long>>comparingInt(List::size).reversed());
+        return components;
+    }
+
+    public synchronized int componentCount() {
+        refresh();
+        return componentCount;
+    }
+
+    public synchronized int getRebuildCount() {
+        return rebuildCount;
+    }
+
+    private void refresh() {
+        if (!stale) {
+            return;
+        }
+        stationIndexes.clear();
+        componentCount = 0;
+        for (long[] stations : lineStations.values()) {
+            unionAll(stations);
+        }
+        stale = false;
+        rebuildCount++;
+    }
+
+    private void unionAll(long[] stations) {
+        if (stations.length == 0) {
+            return;
+        }
+        int first = indexOf(stations[0]);
+        for (int i = 1; i < stations.length; i++) {
+            union(first, indexOf(stations[i]));
+        }
+    }
+
+    private int indexOf(long stationId) {
+        Integer index = stationIndexes.get(stationId);
+        if (index != null) {
+            return index;
+        }
+        int newIndex = stationIndexes.size();
+        if (newIndex == parents.length) {
+            int capacity = parents.length * 2;
+            stationIds = Arrays.copyOf(stationIds, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            sizes = Arrays.copyOf(sizes, capacity);
+        }
+        stationIndexes.put(stationId, newIndex);
+        stationIds[newIndex] = stationId;
+        parents[newIndex] = newIndex;
+        sizes[newIndex] = 1;
+        componentCount++;
+        return newIndex;
+    }
+
+    private int find(int station) {
+        int root = station;
+        while (parents[root] != root) {
+            root = parents[root];
+        }
+        while (parents[station] != root) {
+            int next = parents[station];
+            parents[station] = root;
+            station = next;
+        }
+        return root;
+    }
+
+    private void union(int first, int second) {
+        int firstRoot = find(first);
+        int secondRoot = find(second);
+        if (firstRoot == secondRoot) {
+            return;
+        }
+        if (sizes[firstRoot] < sizes[secondRoot]) {
+            int temp = firstRoot;
+            firstRoot = secondRoot;
+            secondRoot = temp;
+        }
+        parents[secondRoot] = firstRoot;
+        sizes[firstRoot] += sizes[secondRoot];
+        componentCount--;
+    }
+
+    private static boolean containsAll(long[] stations, long[] previous) {
+        Set<Long> current = new HashSet<>();
+        for (long station : stations) {
+            current.add(station);
+        }
+        for (long station : previous) {
+            if (!current.contains(station)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,21 @@
+package wooteco.subway.domain.index;
+
+import wooteco.subway.domain.Line;
+
+public class StationLine {
+    private final Line line;
+    private final int position;
+
+    public StationLine(Line line, int position) {
+        this.line = line;
+        this.position = position;
+    }
+
+    public Line getLine() {
+        return line;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+}
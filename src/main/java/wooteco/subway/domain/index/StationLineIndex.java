@@ -0,0 +1,202 @@
+package wooteco.subway.domain.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Station;
+
+public class StationLineIndex {
+    private final Map<Long, LineStops> lines = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Long, Integer>> stationPositions = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Long, Integer>> lineLinks = new ConcurrentHashMap<>();
+    private final Set<Long> interchangeStations = ConcurrentHashMap.newKeySet();
+
+    public void replace(Line line) {
+        lines.compute(line.getId(), (lineId, previous) -> {
+            LineStops stops = LineStops.of(line);
+            Map<Long, Integer> positions = stops.positions();
+            if (previous != null) {
+                for (Station station : previous.stations) {
+                    if (!positions.containsKey(station.getId())) {
+                        detach(station.getId(), lineId);
+                    }
+                }
+            }
+            for (Map.Entry<Long, Integer> entry : positions.entrySet()) {
+                attach(entry.getKey(), lineId, entry.getValue());
+            }
+            return stops;
+        });
+    }
+
+    public void remove(Long lineId) {
+        lines.computeIfPresent(lineId, (id, previous) -> {
+            for (Station station : previous.stations) {
+                detach(station.getId(), id);
+            }
+            return null;
+        });
+    }
+
+    private void attach(Long stationId, Long lineId, int position) {
+        stationPositions.compute(stationId, (id, positions) -> {
+            Map<Long, Integer> updated = positions == null ? new ConcurrentHashMap<>() : positions;
+            if (updated.put(lineId, position) == null) {
+                for (Long otherLineId : updated.keySet()) {
+                    if (!otherLineId.equals(lineId)) {
+                        link(lineId, otherLineId, 1);
+                        link(otherLineId, lineId, 1);
+                    }
+                }
+            }
+            markInterchange(id, updated);
+            return updated;
+        });
+    }
+
+    private void detach(Long stationId, Long lineId) {
+        stationPositions.computeIfPresent(stationId, (id, positions) -> {
+            if (positions.remove(lineId) != null) {
+                for (Long otherLineId : positions.keySet()) {
+                    link(lineId, otherLineId, -1);
+                    link(otherLineId, lineId, -1);
+                }
+            }
+            markInterchange(id, positions);
+            return positions.isEmpty() ? null : positions;
+        });
+    }
+
+    private void markInterchange(Long stationId, Map<Long, Integer> positions) {
+        if (positions.size() >= 2) {
+            interchangeStations.add(stationId);
+            return;
+        }
+        interchangeStations.remove(stationId);
+    }
+
+    private void link(Long from, Long to, int delta) {
+        lineLinks.compute(from, (id, links) -> {
+            Map<Long, Integer> updated = links == null ? new ConcurrentHashMap<>() : links;
+            updated.merge(to, delta, Integer::sum);
+            updated.remove(to, 0);
+            return updated.isEmpty() ? null : updated;
+        });
+    }
+
+    public boolean isInUse(Long stationId) {
+        return stationPositions.containsKey(stationId);
+    }
+
+    public List<StationLine> linesOf(Long stationId) {
+        Map<Long, Integer> positions = stationPositions.getOrDefault(stationId, Collections.emptyMap());
+        List<StationLine> result = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : positions.entrySet()) {
+            LineStops stops = lines.get(entry.getKey());
+            if (stops != null) {
+                result.add(new StationLine(stops.line, entry.getValue()));
+            }
+        }
+        return result;
+    }
+
+    public List<Neighbor> neighborsOf(Long stationId) {
+        Map<Long, Integer> positions = stationPositions.getOrDefault(stationId, Collections.emptyMap());
+        List<Neighbor> result = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : positions.entrySet()) {
+            LineStops stops = lines.get(entry.getKey());
+            int position = entry.getValue();
+            if (stops == null || position >= stops.stations.length) {
+                continue;
+            }
+            if (position > 0) {
+                result.add(new Neighbor(stops.line, stops.stations[position - 1],
+                    stops.prefixDistances[position] - stops.prefixDistances[position - 1], true));
+            }
+            if (position < stops.stations.length - 1) {
+                result.add(new Neighbor(stops.line, stops.stations[position + 1],
+                    stops.prefixDistances[position + 1] - stops.prefixDistances[position], false));
+            }
+        }
+        return result;
+    }
+
+    public List<Interchange> interchanges() {
+        List<Interchange> result = new ArrayList<>();
+        for (Long stationId : interchangeStations) {
+            List<StationLine> stationLines = linesOf(stationId);
+            if (stationLines.size() < 2) {
+                continue;
+            }
+            StationLine first = stationLines.get(0);
+            Station station = lines.get(first.getLine().getId()).stationAt(first.getPosition());
+            if (station != null) {
+                result.add(new Interchange(station, stationLines));
+            }
+        }
+        return result;
+    }
+
+    public Set<Long> reachableLineIds(Long stationId) {
+        Set<Long> visited = new HashSet<>();
+        Queue<Long> queue = new ArrayDeque<>();
+        for (Long lineId : stationPositions.getOrDefault(stationId, Collections.emptyMap()).keySet()) {
+            visited.add(lineId);
+            queue.add(lineId);
+        }
+        while (!queue.isEmpty()) {
+            Long lineId = queue.poll();
+            for (Long linkedLineId : lineLinks.getOrDefault(lineId, Collections.emptyMap()).keySet()) {
+                if (visited.add(linkedLineId)) {
+                    queue.add(linkedLineId);
+                }
+            }
+        }
+        return visited;
+    }
+
+    private static class LineStops {
+        private final Line line;
+        private final Station[] stations;
+        private final int[] prefixDistances;
+
+        private LineStops(Line line, Station[] stations, int[] prefixDistances) {
+            this.line = line;
+            this.stations = stations;
+            this.prefixDistances = prefixDistances;
+        }
+
+        static LineStops of(Line line) {
+            Station[] stations = line.getStations().toArray(new Station[0]);
+            int[] prefixDistances = new int[stations.length];
+            for (int position = 1; position < stations.length; position++) {
+                prefixDistances[position] = line.distanceBetween(stations[0], stations[position]);
+            }
+            return new LineStops(line, stations, prefixDistances);
+        }
+
+        Map<Long, Integer> positions() {
+            Map<Long, Integer> positions = new HashMap<>();
+            for (int position = 0; position < stations.length; position++) {
+                positions.put(stations[position].getId(), position);
+            }
+            return positions;
+        }
+
+        Station stationAt(int position) {
+            if (position >= stations.length) {
+                return null;
+            }
+            return stations[position];
+        }
+    }
+}
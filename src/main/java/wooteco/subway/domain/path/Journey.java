@@ -0,0 +1,25 @@
+package wooteco.subway.domain.path;
+
+import java.util.List;
+
+public class Journey {
+    private final int distance;
+    private final List<Leg> legs;
+
+    public Journey(int distance, List<Leg> legs) {
+        this.distance = distance;
+        this.legs = legs;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getTransfers() {
+        return legs.size() - 1;
+    }
+
+    public List<Leg> getLegs() {
+        return legs;
+    }
+}
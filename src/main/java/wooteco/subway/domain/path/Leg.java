@@ -0,0 +1,30 @@
+package wooteco.subway.domain.path;
+
+import java.util.List;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Station;
+
+public class Leg {
+    private final Line line;
+    private final List<Station> stations;
+    private final int distance;
+
+    public Leg(Line line, List<Station> stations, int distance) {
+        this.line = line;
+        this.stations = stations;
+        this.distance = distance;
+    }
+
+    public Line getLine() {
+        return line;
+    }
+
+    public List<Station> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
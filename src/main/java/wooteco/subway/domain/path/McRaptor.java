@@ -0,0 +1,148 @@
+package wooteco.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import wooteco.subway.domain.Station;
+
+public class McRaptor {
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int NONE = -1;
+
+    private final RouteNetwork network;
+    private final int maxRounds;
+
+    public McRaptor(RouteNetwork network, int maxRounds) {
+        if (maxRounds < 1) {
+            throw new IllegalArgumentException("탐색 라운드는 1이상이어야 합니다.");
+        }
+        this.network = network;
+        this.maxRounds = maxRounds;
+    }
+
+    public List<Journey> search(int source, int target) {
+        int stopCount = network.stopCount();
+        int[][] labels = new int[maxRounds + 1][stopCount];
+        int[][] parentRoutes = new int[maxRounds + 1][stopCount];
+        int[][] parentBoardings = new int[maxRounds + 1][stopCount];
+        int[] best = new int[stopCount];
+        boolean[] marked = new boolean[stopCount];
+        int[] routeQueue = new int[network.routeCount()];
+        int[] queuedRoutes = new int[network.routeCount()];
+
+        for (int[] label : labels) {
+            Arrays.fill(label, INFINITY);
+        }
+        for (int[] parentRoute : parentRoutes) {
+            Arrays.fill(parentRoute, NONE);
+        }
+        Arrays.fill(best, INFINITY);
+        Arrays.fill(routeQueue, INFINITY);
+        labels[0][source] = 0;
+        best[source] = 0;
+        marked[source] = true;
+
+        List<Journey> journeys = new ArrayList<>();
+        int bestAtTarget = INFINITY;
+        for (int round = 1; round <= maxRounds; round++) {
+            int queuedCount = collectRoutes(marked, routeQueue, queuedRoutes);
+            if (queuedCount == 0) {
+                break;
+            }
+            System.arraycopy(labels[round - 1], 0, labels[round], 0, stopCount);
+            for (int i = 0; i < queuedCount; i++) {
+                int route = queuedRoutes[i];
+                scanRoute(route, routeQueue[route], round, target, labels, parentRoutes, parentBoardings, best,
+                    marked);
+                routeQueue[route] = INFINITY;
+            }
+            if (labels[round][target] < bestAtTarget) {
+                bestAtTarget = labels[round][target];
+                journeys.add(toJourney(round, target, parentRoutes, parentBoardings, labels));
+            }
+        }
+        return journeys;
+    }
+
+    private int collectRoutes(boolean[] marked, int[] routeQueue, int[] queuedRoutes) {
+        int queuedCount = 0;
+        for (int stop = 0; stop < marked.length; stop++) {
+            if (!marked[stop]) {
+                continue;
+            }
+            marked[stop] = false;
+            int[] routes = network.routesAt(stop);
+            int[] positions = network.positionsAt(stop);
+            for (int i = 0; i < routes.length; i++) {
+                int route = routes[i];
+                if (routeQueue[route] == INFINITY) {
+                    queuedRoutes[queuedCount++] = route;
+                }
+                routeQueue[route] = Math.min(routeQueue[route], positions[i]);
+            }
+        }
+        return queuedCount;
+    }
+
+    private void scanRoute(int route, int from, int round, int target, int[][] labels, int[][] parentRoutes,
+        int[][] parentBoardings, int[] best, boolean[] marked) {
+        int[] stops = network.stopsOf(route);
+        int[] distances = network.distancesOf(route);
+        int boarding = NONE;
+        int boardingValue = INFINITY;
+
+        for (int position = from; position < stops.length; position++) {
+            int stop = stops[position];
+            if (boarding != NONE) {
+                int candidate = boardingValue + distances[position];
+                if (candidate < Math.min(best[stop], best[target])) {
+                    labels[round][stop] = candidate;
+                    best[stop] = candidate;
+                    parentRoutes[round][stop] = route;
+                    parentBoardings[round][stop] = boarding;
+                    marked[stop] = true;
+                }
+            }
+            int previous = labels[round - 1][stop];
+            if (previous != INFINITY && previous - distances[position] < boardingValue) {
+                boarding = position;
+                boardingValue = previous - distances[position];
+            }
+        }
+    }
+
+    private Journey toJourney(int round, int target, int[][] parentRoutes, int[][] parentBoardings,
+        int[][] labels) {
+        List<Leg> legs = new ArrayList<>();
+        int stop = target;
+        int current = round;
+        while (current > 0) {
+            if (parentRoutes[current][stop] == NONE) {
+                current--;
+                continue;
+            }
+            int route = parentRoutes[current][stop];
+            int boarding = parentBoardings[current][stop];
+            legs.add(toLeg(route, boarding, stop));
+            stop = network.stopsOf(route)[boarding];
+            current--;
+        }
+        Collections.reverse(legs);
+        return new Journey(labels[round][target], legs);
+    }
+
+    private Leg toLeg(int route, int boarding, int alighting) {
+        int[] stops = network.stopsOf(route);
+        int[] distances = network.distancesOf(route);
+        List<Station> stations = new ArrayList<>();
+        int position = boarding;
+        stations.add(network.stop(stops[position]));
+        while (stops[position] != alighting) {
+            position++;
+            stations.add(network.stop(stops[position]));
+        }
+        return new Leg(network.line(route), stations, distances[position] - distances[boarding]);
+    }
+}
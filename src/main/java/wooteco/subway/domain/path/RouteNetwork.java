@@ -0,0 +1,149 @@
+package wooteco.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+public class RouteNetwork {
+    private static final int NOT_FOUND = -1;
+
+    private final Map<Long, Integer> stopIndexes;
+    private final Station[] stops;
+    private final Line[] routeLines;
+    private final int[][] routeStops;
+    private final int[][] routeDistances;
+    private final int[][] stopRoutes;
+    private final int[][] stopPositions;
+
+    private RouteNetwork(Map<Long, Integer> stopIndexes, Station[] stops, Line[] routeLines,
+        int[][] routeStops, int[][] routeDistances) {
+        this.stopIndexes = stopIndexes;
+        this.stops = stops;
+        this.routeLines = routeLines;
+        this.routeStops = routeStops;
+        this.routeDistances = routeDistances;
+        this.stopRoutes = new int[stops.length][];
+        this.stopPositions = new int[stops.length][];
+        indexStopRoutes();
+    }
+
+    public static RouteNetwork from(List<Line> lines) {
+        Map<Long, Integer> stopIndexes = new HashMap<>();
+        List<Station> stops = new ArrayList<>();
+        Line[] routeLines = new Line[lines.size() * 2];
+        int[][] routeStops = new int[lines.size() * 2][];
+        int[][] routeDistances = new int[lines.size() * 2][];
+
+        for (int i = 0; i < lines.size(); i++) {
+            Line line = lines.get(i);
+            List<Section> sections = line.getSections();
+            int[] forwardStops = new int[sections.size() + 1];
+            int[] forwardDistances = new int[sections.size() + 1];
+            forwardStops[0] = indexOf(sections.get(0).getUpStation(), stopIndexes, stops);
+            for (int j = 0; j < sections.size(); j++) {
+                Section section = sections.get(j);
+                forwardStops[j + 1] = indexOf(section.getDownStation(), stopIndexes, stops);
+                forwardDistances[j + 1] = forwardDistances[j] + section.getDistance();
+            }
+
+            routeLines[i * 2] = line;
+            routeStops[i * 2] = forwardStops;
+            routeDistances[i * 2] = forwardDistances;
+            routeLines[i * 2 + 1] = line;
+            routeStops[i * 2 + 1] = reverseStops(forwardStops);
+            routeDistances[i * 2 + 1] = reverseDistances(forwardDistances);
+        }
+        return new RouteNetwork(stopIndexes, stops.toArray(new Station[0]), routeLines, routeStops, routeDistances);
+    }
+
+    private static int indexOf(Station station, Map<Long, Integer> stopIndexes, List<Station> stops) {
+        return stopIndexes.computeIfAbsent(station.getId(), id -> {
+            stops.add(station);
+            return stops.size() - 1;
+        });
+    }
+
+    private static int[] reverseStops(int[] stops) {
+        int[] reversed = new int[stops.length];
+        for (int i = 0; i < stops.length; i++) {
+            reversed[i] = stops[stops.length - 1 - i];
+        }
+        return reversed;
+    }
+
+    private static int[] reverseDistances(int[] distances) {
+        int total = distances[distances.length - 1];
+        int[] reversed = new int[distances.length];
+        for (int i = 0; i < distances.length; i++) {
+            reversed[i] = total - distances[distances.length - 1 - i];
+        }
+        return reversed;
+    }
+
+    private void indexStopRoutes() {
+        int[] counts = new int[stops.length];
+        for (int[] route : routeStops) {
+            for (int stop : route) {
+                counts[stop]++;
+            }
+        }
+        for (int stop = 0; stop < stops.length; stop++) {
+            stopRoutes[stop] = new int[counts[stop]];
+            stopPositions[stop] = new int[counts[stop]];
+            counts[stop] = 0;
+        }
+        for (int route = 0; route < routeStops.length; route++) {
+            for (int position = 0; position < routeStops[route].length; position++) {
+                int stop = routeStops[route][position];
+                stopRoutes[stop][counts[stop]] = route;
+                stopPositions[stop][counts[stop]] = position;
+                counts[stop]++;
+            }
+        }
+    }
+
+    public int indexOf(Long stationId) {
+        return stopIndexes.getOrDefault(stationId, NOT_FOUND);
+    }
+
+    public boolean contains(Long stationId) {
+        return stopIndexes.containsKey(stationId);
+    }
+
+    public int stopCount() {
+        return stops.length;
+    }
+
+    public int routeCount() {
+        return routeStops.length;
+    }
+
+    public Station stop(int stop) {
+        return stops[stop];
+    }
+
+    public Line line(int route) {
+        return routeLines[route];
+    }
+
+    public int[] stopsOf(int route) {
+        return routeStops[route];
+    }
+
+    public int[] distancesOf(int route) {
+        return routeDistances[route];
+    }
+
+    public int[] routesAt(int stop) {
+        return stopRoutes[stop];
+    }
+
+    public int[] positionsAt(int stop) {
+        return stopPositions[stop];
+    }
+}
@@ -0,0 +1,212 @@
+package wooteco.subway.domain.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import wooteco.subway.domain.Station;
+
+public class StationNameTrie {
+    private static final int ROOT = 0;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int SYLLABLES_PER_INITIAL = 21 * 28;
+    private static final int FINALS_PER_SYLLABLE = 28;
+    private static final String INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final char[] NO_LABELS = new char[0];
+    private static final int[] NO_CHILDREN = new int[0];
+    private static final Station[] NO_STATIONS = new Station[0];
+
+    private char[][] labels = new char[INITIAL_CAPACITY][];
+    private int[][] children = new int[INITIAL_CAPACITY][];
+    private Station[][] terminals = new Station[INITIAL_CAPACITY][];
+    private final Map<Long, String> keys = new HashMap<>();
+    private int nodeCount;
+
+    public StationNameTrie() {
+        newNode();
+    }
+
+    public void insert(Station station) {
+        remove(station.getId());
+        String key = normalize(station.getName());
+        int node = ROOT;
+        for (int i = 0; i < key.length(); i++) {
+            node = childOrCreate(node, key.charAt(i));
+        }
+        terminals[node] = insertAt(terminals[node], terminals[node].length, station);
+        keys.put(station.getId(), key);
+    }
+
+    public boolean remove(Long stationId) {
+        String key = keys.remove(stationId);
+        if (key == null) {
+            return false;
+        }
+        int node = ROOT;
+        for (int i = 0; i < key.length() && node != -1; i++) {
+            node = child(node, key.charAt(i));
+        }
+        if (node != -1) {
+            terminals[node] = Arrays.stream(terminals[node])
+                .filter(station -> !station.getId().equals(stationId))
+                .toArray(Station[]::new);
+        }
+        return true;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    public List<Station> search(String query, int limit) {
+        String key = normalize(query);
+        if (key.isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("검색 결과 개수는 1이상이어야 합니다.");
+        }
+        List<Station> result = new ArrayList<>();
+        collect(ROOT, key, 0, limit, result);
+        return result;
+    }
+
+    private void collect(int node, String key, int position, int limit, List<Station> result) {
+        if (result.size() >= limit) {
+            return;
+        }
+        if (position == key.length()) {
+            collectSubtree(node, limit, result);
+            return;
+        }
+
+        char queryChar = key.charAt(position);
+        int initial = INITIALS.indexOf(queryChar);
+        if (initial >= 0) {
+            int exact = child(node, queryChar);
+            if (exact != -1) {
+                collect(exact, key, position + 1, limit, result);
+            }
+            char first = (char)(SYLLABLE_FIRST + initial * SYLLABLES_PER_INITIAL);
+            collectRange(node, first, (char)(first + SYLLABLES_PER_INITIAL - 1), key, position, limit, result);
+            return;
+        }
+        if (position == key.length() - 1 && isOpenSyllable(queryChar)) {
+            collectRange(node, queryChar, (char)(queryChar + FINALS_PER_SYLLABLE - 1), key, position, limit,
+                result);
+            return;
+        }
+        int exact = child(node, queryChar);
+        if (exact != -1) {
+            collect(exact, key, position + 1, limit, result);
+        }
+    }
+
+    private void collectRange(int node, char first, char last, String key, int position, int limit,
+        List<Station> result) {
+        char[] nodeLabels = labels[node];
+        int index = lowerBound(nodeLabels, first);
+        while (index < nodeLabels.length && nodeLabels[index] <= last && result.size() < limit) {
+            collect(children[node][index], key, position + 1, limit, result);
+            index++;
+        }
+    }
+
+    private void collectSubtree(int node, int limit, List<Station> result) {
+        Station[] stations = terminals[node];
+        for (int i = 0; i < stations.length && result.size() < limit; i++) {
+            result.add(stations[i]);
+        }
+        int[] nodeChildren = children[node];
+        for (int i = 0; i < nodeChildren.length && result.size() < limit; i++) {
+            collectSubtree(nodeChildren[i], limit, result);
+        }
+    }
+
+    private boolean isOpenSyllable(char c) {
+        return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST && (c - SYLLABLE_FIRST) % FINALS_PER_SYLLABLE == 0;
+    }
+
+    private int child(int node, char label) {
+        int index = Arrays.binarySearch(labels[node], label);
+        if (index < 0) {
+            return -1;
+        }
+        return children[node][index];
+    }
+
+    private int childOrCreate(int node, char label) {
+        int index = Arrays.binarySearch(labels[node], label);
+        if (index >= 0) {
+            return children[node][index];
+        }
+        int insertion = -index - 1;
+        int child = newNode();
+        labels[node] = insertAt(labels[node], insertion, label);
+        children[node] = insertAt(children[node], insertion, child);
+        return child;
+    }
+
+    private int newNode() {
+        if (nodeCount == labels.length) {
+            int capacity = nodeCount * 2;
+            labels = Arrays.copyOf(labels, capacity);
+            children = Arrays.copyOf(children, capacity);
+            terminals = Arrays.copyOf(terminals, capacity);
+        }
+        labels[nodeCount] = NO_LABELS;
+        children[nodeCount] = NO_CHILDREN;
+        terminals[nodeCount] = NO_STATIONS;
+        return nodeCount++;
+    }
+
+    private static int lowerBound(char[] values, char key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static char[] insertAt(char[] values, int index, char value) {
+        char[] inserted = new char[values.length + 1];
+        System.arraycopy(values, 0, inserted, 0, index);
+        inserted[index] = value;
+        System.arraycopy(values, index, inserted, index + 1, values.length - index);
+        return inserted;
+    }
+
+    private static Station[] insertAt(Station[] values, int index, Station value) {
+        Station[] inserted = new Station[values.length + 1];
+        System.arraycopy(values, 0, inserted, 0, index);
+        inserted[index] = value;
+        System.arraycopy(values, index, inserted, index + 1, values.length - index);
+        return inserted;
+    }
+
+    private static int[] insertAt(int[] values, int index, int value) {
+        int[] inserted = new int[values.length + 1];
+        System.arraycopy(values, 0, inserted, 0, index);
+        inserted[index] = value;
+        System.arraycopy(values, index, inserted, index + 1, values.length - index);
+        return inserted;
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replaceAll("\\s", "").toLowerCase(Locale.ROOT);
+    }
+}
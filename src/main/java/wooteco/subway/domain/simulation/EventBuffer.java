@@ -0,0 +1,22 @@
+package wooteco.subway.domain.simulation;
+
+import java.util.Arrays;
+
+class EventBuffer {
+    private long[] events = new long[16];
+    private int size;
+
+    void add(long event) {
+        if (size == events.length) {
+            events = Arrays.copyOf(events, size * 2);
+        }
+        events[size++] = event;
+    }
+
+    void drainTo(LongMinHeap heap) {
+        for (int i = 0; i < size; i++) {
+            heap.push(events[i]);
+        }
+        size = 0;
+    }
+}
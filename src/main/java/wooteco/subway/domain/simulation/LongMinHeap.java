@@ -0,0 +1,74 @@
+package wooteco.subway.domain.simulation;
+
+import java.util.Arrays;
+
+public class LongMinHeap {
+    private long[] keys;
+    private int size;
+
+    public LongMinHeap(int capacity) {
+        this.keys = new long[Math.max(1, capacity)];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long peek() {
+        return keys[0];
+    }
+
+    public long poll() {
+        long key = keys[0];
+        size--;
+        if (size > 0) {
+            keys[0] = keys[size];
+            siftDown(0);
+        }
+        return key;
+    }
+
+    public void push(long key) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size + (size >> 1) + 1);
+        }
+        int index = size++;
+        keys[index] = key;
+        siftUp(index);
+    }
+
+    private void siftUp(int index) {
+        long key = keys[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[index] = keys[parent];
+            index = parent;
+        }
+        keys[index] = key;
+    }
+
+    private void siftDown(int index) {
+        long key = keys[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = index * 2 + 1;
+            int right = child + 1;
+            if (right < size && keys[right] < keys[child]) {
+                child = right;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            keys[index] = keys[child];
+            index = child;
+        }
+        keys[index] = key;
+    }
+}
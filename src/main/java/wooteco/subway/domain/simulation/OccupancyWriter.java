@@ -0,0 +1,33 @@
+package wooteco.subway.domain.simulation;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class OccupancyWriter {
+    public static final int MAGIC = 0x534F4343;
+    public static final short VERSION = 1;
+
+    private OccupancyWriter() {
+    }
+
+    public static void write(SimulationResult result, OutputStream outputStream) throws IOException {
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream));
+        SimulationOptions options = result.getOptions();
+        output.writeInt(MAGIC);
+        output.writeShort(VERSION);
+        output.writeInt(options.getServiceStart());
+        output.writeInt(options.getBucketSeconds());
+        output.writeInt(result.bucketCount());
+        output.writeInt(result.sectionCount());
+        for (int section = 0; section < result.sectionCount(); section++) {
+            output.writeLong(result.sectionId(section));
+            output.writeLong(result.lineId(section));
+            for (int bucket = 0; bucket < result.bucketCount(); bucket++) {
+                output.writeInt(result.occupancy(section, bucket));
+            }
+        }
+        output.flush();
+    }
+}
@@ -0,0 +1,226 @@
+package wooteco.subway.domain.simulation;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import wooteco.subway.domain.demand.DemandMatrix;
+import wooteco.subway.domain.graph.BoundedDijkstra;
+import wooteco.subway.domain.graph.SearchSpace;
+import wooteco.subway.domain.graph.SectionIndex;
+import wooteco.subway.domain.graph.StationGraph;
+
+public class Simulation {
+    private static final int MAX_AGENTS = 50_000_000;
+    private static final long AGENT_MASK = 0xFFFFFFFFL;
+    private static final int IDLE = Integer.MAX_VALUE;
+
+    private final StationGraph graph;
+    private final SectionIndex sectionIndex;
+    private final SimulationOptions options;
+    private final int[] pathOffsets;
+    private final int[] pathEdges;
+    private final int[] agentPaths;
+    private final int[] agentDepartures;
+    private final long unroutableTrips;
+
+    private Simulation(StationGraph graph, SimulationOptions options, int[] pathOffsets, int[] pathEdges,
+        int[] agentPaths, int[] agentDepartures, long unroutableTrips) {
+        this.graph = graph;
+        this.sectionIndex = SectionIndex.of(graph);
+        this.options = options;
+        this.pathOffsets = pathOffsets;
+        this.pathEdges = pathEdges;
+        this.agentPaths = agentPaths;
+        this.agentDepartures = agentDepartures;
+        this.unroutableTrips = unroutableTrips;
+    }
+
+    public static Simulation prepare(StationGraph graph, DemandMatrix matrix, SimulationOptions options) {
+        matrix.groupBySource();
+        long agentCount = matrix.getTotalTrips() - matrix.getUnroutableTrips();
+        if (agentCount > MAX_AGENTS) {
+            throw new IllegalArgumentException(
+                String.format("한 번에 %d명까지 시뮬레이션할 수 있습니다.", MAX_AGENTS));
+        }
+
+        int[] pathOffsets = new int[matrix.size() + 1];
+        int[] pathEdges = new int[Math.max(16, matrix.size())];
+        int[] agentPaths = new int[(int)agentCount];
+        int[] agentDepartures = new int[(int)agentCount];
+        int[] reversedPath = new int[graph.nodeCount()];
+        int pathCount = 0;
+        int edgeCount = 0;
+        int agent = 0;
+        long unroutableTrips = matrix.getUnroutableTrips();
+        for (int source = 0; source < graph.nodeCount(); source++) {
+            if (matrix.firstDemand(source) == matrix.lastDemand(source)) {
+                continue;
+            }
+            SearchSpace space = new BoundedDijkstra(graph).search(source, BoundedDijkstra.UNBOUNDED);
+            for (int demand = matrix.firstDemand(source); demand < matrix.lastDemand(source); demand++) {
+                int target = matrix.target(demand);
+                if (!space.isReached(target)) {
+                    unroutableTrips += matrix.trips(demand);
+                    continue;
+                }
+
+                int length = 0;
+                for (int node = target; node != source; node = graph.source(space.parentEdge(node))) {
+                    reversedPath[length++] = space.parentEdge(node);
+                }
+                if (pathEdges.length < edgeCount + length) {
+                    pathEdges = Arrays.copyOf(pathEdges, Math.max(pathEdges.length * 2, edgeCount + length));
+                }
+                for (int i = length - 1; i >= 0; i--) {
+                    pathEdges[edgeCount++] = reversedPath[i];
+                }
+                pathOffsets[pathCount + 1] = edgeCount;
+
+                int trips = matrix.trips(demand);
+                for (int i = 0; i < trips; i++) {
+                    agentPaths[agent] = pathCount;
+                    agentDepartures[agent] = departureOf(i, trips, options);
+                    agent++;
+                }
+                pathCount++;
+            }
+        }
+        return new Simulation(graph, options, Arrays.copyOf(pathOffsets, pathCount + 1),
+            Arrays.copyOf(pathEdges, edgeCount), Arrays.copyOf(agentPaths, agent),
+            Arrays.copyOf(agentDepartures, agent), unroutableTrips);
+    }
+
+    private static int departureOf(int index, int trips, SimulationOptions options) {
+        long span = options.getServiceEnd() - options.getServiceStart();
+        return options.getServiceStart() + (int)((2L * index + 1) * span / (2L * trips));
+    }
+
+    public SimulationResult run() {
+        int bucketCount = options.bucketCount();
+        int[] occupancy = new int[sectionIndex.sectionCount() * bucketCount];
+        int[] positions = new int[agentPaths.length];
+        LinePartition[] partitions = new LinePartition[sectionIndex.lineCount()];
+        for (int line = 0; line < partitions.length; line++) {
+            partitions[line] = new LinePartition(line, partitions.length, positions, occupancy);
+        }
+        for (int agent = 0; agent < agentPaths.length; agent++) {
+            positions[agent] = pathOffsets[agentPaths[agent]];
+            partitions[partitionOf(positions[agent])].heap.push(eventOf(agentDepartures[agent], agent));
+        }
+
+        long startNanos = System.nanoTime();
+        int windowStart = earliest(partitions);
+        while (windowStart != IDLE) {
+            int windowEnd = windowStart + options.getTransferSeconds();
+            IntStream.range(0, partitions.length)
+                .parallel()
+                .forEach(line -> partitions[line].advance(windowEnd));
+            IntStream.range(0, partitions.length)
+                .parallel()
+                .forEach(line -> partitions[line].receive(partitions));
+            windowStart = earliest(partitions);
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        long events = 0;
+        long arrivedAgents = 0;
+        for (LinePartition partition : partitions) {
+            events += partition.events;
+            arrivedAgents += partition.arrivedAgents;
+        }
+        return new SimulationResult(sectionIndex, options, occupancy, agentPaths.length, arrivedAgents, events,
+            unroutableTrips, elapsedNanos);
+    }
+
+    private int earliest(LinePartition[] partitions) {
+        int earliest = IDLE;
+        for (LinePartition partition : partitions) {
+            if (!partition.heap.isEmpty()) {
+                earliest = Math.min(earliest, timeOf(partition.heap.peek()));
+            }
+        }
+        return earliest;
+    }
+
+    private int partitionOf(int position) {
+        return sectionIndex.lineOf(sectionIndex.sectionOf(pathEdges[position]));
+    }
+
+    private static long eventOf(int time, int agent) {
+        return ((long)time << 32) | agent;
+    }
+
+    private static int timeOf(long event) {
+        return (int)(event >>> 32);
+    }
+
+    private static int agentOf(long event) {
+        return (int)(event & AGENT_MASK);
+    }
+
+    public int agentCount() {
+        return agentPaths.length;
+    }
+
+    private class LinePartition {
+        private final int line;
+        private final LongMinHeap heap = new LongMinHeap(16);
+        private final EventBuffer[] outboxes;
+        private final int[] positions;
+        private final int[] occupancy;
+        private long events;
+        private long arrivedAgents;
+
+        LinePartition(int line, int partitionCount, int[] positions, int[] occupancy) {
+            this.line = line;
+            this.outboxes = new EventBuffer[partitionCount];
+            for (int i = 0; i < partitionCount; i++) {
+                outboxes[i] = new EventBuffer();
+            }
+            this.positions = positions;
+            this.occupancy = occupancy;
+        }
+
+        void advance(int windowEnd) {
+            while (!heap.isEmpty() && timeOf(heap.peek()) < windowEnd) {
+                long event = heap.poll();
+                int time = timeOf(event);
+                int agent = agentOf(event);
+                int position = positions[agent];
+                int edge = pathEdges[position];
+                int arrival = time + graph.weight(edge) * options.getSecondsPerDistance();
+                record(sectionIndex.sectionOf(edge), time, arrival);
+                events++;
+
+                int next = position + 1;
+                if (next == pathOffsets[agentPaths[agent] + 1]) {
+                    arrivedAgents++;
+                    continue;
+                }
+                positions[agent] = next;
+                int nextLine = partitionOf(next);
+                if (nextLine == line) {
+                    heap.push(eventOf(arrival, agent));
+                } else {
+                    outboxes[nextLine].add(eventOf(arrival + options.getTransferSeconds(), agent));
+                }
+            }
+        }
+
+        void receive(LinePartition[] partitions) {
+            for (LinePartition partition : partitions) {
+                partition.outboxes[line].drainTo(heap);
+            }
+        }
+
+        private void record(int section, int from, int to) {
+            int bucketCount = options.bucketCount();
+            int first = Math.max(0, (from - options.getServiceStart()) / options.getBucketSeconds());
+            int last = Math.min(bucketCount - 1, (to - 1 - options.getServiceStart()) / options.getBucketSeconds());
+            int offset = section * bucketCount;
+            for (int bucket = first; bucket <= last; bucket++) {
+                occupancy[offset + bucket]++;
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package wooteco.subway.domain.simulation;
+
+public class SimulationOptions {
+    private static final int HOUR = 3600;
+
+    private final int serviceStart;
+    private final int serviceEnd;
+    private final int secondsPerDistance;
+    private final int transferSeconds;
+    private final int bucketSeconds;
+
+    public SimulationOptions(int serviceStart, int serviceEnd, int secondsPerDistance, int transferSeconds,
+        int bucketSeconds) {
+        if (serviceStart < 0 || serviceEnd <= serviceStart) {
+            throw new IllegalArgumentException("운행 시작 시각은 종료 시각보다 빨라야 합니다.");
+        }
+        if (secondsPerDistance < 1 || transferSeconds < 1 || bucketSeconds < 1) {
+            throw new IllegalArgumentException("시뮬레이션 시간 단위는 1초 이상이어야 합니다.");
+        }
+        this.serviceStart = serviceStart;
+        this.serviceEnd = serviceEnd;
+        this.secondsPerDistance = secondsPerDistance;
+        this.transferSeconds = transferSeconds;
+        this.bucketSeconds = bucketSeconds;
+    }
+
+    public static SimulationOptions standard() {
+        return new SimulationOptions(5 * HOUR, 24 * HOUR, 60, 180, 300);
+    }
+
+    public int bucketCount() {
+        return (serviceEnd - serviceStart + bucketSeconds - 1) / bucketSeconds;
+    }
+
+    public int getServiceStart() {
+        return serviceStart;
+    }
+
+    public int getServiceEnd() {
+        return serviceEnd;
+    }
+
+    public int getSecondsPerDistance() {
+        return secondsPerDistance;
+    }
+
+    public int getTransferSeconds() {
+        return transferSeconds;
+    }
+
+    public int getBucketSeconds() {
+        return bucketSeconds;
+    }
+}
@@ -0,0 +1,79 @@
+package wooteco.subway.domain.simulation;
+
+import wooteco.subway.domain.graph.SectionIndex;
+
+public class SimulationResult {
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final SectionIndex sectionIndex;
+    private final SimulationOptions options;
+    private final int[] occupancy;
+    private final int agentCount;
+    private final long arrivedAgents;
+    private final long events;
+    private final long unroutableTrips;
+    private final long elapsedNanos;
+
+    public SimulationResult(SectionIndex sectionIndex, SimulationOptions options, int[] occupancy, int agentCount,
+        long arrivedAgents, long events, long unroutableTrips, long elapsedNanos) {
+        this.sectionIndex = sectionIndex;
+        this.options = options;
+        this.occupancy = occupancy;
+        this.agentCount = agentCount;
+        this.arrivedAgents = arrivedAgents;
+        this.events = events;
+        this.unroutableTrips = unroutableTrips;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int sectionCount() {
+        return sectionIndex.sectionCount();
+    }
+
+    public int bucketCount() {
+        return options.bucketCount();
+    }
+
+    public long sectionId(int section) {
+        return sectionIndex.sectionId(section);
+    }
+
+    public long lineId(int section) {
+        return sectionIndex.lineId(section);
+    }
+
+    public int occupancy(int section, int bucket) {
+        return occupancy[section * options.bucketCount() + bucket];
+    }
+
+    public double eventsPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return events * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    public SimulationOptions getOptions() {
+        return options;
+    }
+
+    public int getAgentCount() {
+        return agentCount;
+    }
+
+    public long getArrivedAgents() {
+        return arrivedAgents;
+    }
+
+    public long getEvents() {
+        return events;
+    }
+
+    public long getUnroutableTrips() {
+        return unroutableTrips;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,119 @@
+package wooteco.subway.domain.timetable;
+
+import java.util.Arrays;
+
+public class RaptorWorkspace {
+    private static final ThreadLocal<RaptorWorkspace> POOL = ThreadLocal.withInitial(RaptorWorkspace::new);
+    static final int UNREACHED = Integer.MAX_VALUE;
+    static final int NONE = -1;
+
+    int[] arrivals = new int[0];
+    int[] parentRoutes = new int[0];
+    int[] parentTrips = new int[0];
+    int[] parentPositions = new int[0];
+    int[] best = new int[0];
+    boolean[] marked = new boolean[0];
+    int[] markedStops = new int[0];
+    int markedCount;
+    int[] queuedPositions = new int[0];
+    int[] queuedRoutes = new int[0];
+    int queuedCount;
+
+    private final int[] legRoutes;
+    private final int[] legTrips;
+    private final int[] legBoardPositions;
+    private final int[] legAlightPositions;
+    private int legCount;
+    private int stopCount;
+
+    private RaptorWorkspace() {
+        this(0);
+    }
+
+    private RaptorWorkspace(int maxLegs) {
+        this.legRoutes = new int[maxLegs];
+        this.legTrips = new int[maxLegs];
+        this.legBoardPositions = new int[maxLegs];
+        this.legAlightPositions = new int[maxLegs];
+    }
+
+    static RaptorWorkspace current(TimetableNetwork network, int maxRounds) {
+        RaptorWorkspace workspace = POOL.get();
+        if (workspace.legRoutes.length < maxRounds) {
+            workspace = new RaptorWorkspace(maxRounds);
+            POOL.set(workspace);
+        }
+        workspace.reset(network.stopCount(), network.routeCount(), maxRounds);
+        return workspace;
+    }
+
+    private void reset(int stopCount, int routeCount, int maxRounds) {
+        this.stopCount = stopCount;
+        int labelCount = stopCount * (maxRounds + 1);
+        if (arrivals.length < labelCount) {
+            arrivals = new int[labelCount];
+            parentRoutes = new int[labelCount];
+            parentTrips = new int[labelCount];
+            parentPositions = new int[labelCount];
+        }
+        if (best.length < stopCount) {
+            best = new int[stopCount];
+            marked = new boolean[stopCount];
+            markedStops = new int[stopCount];
+        }
+        if (queuedPositions.length < routeCount) {
+            queuedPositions = new int[routeCount];
+            queuedRoutes = new int[routeCount];
+        }
+        Arrays.fill(arrivals, 0, labelCount, UNREACHED);
+        Arrays.fill(parentRoutes, 0, labelCount, NONE);
+        Arrays.fill(best, 0, stopCount, UNREACHED);
+        Arrays.fill(queuedPositions, 0, routeCount, NONE);
+        markedCount = 0;
+        queuedCount = 0;
+        legCount = 0;
+    }
+
+    int label(int round, int stop) {
+        return round * stopCount + stop;
+    }
+
+    void mark(int stop) {
+        if (!marked[stop]) {
+            marked[stop] = true;
+            markedStops[markedCount++] = stop;
+        }
+    }
+
+    void addLeg(int route, int trip, int boardPosition, int alightPosition) {
+        legRoutes[legCount] = route;
+        legTrips[legCount] = trip;
+        legBoardPositions[legCount] = boardPosition;
+        legAlightPositions[legCount] = alightPosition;
+        legCount++;
+    }
+
+    public boolean isReached() {
+        return legCount > 0;
+    }
+
+    public int legCount() {
+        return legCount;
+    }
+
+    public int legRoute(int leg) {
+        return legRoutes[legCount - 1 - leg];
+    }
+
+    public int legTrip(int leg) {
+        return legTrips[legCount - 1 - leg];
+    }
+
+    public int legBoardPosition(int leg) {
+        return legBoardPositions[legCount - 1 - leg];
+    }
+
+    public int legAlightPosition(int leg) {
+        return legAlightPositions[legCount - 1 - leg];
+    }
+}
@@ -0,0 +1,25 @@
+package wooteco.subway.domain.timetable;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class ServiceTime {
+    private static final Pattern FORMAT = Pattern.compile("(\\d{1,2}):([0-5]\\d)(?::([0-5]\\d))?");
+    private static final int MAX_HOUR = 47;
+
+    private ServiceTime() {
+    }
+
+    public static int parse(String time) {
+        Matcher matcher = FORMAT.matcher(time == null ? "" : time.trim());
+        if (!matcher.matches() || Integer.parseInt(matcher.group(1)) > MAX_HOUR) {
+            throw new IllegalArgumentException("시각은 HH:mm 또는 HH:mm:ss 형식이어야 합니다.");
+        }
+        int seconds = matcher.group(3) == null ? 0 : Integer.parseInt(matcher.group(3));
+        return Integer.parseInt(matcher.group(1)) * 3600 + Integer.parseInt(matcher.group(2)) * 60 + seconds;
+    }
+
+    public static String format(int seconds) {
+        return String.format("%02d:%02d:%02d", seconds / 3600, seconds / 60 % 60, seconds % 60);
+    }
+}
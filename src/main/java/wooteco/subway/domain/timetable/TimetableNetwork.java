@@ -0,0 +1,229 @@
+package wooteco.subway.domain.timetable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Station;
+
+public class TimetableNetwork {
+    public static final int NO_TRIP = -1;
+    private static final int NOT_FOUND = -1;
+
+    private final Map<Long, Integer> stopIndexes;
+    private final Station[] stops;
+    private final Line[] routeLines;
+    private final int[] routeStopOffsets;
+    private final int[] routeStops;
+    private final int[] routeTripCounts;
+    private final int[] routeTimeOffsets;
+    private final int[] tripTimes;
+    private final int[] stopRouteOffsets;
+    private final int[] stopRoutes;
+    private final int[] stopRoutePositions;
+
+    private TimetableNetwork(Map<Long, Integer> stopIndexes, Station[] stops, Line[] routeLines,
+        int[] routeStopOffsets, int[] routeStops, int[] routeTripCounts, int[] routeTimeOffsets, int[] tripTimes,
+        int[] stopRouteOffsets, int[] stopRoutes, int[] stopRoutePositions) {
+        this.stopIndexes = stopIndexes;
+        this.stops = stops;
+        this.routeLines = routeLines;
+        this.routeStopOffsets = routeStopOffsets;
+        this.routeStops = routeStops;
+        this.routeTripCounts = routeTripCounts;
+        this.routeTimeOffsets = routeTimeOffsets;
+        this.tripTimes = tripTimes;
+        this.stopRouteOffsets = stopRouteOffsets;
+        this.stopRoutes = stopRoutes;
+        this.stopRoutePositions = stopRoutePositions;
+    }
+
+    public static TimetableNetwork empty() {
+        return from(Collections.emptyList(), Collections.emptyList());
+    }
+
+    public static TimetableNetwork from(List<Line> lines, List<Trip> trips) {
+        Map<Long, Line> linesById = lines.stream()
+            .collect(Collectors.toMap(Line::getId, Function.identity()));
+        Map<String, List<Trip>> routeTrips = trips.stream()
+            .filter(trip -> fitsLine(trip, linesById.get(trip.getLineId())))
+            .sorted(Comparator.comparingLong(Trip::getLineId).thenComparing(Trip::getDirection))
+            .collect(Collectors.groupingBy(trip -> trip.getLineId() + ":" + trip.getDirection(),
+                LinkedHashMap::new, Collectors.toList()));
+
+        Map<Long, Integer> stopIndexes = new HashMap<>();
+        List<Station> stops = new ArrayList<>();
+        int routeCount = routeTrips.size();
+        Line[] routeLines = new Line[routeCount];
+        int[] routeStopOffsets = new int[routeCount + 1];
+        int[] routeTripCounts = new int[routeCount];
+        int[] routeTimeOffsets = new int[routeCount + 1];
+        List<int[]> routeStopLists = new ArrayList<>();
+        List<List<Trip>> sortedTrips = new ArrayList<>();
+
+        int route = 0;
+        for (List<Trip> tripsOfRoute : routeTrips.values()) {
+            Trip first = tripsOfRoute.get(0);
+            Line line = linesById.get(first.getLineId());
+            List<Station> stations = line.getStations();
+            if (first.getDirection() == TripDirection.UP) {
+                Collections.reverse(stations);
+            }
+            int[] routeStopList = new int[stations.size()];
+            for (int position = 0; position < stations.size(); position++) {
+                routeStopList[position] = indexOf(stations.get(position), stopIndexes, stops);
+            }
+
+            List<Trip> sorted = new ArrayList<>(tripsOfRoute);
+            sorted.sort(Comparator.comparingInt(trip -> trip.departureAt(0)));
+            checkNoOvertaking(sorted);
+
+            routeLines[route] = line;
+            routeStopOffsets[route + 1] = routeStopOffsets[route] + routeStopList.length;
+            routeTripCounts[route] = sorted.size();
+            routeTimeOffsets[route + 1] = routeTimeOffsets[route] + sorted.size() * routeStopList.length;
+            routeStopLists.add(routeStopList);
+            sortedTrips.add(sorted);
+            route++;
+        }
+
+        int[] routeStops = new int[routeStopOffsets[routeCount]];
+        int[] tripTimes = new int[routeTimeOffsets[routeCount]];
+        int[] stopRouteOffsets = new int[stops.size() + 1];
+        for (route = 0; route < routeCount; route++) {
+            int[] routeStopList = routeStopLists.get(route);
+            System.arraycopy(routeStopList, 0, routeStops, routeStopOffsets[route], routeStopList.length);
+            int offset = routeTimeOffsets[route];
+            for (Trip trip : sortedTrips.get(route)) {
+                for (int position = 0; position < routeStopList.length; position++) {
+                    tripTimes[offset++] = trip.departureAt(position);
+                }
+            }
+            for (int stop : routeStopList) {
+                stopRouteOffsets[stop + 1]++;
+            }
+        }
+        for (int stop = 0; stop < stops.size(); stop++) {
+            stopRouteOffsets[stop + 1] += stopRouteOffsets[stop];
+        }
+
+        int[] stopRoutes = new int[stopRouteOffsets[stops.size()]];
+        int[] stopRoutePositions = new int[stopRoutes.length];
+        int[] cursors = new int[stops.size()];
+        System.arraycopy(stopRouteOffsets, 0, cursors, 0, stops.size());
+        for (route = 0; route < routeCount; route++) {
+            int[] routeStopList = routeStopLists.get(route);
+            for (int position = 0; position < routeStopList.length; position++) {
+                int cursor = cursors[routeStopList[position]]++;
+                stopRoutes[cursor] = route;
+                stopRoutePositions[cursor] = position;
+            }
+        }
+        return new TimetableNetwork(stopIndexes, stops.toArray(new Station[0]), routeLines, routeStopOffsets,
+            routeStops, routeTripCounts, routeTimeOffsets, tripTimes, stopRouteOffsets, stopRoutes,
+            stopRoutePositions);
+    }
+
+    private static boolean fitsLine(Trip trip, Line line) {
+        return line != null && line.getStations().size() == trip.stopCount();
+    }
+
+    private static void checkNoOvertaking(List<Trip> trips) {
+        for (int i = 1; i < trips.size(); i++) {
+            Trip previous = trips.get(i - 1);
+            Trip current = trips.get(i);
+            for (int position = 0; position < current.stopCount(); position++) {
+                if (current.departureAt(position) < previous.departureAt(position)) {
+                    throw new IllegalArgumentException("앞선 열차를 추월하는 시간표는 등록할 수 없습니다.");
+                }
+            }
+        }
+    }
+
+    private static int indexOf(Station station, Map<Long, Integer> stopIndexes, List<Station> stops) {
+        return stopIndexes.computeIfAbsent(station.getId(), id -> {
+            stops.add(station);
+            return stops.size() - 1;
+        });
+    }
+
+    public int indexOf(Long stationId) {
+        return stopIndexes.getOrDefault(stationId, NOT_FOUND);
+    }
+
+    public boolean contains(Long stationId) {
+        return stopIndexes.containsKey(stationId);
+    }
+
+    public int stopCount() {
+        return stops.length;
+    }
+
+    public int routeCount() {
+        return routeLines.length;
+    }
+
+    public Station stop(int stop) {
+        return stops[stop];
+    }
+
+    public Line line(int route) {
+        return routeLines[route];
+    }
+
+    public int routeLength(int route) {
+        return routeStopOffsets[route + 1] - routeStopOffsets[route];
+    }
+
+    public int routeStop(int route, int position) {
+        return routeStops[routeStopOffsets[route] + position];
+    }
+
+    public int tripCount(int route) {
+        return routeTripCounts[route];
+    }
+
+    public int time(int route, int trip, int position) {
+        return tripTimes[routeTimeOffsets[route] + trip * routeLength(route) + position];
+    }
+
+    public int earliestTrip(int route, int position, int readyTime, int tripLimit) {
+        int low = 0;
+        int high = tripLimit;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (time(route, middle, position) < readyTime) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        if (low == tripLimit) {
+            return NO_TRIP;
+        }
+        return low;
+    }
+
+    public int firstRouteAt(int stop) {
+        return stopRouteOffsets[stop];
+    }
+
+    public int lastRouteAt(int stop) {
+        return stopRouteOffsets[stop + 1];
+    }
+
+    public int routeAt(int index) {
+        return stopRoutes[index];
+    }
+
+    public int positionAt(int index) {
+        return stopRoutePositions[index];
+    }
+}
@@ -0,0 +1,125 @@
+package wooteco.subway.domain.timetable;
+
+import static wooteco.subway.domain.timetable.RaptorWorkspace.NONE;
+import static wooteco.subway.domain.timetable.RaptorWorkspace.UNREACHED;
+
+public class TimetableRaptor {
+    private final TimetableNetwork network;
+    private final int maxRounds;
+
+    public TimetableRaptor(TimetableNetwork network, int maxRounds) {
+        if (maxRounds < 1) {
+            throw new IllegalArgumentException("탐색 라운드는 1이상이어야 합니다.");
+        }
+        this.network = network;
+        this.maxRounds = maxRounds;
+    }
+
+    public RaptorWorkspace search(int source, int target, int departure) {
+        RaptorWorkspace workspace = RaptorWorkspace.current(network, maxRounds);
+        workspace.arrivals[workspace.label(0, source)] = departure;
+        workspace.best[source] = departure;
+        workspace.mark(source);
+
+        int round = 1;
+        for (; round <= maxRounds && workspace.markedCount > 0; round++) {
+            System.arraycopy(workspace.arrivals, workspace.label(round - 1, 0), workspace.arrivals,
+                workspace.label(round, 0), network.stopCount());
+            collectRoutes(workspace);
+            for (int i = 0; i < workspace.queuedCount; i++) {
+                int route = workspace.queuedRoutes[i];
+                scanRoute(workspace, round, route, workspace.queuedPositions[route], target);
+                workspace.queuedPositions[route] = NONE;
+            }
+            workspace.queuedCount = 0;
+        }
+
+        if (workspace.best[target] != UNREACHED) {
+            collectLegs(workspace, Math.min(round - 1, maxRounds), target);
+        }
+        return workspace;
+    }
+
+    private void collectRoutes(RaptorWorkspace workspace) {
+        for (int i = 0; i < workspace.markedCount; i++) {
+            int stop = workspace.markedStops[i];
+            workspace.marked[stop] = false;
+            for (int index = network.firstRouteAt(stop); index < network.lastRouteAt(stop); index++) {
+                int route = network.routeAt(index);
+                int position = network.positionAt(index);
+                int queued = workspace.queuedPositions[route];
+                if (queued == NONE) {
+                    workspace.queuedRoutes[workspace.queuedCount++] = route;
+                    workspace.queuedPositions[route] = position;
+                } else if (position < queued) {
+                    workspace.queuedPositions[route] = position;
+                }
+            }
+        }
+        workspace.markedCount = 0;
+    }
+
+    private void scanRoute(RaptorWorkspace workspace, int round, int route, int startPosition, int target) {
+        int trip = NONE;
+        int boardPosition = NONE;
+        for (int position = startPosition; position < network.routeLength(route); position++) {
+            int stop = network.routeStop(route, position);
+            if (trip != NONE) {
+                int arrival = network.time(route, trip, position);
+                if (arrival < Math.min(workspace.best[stop], workspace.best[target])) {
+                    int label = workspace.label(round, stop);
+                    workspace.arrivals[label] = arrival;
+                    workspace.parentRoutes[label] = route;
+                    workspace.parentTrips[label] = trip;
+                    workspace.parentPositions[label] = boardPosition;
+                    workspace.best[stop] = arrival;
+                    workspace.mark(stop);
+                }
+            }
+
+            int ready = workspace.arrivals[workspace.label(round - 1, stop)];
+            if (ready == UNREACHED || (trip != NONE && network.time(route, trip, position) < ready)) {
+                continue;
+            }
+            int tripLimit = trip == NONE ? network.tripCount(route) : trip;
+            int earlier = network.earliestTrip(route, position, ready, tripLimit);
+            if (earlier != TimetableNetwork.NO_TRIP) {
+                trip = earlier;
+                boardPosition = position;
+            }
+        }
+    }
+
+    private void collectLegs(RaptorWorkspace workspace, int lastRound, int target) {
+        int round = lastRound;
+        while (round > 0 && workspace.arrivals[workspace.label(round - 1, target)] == workspace.best[target]) {
+            round--;
+        }
+        int stop = target;
+        while (round > 0) {
+            int label = workspace.label(round, stop);
+            if (workspace.parentRoutes[label] == NONE) {
+                round--;
+                continue;
+            }
+            int route = workspace.parentRoutes[label];
+            int boardPosition = workspace.parentPositions[label];
+            workspace.addLeg(route, workspace.parentTrips[label], boardPosition, positionOf(route, stop, boardPosition));
+            stop = network.routeStop(route, boardPosition);
+            round--;
+        }
+    }
+
+    private int positionOf(int route, int stop, int fromPosition) {
+        for (int position = fromPosition + 1; position < network.routeLength(route); position++) {
+            if (network.routeStop(route, position) == stop) {
+                return position;
+            }
+        }
+        return NONE;
+    }
+
+    public TimetableNetwork getNetwork() {
+        return network;
+    }
+}
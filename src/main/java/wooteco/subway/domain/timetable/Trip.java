@@ -0,0 +1,57 @@
+package wooteco.subway.domain.timetable;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class Trip {
+    private static final int MAX_SECONDS = 48 * 60 * 60;
+
+    private final Long lineId;
+    private final TripDirection direction;
+    private final int[] departures;
+
+    public Trip(Long lineId, TripDirection direction, int[] departures) {
+        checkDepartures(departures);
+        this.lineId = lineId;
+        this.direction = direction;
+        this.departures = departures.clone();
+    }
+
+    public static Trip of(Long lineId, TripDirection direction, List<Integer> departures) {
+        return new Trip(lineId, direction, departures.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private void checkDepartures(int[] departures) {
+        if (departures.length < 2) {
+            throw new IllegalArgumentException("열차 시간표는 두 개 이상의 역을 포함해야 합니다.");
+        }
+        for (int i = 0; i < departures.length; i++) {
+            if (departures[i] < 0 || departures[i] >= MAX_SECONDS) {
+                throw new IllegalArgumentException("출발 시각이 올바르지 않습니다.");
+            }
+            if (i > 0 && departures[i] < departures[i - 1]) {
+                throw new IllegalArgumentException("열차 시간표는 역 순서대로 시각이 증가해야 합니다.");
+            }
+        }
+    }
+
+    public int stopCount() {
+        return departures.length;
+    }
+
+    public int departureAt(int position) {
+        return departures[position];
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public TripDirection getDirection() {
+        return direction;
+    }
+
+    public int[] getDepartures() {
+        return Arrays.copyOf(departures, departures.length);
+    }
+}
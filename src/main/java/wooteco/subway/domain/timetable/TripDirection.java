@@ -0,0 +1,6 @@
+package wooteco.subway.domain.timetable;
+
+public enum TripDirection {
+    DOWN,
+    UP
+}
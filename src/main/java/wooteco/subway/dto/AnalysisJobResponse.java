@@ -0,0 +1,64 @@
+package wooteco.subway.dto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import wooteco.subway.domain.analytics.AnalysisJob;
+import wooteco.subway.domain.analytics.JobStatus;
+
+public class AnalysisJobResponse {
+    private Long id;
+    private JobStatus status;
+    private int processed;
+    private int total;
+    private String failure;
+    private List<StationMetricResponse> metrics;
+
+    public AnalysisJobResponse() {
+    }
+
+    private AnalysisJobResponse(Long id, JobStatus status, int processed, int total, String failure,
+        List<StationMetricResponse> metrics) {
+        this.id = id;
+        this.status = status;
+        this.processed = processed;
+        this.total = total;
+        this.failure = failure;
+        this.metrics = metrics;
+    }
+
+    public static AnalysisJobResponse from(AnalysisJob job) {
+        List<StationMetricResponse> metrics = null;
+        if (job.getResult() != null) {
+            metrics = job.getResult().stream()
+                .map(StationMetricResponse::from)
+                .collect(Collectors.toList());
+        }
+        return new AnalysisJobResponse(job.getId(), job.getStatus(), job.getProcessed(), job.getTotal(),
+            job.getFailure(), metrics);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public int getProcessed() {
+        return processed;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    public List<StationMetricResponse> getMetrics() {
+        return metrics;
+    }
+}
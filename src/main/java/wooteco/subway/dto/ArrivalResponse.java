@@ -0,0 +1,36 @@
+package wooteco.subway.dto;
+
+import java.util.List;
+
+public class ArrivalResponse {
+    private String departure;
+    private String arrival;
+    private int transfers;
+    private List<RideResponse> rides;
+
+    public ArrivalResponse() {
+    }
+
+    public ArrivalResponse(String departure, String arrival, List<RideResponse> rides) {
+        this.departure = departure;
+        this.arrival = arrival;
+        this.transfers = rides.size() - 1;
+        this.rides = rides;
+    }
+
+    public String getDeparture() {
+        return departure;
+    }
+
+    public String getArrival() {
+        return arrival;
+    }
+
+    public int getTransfers() {
+        return transfers;
+    }
+
+    public List<RideResponse> getRides() {
+        return rides;
+    }
+}
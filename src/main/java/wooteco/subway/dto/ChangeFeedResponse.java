@@ -0,0 +1,93 @@
+package wooteco.subway.dto;
+
+import wooteco.subway.dao.feed.ChangeFeedMetrics;
+
+public class ChangeFeedResponse {
+    private String nodeId;
+    private long cursor;
+    private long applied;
+    private long lastLagMillis;
+    private long averageLagMillis;
+    private long maxLagMillis;
+    private long stalenessMillis;
+    private long maxStalenessMillis;
+    private int pendingIds;
+    private long skippedIds;
+    private long pollFailures;
+    private long fullInvalidations;
+
+    public ChangeFeedResponse() {
+    }
+
+    private ChangeFeedResponse(String nodeId, long cursor, long applied, long lastLagMillis, long averageLagMillis,
+        long maxLagMillis, long stalenessMillis, long maxStalenessMillis, int pendingIds, long skippedIds,
+        long pollFailures, long fullInvalidations) {
+        this.nodeId = nodeId;
+        this.cursor = cursor;
+        this.applied = applied;
+        this.lastLagMillis = lastLagMillis;
+        this.averageLagMillis = averageLagMillis;
+        this.maxLagMillis = maxLagMillis;
+        this.stalenessMillis = stalenessMillis;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.pendingIds = pendingIds;
+        this.skippedIds = skippedIds;
+        this.pollFailures = pollFailures;
+        this.fullInvalidations = fullInvalidations;
+    }
+
+    public static ChangeFeedResponse from(ChangeFeedMetrics metrics) {
+        return new ChangeFeedResponse(metrics.getNodeId(), metrics.getCursor(), metrics.getApplied(),
+            metrics.getLastLagMillis(), metrics.getAverageLagMillis(), metrics.getMaxLagMillis(),
+            metrics.getStalenessMillis(), metrics.getMaxStalenessMillis(), metrics.getPendingIds(),
+            metrics.getSkippedIds(), metrics.getPollFailures(), metrics.getFullInvalidations());
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public long getCursor() {
+        return cursor;
+    }
+
+    public long getApplied() {
+        return applied;
+    }
+
+    public long getLastLagMillis() {
+        return lastLagMillis;
+    }
+
+    public long getAverageLagMillis() {
+        return averageLagMillis;
+    }
+
+    public long getMaxLagMillis() {
+        return maxLagMillis;
+    }
+
+    public long getStalenessMillis() {
+        return stalenessMillis;
+    }
+
+    public long getMaxStalenessMillis() {
+        return maxStalenessMillis;
+    }
+
+    public int getPendingIds() {
+        return pendingIds;
+    }
+
+    public long getSkippedIds() {
+        return skippedIds;
+    }
+
+    public long getPollFailures() {
+        return pollFailures;
+    }
+
+    public long getFullInvalidations() {
+        return fullInvalidations;
+    }
+}
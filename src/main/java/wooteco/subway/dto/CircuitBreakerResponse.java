@@ -0,0 +1,61 @@
+package wooteco.subway.dto;
+
+import wooteco.subway.dao.breaker.CircuitBreaker;
+
+public class CircuitBreakerResponse {
+    private String state;
+    private int badCallRate;
+    private int windowCalls;
+    private long trips;
+    private long staleReads;
+    private long rejectedReads;
+    private long rejectedWrites;
+
+    public CircuitBreakerResponse() {
+    }
+
+    private CircuitBreakerResponse(String state, int badCallRate, int windowCalls, long trips, long staleReads,
+        long rejectedReads, long rejectedWrites) {
+        this.state = state;
+        this.badCallRate = badCallRate;
+        this.windowCalls = windowCalls;
+        this.trips = trips;
+        this.staleReads = staleReads;
+        this.rejectedReads = rejectedReads;
+        this.rejectedWrites = rejectedWrites;
+    }
+
+    public static CircuitBreakerResponse from(CircuitBreaker circuitBreaker) {
+        return new CircuitBreakerResponse(circuitBreaker.getState().name(), circuitBreaker.getBadCallRate(),
+            circuitBreaker.getWindowCalls(), circuitBreaker.getTrips(), circuitBreaker.getStaleReads(),
+            circuitBreaker.getRejectedReads(), circuitBreaker.getRejectedWrites());
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public int getBadCallRate() {
+        return badCallRate;
+    }
+
+    public int getWindowCalls() {
+        return windowCalls;
+    }
+
+    public long getTrips() {
+        return trips;
+    }
+
+    public long getStaleReads() {
+        return staleReads;
+    }
+
+    public long getRejectedReads() {
+        return rejectedReads;
+    }
+
+    public long getRejectedWrites() {
+        return rejectedWrites;
+    }
+}
@@ -0,0 +1,61 @@
+package wooteco.subway.dto;
+
+import wooteco.subway.domain.analytics.ClosureImpact;
+
+public class ClosureImpactResponse {
+    private long evaluatedPairs;
+    private long longerPairs;
+    private long disconnectedPairs;
+    private long totalAddedDistance;
+    private double averageAddedDistance;
+    private int maxAddedDistance;
+    private int recomputedSources;
+
+    public ClosureImpactResponse() {
+    }
+
+    private ClosureImpactResponse(long evaluatedPairs, long longerPairs, long disconnectedPairs,
+        long totalAddedDistance, double averageAddedDistance, int maxAddedDistance, int recomputedSources) {
+        this.evaluatedPairs = evaluatedPairs;
+        this.longerPairs = longerPairs;
+        this.disconnectedPairs = disconnectedPairs;
+        this.totalAddedDistance = totalAddedDistance;
+        this.averageAddedDistance = averageAddedDistance;
+        this.maxAddedDistance = maxAddedDistance;
+        this.recomputedSources = recomputedSources;
+    }
+
+    public static ClosureImpactResponse from(ClosureImpact impact) {
+        return new ClosureImpactResponse(impact.getEvaluatedPairs(), impact.getLongerPairs(),
+            impact.getDisconnectedPairs(), impact.getTotalAddedDistance(), impact.averageAddedDistance(),
+            impact.getMaxAddedDistance(), impact.getRecomputedSources());
+    }
+
+    public long getEvaluatedPairs() {
+        return evaluatedPairs;
+    }
+
+    public long getLongerPairs() {
+        return longerPairs;
+    }
+
+    public long getDisconnectedPairs() {
+        return disconnectedPairs;
+    }
+
+    public long getTotalAddedDistance() {
+        return totalAddedDistance;
+    }
+
+    public double getAverageAddedDistance() {
+        return averageAddedDistance;
+    }
+
+    public int getMaxAddedDistance() {
+        return maxAddedDistance;
+    }
+
+    public int getRecomputedSources() {
+        return recomputedSources;
+    }
+}
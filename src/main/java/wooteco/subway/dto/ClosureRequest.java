@@ -0,0 +1,25 @@
+package wooteco.subway.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ClosureRequest {
+    private List<Long> stationIds = new ArrayList<>();
+    private List<Long> sectionIds = new ArrayList<>();
+
+    public ClosureRequest() {
+    }
+
+    public ClosureRequest(List<Long> stationIds, List<Long> sectionIds) {
+        this.stationIds = stationIds;
+        this.sectionIds = sectionIds;
+    }
+
+    public List<Long> getStationIds() {
+        return stationIds;
+    }
+
+    public List<Long> getSectionIds() {
+        return sectionIds;
+    }
+}
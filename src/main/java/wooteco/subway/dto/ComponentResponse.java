@@ -0,0 +1,28 @@
+package wooteco.subway.dto;
+
+import java.util.List;
+
+public class ComponentResponse {
+    private int size;
+    private List<Long> stationIds;
+
+    public ComponentResponse() {
+    }
+
+    public ComponentResponse(int size, List<Long> stationIds) {
+        this.size = size;
+        this.stationIds = stationIds;
+    }
+
+    public static ComponentResponse from(List<Long> stationIds) {
+        return new ComponentResponse(stationIds.size(), stationIds);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public List<Long> getStationIds() {
+        return stationIds;
+    }
+}
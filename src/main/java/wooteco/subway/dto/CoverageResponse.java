@@ -0,0 +1,25 @@
+package wooteco.subway.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class CoverageResponse {
+    private Map<Long, Integer> reachableCounts;
+    private List<ReachableStationResponse> stations;
+
+    public CoverageResponse() {
+    }
+
+    public CoverageResponse(Map<Long, Integer> reachableCounts, List<ReachableStationResponse> stations) {
+        this.reachableCounts = reachableCounts;
+        this.stations = stations;
+    }
+
+    public Map<Long, Integer> getReachableCounts() {
+        return reachableCounts;
+    }
+
+    public List<ReachableStationResponse> getStations() {
+        return stations;
+    }
+}
@@ -0,0 +1,61 @@
+package wooteco.subway.dto;
+
+import wooteco.subway.dao.routing.DataSourcePool;
+
+public class DataSourcePoolResponse {
+    private String name;
+    private long borrowed;
+    private long failures;
+    private Long lagMillis;
+    private int activeConnections;
+    private int idleConnections;
+    private int threadsAwaitingConnection;
+
+    public DataSourcePoolResponse() {
+    }
+
+    private DataSourcePoolResponse(String name, long borrowed, long failures, Long lagMillis, int activeConnections,
+        int idleConnections, int threadsAwaitingConnection) {
+        this.name = name;
+        this.borrowed = borrowed;
+        this.failures = failures;
+        this.lagMillis = lagMillis;
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.threadsAwaitingConnection = threadsAwaitingConnection;
+    }
+
+    public static DataSourcePoolResponse from(DataSourcePool pool) {
+        Long lagMillis = pool.getLagMillis() == DataSourcePool.UNKNOWN_LAG ? null : pool.getLagMillis();
+        return new DataSourcePoolResponse(pool.getName(), pool.getBorrowed(), pool.getFailures(), lagMillis,
+            pool.getActiveConnections(), pool.getIdleConnections(), pool.getThreadsAwaitingConnection());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getBorrowed() {
+        return borrowed;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public Long getLagMillis() {
+        return lagMillis;
+    }
+
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    public int getThreadsAwaitingConnection() {
+        return threadsAwaitingConnection;
+    }
+}
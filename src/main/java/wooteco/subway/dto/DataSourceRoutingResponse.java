@@ -0,0 +1,48 @@
+package wooteco.subway.dto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import wooteco.subway.dao.routing.ReplicaRoutingDataSource;
+
+public class DataSourceRoutingResponse {
+    private long maxLagMillis;
+    private long fallbacks;
+    private long pinnedReads;
+    private List<DataSourcePoolResponse> pools;
+
+    public DataSourceRoutingResponse() {
+    }
+
+    private DataSourceRoutingResponse(long maxLagMillis, long fallbacks, long pinnedReads,
+        List<DataSourcePoolResponse> pools) {
+        this.maxLagMillis = maxLagMillis;
+        this.fallbacks = fallbacks;
+        this.pinnedReads = pinnedReads;
+        this.pools = pools;
+    }
+
+    public static DataSourceRoutingResponse from(ReplicaRoutingDataSource dataSource) {
+        List<DataSourcePoolResponse> pools = dataSource.getPools().stream()
+            .map(DataSourcePoolResponse::from)
+            .collect(Collectors.toList());
+        return new DataSourceRoutingResponse(dataSource.getMaxLagMillis(), dataSource.getFallbacks(),
+            dataSource.getPinnedReads(), pools);
+    }
+
+    public long getMaxLagMillis() {
+        return maxLagMillis;
+    }
+
+    public long getFallbacks() {
+        return fallbacks;
+    }
+
+    public long getPinnedReads() {
+        return pinnedReads;
+    }
+
+    public List<DataSourcePoolResponse> getPools() {
+        return pools;
+    }
+}
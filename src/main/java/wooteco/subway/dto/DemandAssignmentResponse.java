@@ -0,0 +1,48 @@
+package wooteco.subway.dto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import wooteco.subway.domain.demand.DemandAssignment;
+
+public class DemandAssignmentResponse {
+    private long totalTrips;
+    private long assignedTrips;
+    private long unassignedTrips;
+    private List<SectionLoadResponse> sections;
+
+    public DemandAssignmentResponse() {
+    }
+
+    public DemandAssignmentResponse(long totalTrips, long assignedTrips, long unassignedTrips,
+        List<SectionLoadResponse> sections) {
+        this.totalTrips = totalTrips;
+        this.assignedTrips = assignedTrips;
+        this.unassignedTrips = unassignedTrips;
+        this.sections = sections;
+    }
+
+    public static DemandAssignmentResponse from(DemandAssignment assignment) {
+        List<SectionLoadResponse> sections = assignment.getSectionLoads().stream()
+            .map(SectionLoadResponse::from)
+            .collect(Collectors.toList());
+        return new DemandAssignmentResponse(assignment.getTotalTrips(), assignment.getAssignedTrips(),
+            assignment.getUnassignedTrips(), sections);
+    }
+
+    public long getTotalTrips() {
+        return totalTrips;
+    }
+
+    public long getAssignedTrips() {
+        return assignedTrips;
+    }
+
+    public long getUnassignedTrips() {
+        return unassignedTrips;
+    }
+
+    public List<SectionLoadResponse> getSections() {
+        return sections;
+    }
+}
@@ -0,0 +1,26 @@
+package wooteco.subway.dto;
+
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+
+public class FareBatchRequest {
+
+    @Valid
+    @NotEmpty(message = "요금을 계산할 구간을 입력해주세요.")
+    @Size(max = 10000, message = "한 번에 10000개까지 계산할 수 있습니다.")
+    private List<FareRequest> pairs;
+
+    public FareBatchRequest() {
+    }
+
+    public FareBatchRequest(List<FareRequest> pairs) {
+        this.pairs = pairs;
+    }
+
+    public List<FareRequest> getPairs() {
+        return pairs;
+    }
+}
@@ -0,0 +1,28 @@
+package wooteco.subway.dto;
+
+import javax.validation.constraints.NotNull;
+
+public class FareRequest {
+
+    @NotNull(message = "출발역을 입력해주세요.")
+    private Long source;
+
+    @NotNull(message = "도착역을 입력해주세요.")
+    private Long target;
+
+    public FareRequest() {
+    }
+
+    public FareRequest(Long source, Long target) {
+        this.source = source;
+        this.target = target;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+}
@@ -0,0 +1,47 @@
+package wooteco.subway.dto;
+
+import wooteco.subway.domain.fare.FareQuote;
+
+public class FareResponse {
+    private Long source;
+    private Long target;
+    private boolean reachable;
+    private int distance;
+    private int fare;
+
+    public FareResponse() {
+    }
+
+    private FareResponse(Long source, Long target, boolean reachable, int distance, int fare) {
+        this.source = source;
+        this.target = target;
+        this.reachable = reachable;
+        this.distance = distance;
+        this.fare = fare;
+    }
+
+    public static FareResponse from(FareQuote quote) {
+        return new FareResponse(quote.getQuery().getSourceId(), quote.getQuery().getTargetId(), quote.isReachable(),
+            quote.getDistance(), quote.getFare());
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+
+    public boolean isReachable() {
+        return reachable;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+}
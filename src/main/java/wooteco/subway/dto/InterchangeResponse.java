@@ -0,0 +1,42 @@
+package wooteco.subway.dto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import wooteco.subway.domain.index.Interchange;
+
+public class InterchangeResponse {
+    private StationResponse station;
+    private List<StationLineResponse> lines;
+    private List<List<Long>> linePairs;
+
+    public InterchangeResponse() {
+    }
+
+    public InterchangeResponse(StationResponse station, List<StationLineResponse> lines,
+        List<List<Long>> linePairs) {
+        this.station = station;
+        this.lines = lines;
+        this.linePairs = linePairs;
+    }
+
+    public static InterchangeResponse from(Interchange interchange) {
+        List<StationLineResponse> lines = interchange.getLines().stream()
+            .map(StationLineResponse::from)
+            .collect(Collectors.toList());
+        return new InterchangeResponse(StationResponse.from(interchange.getStation()), lines,
+            interchange.linePairs());
+    }
+
+    public StationResponse getStation() {
+        return station;
+    }
+
+    public List<StationLineResponse> getLines() {
+        return lines;
+    }
+
+    public List<List<Long>> getLinePairs() {
+        return linePairs;
+    }
+}
@@ -0,0 +1,40 @@
+package wooteco.subway.dto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import wooteco.subway.domain.path.Journey;
+
+public class JourneyResponse {
+    private int distance;
+    private int transfers;
+    private List<LegResponse> legs;
+
+    public JourneyResponse() {
+    }
+
+    private JourneyResponse(int distance, int transfers, List<LegResponse> legs) {
+        this.distance = distance;
+        this.transfers = transfers;
+        this.legs = legs;
+    }
+
+    public static JourneyResponse from(Journey journey) {
+        List<LegResponse> legResponses = journey.getLegs().stream()
+            .map(LegResponse::from)
+            .collect(Collectors.toList());
+        return new JourneyResponse(journey.getDistance(), journey.getTransfers(), legResponses);
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getTransfers() {
+        return transfers;
+    }
+
+    public List<LegResponse> getLegs() {
+        return legs;
+    }
+}
@@ -0,0 +1,46 @@
+package wooteco.subway.dto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import wooteco.subway.domain.path.Leg;
+
+public class LegResponse {
+    private Long lineId;
+    private String lineName;
+    private int distance;
+    private List<StationResponse> stations;
+
+    public LegResponse() {
+    }
+
+    private LegResponse(Long lineId, String lineName, int distance, List<StationResponse> stations) {
+        this.lineId = lineId;
+        this.lineName = lineName;
+        this.distance = distance;
+        this.stations = stations;
+    }
+
+    public static LegResponse from(Leg leg) {
+        List<StationResponse> stationResponses = leg.getStations().stream()
+            .map(StationResponse::from)
+            .collect(Collectors.toList());
+        return new LegResponse(leg.getLine().getId(), leg.getLine().getName(), leg.getDistance(), stationResponses);
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public String getLineName() {
+        return lineName;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+}
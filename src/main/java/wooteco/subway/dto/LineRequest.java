@@ -21,15 +21,24 @@ public class LineRequest {
     @Min(value = 1, message = "거리는 1이상이어야 합니다.")
     private int distance;
 
+    @Min(value = 0, message = "추가 요금은 0이상이어야 합니다.")
+    private Integer extraFare;
+
     public LineRequest() {
     }
 
     public LineRequest(String name, String color, Long upStationId, Long downStationId, int distance) {
+        this(name, color, upStationId, downStationId, distance, null);
+    }
+
+    public LineRequest(String name, String color, Long upStationId, Long downStationId, int distance,
+        Integer extraFare) {
         this.name = name;
         this.color = color;
         this.upStationId = upStationId;
         this.downStationId = downStationId;
         this.distance = distance;
+        this.extraFare = extraFare;
     }
 
     public String getName() {
@@ -51,4 +60,8 @@ public class LineRequest {
     public int getDistance() {
         return distance;
     }
+
+    public Integer getExtraFare() {
+        return extraFare;
+    }
 }
@@ -11,15 +11,17 @@ public class LineResponse {
     private Long id;
     private String name;
     private String color;
+    private int extraFare;
     private List<StationResponse> stations;
 
     public LineResponse() {
     }
 
-    private LineResponse(Long id, String name, String color, List<StationResponse> stations) {
+    private LineResponse(Long id, String name, String color, int extraFare, List<StationResponse> stations) {
         this.id = id;
         this.name = name;
         this.color = color;
+        this.extraFare = extraFare;
         this.stations = stations;
     }
 
@@ -28,11 +30,11 @@ public class LineResponse {
         List<StationResponse> stationResponses = stations.stream()
             .map(StationResponse::from)
             .collect(Collectors.toList());
-        return new LineResponse(line.getId(), line.getName(), line.getColor(), stationResponses);
+        return new LineResponse(line.getId(), line.getName(), line.getColor(), line.getExtraFare(), stationResponses);
     }
 
     public static LineResponse from(Long id, Line line) {
-        return new LineResponse(id, line.getName(), line.getColor(), new ArrayList<>());
+        return new LineResponse(id, line.getName(), line.getColor(), line.getExtraFare(), new ArrayList<>());
     }
 
     public Long getId() {
@@ -47,6 +49,10 @@ public class LineResponse {
         return color;
     }
 
+    public int getExtraFare() {
+        return extraFare;
+    }
+
     public List<StationResponse> getStations() {
         return stations;
     }
@@ -0,0 +1,27 @@
+package wooteco.subway.dto;
+
+import javax.validation.constraints.NotBlank;
+
+public class NamespaceRequest {
+
+    @NotBlank(message = "id를 입력해주세요.")
+    private String id;
+    @NotBlank(message = "이름을 입력해주세요.")
+    private String name;
+
+    public NamespaceRequest() {
+    }
+
+    public NamespaceRequest(String id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,34 @@
+package wooteco.subway.dto;
+
+import wooteco.subway.domain.Namespace;
+
+public class NamespaceResponse {
+    private String id;
+    private String name;
+    private boolean loaded;
+
+    public NamespaceResponse() {
+    }
+
+    private NamespaceResponse(String id, String name, boolean loaded) {
+        this.id = id;
+        this.name = name;
+        this.loaded = loaded;
+    }
+
+    public static NamespaceResponse of(Namespace namespace, boolean loaded) {
+        return new NamespaceResponse(namespace.getId(), namespace.getName(), loaded);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+}
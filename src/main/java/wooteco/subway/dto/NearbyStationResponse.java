@@ -0,0 +1,49 @@
+package wooteco.subway.dto;
+
+import wooteco.subway.domain.geo.NearbyStation;
+
+public class NearbyStationResponse {
+    private Long id;
+    private String name;
+    private double latitude;
+    private double longitude;
+    private int distance;
+
+    public NearbyStationResponse() {
+    }
+
+    public NearbyStationResponse(Long id, String name, double latitude, double longitude, int distance) {
+        this.id = id;
+        this.name = name;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.distance = distance;
+    }
+
+    public static NearbyStationResponse from(NearbyStation nearbyStation) {
+        return new NearbyStationResponse(nearbyStation.getStation().getId(), nearbyStation.getStation().getName(),
+            nearbyStation.getStation().getCoordinate().getLatitude(),
+            nearbyStation.getStation().getCoordinate().getLongitude(),
+            (int)Math.round(nearbyStation.getDistance()));
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
@@ -0,0 +1,49 @@
+package wooteco.subway.dto;
+
+import wooteco.subway.domain.index.Neighbor;
+
+public class NeighborResponse {
+    private Long lineId;
+    private String lineName;
+    private StationResponse station;
+    private int distance;
+    private String direction;
+
+    public NeighborResponse() {
+    }
+
+    public NeighborResponse(Long lineId, String lineName, StationResponse station, int distance,
+        String direction) {
+        this.lineId = lineId;
+        this.lineName = lineName;
+        this.station = station;
+        this.distance = distance;
+        this.direction = direction;
+    }
+
+    public static NeighborResponse from(Neighbor neighbor) {
+        String direction = neighbor.isUpward() ? "UP" : "DOWN";
+        return new NeighborResponse(neighbor.getLine().getId(), neighbor.getLine().getName(),
+            StationResponse.from(neighbor.getStation()), neighbor.getDistance(), direction);
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public String getLineName() {
+        return lineName;
+    }
+
+    public StationResponse getStation() {
+        return station;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public String getDirection() {
+        return direction;
+    }
+}
@@ -0,0 +1,24 @@
+package wooteco.subway.dto;
+
+import java.util.List;
+
+public class NetworkComponentsResponse {
+    private boolean connected;
+    private List<ComponentResponse> components;
+
+    public NetworkComponentsResponse() {
+    }
+
+    public NetworkComponentsResponse(boolean connected, List<ComponentResponse> components) {
+        this.connected = connected;
+        this.components = components;
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    public List<ComponentResponse> getComponents() {
+        return components;
+    }
+}
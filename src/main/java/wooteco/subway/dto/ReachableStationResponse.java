@@ -0,0 +1,34 @@
+package wooteco.subway.dto;
+
+import wooteco.subway.domain.Station;
+
+public class ReachableStationResponse {
+    private Long id;
+    private String name;
+    private int distance;
+
+    public ReachableStationResponse() {
+    }
+
+    private ReachableStationResponse(Long id, String name, int distance) {
+        this.id = id;
+        this.name = name;
+        this.distance = distance;
+    }
+
+    public static ReachableStationResponse of(Station station, int distance) {
+        return new ReachableStationResponse(station.getId(), station.getName(), distance);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
@@ -0,0 +1,47 @@
+package wooteco.subway.dto;
+
+public class RideResponse {
+    private Long lineId;
+    private String lineName;
+    private StationResponse boardStation;
+    private String boardTime;
+    private StationResponse alightStation;
+    private String alightTime;
+
+    public RideResponse() {
+    }
+
+    public RideResponse(Long lineId, String lineName, StationResponse boardStation, String boardTime,
+        StationResponse alightStation, String alightTime) {
+        this.lineId = lineId;
+        this.lineName = lineName;
+        this.boardStation = boardStation;
+        this.boardTime = boardTime;
+        this.alightStation = alightStation;
+        this.alightTime = alightTime;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public String getLineName() {
+        return lineName;
+    }
+
+    public StationResponse getBoardStation() {
+        return boardStation;
+    }
+
+    public String getBoardTime() {
+        return boardTime;
+    }
+
+    public StationResponse getAlightStation() {
+        return alightStation;
+    }
+
+    public String getAlightTime() {
+        return alightTime;
+    }
+}
@@ -0,0 +1,34 @@
+package wooteco.subway.dto;
+
+import wooteco.subway.domain.demand.SectionLoad;
+
+public class SectionLoadResponse {
+    private Long sectionId;
+    private Long lineId;
+    private long load;
+
+    public SectionLoadResponse() {
+    }
+
+    public SectionLoadResponse(Long sectionId, Long lineId, long load) {
+        this.sectionId = sectionId;
+        this.lineId = lineId;
+        this.load = load;
+    }
+
+    public static SectionLoadResponse from(SectionLoad sectionLoad) {
+        return new SectionLoadResponse(sectionLoad.getSectionId(), sectionLoad.getLineId(), sectionLoad.getLoad());
+    }
+
+    public Long getSectionId() {
+        return sectionId;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public long getLoad() {
+        return load;
+    }
+}
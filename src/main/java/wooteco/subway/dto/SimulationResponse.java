@@ -0,0 +1,63 @@
+package wooteco.subway.dto;
+
+import java.util.concurrent.TimeUnit;
+
+import wooteco.subway.domain.simulation.SimulationResult;
+
+public class SimulationResponse {
+    private Long id;
+    private int agents;
+    private long arrivedAgents;
+    private long unroutableTrips;
+    private long events;
+    private long elapsedMillis;
+    private double eventsPerSecond;
+
+    public SimulationResponse() {
+    }
+
+    public SimulationResponse(Long id, int agents, long arrivedAgents, long unroutableTrips, long events,
+        long elapsedMillis, double eventsPerSecond) {
+        this.id = id;
+        this.agents = agents;
+        this.arrivedAgents = arrivedAgents;
+        this.unroutableTrips = unroutableTrips;
+        this.events = events;
+        this.elapsedMillis = elapsedMillis;
+        this.eventsPerSecond = eventsPerSecond;
+    }
+
+    public static SimulationResponse of(Long id, SimulationResult result) {
+        return new SimulationResponse(id, result.getAgentCount(), result.getArrivedAgents(),
+            result.getUnroutableTrips(), result.getEvents(), TimeUnit.NANOSECONDS.toMillis(result.getElapsedNanos()),
+            result.eventsPerSecond());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public int getAgents() {
+        return agents;
+    }
+
+    public long getArrivedAgents() {
+        return arrivedAgents;
+    }
+
+    public long getUnroutableTrips() {
+        return unroutableTrips;
+    }
+
+    public long getEvents() {
+        return events;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getEventsPerSecond() {
+        return eventsPerSecond;
+    }
+}
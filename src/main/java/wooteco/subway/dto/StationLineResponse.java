@@ -0,0 +1,41 @@
+package wooteco.subway.dto;
+
+import wooteco.subway.domain.index.StationLine;
+
+public class StationLineResponse {
+    private Long lineId;
+    private String lineName;
+    private String color;
+    private int position;
+
+    public StationLineResponse() {
+    }
+
+    public StationLineResponse(Long lineId, String lineName, String color, int position) {
+        this.lineId = lineId;
+        this.lineName = lineName;
+        this.color = color;
+        this.position = position;
+    }
+
+    public static StationLineResponse from(StationLine stationLine) {
+        return new StationLineResponse(stationLine.getLine().getId(), stationLine.getLine().getName(),
+            stationLine.getLine().getColor(), stationLine.getPosition());
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public String getLineName() {
+        return lineName;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+}
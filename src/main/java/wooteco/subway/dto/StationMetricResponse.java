@@ -0,0 +1,47 @@
+package wooteco.subway.dto;
+
+import wooteco.subway.domain.analytics.StationMetric;
+
+public class StationMetricResponse {
+    private Long id;
+    private String name;
+    private int degree;
+    private double closeness;
+    private double betweenness;
+
+    public StationMetricResponse() {
+    }
+
+    private StationMetricResponse(Long id, String name, int degree, double closeness, double betweenness) {
+        this.id = id;
+        this.name = name;
+        this.degree = degree;
+        this.closeness = closeness;
+        this.betweenness = betweenness;
+    }
+
+    public static StationMetricResponse from(StationMetric metric) {
+        return new StationMetricResponse(metric.getStation().getId(), metric.getStation().getName(),
+            metric.getDegree(), metric.getCloseness(), metric.getBetweenness());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getDegree() {
+        return degree;
+    }
+
+    public double getCloseness() {
+        return closeness;
+    }
+
+    public double getBetweenness() {
+        return betweenness;
+    }
+}
@@ -6,6 +6,8 @@ public class StationRequest {
 
     @NotBlank(message = "이름을 입력해주세요.")
     private String name;
+    private Double latitude;
+    private Double longitude;
 
     public StationRequest() {
     }
@@ -14,7 +16,21 @@ public class StationRequest {
         this.name = name;
     }
 
+    public StationRequest(String name, Double latitude, Double longitude) {
+        this.name = name;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
     public String getName() {
         return name;
     }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
 }
@@ -1,10 +1,13 @@
 package wooteco.subway.dto;
 
 import wooteco.subway.domain.Station;
+import wooteco.subway.domain.geo.Coordinate;
 
 public class StationResponse {
     private Long id;
     private String name;
+    private Double latitude;
+    private Double longitude;
 
     public StationResponse() {
     }
@@ -14,8 +17,19 @@ public class StationResponse {
         this.name = name;
     }
 
+    public StationResponse(Long id, String name, Double latitude, Double longitude) {
+        this(id, name);
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
     public static StationResponse from(Station station) {
-        return new StationResponse(station.getId(), station.getName());
+        if (!station.hasCoordinate()) {
+            return new StationResponse(station.getId(), station.getName());
+        }
+        Coordinate coordinate = station.getCoordinate();
+        return new StationResponse(station.getId(), station.getName(), coordinate.getLatitude(),
+            coordinate.getLongitude());
     }
 
     public Long getId() {
@@ -26,6 +40,14 @@ public class StationResponse {
         return name;
     }
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
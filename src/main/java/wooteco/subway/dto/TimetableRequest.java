@@ -0,0 +1,24 @@
+package wooteco.subway.dto;
+
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+public class TimetableRequest {
+
+    @Valid
+    @NotNull(message = "열차 시간표를 입력해주세요.")
+    private List<TripRequest> trips;
+
+    public TimetableRequest() {
+    }
+
+    public TimetableRequest(List<TripRequest> trips) {
+        this.trips = trips;
+    }
+
+    public List<TripRequest> getTrips() {
+        return trips;
+    }
+}
@@ -0,0 +1,31 @@
+package wooteco.subway.dto;
+
+import java.util.List;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+public class TripRequest {
+
+    @NotNull(message = "운행 방향을 입력해주세요.")
+    private String direction;
+
+    @NotEmpty(message = "역별 출발 시각을 입력해주세요.")
+    private List<String> departures;
+
+    public TripRequest() {
+    }
+
+    public TripRequest(String direction, List<String> departures) {
+        this.direction = direction;
+        this.departures = departures;
+    }
+
+    public String getDirection() {
+        return direction;
+    }
+
+    public List<String> getDepartures() {
+        return departures;
+    }
+}
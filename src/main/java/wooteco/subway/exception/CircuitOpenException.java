@@ -0,0 +1,14 @@
+package wooteco.subway.exception;
+
+public class CircuitOpenException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public CircuitOpenException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
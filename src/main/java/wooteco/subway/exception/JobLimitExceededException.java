@@ -0,0 +1,7 @@
+package wooteco.subway.exception;
+
+public class JobLimitExceededException extends RuntimeException {
+    public JobLimitExceededException(String message) {
+        super(message);
+    }
+}
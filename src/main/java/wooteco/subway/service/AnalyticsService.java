@@ -0,0 +1,78 @@
+package wooteco.subway.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.domain.analytics.AnalysisJob;
+import wooteco.subway.domain.graph.StationGraph;
+import wooteco.subway.dto.AnalysisJobResponse;
+import wooteco.subway.exception.EmptyResultException;
+import wooteco.subway.exception.JobLimitExceededException;
+
+@Service
+public class AnalyticsService {
+    private static final int MAX_STORED_JOBS = 20;
+    private static final int MAX_ACTIVE_JOBS = 2;
+
+    private final LineDao lineDao;
+    private final ForkJoinPool analysisPool;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, AnalysisJob> jobs = new ConcurrentHashMap<>();
+    private final Semaphore activeJobs = new Semaphore(MAX_ACTIVE_JOBS);
+
+    public AnalyticsService(LineDao lineDao, ForkJoinPool analysisPool) {
+        this.lineDao = lineDao;
+        this.analysisPool = analysisPool;
+    }
+
+    @Transactional(readOnly = true)
+    public AnalysisJobResponse startCentrality() {
+        if (!activeJobs.tryAcquire()) {
+            throw new JobLimitExceededException(
+                String.format("진행 중인 분석 작업이 %d개를 넘을 수 없습니다. 잠시 후 다시 시도해주세요.", MAX_ACTIVE_JOBS));
+        }
+        try {
+            StationGraph graph = StationGraph.from(lineDao.findAll());
+            AnalysisJob job = new AnalysisJob(sequence.incrementAndGet(), graph);
+            evictFinishedJobs();
+            jobs.put(job.getId(), job);
+            analysisPool.execute(() -> run(job));
+            return AnalysisJobResponse.from(job);
+        } catch (RuntimeException exception) {
+            activeJobs.release();
+            throw exception;
+        }
+    }
+
+    private void run(AnalysisJob job) {
+        try {
+            job.run(analysisPool.getParallelism());
+        } finally {
+            activeJobs.release();
+        }
+    }
+
+    public AnalysisJobResponse findJob(Long id) {
+        AnalysisJob job = jobs.get(id);
+        if (job == null) {
+            throw new EmptyResultException("해당 분석 작업을 찾을 수 없습니다.");
+        }
+        return AnalysisJobResponse.from(job);
+    }
+
+    private void evictFinishedJobs() {
+        jobs.values().stream()
+            .filter(AnalysisJob::isFinished)
+            .map(AnalysisJob::getId)
+            .sorted()
+            .limit(Math.max(0, jobs.size() - MAX_STORED_JOBS + 1))
+            .forEach(jobs::remove);
+    }
+}
@@ -0,0 +1,54 @@
+package wooteco.subway.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.analytics.ClosureImpactAnalyzer;
+import wooteco.subway.dto.ClosureImpactResponse;
+import wooteco.subway.dto.ClosureRequest;
+import wooteco.subway.exception.EmptyResultException;
+
+@Service
+public class ClosureAnalysisService {
+    private final LineDao lineDao;
+    private final StationDao stationDao;
+    private final ForkJoinPool analysisPool;
+
+    public ClosureAnalysisService(LineDao lineDao, StationDao stationDao, ForkJoinPool analysisPool) {
+        this.lineDao = lineDao;
+        this.stationDao = stationDao;
+        this.analysisPool = analysisPool;
+    }
+
+    @Transactional(readOnly = true)
+    public CompletableFuture<ClosureImpactResponse> analyze(ClosureRequest closureRequest) {
+        List<Long> stationIds = closureRequest.getStationIds();
+        List<Long> sectionIds = closureRequest.getSectionIds();
+        if (stationIds.isEmpty() && sectionIds.isEmpty()) {
+            throw new IllegalArgumentException("폐쇄할 역이나 구간을 입력해주세요.");
+        }
+
+        List<Station> closedStations = stationIds.stream()
+            .distinct()
+            .map(this::findStation)
+            .collect(Collectors.toList());
+        ClosureImpactAnalyzer analyzer = ClosureImpactAnalyzer.of(lineDao.findAll(), closedStations,
+            Set.copyOf(sectionIds));
+        return CompletableFuture.supplyAsync(() -> analyzer.analyze(analysisPool.getParallelism()), analysisPool)
+            .thenApply(ClosureImpactResponse::from);
+    }
+
+    private Station findStation(Long stationId) {
+        return stationDao.findById(stationId)
+            .orElseThrow(() -> new EmptyResultException("해당 역을 찾을 수 없습니다."));
+    }
+}
@@ -0,0 +1,40 @@
+package wooteco.subway.service;
+
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.domain.demand.DemandAssigner;
+import wooteco.subway.domain.demand.DemandMatrix;
+import wooteco.subway.domain.demand.DemandMatrixReader;
+import wooteco.subway.domain.graph.StationGraph;
+import wooteco.subway.dto.DemandAssignmentResponse;
+
+@Service
+public class DemandService {
+    private final LineDao lineDao;
+    private final ForkJoinPool analysisPool;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public DemandService(LineDao lineDao, ForkJoinPool analysisPool,
+        PlatformTransactionManager transactionManager) {
+        this.lineDao = lineDao;
+        this.analysisPool = analysisPool;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public CompletableFuture<DemandAssignmentResponse> assign(InputStream demandStream) {
+        StationGraph graph = readOnlyTransaction.execute(status -> StationGraph.from(lineDao.findAll()));
+        DemandMatrix matrix = new DemandMatrixReader(demandStream).read(graph);
+        DemandAssigner assigner = new DemandAssigner(graph);
+        return CompletableFuture.supplyAsync(() -> assigner.assign(matrix, analysisPool.getParallelism()),
+                analysisPool)
+            .thenApply(DemandAssignmentResponse::from);
+    }
+}
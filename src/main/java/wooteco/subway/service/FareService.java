@@ -0,0 +1,42 @@
+package wooteco.subway.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.fare.FareEngine;
+import wooteco.subway.domain.fare.FareQuery;
+import wooteco.subway.domain.fare.FareTable;
+import wooteco.subway.domain.graph.StationGraph;
+import wooteco.subway.dto.FareBatchRequest;
+import wooteco.subway.dto.FareResponse;
+
+@Service
+@Transactional(readOnly = true)
+public class FareService {
+    private final LineDao lineDao;
+    private final FareTable fareTable = FareTable.standard();
+
+    public FareService(LineDao lineDao) {
+        this.lineDao = lineDao;
+    }
+
+    public List<FareResponse> priceAll(FareBatchRequest fareBatchRequest) {
+        List<Line> lines = lineDao.findAll();
+        Map<Long, Integer> lineExtraFares = lines.stream()
+            .collect(Collectors.toMap(Line::getId, Line::getExtraFare));
+        FareEngine fareEngine = new FareEngine(StationGraph.from(lines), lineExtraFares, fareTable);
+
+        List<FareQuery> queries = fareBatchRequest.getPairs().stream()
+            .map(pair -> new FareQuery(pair.getSource(), pair.getTarget()))
+            .collect(Collectors.toList());
+        return fareEngine.price(queries).stream()
+            .map(FareResponse::from)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,130 @@
+package wooteco.subway.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.dao.breaker.FreshReads;
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.LineChangedEvent;
+import wooteco.subway.domain.NetworkReplacedEvent;
+import wooteco.subway.domain.index.StationLineIndex;
+import wooteco.subway.dto.InterchangeResponse;
+import wooteco.subway.dto.NeighborResponse;
+import wooteco.subway.dto.StationLineResponse;
+import wooteco.subway.exception.EmptyResultException;
+
+@Service
+public class LineIndexService {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final LineDao lineDao;
+    private final StationDao stationDao;
+    private final Map<Long, Object> lineLocks = new ConcurrentHashMap<>();
+    private final Object loadMonitor = new Object();
+    private volatile StationLineIndex index;
+
+    public LineIndexService(LineDao lineDao, StationDao stationDao) {
+        this.lineDao = lineDao;
+        this.stationDao = stationDao;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLineChanged(LineChangedEvent event) {
+        Long lineId = event.getLineId();
+        try {
+            StationLineIndex loaded = loadedIndex();
+            synchronized (lineLocks.computeIfAbsent(lineId, id -> new Object())) {
+                FreshReads.require(() -> lineDao.findById(lineId))
+                    .ifPresentOrElse(loaded::replace, () -> loaded.remove(lineId));
+            }
+        } catch (RuntimeException exception) {
+            discard();
+            logger.warn(String.format("%d번 노선의 변경을 색인에 반영하지 못해 색인을 다시 불러옵니다.", lineId), exception);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkReplaced(NetworkReplacedEvent event) {
+        StationLineIndex rebuilt;
+        try {
+            rebuilt = build();
+        } catch (RuntimeException exception) {
+            discard();
+            logger.warn("노선 목록을 다시 읽지 못해 색인을 다시 불러옵니다.", exception);
+            return;
+        }
+        synchronized (loadMonitor) {
+            index = rebuilt;
+        }
+    }
+
+    private void discard() {
+        synchronized (loadMonitor) {
+            index = null;
+        }
+    }
+
+    public boolean isInUse(Long stationId) {
+        return loadedIndex().isInUse(stationId);
+    }
+
+    public List<StationLineResponse> findLines(Long stationId) {
+        validateStation(stationId);
+        return loadedIndex().linesOf(stationId).stream()
+            .map(StationLineResponse::from)
+            .collect(Collectors.toList());
+    }
+
+    public List<NeighborResponse> findNeighbors(Long stationId) {
+        validateStation(stationId);
+        return loadedIndex().neighborsOf(stationId).stream()
+            .map(NeighborResponse::from)
+            .collect(Collectors.toList());
+    }
+
+    public List<InterchangeResponse> findInterchanges() {
+        return loadedIndex().interchanges().stream()
+            .map(InterchangeResponse::from)
+            .collect(Collectors.toList());
+    }
+
+    public Set<Long> findReachableLineIds(Long stationId) {
+        return loadedIndex().reachableLineIds(stationId);
+    }
+
+    private void validateStation(Long stationId) {
+        if (stationDao.findById(stationId).isEmpty()) {
+            throw new EmptyResultException("해당 역을 찾을 수 없습니다.");
+        }
+    }
+
+    private StationLineIndex loadedIndex() {
+        StationLineIndex loaded = index;
+        if (loaded != null) {
+            return loaded;
+        }
+        synchronized (loadMonitor) {
+            if (index == null) {
+                index = build();
+            }
+            return index;
+        }
+    }
+
+    private StationLineIndex build() {
+        StationLineIndex built = new StationLineIndex();
+        for (Line line : FreshReads.require(lineDao::findAll)) {
+            built.replace(line);
+        }
+        return built;
+    }
+}
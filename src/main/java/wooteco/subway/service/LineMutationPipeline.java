@@ -0,0 +1,236 @@
+package wooteco.subway.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.dao.LineHistoryDao;
+import wooteco.subway.dao.SectionDao;
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.LineChangedEvent;
+import wooteco.subway.domain.NetworkReplacedEvent;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+import wooteco.subway.dto.SectionRequest;
+import wooteco.subway.exception.EmptyResultException;
+
+@Service
+public class LineMutationPipeline {
+    private static final int MAX_BATCH_SIZE = 64;
+    private static final int MAX_VERSION_ATTEMPTS = 3;
+
+    private final LineDao lineDao;
+    private final StationDao stationDao;
+    private final SectionDao sectionDao;
+    private final LineHistoryDao lineHistoryDao;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService lineWriterPool;
+    private final Map<Long, LineWriter> writers = new ConcurrentHashMap<>();
+
+    public LineMutationPipeline(LineDao lineDao, StationDao stationDao, SectionDao sectionDao,
+        LineHistoryDao lineHistoryDao, PlatformTransactionManager transactionManager,
+        ApplicationEventPublisher eventPublisher, @Qualifier("lineWriterPool") ExecutorService lineWriterPool) {
+        this.lineDao = lineDao;
+        this.stationDao = stationDao;
+        this.sectionDao = sectionDao;
+        this.lineHistoryDao = lineHistoryDao;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.lineWriterPool = lineWriterPool;
+    }
+
+    public CompletableFuture<Void> insertSection(Long lineId, SectionRequest sectionRequest) {
+        return submit(lineId, new SectionCommand() {
+            @Override
+            void apply(LineWriter writer) {
+                writer.insertSection(sectionRequest);
+            }
+        });
+    }
+
+    public CompletableFuture<Void> deleteStation(Long lineId, Long stationId) {
+        return submit(lineId, new SectionCommand() {
+            @Override
+            void apply(LineWriter writer) {
+                writer.deleteStation(stationId);
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkReplaced(NetworkReplacedEvent event) {
+        writers.values().forEach(LineWriter::invalidate);
+    }
+
+    private CompletableFuture<Void> submit(Long lineId, SectionCommand command) {
+        writers.compute(lineId, (id, writer) -> {
+            LineWriter current = writer == null ? new LineWriter(id) : writer;
+            current.enqueue(command);
+            return current;
+        });
+        return command.result;
+    }
+
+    int activeWriters() {
+        return writers.size();
+    }
+
+    private abstract static class SectionCommand {
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        abstract void apply(LineWriter writer);
+    }
+
+    private class LineWriter {
+        private final Long lineId;
+        private final Queue<SectionCommand> commands = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private Line line;
+        private long version;
+        private volatile boolean invalidated;
+
+        LineWriter(Long lineId) {
+            this.lineId = lineId;
+        }
+
+        void invalidate() {
+            invalidated = true;
+        }
+
+        void enqueue(SectionCommand command) {
+            commands.add(command);
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                lineWriterPool.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            List<SectionCommand> batch = new ArrayList<>();
+            SectionCommand command;
+            while (batch.size() < MAX_BATCH_SIZE && (command = commands.poll()) != null) {
+                batch.add(command);
+            }
+            if (!batch.isEmpty()) {
+                commit(batch);
+            }
+            scheduled.set(false);
+            if (!commands.isEmpty()) {
+                schedule();
+                return;
+            }
+            writers.computeIfPresent(lineId,
+                (id, writer) -> writer == this && commands.isEmpty() && !scheduled.get() ? null : writer);
+        }
+
+        private void commit(List<SectionCommand> batch) {
+            List<Runnable> completions = new ArrayList<>();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!applyBatch(batch, completions)) {
+                        status.setRollbackOnly();
+                    }
+                });
+            } catch (RuntimeException exception) {
+                line = null;
+                batch.forEach(command -> command.result.completeExceptionally(exception));
+                return;
+            }
+            completions.forEach(Runnable::run);
+        }
+
+        private boolean applyBatch(List<SectionCommand> batch, List<Runnable> completions) {
+            completions.clear();
+            claimVersion();
+            boolean applied = false;
+            for (SectionCommand command : batch) {
+                try {
+                    command.apply(this);
+                    applied = true;
+                    completions.add(() -> command.result.complete(null));
+                } catch (IllegalArgumentException | EmptyResultException exception) {
+                    completions.add(() -> command.result.completeExceptionally(exception));
+                }
+            }
+            if (!applied) {
+                line = null;
+                return false;
+            }
+            sectionDao.update(line.getSections());
+            line = lineDao.findById(lineId)
+                .orElseThrow(() -> new EmptyResultException("해당 노선을 찾을 수 없습니다."));
+            version = line.getVersion();
+            lineHistoryDao.record(lineHistoryDao.nextRevision(), line);
+            eventPublisher.publishEvent(new LineChangedEvent(lineId));
+            return true;
+        }
+
+        private void claimVersion() {
+            if (invalidated) {
+                invalidated = false;
+                line = null;
+            }
+            for (int attempt = 0; attempt < MAX_VERSION_ATTEMPTS; attempt++) {
+                if (line == null) {
+                    line = lineDao.findById(lineId)
+                        .orElseThrow(() -> new EmptyResultException("해당 노선을 찾을 수 없습니다."));
+                    version = line.getVersion();
+                }
+                if (lineDao.compareAndIncrementVersion(lineId, version)) {
+                    version++;
+                    return;
+                }
+                line = null;
+            }
+            throw new OptimisticLockingFailureException("다른 요청이 노선을 수정하고 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        void insertSection(SectionRequest sectionRequest) {
+            Station upStation = findStationById(sectionRequest.getUpStationId());
+            Station downStation = findStationById(sectionRequest.getDownStationId());
+            Section section = new Section(upStation, downStation, sectionRequest.getDistance());
+
+            line.insertSection(section);
+            Long sectionId = sectionDao.save(section, lineId);
+            List<Section> sections = line.getSections().stream()
+                .map(each -> each == section ? Section.from(sectionId, each) : each)
+                .collect(Collectors.toList());
+            line = Line.from(line, sections);
+        }
+
+        void deleteStation(Long stationId) {
+            Station station = findStationById(stationId);
+            Long sectionId = line.deleteSection(station);
+            if (sectionId == -1L) {
+                throw new EmptyResultException("삭제할 구간을 찾지 못했습니다.");
+            }
+            sectionDao.delete(sectionId);
+        }
+
+        private Station findStationById(Long id) {
+            return stationDao.findById(id)
+                .orElseThrow(() -> new EmptyResultException("해당 역을 찾을 수 없습니다."));
+        }
+    }
+}
@@ -1,21 +1,37 @@
 package wooteco.subway.service;
 
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import wooteco.subway.dao.LineDao;
+import wooteco.subway.dao.LineHistoryDao;
 import wooteco.subway.dao.SectionDao;
 import wooteco.subway.dao.StationDao;
+import wooteco.subway.dao.breaker.FreshReads;
 import wooteco.subway.domain.Line;
+import wooteco.subway.domain.LineChangedEvent;
+import wooteco.subway.domain.NetworkReplacedEvent;
 import wooteco.subway.domain.Section;
 import wooteco.subway.domain.Station;
+import wooteco.subway.dto.DistanceResponse;
 import wooteco.subway.dto.LineRequest;
 import wooteco.subway.dto.LineResponse;
-import wooteco.subway.dto.SectionRequest;
+import wooteco.subway.dto.StationResponse;
 import wooteco.subway.exception.EmptyResultException;
 
 @Service
@@ -24,21 +40,30 @@ public class LineService {
     private final LineDao lineDao;
     private final StationDao stationDao;
     private final SectionDao sectionDao;
+    private final LineHistoryDao lineHistoryDao;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<Long, Line> lines = new ConcurrentHashMap<>();
+    private final AtomicLong lineGeneration = new AtomicLong();
 
-    public LineService(LineDao lineDao, StationDao stationDao, SectionDao sectionDao) {
+    public LineService(LineDao lineDao, StationDao stationDao, SectionDao sectionDao, LineHistoryDao lineHistoryDao,
+        ApplicationEventPublisher eventPublisher) {
         this.lineDao = lineDao;
         this.stationDao = stationDao;
         this.sectionDao = sectionDao;
+        this.lineHistoryDao = lineHistoryDao;
+        this.eventPublisher = eventPublisher;
     }
 
     public LineResponse save(LineRequest lineRequest) {
-        Line line = new Line(lineRequest.getName(), lineRequest.getColor());
-        Long savedLineId = lineDao.save(line);
-
+        Line line = new Line(lineRequest.getName(), lineRequest.getColor(), extraFareOf(lineRequest, 0));
         Station upStation = findStationById(lineRequest.getUpStationId());
         Station downStation = findStationById(lineRequest.getDownStationId());
+        Section section = new Section(upStation, downStation, lineRequest.getDistance());
 
-        sectionDao.save(new Section(upStation, downStation, lineRequest.getDistance()), savedLineId);
+        Long savedLineId = lineDao.save(line);
+        sectionDao.save(section, savedLineId);
+        recordHistory(savedLineId);
+        eventPublisher.publishEvent(new LineChangedEvent(savedLineId));
         return LineResponse.from(savedLineId, line);
     }
 
@@ -49,6 +74,13 @@ public class LineService {
             .orElseThrow(throwEmptyLineResultException());
     }
 
+    @Transactional(readOnly = true)
+    public LineResponse findById(Long id, String asOf) {
+        return lineHistoryDao.findById(id, toRevision(asOf))
+            .map(LineResponse::from)
+            .orElseThrow(throwEmptyLineResultException());
+    }
+
     @Transactional(readOnly = true)
     public List<LineResponse> findAll() {
         return lineDao.findAll().stream()
@@ -56,35 +88,91 @@ public class LineService {
             .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<LineResponse> findAll(String asOf) {
+        return lineHistoryDao.findAll(toRevision(asOf)).stream()
+            .map(LineResponse::from)
+            .collect(Collectors.toList());
+    }
+
+    private long toRevision(String asOf) {
+        if (asOf.matches("\\d+")) {
+            return Long.parseLong(asOf);
+        }
+        return lineHistoryDao.findRevisionAt(parseTime(asOf));
+    }
+
+    private LocalDateTime parseTime(String asOf) {
+        try {
+            TemporalAccessor parsed = DateTimeFormatter.ISO_DATE_TIME.parseBest(asOf, OffsetDateTime::from,
+                LocalDateTime::from);
+            if (parsed instanceof OffsetDateTime) {
+                return ((OffsetDateTime)parsed).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            }
+            return (LocalDateTime)parsed;
+        } catch (DateTimeParseException exception) {
+            throw new IllegalArgumentException("asOf는 변경 번호나 ISO-8601 형식의 시각이어야 합니다.");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public DistanceResponse findDistance(Long id, Long fromStationId, Long toStationId) {
+        Line line = findCachedLine(id);
+        Station from = findStationById(fromStationId);
+        Station to = findStationById(toStationId);
+        return new DistanceResponse(line.distanceBetween(from, to));
+    }
+
+    @Transactional(readOnly = true)
+    public List<StationResponse> findStationsBetween(Long id, Long fromStationId, Long toStationId) {
+        Line line = findCachedLine(id);
+        Station from = findStationById(fromStationId);
+        Station to = findStationById(toStationId);
+        return line.stationsBetween(from, to).stream()
+            .map(StationResponse::from)
+            .collect(Collectors.toList());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLineChanged(LineChangedEvent event) {
+        lineGeneration.incrementAndGet();
+        lines.remove(event.getLineId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkReplaced(NetworkReplacedEvent event) {
+        lineGeneration.incrementAndGet();
+        lines.clear();
+    }
+
     public boolean deleteById(Long id) {
-        return lineDao.deleteById(id);
+        boolean deleted = lineDao.deleteById(id);
+        if (deleted) {
+            lineHistoryDao.recordDeleted(lineHistoryDao.nextRevision(), id);
+            eventPublisher.publishEvent(new LineChangedEvent(id));
+        }
+        return deleted;
     }
 
     public boolean updateById(Long id, LineRequest lineRequest) {
         Line line = findLineById(id);
 
-        line.update(lineRequest.getName(), lineRequest.getColor());
-        return lineDao.updateById(id, line);
+        line.update(lineRequest.getName(), lineRequest.getColor(), extraFareOf(lineRequest, line.getExtraFare()));
+        boolean updated = lineDao.updateById(id, line);
+        lineHistoryDao.record(lineHistoryDao.nextRevision(), line);
+        eventPublisher.publishEvent(new LineChangedEvent(id));
+        return updated;
     }
 
-    public void insertSection(Long id, SectionRequest sectionRequest) {
-        Line line = findLineById(id);
-        Station upStation = findStationById(sectionRequest.getUpStationId());
-        Station downStation = findStationById(sectionRequest.getDownStationId());
-        Section section = new Section(upStation, downStation, sectionRequest.getDistance());
-
-        line.insertSection(section);
-        sectionDao.update(line.getSections());
-        sectionDao.save(section, line.getId());
+    private int extraFareOf(LineRequest lineRequest, int defaultExtraFare) {
+        if (lineRequest.getExtraFare() == null) {
+            return defaultExtraFare;
+        }
+        return lineRequest.getExtraFare();
     }
 
-    public void deleteStation(Long lineId, Long stationId) {
-        Station station = findStationById(stationId);
-        Line line = findLineById(lineId);
-        Long sectionId = line.deleteSection(station);
-        checkEmptyResult(sectionId);
-        sectionDao.update(line.getSections());
-        sectionDao.delete(sectionId);
+    private void recordHistory(Long lineId) {
+        lineHistoryDao.record(lineHistoryDao.nextRevision(), findLineById(lineId));
     }
 
     private Station findStationById(Long id) {
@@ -92,17 +180,22 @@ public class LineService {
             .orElseThrow((throwEmptyStationException()));
     }
 
+    private Line findCachedLine(Long id) {
+        Line cached = lines.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = lineGeneration.get();
+        Line line = FreshReads.require(() -> findLineById(id));
+        lines.compute(id, (key, current) -> lineGeneration.get() == generation ? line : current);
+        return line;
+    }
+
     private Line findLineById(Long id) {
         return lineDao.findById(id)
             .orElseThrow(throwEmptyLineResultException());
     }
 
-    private void checkEmptyResult(Long sectionId) {
-        if (sectionId == -1L) {
-            throw new EmptyResultException("삭제할 구간을 찾지 못했습니다.");
-        }
-    }
-
     private Supplier<EmptyResultException> throwEmptyStationException() {
         return () -> new EmptyResultException("해당 역을 찾을 수 없습니다.");
     }
@@ -0,0 +1,199 @@
+package wooteco.subway.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.ClassPathBeanDefinitionScanner;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Profiles;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Service;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import wooteco.subway.ChangeFeedConfig;
+import wooteco.subway.CircuitBreakerConfig;
+import wooteco.subway.NamespaceContextConfig;
+import wooteco.subway.dao.NamespaceDao;
+import wooteco.subway.domain.Namespace;
+import wooteco.subway.dto.NamespaceRequest;
+import wooteco.subway.dto.NamespaceResponse;
+import wooteco.subway.exception.EmptyResultException;
+
+@Service
+public class NamespaceService {
+    private static final String NOT_FOUND_MESSAGE = "존재하지 않는 네트워크입니다.";
+    private static final Profiles STORAGE_PROFILES = Profiles.of("memory | journal | sharded");
+
+    private final NamespaceDao namespaceDao;
+    private final DataSourceProperties dataSourceProperties;
+    private final ConfigurableEnvironment environment;
+    private final ForkJoinPool analysisPool;
+    private final ExecutorService lineWriterPool;
+    private final String urlTemplate;
+    private final Map<String, CompletableFuture<AnnotationConfigApplicationContext>> loaded =
+        new ConcurrentHashMap<>();
+
+    public NamespaceService(NamespaceDao namespaceDao, DataSourceProperties dataSourceProperties,
+        ConfigurableEnvironment environment, ForkJoinPool analysisPool,
+        @Qualifier("lineWriterPool") ExecutorService lineWriterPool,
+        @Value("${subway.network.url-template:jdbc:h2:file:./networks/network-%s}") String urlTemplate) {
+        this.namespaceDao = namespaceDao;
+        this.dataSourceProperties = dataSourceProperties;
+        this.environment = environment;
+        this.analysisPool = analysisPool;
+        this.lineWriterPool = lineWriterPool;
+        this.urlTemplate = urlTemplate;
+    }
+
+    public NamespaceResponse create(NamespaceRequest namespaceRequest) {
+        Namespace namespace = new Namespace(namespaceRequest.getId(), namespaceRequest.getName());
+        namespaceDao.save(namespace);
+        try {
+            context(namespace.getId(), () -> open(namespace, true));
+        } catch (RuntimeException exception) {
+            namespaceDao.deleteById(namespace.getId());
+            throw exception;
+        }
+        return NamespaceResponse.of(namespace, true);
+    }
+
+    public List<NamespaceResponse> findAll() {
+        return namespaceDao.findAll().stream()
+            .map(namespace -> NamespaceResponse.of(namespace, isLoaded(namespace.getId())))
+            .collect(Collectors.toList());
+    }
+
+    public void load(String id) {
+        context(id);
+    }
+
+    private boolean isLoaded(String id) {
+        CompletableFuture<AnnotationConfigApplicationContext> context = loaded.get(id);
+        return context != null && context.isDone() && !context.isCompletedExceptionally();
+    }
+
+    public boolean unload(String id) {
+        CompletableFuture<AnnotationConfigApplicationContext> context = loaded.remove(id);
+        if (context == null) {
+            return false;
+        }
+        try {
+            context.join().close();
+            return true;
+        } catch (CompletionException exception) {
+            return false;
+        }
+    }
+
+    public boolean deleteById(String id) {
+        if (namespaceDao.findById(id).isEmpty()) {
+            return false;
+        }
+        context(id).getBean(JdbcTemplate.class).execute("DROP ALL OBJECTS DELETE FILES");
+        unload(id);
+        return namespaceDao.deleteById(id);
+    }
+
+    public <T> T resolve(String id, Class<T> type, T defaultBean) {
+        if (id == null) {
+            return defaultBean;
+        }
+        return context(id).getBean(type);
+    }
+
+    private AnnotationConfigApplicationContext context(String id) {
+        return context(id, () -> open(namespaceDao.findById(id)
+            .orElseThrow(() -> new EmptyResultException(NOT_FOUND_MESSAGE)), false));
+    }
+
+    private AnnotationConfigApplicationContext context(String id,
+        Supplier<AnnotationConfigApplicationContext> opener) {
+        CompletableFuture<AnnotationConfigApplicationContext> opening = new CompletableFuture<>();
+        CompletableFuture<AnnotationConfigApplicationContext> existing = loaded.putIfAbsent(id, opening);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            opening.complete(opener.get());
+        } catch (RuntimeException exception) {
+            loaded.remove(id, opening);
+            opening.completeExceptionally(exception);
+            throw exception;
+        }
+        return opening.join();
+    }
+
+    private AnnotationConfigApplicationContext await(CompletableFuture<AnnotationConfigApplicationContext> context) {
+        try {
+            return context.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    private AnnotationConfigApplicationContext open(Namespace namespace, boolean fresh) {
+        if (environment.acceptsProfiles(STORAGE_PROFILES)) {
+            throw new UnsupportedOperationException("memory, journal, sharded 저장소에서는 네트워크를 지원하지 않습니다.");
+        }
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .url(String.format(urlTemplate, namespace.getId()))
+            .build();
+        dataSource.setPoolName("network-" + namespace.getId());
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        StandardEnvironment contextEnvironment = new StandardEnvironment();
+        contextEnvironment.merge(environment);
+        context.setEnvironment(contextEnvironment);
+        try {
+            if (fresh) {
+                new JdbcTemplate(dataSource).execute("DROP ALL OBJECTS");
+            }
+            new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+            context.registerBean("networkDataSource", HikariDataSource.class, () -> dataSource,
+                definition -> definition.setDestroyMethodName("close"));
+            context.registerBean("dataSource", DataSource.class, () -> new LazyConnectionDataSourceProxy(dataSource),
+                definition -> definition.setPrimary(true));
+            context.getBeanFactory().registerSingleton("analysisPool", analysisPool);
+            context.getBeanFactory().registerSingleton("lineWriterPool", lineWriterPool);
+            context.register(NamespaceContextConfig.class, ChangeFeedConfig.class, CircuitBreakerConfig.class);
+            ClassPathBeanDefinitionScanner scanner = new ClassPathBeanDefinitionScanner(context);
+            scanner.addExcludeFilter(new AssignableTypeFilter(NamespaceService.class));
+            scanner.addExcludeFilter(new AssignableTypeFilter(NamespaceDao.class));
+            scanner.scan("wooteco.subway.dao", "wooteco.subway.service");
+            context.refresh();
+            return context;
+        } catch (RuntimeException exception) {
+            context.close();
+            dataSource.close();
+            throw exception;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        List.copyOf(loaded.keySet()).forEach(this::unload);
+    }
+}
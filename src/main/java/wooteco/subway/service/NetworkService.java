@@ -0,0 +1,107 @@
+package wooteco.subway.service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.dao.breaker.FreshReads;
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.LineChangedEvent;
+import wooteco.subway.domain.NetworkReplacedEvent;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.index.NetworkConnectivity;
+import wooteco.subway.dto.ComponentResponse;
+import wooteco.subway.dto.NetworkComponentsResponse;
+
+@Service
+public class NetworkService {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final LineDao lineDao;
+    private final Object loadMonitor = new Object();
+    private volatile NetworkConnectivity connectivity;
+
+    public NetworkService(LineDao lineDao) {
+        this.lineDao = lineDao;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLineChanged(LineChangedEvent event) {
+        Long lineId = event.getLineId();
+        try {
+            NetworkConnectivity loadedConnectivity = loadedConnectivity();
+            synchronized (loadedConnectivity) {
+                FreshReads.require(() -> lineDao.findById(lineId))
+                    .ifPresentOrElse(line -> loadedConnectivity.replace(lineId, stationIds(line)),
+                        () -> loadedConnectivity.remove(lineId));
+            }
+        } catch (RuntimeException exception) {
+            discard();
+            logger.warn(String.format("%d번 노선의 변경을 연결 정보에 반영하지 못해 연결 정보를 다시 불러옵니다.", lineId),
+                exception);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkReplaced(NetworkReplacedEvent event) {
+        NetworkConnectivity rebuilt;
+        try {
+            rebuilt = build();
+        } catch (RuntimeException exception) {
+            discard();
+            logger.warn("노선 목록을 다시 읽지 못해 연결 정보를 다시 불러옵니다.", exception);
+            return;
+        }
+        synchronized (loadMonitor) {
+            connectivity = rebuilt;
+        }
+    }
+
+    private void discard() {
+        synchronized (loadMonitor) {
+            connectivity = null;
+        }
+    }
+
+    public boolean connected(Long sourceId, Long targetId) {
+        return loadedConnectivity().connected(sourceId, targetId);
+    }
+
+    public NetworkComponentsResponse findComponents() {
+        List<ComponentResponse> components = loadedConnectivity().components().stream()
+            .map(ComponentResponse::from)
+            .collect(Collectors.toList());
+        return new NetworkComponentsResponse(components.size() <= 1, components);
+    }
+
+    private NetworkConnectivity loadedConnectivity() {
+        NetworkConnectivity loaded = connectivity;
+        if (loaded != null) {
+            return loaded;
+        }
+        synchronized (loadMonitor) {
+            if (connectivity == null) {
+                connectivity = build();
+            }
+            return connectivity;
+        }
+    }
+
+    private NetworkConnectivity build() {
+        NetworkConnectivity built = new NetworkConnectivity();
+        for (Line line : FreshReads.require(lineDao::findAll)) {
+            built.replace(line.getId(), stationIds(line));
+        }
+        return built;
+    }
+
+    private long[] stationIds(Line line) {
+        return line.getStations().stream()
+            .mapToLong(Station::getId)
+            .toArray();
+    }
+}
@@ -0,0 +1,72 @@
+package wooteco.subway.service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.path.McRaptor;
+import wooteco.subway.domain.path.RouteNetwork;
+import wooteco.subway.dto.JourneyResponse;
+import wooteco.subway.exception.EmptyResultException;
+
+@Service
+@Transactional(readOnly = true)
+public class PathService {
+    private static final int MAX_ROUNDS = 8;
+
+    private final LineDao lineDao;
+    private final StationDao stationDao;
+    private final LineIndexService lineIndexService;
+    private final NetworkService networkService;
+
+    public PathService(LineDao lineDao, StationDao stationDao, LineIndexService lineIndexService,
+        NetworkService networkService) {
+        this.lineDao = lineDao;
+        this.stationDao = stationDao;
+        this.lineIndexService = lineIndexService;
+        this.networkService = networkService;
+    }
+
+    public List<JourneyResponse> findParetoPaths(Long sourceId, Long targetId) {
+        checkStations(sourceId, targetId);
+        if (!networkService.connected(sourceId, targetId)) {
+            return Collections.emptyList();
+        }
+        Set<Long> reachableLineIds = lineIndexService.findReachableLineIds(sourceId);
+        if (reachableLineIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Line> lines = lineDao.findAll().stream()
+            .filter(line -> reachableLineIds.contains(line.getId()))
+            .collect(Collectors.toList());
+        RouteNetwork network = RouteNetwork.from(lines);
+        if (!network.contains(sourceId) || !network.contains(targetId)) {
+            return Collections.emptyList();
+        }
+
+        McRaptor raptor = new McRaptor(network, MAX_ROUNDS);
+        return raptor.search(network.indexOf(sourceId), network.indexOf(targetId)).stream()
+            .map(JourneyResponse::from)
+            .collect(Collectors.toList());
+    }
+
+    private void checkStations(Long sourceId, Long targetId) {
+        if (sourceId.equals(targetId)) {
+            throw new IllegalArgumentException("출발역과 도착역이 같을 수 없습니다.");
+        }
+        findStationById(sourceId);
+        findStationById(targetId);
+    }
+
+    private void findStationById(Long id) {
+        stationDao.findById(id)
+            .orElseThrow(() -> new EmptyResultException("해당 역을 찾을 수 없습니다."));
+    }
+}
@@ -0,0 +1,94 @@
+package wooteco.subway.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.graph.Reachability;
+import wooteco.subway.domain.graph.StationGraph;
+import wooteco.subway.dto.CoverageResponse;
+import wooteco.subway.dto.ReachableStationResponse;
+import wooteco.subway.exception.EmptyResultException;
+
+@Service
+@Transactional(readOnly = true)
+public class ReachabilityService {
+    private final LineDao lineDao;
+    private final StationDao stationDao;
+
+    public ReachabilityService(LineDao lineDao, StationDao stationDao) {
+        this.lineDao = lineDao;
+        this.stationDao = stationDao;
+    }
+
+    public List<ReachableStationResponse> findReachable(Long stationId, int maxDistance) {
+        checkMaxDistance(maxDistance);
+        Station station = findStationById(stationId);
+        StationGraph graph = StationGraph.from(lineDao.findAll());
+        if (!graph.contains(stationId)) {
+            return List.of(ReachableStationResponse.of(station, 0));
+        }
+
+        Reachability reachability = Reachability.of(graph, graph.indexOf(stationId), maxDistance);
+        List<ReachableStationResponse> responses = new ArrayList<>();
+        for (int i = 0; i < reachability.size(); i++) {
+            responses.add(ReachableStationResponse.of(graph.station(reachability.node(i)), reachability.distance(i)));
+        }
+        return responses;
+    }
+
+    public CoverageResponse findCoverage(List<Long> stationIds, int maxDistance) {
+        checkMaxDistance(maxDistance);
+        List<Long> sourceIds = stationIds.stream()
+            .distinct()
+            .collect(Collectors.toList());
+        sourceIds.forEach(this::findStationById);
+        StationGraph graph = StationGraph.from(lineDao.findAll());
+        List<Long> graphSourceIds = sourceIds.stream()
+            .filter(graph::contains)
+            .collect(Collectors.toList());
+
+        List<Reachability> reachabilities = graphSourceIds.parallelStream()
+            .map(sourceId -> Reachability.of(graph, graph.indexOf(sourceId), maxDistance))
+            .collect(Collectors.toList());
+
+        Map<Long, Integer> reachableCounts = new LinkedHashMap<>();
+        sourceIds.forEach(sourceId -> reachableCounts.put(sourceId, 1));
+        for (int i = 0; i < graphSourceIds.size(); i++) {
+            reachableCounts.put(graphSourceIds.get(i), reachabilities.get(i).size());
+        }
+        return new CoverageResponse(reachableCounts, toCoveredStations(graph, reachabilities));
+    }
+
+    private List<ReachableStationResponse> toCoveredStations(StationGraph graph, List<Reachability> reachabilities) {
+        int[] distances = Reachability.merge(graph.nodeCount(), reachabilities);
+        List<ReachableStationResponse> stations = new ArrayList<>();
+        for (int node = 0; node < distances.length; node++) {
+            if (distances[node] != Integer.MAX_VALUE) {
+                stations.add(ReachableStationResponse.of(graph.station(node), distances[node]));
+            }
+        }
+        stations.sort(Comparator.comparingInt(ReachableStationResponse::getDistance));
+        return stations;
+    }
+
+    private void checkMaxDistance(int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("탐색 거리는 0이상이어야 합니다.");
+        }
+    }
+
+    private Station findStationById(Long id) {
+        return stationDao.findById(id)
+            .orElseThrow(() -> new EmptyResultException("해당 역을 찾을 수 없습니다."));
+    }
+}
@@ -0,0 +1,96 @@
+package wooteco.subway.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.domain.demand.DemandMatrix;
+import wooteco.subway.domain.demand.DemandMatrixReader;
+import wooteco.subway.domain.graph.StationGraph;
+import wooteco.subway.domain.simulation.OccupancyWriter;
+import wooteco.subway.domain.simulation.Simulation;
+import wooteco.subway.domain.simulation.SimulationOptions;
+import wooteco.subway.domain.simulation.SimulationResult;
+import wooteco.subway.dto.SimulationResponse;
+import wooteco.subway.exception.EmptyResultException;
+
+@Service
+public class SimulationService {
+    private static final int MAX_STORED_RESULTS = 20;
+
+    private final LineDao lineDao;
+    private final ForkJoinPool analysisPool;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SimulationOptions options = SimulationOptions.standard();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Path> occupancyFiles = new ConcurrentHashMap<>();
+
+    public SimulationService(LineDao lineDao, ForkJoinPool analysisPool,
+        PlatformTransactionManager transactionManager) {
+        this.lineDao = lineDao;
+        this.analysisPool = analysisPool;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public CompletableFuture<SimulationResponse> simulate(InputStream demandStream) {
+        StationGraph graph = readOnlyTransaction.execute(status -> StationGraph.from(lineDao.findAll()));
+        DemandMatrix matrix = new DemandMatrixReader(demandStream).read(graph);
+        return CompletableFuture.supplyAsync(() -> {
+            SimulationResult result = Simulation.prepare(graph, matrix, options).run();
+            Long id = sequence.incrementAndGet();
+            occupancyFiles.put(id, writeOccupancy(result));
+            evictOldResults(id);
+            return SimulationResponse.of(id, result);
+        }, analysisPool);
+    }
+
+    public Path findOccupancyFile(Long id) {
+        Path occupancyFile = occupancyFiles.get(id);
+        if (occupancyFile == null) {
+            throw new EmptyResultException("해당 시뮬레이션 결과를 찾을 수 없습니다.");
+        }
+        return occupancyFile;
+    }
+
+    private Path writeOccupancy(SimulationResult result) {
+        try {
+            Path occupancyFile = Files.createTempFile("subway-occupancy-", ".bin");
+            try (OutputStream outputStream = Files.newOutputStream(occupancyFile)) {
+                OccupancyWriter.write(result, outputStream);
+            }
+            return occupancyFile;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void evictOldResults(Long latestId) {
+        occupancyFiles.keySet().stream()
+            .filter(id -> id <= latestId - MAX_STORED_RESULTS)
+            .map(occupancyFiles::remove)
+            .filter(occupancyFile -> occupancyFile != null)
+            .forEach(this::deleteOccupancy);
+    }
+
+    private void deleteOccupancy(Path occupancyFile) {
+        try {
+            Files.deleteIfExists(occupancyFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package wooteco.subway.service;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.dao.LineHistoryDao;
+import wooteco.subway.dao.SnapshotDao;
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.dao.TimetableDao;
+import wooteco.subway.dao.snapshot.NetworkSnapshot;
+import wooteco.subway.dao.snapshot.NetworkSnapshotFormat;
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.NetworkReplacedEvent;
+import wooteco.subway.domain.timetable.Trip;
+
+@Service
+@Transactional
+public class SnapshotService {
+    private final LineDao lineDao;
+    private final StationDao stationDao;
+    private final TimetableDao timetableDao;
+    private final SnapshotDao snapshotDao;
+    private final LineHistoryDao lineHistoryDao;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SnapshotService(LineDao lineDao, StationDao stationDao, TimetableDao timetableDao,
+        SnapshotDao snapshotDao, LineHistoryDao lineHistoryDao, ApplicationEventPublisher eventPublisher) {
+        this.lineDao = lineDao;
+        this.stationDao = stationDao;
+        this.timetableDao = timetableDao;
+        this.snapshotDao = snapshotDao;
+        this.lineHistoryDao = lineHistoryDao;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(readOnly = true)
+    public byte[] export() {
+        return NetworkSnapshotFormat.encode(NetworkSnapshot.of(stationDao.findAll(), lineDao.findAll()));
+    }
+
+    public void importSnapshot(byte[] snapshot) {
+        replace(NetworkSnapshotFormat.decode(ByteBuffer.wrap(snapshot)));
+    }
+
+    public boolean warmStart(Path path) {
+        if (!stationDao.findAll().isEmpty() || !lineDao.findAll().isEmpty()) {
+            return false;
+        }
+        replace(NetworkSnapshotFormat.map(path));
+        return true;
+    }
+
+    private void replace(NetworkSnapshot snapshot) {
+        List<Long> timetabledLineIds = timetableDao.findAll().stream()
+            .map(Trip::getLineId)
+            .distinct()
+            .collect(Collectors.toList());
+        List<Long> replacedLineIds = lineDao.findAll().stream()
+            .map(Line::getId)
+            .collect(Collectors.toList());
+        snapshotDao.replace(snapshot);
+        timetabledLineIds.forEach(timetableDao::deleteByLineId);
+        recordHistory(replacedLineIds);
+        eventPublisher.publishEvent(new NetworkReplacedEvent());
+    }
+
+    private void recordHistory(List<Long> replacedLineIds) {
+        long revision = lineHistoryDao.nextRevision();
+        replacedLineIds.forEach(lineId -> lineHistoryDao.recordDeleted(revision, lineId));
+        lineDao.findAll().forEach(line -> lineHistoryDao.record(revision, line));
+    }
+}
@@ -1,29 +1,61 @@
 package wooteco.subway.service;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import wooteco.subway.dao.StationDao;
+import wooteco.subway.dao.breaker.FreshReads;
+import wooteco.subway.domain.NetworkReplacedEvent;
 import wooteco.subway.domain.Station;
+import wooteco.subway.domain.StationChangedEvent;
+import wooteco.subway.domain.geo.Coordinate;
+import wooteco.subway.domain.geo.StationKdTree;
+import wooteco.subway.domain.search.StationNameTrie;
+import wooteco.subway.dto.NearbyStationResponse;
 import wooteco.subway.dto.StationRequest;
 import wooteco.subway.dto.StationResponse;
 
 @Service
 @Transactional
 public class StationService {
+    private static final int MAX_NEAREST = 100;
+    private static final int MAX_SEARCH_RESULTS = 50;
+    private static final String IN_USE_MESSAGE = "노선에 등록된 역은 삭제할 수 없습니다.";
 
+    private final Logger logger = LoggerFactory.getLogger(getClass());
     private final StationDao stationDao;
+    private final LineIndexService lineIndexService;
+    private final ApplicationEventPublisher eventPublisher;
+    private StationKdTree locations = new StationKdTree();
+    private StationNameTrie names = new StationNameTrie();
+    private final ReadWriteLock indexLock = new ReentrantReadWriteLock();
+    private volatile boolean indexLoaded;
 
-    public StationService(StationDao stationDao) {
+    public StationService(StationDao stationDao, LineIndexService lineIndexService,
+        ApplicationEventPublisher eventPublisher) {
         this.stationDao = stationDao;
+        this.lineIndexService = lineIndexService;
+        this.eventPublisher = eventPublisher;
     }
 
     public StationResponse save(StationRequest stationRequest) {
-        Station station = new Station(stationRequest.getName());
+        Coordinate coordinate = Coordinate.of(stationRequest.getLatitude(), stationRequest.getLongitude());
+        Station station = new Station(stationRequest.getName(), coordinate);
         Station newStation = stationDao.save(station);
+        eventPublisher.publishEvent(new StationChangedEvent(newStation.getId()));
         return StationResponse.from(newStation);
     }
 
@@ -35,7 +67,140 @@ public class StationService {
             .collect(Collectors.toList());
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<NearbyStationResponse> findNearest(double latitude, double longitude, int k) {
+        if (k < 1 || k > MAX_NEAREST) {
+            throw new IllegalArgumentException(
+                String.format("조회할 역의 개수는 1이상 %d이하여야 합니다.", MAX_NEAREST));
+        }
+        Coordinate origin = new Coordinate(latitude, longitude);
+        return readIndex(() -> locations.nearest(origin, k)).stream()
+            .map(NearbyStationResponse::from)
+            .collect(Collectors.toList());
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<StationResponse> findWithin(double minLatitude, double minLongitude, double maxLatitude,
+        double maxLongitude) {
+        Coordinate southWest = new Coordinate(minLatitude, minLongitude);
+        Coordinate northEast = new Coordinate(maxLatitude, maxLongitude);
+        return readIndex(() -> locations.within(southWest, northEast)).stream()
+            .map(StationResponse::from)
+            .collect(Collectors.toList());
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<StationResponse> search(String query, int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException(
+                String.format("검색 결과 개수는 1이상 %d이하여야 합니다.", MAX_SEARCH_RESULTS));
+        }
+        return readIndex(() -> names.search(query, limit)).stream()
+            .map(StationResponse::from)
+            .collect(Collectors.toList());
+    }
+
     public boolean deleteById(Long id) {
-        return stationDao.deleteById(id);
+        if (lineIndexService.isInUse(id)) {
+            throw new IllegalArgumentException(IN_USE_MESSAGE);
+        }
+        boolean deleted;
+        try {
+            deleted = stationDao.deleteById(id);
+        } catch (DataIntegrityViolationException exception) {
+            throw new IllegalArgumentException(IN_USE_MESSAGE);
+        }
+        if (deleted) {
+            eventPublisher.publishEvent(new StationChangedEvent(id));
+        }
+        return deleted;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStationChanged(StationChangedEvent event) {
+        Long stationId = event.getStationId();
+        Optional<Station> station;
+        try {
+            station = FreshReads.require(() -> stationDao.findById(stationId));
+        } catch (RuntimeException exception) {
+            indexLoaded = false;
+            logger.warn(String.format("%d번 역의 변경을 색인에 반영하지 못해 색인을 다시 불러옵니다.", stationId),
+                exception);
+            return;
+        }
+        updateIndex(() -> {
+            locations.remove(stationId);
+            names.remove(stationId);
+            station.ifPresent(found -> {
+                locations.insert(found);
+                names.insert(found);
+            });
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkReplaced(NetworkReplacedEvent event) {
+        List<Station> stations;
+        try {
+            stations = FreshReads.require(stationDao::findAll);
+        } catch (RuntimeException exception) {
+            indexLoaded = false;
+            logger.warn("역 목록을 다시 읽지 못해 색인을 다시 불러옵니다.", exception);
+            return;
+        }
+        indexLock.writeLock().lock();
+        try {
+            locations = new StationKdTree();
+            names = new StationNameTrie();
+            insertAll(stations);
+            indexLoaded = true;
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    private <T> T readIndex(Supplier<T> query) {
+        loadIndex();
+        indexLock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    private void updateIndex(Runnable update) {
+        loadIndex();
+        indexLock.writeLock().lock();
+        try {
+            update.run();
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    private void loadIndex() {
+        if (indexLoaded) {
+            return;
+        }
+        indexLock.writeLock().lock();
+        try {
+            if (!indexLoaded) {
+                List<Station> stations = FreshReads.require(stationDao::findAll);
+                locations = new StationKdTree();
+                names = new StationNameTrie();
+                insertAll(stations);
+                indexLoaded = true;
+            }
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    private void insertAll(List<Station> stations) {
+        for (Station station : stations) {
+            locations.insert(station);
+            names.insert(station);
+        }
     }
 }
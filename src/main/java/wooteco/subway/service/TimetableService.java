@@ -0,0 +1,177 @@
+package wooteco.subway.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.dao.TimetableDao;
+import wooteco.subway.dao.breaker.FreshReads;
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.LineChangedEvent;
+import wooteco.subway.domain.NetworkReplacedEvent;
+import wooteco.subway.domain.timetable.RaptorWorkspace;
+import wooteco.subway.domain.timetable.ServiceTime;
+import wooteco.subway.domain.timetable.TimetableNetwork;
+import wooteco.subway.domain.timetable.TimetableRaptor;
+import wooteco.subway.domain.timetable.Trip;
+import wooteco.subway.domain.timetable.TripDirection;
+import wooteco.subway.dto.ArrivalResponse;
+import wooteco.subway.dto.RideResponse;
+import wooteco.subway.dto.StationResponse;
+import wooteco.subway.dto.TimetableRequest;
+import wooteco.subway.dto.TripRequest;
+import wooteco.subway.exception.EmptyResultException;
+
+@Service
+public class TimetableService {
+    private static final int MAX_ROUNDS = 8;
+
+    private final LineDao lineDao;
+    private final StationDao stationDao;
+    private final TimetableDao timetableDao;
+    private final NetworkService networkService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Object raptorMonitor = new Object();
+    private TimetableRaptor raptor;
+    private long raptorGeneration;
+
+    public TimetableService(LineDao lineDao, StationDao stationDao, TimetableDao timetableDao,
+        NetworkService networkService, ApplicationEventPublisher eventPublisher) {
+        this.lineDao = lineDao;
+        this.stationDao = stationDao;
+        this.timetableDao = timetableDao;
+        this.networkService = networkService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public void replaceTimetable(Long lineId, TimetableRequest timetableRequest) {
+        Line line = lineDao.findById(lineId)
+            .orElseThrow(() -> new EmptyResultException("해당 노선을 찾을 수 없습니다."));
+        List<Trip> trips = new ArrayList<>();
+        for (TripRequest tripRequest : timetableRequest.getTrips()) {
+            trips.add(toTrip(line, tripRequest));
+        }
+
+        timetableDao.deleteByLineId(lineId);
+        trips.forEach(timetableDao::save);
+        eventPublisher.publishEvent(new LineChangedEvent(lineId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLineChanged(LineChangedEvent event) {
+        invalidateRaptor();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkReplaced(NetworkReplacedEvent event) {
+        invalidateRaptor();
+    }
+
+    private void invalidateRaptor() {
+        synchronized (raptorMonitor) {
+            raptorGeneration++;
+            raptor = null;
+        }
+    }
+
+    private Trip toTrip(Line line, TripRequest tripRequest) {
+        if (tripRequest.getDepartures().size() != line.getStations().size()) {
+            throw new IllegalArgumentException("시간표의 역 수가 노선의 역 수와 다릅니다.");
+        }
+        List<Integer> departures = tripRequest.getDepartures().stream()
+            .map(ServiceTime::parse)
+            .collect(Collectors.toList());
+        return Trip.of(line.getId(), toDirection(tripRequest.getDirection()), departures);
+    }
+
+    private TripDirection toDirection(String direction) {
+        try {
+            return TripDirection.valueOf(direction.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("운행 방향은 UP 또는 DOWN 이어야 합니다.");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ArrivalResponse findEarliestArrival(Long sourceId, Long targetId, String departureTime) {
+        if (sourceId.equals(targetId)) {
+            throw new IllegalArgumentException("출발역과 도착역이 같을 수 없습니다.");
+        }
+        findStationById(sourceId);
+        findStationById(targetId);
+        int departure = ServiceTime.parse(departureTime);
+        if (!networkService.connected(sourceId, targetId)) {
+            throw noArrival();
+        }
+
+        TimetableRaptor currentRaptor = currentRaptor();
+        TimetableNetwork network = currentRaptor.getNetwork();
+        if (!network.contains(sourceId) || !network.contains(targetId)) {
+            throw noArrival();
+        }
+        RaptorWorkspace workspace = currentRaptor.search(network.indexOf(sourceId), network.indexOf(targetId),
+            departure);
+        if (!workspace.isReached()) {
+            throw noArrival();
+        }
+        return toArrivalResponse(network, workspace, departure);
+    }
+
+    private TimetableRaptor currentRaptor() {
+        long generation;
+        synchronized (raptorMonitor) {
+            if (raptor != null) {
+                return raptor;
+            }
+            generation = raptorGeneration;
+        }
+        TimetableRaptor loaded = load();
+        synchronized (raptorMonitor) {
+            if (raptorGeneration == generation && raptor == null) {
+                raptor = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    private TimetableRaptor load() {
+        return new TimetableRaptor(TimetableNetwork.from(FreshReads.require(lineDao::findAll), timetableDao.findAll()), MAX_ROUNDS);
+    }
+
+    private ArrivalResponse toArrivalResponse(TimetableNetwork network, RaptorWorkspace workspace, int departure) {
+        List<RideResponse> rides = new ArrayList<>();
+        int arrival = departure;
+        for (int leg = 0; leg < workspace.legCount(); leg++) {
+            int route = workspace.legRoute(leg);
+            int trip = workspace.legTrip(leg);
+            int board = workspace.legBoardPosition(leg);
+            int alight = workspace.legAlightPosition(leg);
+            Line line = network.line(route);
+            arrival = network.time(route, trip, alight);
+            rides.add(new RideResponse(line.getId(), line.getName(),
+                StationResponse.from(network.stop(network.routeStop(route, board))),
+                ServiceTime.format(network.time(route, trip, board)),
+                StationResponse.from(network.stop(network.routeStop(route, alight))),
+                ServiceTime.format(arrival)));
+        }
+        return new ArrivalResponse(ServiceTime.format(departure), ServiceTime.format(arrival), rides);
+    }
+
+    private void findStationById(Long id) {
+        stationDao.findById(id)
+            .orElseThrow(() -> new EmptyResultException("해당 역을 찾을 수 없습니다."));
+    }
+
+    private EmptyResultException noArrival() {
+        return new EmptyResultException("해당 시각 이후 도착할 수 있는 경로가 없습니다.");
+    }
+}
@@ -0,0 +1,38 @@
+package wooteco.subway.ui;
+
+import java.net.URI;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import wooteco.subway.dto.AnalysisJobResponse;
+import wooteco.subway.service.AnalyticsService;
+
+@RestController
+@RequestMapping("/analytics")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    public AnalyticsController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @PostMapping("/centrality")
+    public ResponseEntity<AnalysisJobResponse> startCentrality() {
+        AnalysisJobResponse jobResponse = analyticsService.startCentrality();
+        return ResponseEntity.accepted()
+            .location(URI.create("/analytics/jobs/" + jobResponse.getId()))
+            .body(jobResponse);
+    }
+
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<AnalysisJobResponse> findJob(@PathVariable Long id) {
+        AnalysisJobResponse jobResponse = analyticsService.findJob(id);
+        return ResponseEntity.ok().body(jobResponse);
+    }
+}
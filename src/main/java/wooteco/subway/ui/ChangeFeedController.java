@@ -0,0 +1,25 @@
+package wooteco.subway.ui;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import wooteco.subway.dao.feed.ChangeFeedSubscriber;
+import wooteco.subway.dto.ChangeFeedResponse;
+
+@RestController
+@ConditionalOnProperty(name = "subway.change-feed.enabled", havingValue = "true", matchIfMissing = true)
+public class ChangeFeedController {
+
+    private final ChangeFeedSubscriber changeFeedSubscriber;
+
+    public ChangeFeedController(ChangeFeedSubscriber changeFeedSubscriber) {
+        this.changeFeedSubscriber = changeFeedSubscriber;
+    }
+
+    @GetMapping("/change-feed/metrics")
+    public ResponseEntity<ChangeFeedResponse> showMetrics() {
+        return ResponseEntity.ok(ChangeFeedResponse.from(changeFeedSubscriber.metrics()));
+    }
+}
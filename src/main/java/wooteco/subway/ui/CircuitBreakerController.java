@@ -0,0 +1,25 @@
+package wooteco.subway.ui;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import wooteco.subway.dao.breaker.CircuitBreaker;
+import wooteco.subway.dto.CircuitBreakerResponse;
+
+@RestController
+@ConditionalOnProperty(name = "subway.circuit-breaker.enabled", havingValue = "true", matchIfMissing = true)
+public class CircuitBreakerController {
+
+    private final CircuitBreaker databaseCircuitBreaker;
+
+    public CircuitBreakerController(CircuitBreaker databaseCircuitBreaker) {
+        this.databaseCircuitBreaker = databaseCircuitBreaker;
+    }
+
+    @GetMapping("/circuit-breaker")
+    public ResponseEntity<CircuitBreakerResponse> showCircuitBreaker() {
+        return ResponseEntity.ok(CircuitBreakerResponse.from(databaseCircuitBreaker));
+    }
+}
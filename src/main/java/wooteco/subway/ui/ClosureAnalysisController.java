@@ -0,0 +1,31 @@
+package wooteco.subway.ui;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import wooteco.subway.dto.ClosureImpactResponse;
+import wooteco.subway.dto.ClosureRequest;
+import wooteco.subway.service.ClosureAnalysisService;
+
+@RestController
+@RequestMapping("/analysis")
+public class ClosureAnalysisController {
+
+    private final ClosureAnalysisService closureAnalysisService;
+
+    public ClosureAnalysisController(ClosureAnalysisService closureAnalysisService) {
+        this.closureAnalysisService = closureAnalysisService;
+    }
+
+    @PostMapping("/closure")
+    public CompletableFuture<ResponseEntity<ClosureImpactResponse>> analyzeClosure(
+        @RequestBody ClosureRequest closureRequest) {
+        return closureAnalysisService.analyze(closureRequest)
+            .thenApply(response -> ResponseEntity.ok().body(response));
+    }
+}
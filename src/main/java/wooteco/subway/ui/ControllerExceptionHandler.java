@@ -8,14 +8,20 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import wooteco.subway.exception.CircuitOpenException;
 import wooteco.subway.exception.EmptyResultException;
+import wooteco.subway.exception.JobLimitExceededException;
 
 @ControllerAdvice
 public class ControllerExceptionHandler {
@@ -43,6 +49,51 @@ public class ControllerExceptionHandler {
         return ResponseEntity.badRequest().body(body);
     }
 
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> handleDataIntegrityViolationException(
+        DataIntegrityViolationException exception) {
+        logger.error(exception.getMessage());
+        Map<String, String> body = new HashMap<>();
+        body.put("message", "참조하는 데이터가 없거나 다른 데이터가 사용 중입니다.");
+        return ResponseEntity.badRequest().body(body);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> handleOptimisticLockingFailureException(
+        OptimisticLockingFailureException exception) {
+        logger.error(exception.getMessage());
+        Map<String, String> body = new HashMap<>();
+        body.put("message", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> handleCircuitOpenException(CircuitOpenException exception) {
+        logger.error(exception.getMessage());
+        Map<String, String> body = new HashMap<>();
+        body.put("message", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+            .body(body);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> handleJobLimitExceededException(JobLimitExceededException exception) {
+        logger.error(exception.getMessage());
+        Map<String, String> body = new HashMap<>();
+        body.put("message", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(body);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> handleUnsupportedOperationException(
+        UnsupportedOperationException exception) {
+        logger.error(exception.getMessage());
+        Map<String, String> body = new HashMap<>();
+        body.put("message", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).body(body);
+    }
+
     @ExceptionHandler
     public ResponseEntity<Map<String, List<String>>> handleValidateException(MethodArgumentNotValidException exception) {
         logger.error(exception.getMessage());
@@ -0,0 +1,25 @@
+package wooteco.subway.ui;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import wooteco.subway.dao.routing.ReplicaRoutingDataSource;
+import wooteco.subway.dto.DataSourceRoutingResponse;
+
+@RestController
+@ConditionalOnProperty("subway.datasource.replica-urls")
+public class DataSourceController {
+
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    public DataSourceController(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        this.replicaRoutingDataSource = replicaRoutingDataSource;
+    }
+
+    @GetMapping("/datasource/pools")
+    public ResponseEntity<DataSourceRoutingResponse> showPools() {
+        return ResponseEntity.ok(DataSourceRoutingResponse.from(replicaRoutingDataSource));
+    }
+}
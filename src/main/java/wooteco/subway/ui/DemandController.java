@@ -0,0 +1,29 @@
+package wooteco.subway.ui;
+
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import wooteco.subway.dto.DemandAssignmentResponse;
+import wooteco.subway.service.DemandService;
+
+@RestController
+@RequestMapping("/demand")
+public class DemandController {
+
+    private final DemandService demandService;
+
+    public DemandController(DemandService demandService) {
+        this.demandService = demandService;
+    }
+
+    @PostMapping(value = "/assignment", consumes = {"text/csv", "text/plain"})
+    public CompletableFuture<ResponseEntity<DemandAssignmentResponse>> assign(InputStream demandStream) {
+        return demandService.assign(demandStream)
+            .thenApply(response -> ResponseEntity.ok().body(response));
+    }
+}
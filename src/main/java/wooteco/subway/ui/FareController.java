@@ -0,0 +1,31 @@
+package wooteco.subway.ui;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import wooteco.subway.dto.FareBatchRequest;
+import wooteco.subway.dto.FareResponse;
+import wooteco.subway.service.FareService;
+
+@RestController
+@RequestMapping("/fares")
+public class FareController {
+
+    private final FareService fareService;
+
+    public FareController(FareService fareService) {
+        this.fareService = fareService;
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<FareResponse>> priceAll(@Validated @RequestBody FareBatchRequest fareBatchRequest) {
+        List<FareResponse> fareResponses = fareService.priceAll(fareBatchRequest);
+        return ResponseEntity.ok().body(fareResponses);
+    }
+}
@@ -0,0 +1,28 @@
+package wooteco.subway.ui;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import wooteco.subway.dto.InterchangeResponse;
+import wooteco.subway.service.LineIndexService;
+
+@RestController
+@RequestMapping("/interchanges")
+public class InterchangeController {
+
+    private final LineIndexService lineIndexService;
+
+    public InterchangeController(LineIndexService lineIndexService) {
+        this.lineIndexService = lineIndexService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<InterchangeResponse>> showInterchanges() {
+        List<InterchangeResponse> responses = lineIndexService.findInterchanges();
+        return ResponseEntity.ok().body(responses);
+    }
+}
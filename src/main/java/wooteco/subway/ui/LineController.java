@@ -2,6 +2,7 @@ package wooteco.subway.ui;
 
 import java.net.URI;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -15,42 +16,79 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import wooteco.subway.dto.DistanceResponse;
 import wooteco.subway.dto.LineRequest;
 import wooteco.subway.dto.LineResponse;
 import wooteco.subway.dto.SectionRequest;
+import wooteco.subway.dto.StationResponse;
+import wooteco.subway.dto.TimetableRequest;
+import wooteco.subway.service.LineMutationPipeline;
 import wooteco.subway.service.LineService;
+import wooteco.subway.service.NamespaceService;
+import wooteco.subway.service.TimetableService;
 
 @RestController
-@RequestMapping("/lines")
+@RequestMapping({"/lines", "/networks/{networkId}/lines"})
 public class LineController {
 
     private final LineService lineService;
+    private final TimetableService timetableService;
+    private final LineMutationPipeline lineMutationPipeline;
+    private final NamespaceService namespaceService;
 
-    public LineController(LineService lineService) {
+    public LineController(LineService lineService, TimetableService timetableService,
+        LineMutationPipeline lineMutationPipeline, NamespaceService namespaceService) {
         this.lineService = lineService;
+        this.timetableService = timetableService;
+        this.lineMutationPipeline = lineMutationPipeline;
+        this.namespaceService = namespaceService;
     }
 
     @PostMapping
-    public ResponseEntity<LineResponse> createLine(@Validated @RequestBody LineRequest lineRequest) {
-        LineResponse lineResponse = lineService.save(lineRequest);
-        return ResponseEntity.created(URI.create("/lines/" + lineResponse.getId())).body(lineResponse);
+    public ResponseEntity<LineResponse> createLine(@PathVariable(required = false) String networkId,
+        @Validated @RequestBody LineRequest lineRequest) {
+        LineResponse lineResponse = lineService(networkId).save(lineRequest);
+        return ResponseEntity.created(URI.create(prefix(networkId) + "/lines/" + lineResponse.getId()))
+            .body(lineResponse);
     }
 
     @GetMapping
-    public ResponseEntity<List<LineResponse>> showLines() {
-        List<LineResponse> lineResponses = lineService.findAll();
+    public ResponseEntity<List<LineResponse>> showLines(@PathVariable(required = false) String networkId,
+        @RequestParam(required = false) String asOf) {
+        if (asOf != null) {
+            return ResponseEntity.ok().body(lineService(networkId).findAll(asOf));
+        }
+        List<LineResponse> lineResponses = lineService(networkId).findAll();
         return ResponseEntity.ok().body(lineResponses);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<LineResponse> findLine(@PathVariable Long id) {
-        LineResponse lineResponse = lineService.findById(id);
+    public ResponseEntity<LineResponse> findLine(@PathVariable(required = false) String networkId,
+        @PathVariable Long id, @RequestParam(required = false) String asOf) {
+        if (asOf != null) {
+            return ResponseEntity.ok().body(lineService(networkId).findById(id, asOf));
+        }
+        LineResponse lineResponse = lineService(networkId).findById(id);
         return ResponseEntity.ok().body(lineResponse);
     }
 
+    @GetMapping("/{id}/distance")
+    public ResponseEntity<DistanceResponse> findDistance(@PathVariable(required = false) String networkId,
+        @PathVariable Long id, @RequestParam Long from, @RequestParam Long to) {
+        DistanceResponse distanceResponse = lineService(networkId).findDistance(id, from, to);
+        return ResponseEntity.ok().body(distanceResponse);
+    }
+
+    @GetMapping("/{id}/stations")
+    public ResponseEntity<List<StationResponse>> findStationsBetween(@PathVariable(required = false) String networkId,
+        @PathVariable Long id, @RequestParam Long from, @RequestParam Long to) {
+        List<StationResponse> stationResponses = lineService(networkId).findStationsBetween(id, from, to);
+        return ResponseEntity.ok().body(stationResponses);
+    }
+
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteLine(@PathVariable Long id) {
-        if (lineService.deleteById(id)) {
+    public ResponseEntity<Void> deleteLine(@PathVariable(required = false) String networkId, @PathVariable Long id) {
+        if (lineService(networkId).deleteById(id)) {
             return ResponseEntity.ok().build();
         }
 
@@ -58,8 +96,9 @@ public class LineController {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Void> updateLine(@PathVariable Long id, @RequestBody LineRequest lineRequest) {
-        if (lineService.updateById(id, lineRequest)) {
+    public ResponseEntity<Void> updateLine(@PathVariable(required = false) String networkId, @PathVariable Long id,
+        @RequestBody LineRequest lineRequest) {
+        if (lineService(networkId).updateById(id, lineRequest)) {
             return ResponseEntity.ok().build();
         }
 
@@ -67,14 +106,42 @@ public class LineController {
     }
 
     @PostMapping("/{id}/sections")
-    public ResponseEntity<Void> insertSection(@PathVariable Long id, @RequestBody SectionRequest sectionRequest) {
-        lineService.insertSection(id, sectionRequest);
-        return ResponseEntity.ok().build();
+    public CompletableFuture<ResponseEntity<Void>> insertSection(@PathVariable(required = false) String networkId,
+        @PathVariable Long id, @RequestBody SectionRequest sectionRequest) {
+        return lineMutationPipeline(networkId).insertSection(id, sectionRequest)
+            .thenApply(ignored -> ResponseEntity.ok().build());
     }
 
     @DeleteMapping("/{id}/sections")
-    public ResponseEntity<Void> deleteSection(@PathVariable Long id, @RequestParam Long stationId) {
-        lineService.deleteStation(id, stationId);
+    public CompletableFuture<ResponseEntity<Void>> deleteSection(@PathVariable(required = false) String networkId,
+        @PathVariable Long id, @RequestParam Long stationId) {
+        return lineMutationPipeline(networkId).deleteStation(id, stationId)
+            .thenApply(ignored -> ResponseEntity.ok().build());
+    }
+
+    @PutMapping("/{id}/timetable")
+    public ResponseEntity<Void> replaceTimetable(@PathVariable(required = false) String networkId,
+        @PathVariable Long id, @Validated @RequestBody TimetableRequest timetableRequest) {
+        timetableService(networkId).replaceTimetable(id, timetableRequest);
         return ResponseEntity.ok().build();
     }
+
+    private LineService lineService(String networkId) {
+        return namespaceService.resolve(networkId, LineService.class, lineService);
+    }
+
+    private TimetableService timetableService(String networkId) {
+        return namespaceService.resolve(networkId, TimetableService.class, timetableService);
+    }
+
+    private LineMutationPipeline lineMutationPipeline(String networkId) {
+        return namespaceService.resolve(networkId, LineMutationPipeline.class, lineMutationPipeline);
+    }
+
+    private String prefix(String networkId) {
+        if (networkId == null) {
+            return "";
+        }
+        return "/networks/" + networkId;
+    }
 }
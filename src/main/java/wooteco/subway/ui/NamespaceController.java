@@ -0,0 +1,63 @@
+package wooteco.subway.ui;
+
+import java.net.URI;
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import wooteco.subway.dto.NamespaceRequest;
+import wooteco.subway.dto.NamespaceResponse;
+import wooteco.subway.service.NamespaceService;
+
+@RestController
+@RequestMapping("/networks")
+public class NamespaceController {
+
+    private final NamespaceService namespaceService;
+
+    public NamespaceController(NamespaceService namespaceService) {
+        this.namespaceService = namespaceService;
+    }
+
+    @PostMapping
+    public ResponseEntity<NamespaceResponse> createNamespace(
+        @Validated @RequestBody NamespaceRequest namespaceRequest) {
+        NamespaceResponse namespaceResponse = namespaceService.create(namespaceRequest);
+        return ResponseEntity.created(URI.create("/networks/" + namespaceResponse.getId())).body(namespaceResponse);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<NamespaceResponse>> showNamespaces() {
+        return ResponseEntity.ok().body(namespaceService.findAll());
+    }
+
+    @PostMapping("/{id}/load")
+    public ResponseEntity<Void> loadNamespace(@PathVariable String id) {
+        namespaceService.load(id);
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping("/{id}/unload")
+    public ResponseEntity<Void> unloadNamespace(@PathVariable String id) {
+        if (namespaceService.unload(id)) {
+            return ResponseEntity.ok().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteNamespace(@PathVariable String id) {
+        if (namespaceService.deleteById(id)) {
+            return ResponseEntity.ok().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,26 @@
+package wooteco.subway.ui;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import wooteco.subway.dto.NetworkComponentsResponse;
+import wooteco.subway.service.NetworkService;
+
+@RestController
+@RequestMapping("/network")
+public class NetworkController {
+
+    private final NetworkService networkService;
+
+    public NetworkController(NetworkService networkService) {
+        this.networkService = networkService;
+    }
+
+    @GetMapping("/components")
+    public ResponseEntity<NetworkComponentsResponse> showComponents() {
+        NetworkComponentsResponse response = networkService.findComponents();
+        return ResponseEntity.ok().body(response);
+    }
+}
@@ -0,0 +1,54 @@
+package wooteco.subway.ui;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import wooteco.subway.dto.ArrivalResponse;
+import wooteco.subway.dto.JourneyResponse;
+import wooteco.subway.service.NamespaceService;
+import wooteco.subway.service.PathService;
+import wooteco.subway.service.TimetableService;
+
+@RestController
+@RequestMapping({"/paths", "/networks/{networkId}/paths"})
+public class PathController {
+
+    private final PathService pathService;
+    private final TimetableService timetableService;
+    private final NamespaceService namespaceService;
+
+    public PathController(PathService pathService, TimetableService timetableService,
+        NamespaceService namespaceService) {
+        this.pathService = pathService;
+        this.timetableService = timetableService;
+        this.namespaceService = namespaceService;
+    }
+
+    @GetMapping("/pareto")
+    public ResponseEntity<List<JourneyResponse>> findParetoPaths(@PathVariable(required = false) String networkId,
+        @RequestParam Long source, @RequestParam Long target) {
+        List<JourneyResponse> journeyResponses = pathService(networkId).findParetoPaths(source, target);
+        return ResponseEntity.ok().body(journeyResponses);
+    }
+
+    @GetMapping("/earliest")
+    public ResponseEntity<ArrivalResponse> findEarliestArrival(@PathVariable(required = false) String networkId,
+        @RequestParam Long source, @RequestParam Long target, @RequestParam String departure) {
+        ArrivalResponse arrivalResponse = timetableService(networkId).findEarliestArrival(source, target, departure);
+        return ResponseEntity.ok().body(arrivalResponse);
+    }
+
+    private PathService pathService(String networkId) {
+        return namespaceService.resolve(networkId, PathService.class, pathService);
+    }
+
+    private TimetableService timetableService(String networkId) {
+        return namespaceService.resolve(networkId, TimetableService.class, timetableService);
+    }
+}
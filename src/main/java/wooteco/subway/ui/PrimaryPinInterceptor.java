@@ -0,0 +1,73 @@
+package wooteco.subway.ui;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import wooteco.subway.dao.routing.PrimaryPin;
+
+public class PrimaryPinInterceptor implements HandlerInterceptor {
+    static final String COOKIE_NAME = "SUBWAY_PRIMARY_UNTIL";
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final long pinMillis;
+
+    public PrimaryPinInterceptor(long pinMillis) {
+        this.pinMillis = pinMillis;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        PrimaryPin.clear();
+        pinnedUntil(request).ifPresent(PrimaryPin::pinUntil);
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            long until = System.currentTimeMillis() + pinMillis;
+            PrimaryPin.pinUntil(until);
+            response.addCookie(cookie(request, until));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+        Exception exception) {
+        PrimaryPin.clear();
+    }
+
+    private Optional<Long> pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return Optional.empty();
+        }
+        return Arrays.stream(cookies)
+            .filter(cookie -> COOKIE_NAME.equals(cookie.getName()))
+            .map(Cookie::getValue)
+            .map(this::parse)
+            .filter(until -> until > System.currentTimeMillis())
+            .map(until -> Math.min(until, System.currentTimeMillis() + pinMillis))
+            .findFirst();
+    }
+
+    private long parse(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException exception) {
+            return 0L;
+        }
+    }
+
+    private Cookie cookie(HttpServletRequest request, long until) {
+        Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(until));
+        cookie.setPath(request.getContextPath().isEmpty() ? "/" : request.getContextPath());
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(pinMillis) + 1));
+        return cookie;
+    }
+}
@@ -0,0 +1,42 @@
+package wooteco.subway.ui;
+
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import wooteco.subway.dto.SimulationResponse;
+import wooteco.subway.service.SimulationService;
+
+@RestController
+@RequestMapping("/simulations")
+public class SimulationController {
+
+    private final SimulationService simulationService;
+
+    public SimulationController(SimulationService simulationService) {
+        this.simulationService = simulationService;
+    }
+
+    @PostMapping(consumes = {"text/csv", "text/plain"})
+    public CompletableFuture<ResponseEntity<SimulationResponse>> simulate(InputStream demandStream) {
+        return simulationService.simulate(demandStream)
+            .thenApply(response -> ResponseEntity.ok().body(response));
+    }
+
+    @GetMapping("/{id}/occupancy")
+    public ResponseEntity<Resource> findOccupancy(@PathVariable Long id) {
+        Resource occupancy = new FileSystemResource(simulationService.findOccupancyFile(id));
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .body(occupancy);
+    }
+}
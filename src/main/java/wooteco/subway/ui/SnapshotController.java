@@ -0,0 +1,33 @@
+package wooteco.subway.ui;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import wooteco.subway.service.SnapshotService;
+
+@RestController
+@RequestMapping("/snapshot")
+public class SnapshotController {
+
+    private final SnapshotService snapshotService;
+
+    public SnapshotController(SnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> exportSnapshot() {
+        return ResponseEntity.ok().body(snapshotService.export());
+    }
+
+    @PutMapping(consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Void> importSnapshot(@RequestBody byte[] snapshot) {
+        snapshotService.importSnapshot(snapshot);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,60 @@
+package wooteco.subway.ui;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import wooteco.subway.dao.breaker.CircuitBreaker;
+import wooteco.subway.dao.breaker.StaleReads;
+import wooteco.subway.dao.feed.ChangeFeedSubscriber;
+
+@ControllerAdvice
+public class StaleReadAdvice implements ResponseBodyAdvice<Object> {
+    private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+    private static final String STALENESS_HEADER = "X-Staleness-Millis";
+
+    private final ObjectProvider<CircuitBreaker> circuitBreaker;
+    private final ObjectProvider<ChangeFeedSubscriber> changeFeedSubscriber;
+
+    public StaleReadAdvice(ObjectProvider<CircuitBreaker> circuitBreaker,
+        ObjectProvider<ChangeFeedSubscriber> changeFeedSubscriber) {
+        this.circuitBreaker = circuitBreaker;
+        this.changeFeedSubscriber = changeFeedSubscriber;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+        ServerHttpResponse response) {
+        oldestRead().ifPresent(takenAt -> {
+            response.getHeaders().set(HttpHeaders.WARNING, STALE_WARNING);
+            response.getHeaders().set(STALENESS_HEADER,
+                String.valueOf(Math.max(0L, System.currentTimeMillis() - takenAt)));
+        });
+        return body;
+    }
+
+    private Optional<Long> oldestRead() {
+        CircuitBreaker breaker = circuitBreaker.getIfAvailable();
+        ChangeFeedSubscriber subscriber = changeFeedSubscriber.getIfAvailable();
+        return Stream.of(StaleReads.oldestSnapshot(),
+                breaker == null ? Optional.<Long>empty() : breaker.staleSince(),
+                subscriber == null ? Optional.<Long>empty() : subscriber.staleSince())
+            .flatMap(Optional::stream)
+            .min(Long::compare);
+    }
+}
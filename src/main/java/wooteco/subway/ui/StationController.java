@@ -11,39 +11,128 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import wooteco.subway.dto.CoverageResponse;
+import wooteco.subway.dto.NearbyStationResponse;
+import wooteco.subway.dto.NeighborResponse;
+import wooteco.subway.dto.ReachableStationResponse;
+import wooteco.subway.dto.StationLineResponse;
 import wooteco.subway.dto.StationRequest;
 import wooteco.subway.dto.StationResponse;
+import wooteco.subway.service.LineIndexService;
+import wooteco.subway.service.NamespaceService;
+import wooteco.subway.service.ReachabilityService;
 import wooteco.subway.service.StationService;
 
 @RestController
-@RequestMapping("/stations")
+@RequestMapping({"/stations", "/networks/{networkId}/stations"})
 public class StationController {
 
     private final StationService stationService;
+    private final ReachabilityService reachabilityService;
+    private final LineIndexService lineIndexService;
+    private final NamespaceService namespaceService;
 
-    public StationController(StationService stationService) {
+    public StationController(StationService stationService, ReachabilityService reachabilityService,
+        LineIndexService lineIndexService, NamespaceService namespaceService) {
         this.stationService = stationService;
+        this.reachabilityService = reachabilityService;
+        this.lineIndexService = lineIndexService;
+        this.namespaceService = namespaceService;
     }
 
     @PostMapping
-    public ResponseEntity<StationResponse> createStation(@Validated @RequestBody StationRequest stationRequest) {
-        StationResponse stationResponse = stationService.save(stationRequest);
-        return ResponseEntity.created(URI.create("/stations/" + stationResponse.getId())).body(stationResponse);
+    public ResponseEntity<StationResponse> createStation(@PathVariable(required = false) String networkId,
+        @Validated @RequestBody StationRequest stationRequest) {
+        StationResponse stationResponse = stationService(networkId).save(stationRequest);
+        return ResponseEntity.created(URI.create(prefix(networkId) + "/stations/" + stationResponse.getId()))
+            .body(stationResponse);
     }
 
     @GetMapping
-    public ResponseEntity<List<StationResponse>> showStations() {
-        List<StationResponse> stationResponses = stationService.findAll();
+    public ResponseEntity<List<StationResponse>> showStations(@PathVariable(required = false) String networkId) {
+        List<StationResponse> stationResponses = stationService(networkId).findAll();
         return ResponseEntity.ok().body(stationResponses);
     }
 
+    @GetMapping("/nearest")
+    public ResponseEntity<List<NearbyStationResponse>> showNearestStations(
+        @PathVariable(required = false) String networkId, @RequestParam double lat, @RequestParam double lng,
+        @RequestParam(defaultValue = "5") int k) {
+        List<NearbyStationResponse> responses = stationService(networkId).findNearest(lat, lng, k);
+        return ResponseEntity.ok().body(responses);
+    }
+
+    @GetMapping("/within")
+    public ResponseEntity<List<StationResponse>> showStationsWithin(@PathVariable(required = false) String networkId,
+        @RequestParam double minLat, @RequestParam double minLng, @RequestParam double maxLat,
+        @RequestParam double maxLng) {
+        List<StationResponse> responses = stationService(networkId).findWithin(minLat, minLng, maxLat, maxLng);
+        return ResponseEntity.ok().body(responses);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<StationResponse>> searchStations(@PathVariable(required = false) String networkId,
+        @RequestParam String q, @RequestParam(defaultValue = "10") int limit) {
+        List<StationResponse> responses = stationService(networkId).search(q, limit);
+        return ResponseEntity.ok().body(responses);
+    }
+
+    @GetMapping("/{id}/lines")
+    public ResponseEntity<List<StationLineResponse>> showLines(@PathVariable(required = false) String networkId,
+        @PathVariable Long id) {
+        List<StationLineResponse> responses = lineIndexService(networkId).findLines(id);
+        return ResponseEntity.ok().body(responses);
+    }
+
+    @GetMapping("/{id}/neighbors")
+    public ResponseEntity<List<NeighborResponse>> showNeighbors(@PathVariable(required = false) String networkId,
+        @PathVariable Long id) {
+        List<NeighborResponse> responses = lineIndexService(networkId).findNeighbors(id);
+        return ResponseEntity.ok().body(responses);
+    }
+
+    @GetMapping("/{id}/reachable")
+    public ResponseEntity<List<ReachableStationResponse>> showReachableStations(
+        @PathVariable(required = false) String networkId, @PathVariable Long id, @RequestParam int maxDistance) {
+        List<ReachableStationResponse> responses = reachabilityService(networkId).findReachable(id, maxDistance);
+        return ResponseEntity.ok().body(responses);
+    }
+
+    @GetMapping("/reachable")
+    public ResponseEntity<CoverageResponse> showCoverage(@PathVariable(required = false) String networkId,
+        @RequestParam List<Long> sources, @RequestParam int maxDistance) {
+        CoverageResponse coverageResponse = reachabilityService(networkId).findCoverage(sources, maxDistance);
+        return ResponseEntity.ok().body(coverageResponse);
+    }
+
     @DeleteMapping(value = "/{id}")
-    public ResponseEntity<Void> deleteStation(@PathVariable Long id) {
-        if (stationService.deleteById(id)) {
+    public ResponseEntity<Void> deleteStation(@PathVariable(required = false) String networkId,
+        @PathVariable Long id) {
+        if (stationService(networkId).deleteById(id)) {
             return ResponseEntity.ok().build();
         }
         return ResponseEntity.noContent().build();
     }
+
+    private StationService stationService(String networkId) {
+        return namespaceService.resolve(networkId, StationService.class, stationService);
+    }
+
+    private ReachabilityService reachabilityService(String networkId) {
+        return namespaceService.resolve(networkId, ReachabilityService.class, reachabilityService);
+    }
+
+    private LineIndexService lineIndexService(String networkId) {
+        return namespaceService.resolve(networkId, LineIndexService.class, lineIndexService);
+    }
+
+    private String prefix(String networkId) {
+        if (networkId == null) {
+            return "";
+        }
+        return "/networks/" + networkId;
+    }
 }
@@ -2,6 +2,8 @@ create table if not exists STATION
 (
     id bigint auto_increment not null,
     name varchar(255) not null unique,
+    latitude double,
+    longitude double,
     primary key(id)
 );
 
@@ -10,6 +12,8 @@ create table if not exists LINE
     id bigint auto_increment not null,
     name varchar(255) not null unique,
     color varchar(20) not null,
+    extra_fare int not null default 0,
+    version bigint not null default 0,
     primary key(id)
 );
 
@@ -20,5 +24,108 @@ create table if not exists SECTION
     up_station_id bigint not null,
     down_station_id bigint not null,
     distance int,
+    primary key(id),
+    foreign key (up_station_id) references STATION (id),
+    foreign key (down_station_id) references STATION (id)
+);
+
+create table if not exists TRIP
+(
+    id bigint auto_increment not null,
+    line_id bigint not null,
+    direction varchar(10) not null,
+    primary key(id)
+);
+
+create table if not exists STOP_TIME
+(
+    trip_id bigint not null,
+    stop_sequence int not null,
+    departure int not null,
+    primary key(trip_id, stop_sequence)
+);
+
+create table if not exists REVISION
+(
+    id bigint auto_increment not null,
+    created_at timestamp not null,
     primary key(id)
 );
+
+create index if not exists revision_created_at on REVISION (created_at, id);
+
+create table if not exists LINE_HISTORY
+(
+    line_id bigint not null,
+    name varchar(255) not null,
+    color varchar(20) not null,
+    extra_fare int not null,
+    valid_from bigint not null,
+    valid_to bigint not null,
+    primary key(line_id, valid_from)
+);
+
+create index if not exists line_history_line_valid_to on LINE_HISTORY (line_id, valid_to);
+create index if not exists line_history_valid_to on LINE_HISTORY (valid_to, valid_from);
+
+create table if not exists SECTION_HISTORY
+(
+    section_id bigint not null,
+    line_id bigint not null,
+    up_station_id bigint not null,
+    up_station_name varchar(255) not null,
+    down_station_id bigint not null,
+    down_station_name varchar(255) not null,
+    distance int,
+    valid_from bigint not null,
+    valid_to bigint not null,
+    primary key(section_id, valid_from)
+);
+
+create index if not exists section_history_line_valid_to on SECTION_HISTORY (line_id, valid_to);
+create index if not exists section_history_valid_to on SECTION_HISTORY (valid_to, valid_from);
+
+create table if not exists REPLICA_HEARTBEAT
+(
+    id int not null,
+    beat_at bigint not null,
+    primary key(id)
+);
+
+create table if not exists LINE_NAME
+(
+    name varchar(255) not null,
+    line_id bigint not null,
+    primary key(name)
+);
+
+create unique index if not exists line_name_line_id on LINE_NAME (line_id);
+
+create sequence if not exists LINE_ID_SEQ;
+create sequence if not exists SECTION_ID_SEQ;
+
+create table if not exists SHARD_COMMIT
+(
+    id varchar(64) not null,
+    committed_at bigint not null,
+    primary key(id)
+);
+
+create table if not exists NETWORK
+(
+    id varchar(50) not null,
+    name varchar(255) not null unique,
+    primary key(id)
+);
+
+create table if not exists CHANGE_FEED
+(
+    id bigint auto_increment not null,
+    node_id varchar(64) not null,
+    kind varchar(20) not null,
+    entity_id bigint,
+    created_at bigint not null,
+    primary key(id)
+);
+
+create index if not exists change_feed_created_at on CHANGE_FEED (created_at);
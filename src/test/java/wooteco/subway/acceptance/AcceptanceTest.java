@@ -32,8 +32,8 @@ public class AcceptanceTest {
     public void setUp() {
         RestAssured.port = port;
 
-        clearAllStations();
         clearAllLines();
+        clearAllStations();
     }
 
     public void clearAllStations() {
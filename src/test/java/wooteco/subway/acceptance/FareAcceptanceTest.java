@@ -0,0 +1,79 @@
+package wooteco.subway.acceptance;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import wooteco.subway.dto.FareBatchRequest;
+import wooteco.subway.dto.FareRequest;
+import wooteco.subway.dto.FareResponse;
+import wooteco.subway.dto.LineRequest;
+import wooteco.subway.dto.StationRequest;
+
+@DisplayName("지하철 요금 관련 기능")
+class FareAcceptanceTest extends AcceptanceTest {
+
+    @Test
+    @DisplayName("여러 출발역과 도착역의 요금을 한 번에 계산한다.")
+    void priceAll() {
+        // given
+        Long stationId1 = createStation("강남역");
+        Long stationId2 = createStation("판교역");
+        RestAssured.given().log().all()
+            .body(new LineRequest("신분당선", "bg-red-600", stationId1, stationId2, 16, 900))
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post("/lines")
+            .then().log().all();
+        FareBatchRequest fareBatchRequest = new FareBatchRequest(List.of(
+            new FareRequest(stationId1, stationId2),
+            new FareRequest(stationId2, stationId1)));
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+            .body(fareBatchRequest)
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post("/fares/batch")
+            .then().log().all()
+            .extract();
+
+        // then
+        List<FareResponse> fareResponses = response.jsonPath().getList(".", FareResponse.class);
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(fareResponses).hasSize(2);
+        assertThat(fareResponses.get(0).getFare()).isEqualTo(2350);
+        assertThat(fareResponses.get(1).getFare()).isEqualTo(2350);
+    }
+
+    @Test
+    @DisplayName("계산할 구간이 없으면 bad request를 반환해야 한다.")
+    void priceAllWithoutPairs() {
+        RestAssured.given().log().all()
+            .body(new FareBatchRequest(List.of()))
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post("/fares/batch")
+            .then().log().all()
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    private Long createStation(String name) {
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+            .body(new StationRequest(name))
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post("/stations")
+            .then().log().all()
+            .extract();
+        return Long.parseLong(response.header("Location").split("/")[2]);
+    }
+}
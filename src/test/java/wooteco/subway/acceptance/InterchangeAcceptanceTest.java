@@ -0,0 +1,69 @@
+package wooteco.subway.acceptance;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import wooteco.subway.dto.InterchangeResponse;
+import wooteco.subway.dto.LineRequest;
+import wooteco.subway.dto.StationRequest;
+
+@DisplayName("환승역 조회 관련 기능")
+class InterchangeAcceptanceTest extends AcceptanceTest {
+
+    @Test
+    @DisplayName("두 개 이상의 노선이 지나는 환승역을 조회한다.")
+    void showInterchanges() {
+        // given
+        Long stationId1 = createStation("강남역");
+        Long stationId2 = createStation("역삼역");
+        Long stationId3 = createStation("신논현역");
+        Long lineId1 = createLine(new LineRequest("2호선", "bg-green-600", stationId1, stationId2, 10));
+        Long lineId2 = createLine(new LineRequest("신분당선", "bg-red-600", stationId3, stationId1, 5));
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+            .when()
+            .get("/interchanges")
+            .then().log().all()
+            .extract();
+
+        // then
+        List<InterchangeResponse> interchanges = response.jsonPath().getList(".", InterchangeResponse.class);
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(interchanges).hasSize(1);
+        assertThat(interchanges.get(0).getStation().getId()).isEqualTo(stationId1);
+        assertThat(interchanges.get(0).getLinePairs())
+            .containsExactly(List.of(Math.min(lineId1, lineId2), Math.max(lineId1, lineId2)));
+    }
+
+    private Long createStation(String name) {
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+            .body(new StationRequest(name))
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post("/stations")
+            .then().log().all()
+            .extract();
+        return Long.parseLong(response.header("Location").split("/")[2]);
+    }
+
+    private Long createLine(LineRequest lineRequest) {
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+            .body(lineRequest)
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post("/lines")
+            .then().log().all()
+            .extract();
+        return Long.parseLong(response.header("Location").split("/")[2]);
+    }
+}
@@ -31,8 +31,8 @@ class LineAcceptanceTest extends AcceptanceTest {
     public void setUp() {
         RestAssured.port = port;
 
-        clearAllStations();
         clearAllLines();
+        clearAllStations();
         createStations();
     }
 
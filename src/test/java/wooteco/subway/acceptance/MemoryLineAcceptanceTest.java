@@ -0,0 +1,66 @@
+package wooteco.subway.acceptance;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import wooteco.subway.dto.LineRequest;
+import wooteco.subway.dto.StationRequest;
+
+@DisplayName("메모리 저장소의 지하철 노선 관련 기능")
+@ActiveProfiles("memory")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class MemoryLineAcceptanceTest {
+
+    @LocalServerPort
+    int port;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 역으로 노선을 생성하면 노선이 남지 않아야 한다.")
+    void createLineWithMissingStation() {
+        // given
+        Long upStationId = createStation("강남역");
+        Long downStationId = createStation("판교역");
+
+        // when
+        ExtractableResponse<Response> response = post("/lines",
+            new LineRequest("신분당선", "bg-red-600", upStationId, downStationId + 100, 10));
+        ExtractableResponse<Response> retried = post("/lines",
+            new LineRequest("신분당선", "bg-red-600", upStationId, downStationId, 10));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        assertThat(retried.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+    }
+
+    private Long createStation(String name) {
+        return Long.parseLong(post("/stations", new StationRequest(name)).header("Location").split("/")[2]);
+    }
+
+    private ExtractableResponse<Response> post(String path, Object body) {
+        return RestAssured.given().log().all()
+            .body(body)
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post(path)
+            .then().log().all()
+            .extract();
+    }
+}
@@ -0,0 +1,180 @@
+package wooteco.subway.acceptance;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.dao.breaker.CircuitBreaker;
+import wooteco.subway.dao.breaker.CircuitBreakerStationDao;
+import wooteco.subway.dao.feed.ChangeFeedDao;
+import wooteco.subway.dao.feed.ChangeFeedEntry;
+import wooteco.subway.dao.feed.ChangeKind;
+import wooteco.subway.dto.NamespaceRequest;
+import wooteco.subway.dto.NamespaceResponse;
+import wooteco.subway.dto.StationRequest;
+import wooteco.subway.dto.StationResponse;
+import wooteco.subway.service.NamespaceService;
+
+@DisplayName("지하철 네트워크 관련 기능")
+public class NamespaceAcceptanceTest extends AcceptanceTest {
+
+    @Autowired
+    private NamespaceService namespaceService;
+
+    @Test
+    @DisplayName("네트워크마다 같은 이름의 역을 따로 관리한다.")
+    void isolateStations() {
+        // given
+        createNamespace("seoul-isolation", "서울");
+        createNamespace("busan-isolation", "부산");
+
+        // when
+        ExtractableResponse<Response> seoulResponse = createStation("seoul-isolation", "시청역");
+        ExtractableResponse<Response> busanResponse = createStation("busan-isolation", "시청역");
+
+        // then
+        assertThat(seoulResponse.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(busanResponse.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(busanResponse.header("Location")).startsWith("/networks/busan-isolation/stations/");
+        assertThat(findStations("/networks/seoul-isolation/stations")).hasSize(1);
+        assertThat(findStations("/stations")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("언로드한 네트워크는 다시 요청하면 저장된 데이터로 불러온다.")
+    void reloadNamespace() {
+        // given
+        createNamespace("busan-reload", "부산");
+        createStation("busan-reload", "서면역");
+
+        // when
+        ExtractableResponse<Response> unloadResponse = RestAssured.given().log().all()
+            .when()
+            .post("/networks/busan-reload/unload")
+            .then().log().all()
+            .extract();
+
+        // then
+        assertThat(unloadResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(findNamespaces().get(0).isLoaded()).isFalse();
+        assertThat(findStations("/networks/busan-reload/stations"))
+            .extracting(StationResponse::getName)
+            .containsExactly("서면역");
+        assertThat(findNamespaces().get(0).isLoaded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("삭제한 네트워크와 같은 id로 만든 네트워크에는 이전 데이터가 남지 않아야 한다.")
+    void recreateNamespace() {
+        // given
+        createNamespace("daegu-recreate", "대구");
+        createStation("daegu-recreate", "반월당역");
+
+        // when
+        ExtractableResponse<Response> deleteResponse = RestAssured.given().log().all()
+            .when()
+            .delete("/networks/daegu-recreate")
+            .then().log().all()
+            .extract();
+        ExtractableResponse<Response> createResponse = createNamespace("daegu-recreate", "대구");
+
+        // then
+        assertThat(deleteResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(createResponse.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(findStations("/networks/daegu-recreate/stations")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("네트워크도 서킷 브레이커를 거쳐 읽고 변경 피드에 기록해야 한다.")
+    void namespaceWithBreakerAndFeed() {
+        // given
+        createNamespace("incheon-feed", "인천");
+
+        // when
+        ExtractableResponse<Response> response = createStation("incheon-feed", "부평역");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(namespaceService.resolve("incheon-feed", CircuitBreaker.class, null)).isNotNull();
+        assertThat(namespaceService.resolve("incheon-feed", StationDao.class, null))
+            .isInstanceOf(CircuitBreakerStationDao.class);
+        assertThat(namespaceService.resolve("incheon-feed", ChangeFeedDao.class, null).findAfter(0, 10))
+            .extracting(ChangeFeedEntry::getKind)
+            .containsExactly(ChangeKind.STATION);
+        assertThat(findStations("/networks/incheon-feed/stations"))
+            .extracting(StationResponse::getName)
+            .containsExactly("부평역");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 네트워크에 요청하면 not found를 반환해야 한다.")
+    void notFoundNamespace() {
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+            .when()
+            .get("/networks/unknown/lines")
+            .then().log().all()
+            .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 id로 네트워크를 만들면 bad request를 반환해야 한다.")
+    void invalidNamespaceId() {
+        // when
+        ExtractableResponse<Response> response = createNamespace("Seoul City", "서울");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    private ExtractableResponse<Response> createNamespace(String id, String name) {
+        return RestAssured.given().log().all()
+            .body(new NamespaceRequest(id, name))
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post("/networks")
+            .then().log().all()
+            .extract();
+    }
+
+    private ExtractableResponse<Response> createStation(String namespaceId, String name) {
+        return RestAssured.given().log().all()
+            .body(new StationRequest(name))
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post("/networks/" + namespaceId + "/stations")
+            .then().log().all()
+            .extract();
+    }
+
+    private List<StationResponse> findStations(String path) {
+        return RestAssured.given().log().all()
+            .when()
+            .get(path)
+            .then().log().all()
+            .extract()
+            .jsonPath().getList(".", StationResponse.class);
+    }
+
+    private List<NamespaceResponse> findNamespaces() {
+        return RestAssured.given().log().all()
+            .when()
+            .get("/networks")
+            .then().log().all()
+            .extract()
+            .jsonPath().getList(".", NamespaceResponse.class);
+    }
+}
@@ -0,0 +1,71 @@
+package wooteco.subway.acceptance;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import wooteco.subway.dto.LineRequest;
+import wooteco.subway.dto.NetworkComponentsResponse;
+import wooteco.subway.dto.StationRequest;
+
+@DisplayName("노선망 연결 상태 관련 기능")
+class NetworkAcceptanceTest extends AcceptanceTest {
+
+    @Test
+    @DisplayName("서로 이어지지 않은 노선은 별도의 연결 요소로 조회된다.")
+    void showComponents() {
+        // given
+        Long stationId1 = createStation("강남역");
+        Long stationId2 = createStation("역삼역");
+        Long stationId3 = createStation("서울역");
+        Long stationId4 = createStation("시청역");
+        createLine(new LineRequest("2호선", "bg-green-600", stationId1, stationId2, 10));
+        createLine(new LineRequest("1호선", "bg-blue-600", stationId3, stationId4, 5));
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+            .when()
+            .get("/network/components")
+            .then().log().all()
+            .extract();
+
+        // then
+        NetworkComponentsResponse componentsResponse = response.as(NetworkComponentsResponse.class);
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(componentsResponse.isConnected()).isFalse();
+        assertThat(componentsResponse.getComponents()).hasSize(2);
+        ExtractableResponse<Response> pathResponse = RestAssured.given().log().all()
+            .when()
+            .get("/paths/pareto?source=" + stationId1 + "&target=" + stationId3)
+            .then().log().all()
+            .extract();
+        assertThat(pathResponse.jsonPath().getList(".")).isEmpty();
+    }
+
+    private Long createStation(String name) {
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+            .body(new StationRequest(name))
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post("/stations")
+            .then().log().all()
+            .extract();
+        return Long.parseLong(response.header("Location").split("/")[2]);
+    }
+
+    private void createLine(LineRequest lineRequest) {
+        RestAssured.given().log().all()
+            .body(lineRequest)
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post("/lines")
+            .then().log().all()
+            .statusCode(HttpStatus.CREATED.value());
+    }
+}
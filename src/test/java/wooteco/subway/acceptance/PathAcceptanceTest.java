@@ -0,0 +1,113 @@
+package wooteco.subway.acceptance;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import wooteco.subway.dto.ArrivalResponse;
+import wooteco.subway.dto.JourneyResponse;
+import wooteco.subway.dto.LineRequest;
+import wooteco.subway.dto.StationRequest;
+import wooteco.subway.dto.TimetableRequest;
+import wooteco.subway.dto.TripRequest;
+
+@DisplayName("지하철 경로 조회 관련 기능")
+class PathAcceptanceTest extends AcceptanceTest {
+
+    @Test
+    @DisplayName("거리와 환승 횟수 기준의 경로 목록을 조회한다.")
+    void findParetoPaths() {
+        // given
+        Long stationId1 = createStation("강남역");
+        Long stationId2 = createStation("역삼역");
+        createLine(new LineRequest("2호선", "bg-green-600", stationId1, stationId2, 10));
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+            .when()
+            .get("/paths/pareto?source=" + stationId1 + "&target=" + stationId2)
+            .then().log().all()
+            .extract();
+
+        // then
+        List<JourneyResponse> journeys = response.jsonPath().getList(".", JourneyResponse.class);
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(journeys).hasSize(1);
+        assertThat(journeys.get(0).getDistance()).isEqualTo(10);
+        assertThat(journeys.get(0).getTransfers()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("출발역과 도착역이 같으면 bad request를 반환해야 한다.")
+    void findParetoPathsWithSameStation() {
+        Long stationId = createStation("강남역");
+
+        RestAssured.given().log().all()
+            .when()
+            .get("/paths/pareto?source=" + stationId + "&target=" + stationId)
+            .then().log().all()
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    @DisplayName("등록한 열차 시간표로 가장 빨리 도착하는 경로를 조회한다.")
+    void findEarliestArrival() {
+        // given
+        Long stationId1 = createStation("강남역");
+        Long stationId2 = createStation("역삼역");
+        Long lineId = createLine(new LineRequest("2호선", "bg-green-600", stationId1, stationId2, 10));
+        TimetableRequest timetableRequest = new TimetableRequest(List.of(
+            new TripRequest("DOWN", List.of("08:00", "08:03")),
+            new TripRequest("DOWN", List.of("08:10", "08:13"))));
+        RestAssured.given().log().all()
+            .body(timetableRequest)
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .put("/lines/" + lineId + "/timetable")
+            .then().log().all()
+            .statusCode(HttpStatus.OK.value());
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+            .when()
+            .get("/paths/earliest?source=" + stationId1 + "&target=" + stationId2 + "&departure=08:05")
+            .then().log().all()
+            .extract();
+
+        // then
+        ArrivalResponse arrivalResponse = response.as(ArrivalResponse.class);
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(arrivalResponse.getArrival()).isEqualTo("08:13:00");
+        assertThat(arrivalResponse.getTransfers()).isEqualTo(0);
+    }
+
+    private Long createStation(String name) {
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+            .body(new StationRequest(name))
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post("/stations")
+            .then().log().all()
+            .extract();
+        return Long.parseLong(response.header("Location").split("/")[2]);
+    }
+
+    private Long createLine(LineRequest lineRequest) {
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+            .body(lineRequest)
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post("/lines")
+            .then().log().all()
+            .extract();
+        return Long.parseLong(response.header("Location").split("/")[2]);
+    }
+}
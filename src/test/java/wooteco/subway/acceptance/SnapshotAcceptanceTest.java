@@ -0,0 +1,98 @@
+package wooteco.subway.acceptance;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import wooteco.subway.dto.LineRequest;
+import wooteco.subway.dto.StationLineResponse;
+import wooteco.subway.dto.StationRequest;
+import wooteco.subway.dto.StationResponse;
+
+@DisplayName("노선망 스냅샷 관련 기능")
+class SnapshotAcceptanceTest extends AcceptanceTest {
+
+    @Test
+    @DisplayName("내보낸 스냅샷을 다시 가져오면 내보낼 당시의 노선망으로 교체된다.")
+    void exportAndImport() {
+        // given
+        Long stationId1 = createStation("강남역");
+        Long stationId2 = createStation("역삼역");
+        Long lineId = createLine(new LineRequest("2호선", "bg-green-600", stationId1, stationId2, 10));
+        byte[] snapshot = RestAssured.given().log().all()
+            .when()
+            .get("/snapshot")
+            .then().log().all()
+            .statusCode(HttpStatus.OK.value())
+            .extract().asByteArray();
+        createStation("선릉역");
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+            .body(snapshot)
+            .contentType(MediaType.APPLICATION_OCTET_STREAM_VALUE)
+            .when()
+            .put("/snapshot")
+            .then().log().all()
+            .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        List<StationResponse> stations = RestAssured.given().log().all()
+            .when()
+            .get("/stations")
+            .then().log().all()
+            .extract().jsonPath().getList(".", StationResponse.class);
+        assertThat(stations).hasSize(2);
+        List<StationLineResponse> lines = RestAssured.given().log().all()
+            .when()
+            .get("/stations/" + stationId1 + "/lines")
+            .then().log().all()
+            .extract().jsonPath().getList(".", StationLineResponse.class);
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0).getLineId()).isEqualTo(lineId);
+        assertThat(createStation("선릉역")).isGreaterThan(stationId2);
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 스냅샷을 가져오면 bad request를 반환해야 한다.")
+    void importInvalidSnapshot() {
+        RestAssured.given().log().all()
+            .body(new byte[] {1, 2, 3, 4})
+            .contentType(MediaType.APPLICATION_OCTET_STREAM_VALUE)
+            .when()
+            .put("/snapshot")
+            .then().log().all()
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    private Long createStation(String name) {
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+            .body(new StationRequest(name))
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post("/stations")
+            .then().log().all()
+            .extract();
+        return Long.parseLong(response.header("Location").split("/")[2]);
+    }
+
+    private Long createLine(LineRequest lineRequest) {
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+            .body(lineRequest)
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post("/lines")
+            .then().log().all()
+            .extract();
+        return Long.parseLong(response.header("Location").split("/")[2]);
+    }
+}
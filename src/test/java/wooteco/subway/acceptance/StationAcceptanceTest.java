@@ -15,6 +15,10 @@ import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import io.restassured.response.ValidatableResponse;
+import wooteco.subway.dto.LineRequest;
+import wooteco.subway.dto.NeighborResponse;
+import wooteco.subway.dto.ReachableStationResponse;
+import wooteco.subway.dto.SectionRequest;
 import wooteco.subway.dto.StationRequest;
 import wooteco.subway.dto.StationResponse;
 
@@ -138,4 +142,85 @@ public class StationAcceptanceTest extends AcceptanceTest {
             .post("/stations")
             .then().log().all();
     }
+
+    @Test
+    @DisplayName("탐색 거리 안에서 도달할 수 있는 역들을 조회한다.")
+    void showReachableStations() {
+        // given
+        Long stationId1 = getSavedId(extractCreateStationRequest(new StationRequest("강남역")));
+        Long stationId2 = getSavedId(extractCreateStationRequest(new StationRequest("역삼역")));
+        Long stationId3 = getSavedId(extractCreateStationRequest(new StationRequest("선릉역")));
+        String lineUri = RestAssured.given().log().all()
+            .body(new LineRequest("2호선", "bg-green-600", stationId1, stationId2, 5))
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post("/lines")
+            .then().log().all()
+            .extract().header("Location");
+        RestAssured.given().log().all()
+            .body(new SectionRequest(stationId2, stationId3, 5))
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post(lineUri + "/sections")
+            .then().log().all();
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+            .when()
+            .get("/stations/" + stationId1 + "/reachable?maxDistance=7")
+            .then().log().all()
+            .extract();
+
+        // then
+        List<Long> reachableIds = response.jsonPath().getList(".", ReachableStationResponse.class).stream()
+            .map(ReachableStationResponse::getId)
+            .collect(Collectors.toList());
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(reachableIds).containsExactly(stationId1, stationId2);
+    }
+
+    @Test
+    @DisplayName("노선 위 이웃 역을 조회하고, 노선에 등록된 역은 삭제할 수 없다.")
+    void showNeighborsAndRejectDeletingStationInUse() {
+        // given
+        Long stationId1 = getSavedId(extractCreateStationRequest(new StationRequest("강남역")));
+        Long stationId2 = getSavedId(extractCreateStationRequest(new StationRequest("역삼역")));
+        Long stationId3 = getSavedId(extractCreateStationRequest(new StationRequest("선릉역")));
+        String lineUri = RestAssured.given().log().all()
+            .body(new LineRequest("2호선", "bg-green-600", stationId1, stationId2, 5))
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post("/lines")
+            .then().log().all()
+            .extract().header("Location");
+        RestAssured.given().log().all()
+            .body(new SectionRequest(stationId2, stationId3, 7))
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post(lineUri + "/sections")
+            .then().log().all();
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+            .when()
+            .get("/stations/" + stationId2 + "/neighbors")
+            .then().log().all()
+            .extract();
+
+        // then
+        List<NeighborResponse> neighbors = response.jsonPath().getList(".", NeighborResponse.class);
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(neighbors.stream()
+            .map(neighbor -> neighbor.getDirection() + ":" + neighbor.getDistance())
+            .collect(Collectors.toList())).containsExactlyInAnyOrder("UP:5", "DOWN:7");
+        RestAssured.given().log().all()
+            .when()
+            .delete("/stations/" + stationId2)
+            .then().log().all()
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    private Long getSavedId(ExtractableResponse<Response> response) {
+        return Long.parseLong(response.header("Location").split("/")[2]);
+    }
 }
@@ -18,7 +18,7 @@ public class FakeLineDao implements LineDao {
     @Override
     public Long save(Line line) {
         validateDuplicateName(line);
-        Line newLine = new Line(++seq, line.getName(), line.getColor());
+        Line newLine = new Line(++seq, line.getName(), line.getColor(), line.getExtraFare());
         lines.put(seq, newLine);
         return seq;
     }
@@ -51,11 +51,23 @@ public class FakeLineDao implements LineDao {
 
     @Override
     public boolean updateById(Long savedId, Line line) {
-        if (lines.containsKey(savedId)) {
-            lines.replace(savedId, new Line(savedId, line.getName(), line.getColor()));
+        Line current = lines.get(savedId);
+        if (current != null) {
+            lines.replace(savedId, new Line(savedId, line.getName(), line.getColor(), line.getExtraFare(),
+                current.getVersion() + 1));
             return true;
         }
 
         return false;
     }
+
+    @Override
+    public boolean compareAndIncrementVersion(Long id, long expectedVersion) {
+        Line line = lines.get(id);
+        if (line == null || line.getVersion() != expectedVersion) {
+            return false;
+        }
+        lines.replace(id, new Line(id, line.getName(), line.getColor(), line.getExtraFare(), expectedVersion + 1));
+        return true;
+    }
 }
@@ -35,7 +35,7 @@ public class FakeStationDao implements StationDao {
     }
 
     private Station createStation(Station station) {
-        return new Station(++seq, station.getName());
+        return new Station(++seq, station.getName(), station.getCoordinate());
     }
 
     @Override
@@ -161,4 +161,21 @@ class LineDaoImplTest {
         // then
         assertThat(line).isEqualTo(newLine);
     }
+
+    @Test
+    @DisplayName("기대한 버전과 같을 때만 노선의 버전을 올려야 한다.")
+    void compareAndIncrementVersion() {
+        // given
+        Long savedId = lineDao.save(new Line("1호선", "bg-red-600"));
+        sectionDao.save(new Section(station1, station2, 10), savedId);
+
+        // when
+        boolean first = lineDao.compareAndIncrementVersion(savedId, 0L);
+        boolean stale = lineDao.compareAndIncrementVersion(savedId, 0L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(stale).isFalse();
+        assertThat(lineDao.findById(savedId).get().getVersion()).isEqualTo(1L);
+    }
 }
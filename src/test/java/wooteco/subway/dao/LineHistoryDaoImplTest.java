@@ -0,0 +1,81 @@
+package wooteco.subway.dao;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+@JdbcTest
+class LineHistoryDaoImplTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LineHistoryDao lineHistoryDao;
+
+    private final Station gangnam = new Station(1L, "강남역");
+    private final Station yeoksam = new Station(2L, "역삼역");
+    private final Station seolleung = new Station(3L, "선릉역");
+
+    @BeforeEach
+    void setUp() {
+        lineHistoryDao = new LineHistoryDaoImpl(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("변경 번호 시점의 노선 구간을 조회할 수 있어야 한다.")
+    void findByRevision() {
+        // given
+        long first = lineHistoryDao.nextRevision();
+        lineHistoryDao.record(first, line(new Section(10L, gangnam, seolleung, 7)));
+        long second = lineHistoryDao.nextRevision();
+        lineHistoryDao.record(second, line(new Section(10L, gangnam, yeoksam, 3),
+            new Section(11L, yeoksam, seolleung, 4)));
+
+        // when
+        Line before = lineHistoryDao.findById(1L, first).get();
+        Line after = lineHistoryDao.findById(1L, second).get();
+
+        // then
+        assertThat(stationNames(before)).containsExactly("강남역", "선릉역");
+        assertThat(stationNames(after)).containsExactly("강남역", "역삼역", "선릉역");
+    }
+
+    @Test
+    @DisplayName("삭제된 노선은 삭제 이전 시점에서만 조회되어야 한다.")
+    void findDeleted() {
+        // given
+        long created = lineHistoryDao.nextRevision();
+        lineHistoryDao.record(created, line(new Section(10L, gangnam, yeoksam, 3)));
+        long deleted = lineHistoryDao.nextRevision();
+
+        // when
+        lineHistoryDao.recordDeleted(deleted, 1L);
+
+        // then
+        assertThat(lineHistoryDao.findAll(created)).hasSize(1);
+        assertThat(lineHistoryDao.findAll(deleted)).isEmpty();
+        assertThat(lineHistoryDao.findById(1L, created - 1)).isEmpty();
+    }
+
+    private Line line(Section... sections) {
+        return Line.from(new Line(1L, "2호선", "bg-green-600"), List.of(sections));
+    }
+
+    private List<String> stationNames(Line line) {
+        return line.getStations().stream()
+            .map(Station::getName)
+            .collect(Collectors.toList());
+    }
+}
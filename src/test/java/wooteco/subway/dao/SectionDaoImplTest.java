@@ -19,11 +19,13 @@ public class SectionDaoImplTest {
 
     private SectionDao sectionDao;
     private LineDao lineDao;
+    private StationDao stationDao;
 
     @BeforeEach
     void setUp() {
         sectionDao = new SectionDaoImpl(jdbcTemplate);
         lineDao = new LineDaoImpl(jdbcTemplate);
+        stationDao = new StationDaoImpl(jdbcTemplate);
     }
 
     @Test
@@ -31,7 +33,9 @@ public class SectionDaoImplTest {
         // given
         Line line = new Line("1호선", "bg-red-600");
         Long savedLineId = lineDao.save(line);
-        Section section = new Section(new Station(1L, "강남역"), new Station(2L, "선릉역"), 10);
+        Station station1 = stationDao.save(new Station("강남역"));
+        Station station2 = stationDao.save(new Station("선릉역"));
+        Section section = new Section(station1, station2, 10);
 
         // when
         Long savedSectionId = sectionDao.save(section, savedLineId);
@@ -9,8 +9,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
 import wooteco.subway.domain.Station;
 
 @JdbcTest
@@ -90,4 +93,17 @@ class StationDaoImplTest {
             .hasSize(0)
             .doesNotContain(station);
     }
+
+    @Test
+    void deleteReferencedStation() {
+        // given
+        Station station1 = stationDao.save(new Station("범고래"));
+        Station station2 = stationDao.save(new Station("애쉬"));
+        Long lineId = new LineDaoImpl(jdbcTemplate).save(new Line("1호선", "bg-red-600"));
+        new SectionDaoImpl(jdbcTemplate).save(new Section(station1, station2, 10), lineId);
+
+        // then
+        assertThatThrownBy(() -> stationDao.deleteById(station1.getId()))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
 }
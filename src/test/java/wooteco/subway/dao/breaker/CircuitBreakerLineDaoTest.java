@@ -0,0 +1,151 @@
+package wooteco.subway.dao.breaker;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import wooteco.subway.dao.FakeLineDao;
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.LineChangedEvent;
+import wooteco.subway.exception.CircuitOpenException;
+
+class CircuitBreakerLineDaoTest {
+
+    private final SlowLineDao slowLineDao = new SlowLineDao();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(1_000L, 50, 4, 2, 60_000L, 1, 4);
+    private final CircuitBreakerLineDao lineDao = new CircuitBreakerLineDao(slowLineDao, circuitBreaker, 60_000L);
+
+    private Long savedId;
+
+    @BeforeEach
+    void setUp() {
+        StaleReads.clear();
+        savedId = lineDao.save(new Line("신분당선", "bg-red-600", 0));
+        lineDao.findAll();
+    }
+
+    @Test
+    @DisplayName("데이터베이스가 응답하지 않으면 마지막 조회 결과로 응답하고 오래된 결과임을 표시해야 한다.")
+    void serveSnapshot() {
+        // given
+        slowLineDao.unavailable = true;
+        assertThatThrownBy(lineDao::findAll).isInstanceOf(QueryTimeoutException.class);
+
+        // when
+        List<Line> lines = lineDao.findAll();
+        Optional<Line> line = lineDao.findById(savedId);
+
+        // then
+        assertThat(lines).hasSize(1);
+        assertThat(line).isPresent();
+        assertThat(StaleReads.oldestSnapshot()).isPresent();
+    }
+
+    @Test
+    @DisplayName("마지막 전체 조회에 없던 노선은 회로가 열려 있을 때 없는 노선으로 응답해야 한다.")
+    void missingFromSnapshot() {
+        // given
+        open();
+
+        // when
+        Optional<Line> line = lineDao.findById(savedId + 1);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(line).isEmpty();
+    }
+
+    @Test
+    @DisplayName("회로가 열려 있으면 노선을 저장할 수 없어야 한다.")
+    void rejectWrite() {
+        // given
+        open();
+        slowLineDao.unavailable = false;
+
+        // when & then
+        assertThatThrownBy(() -> lineDao.save(new Line("2호선", "bg-green-600", 0)))
+            .isInstanceOf(CircuitOpenException.class);
+        assertThat(slowLineDao.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("노선을 수정하면 마지막 조회 결과를 더 이상 응답에 쓰지 않아야 한다.")
+    void evictOnWrite() {
+        // given
+        lineDao.updateById(savedId, new Line(savedId, "2호선", "bg-green-600"));
+
+        // when
+        open();
+
+        // then
+        assertThatThrownBy(lineDao::findAll).isInstanceOf(CircuitOpenException.class);
+        assertThatThrownBy(() -> lineDao.findById(savedId)).isInstanceOf(CircuitOpenException.class);
+    }
+
+    @Test
+    @DisplayName("노선 변경 이벤트를 받으면 그 노선의 마지막 조회 결과를 지워야 한다.")
+    void evictOnLineChanged() {
+        // given
+        lineDao.findById(savedId);
+        lineDao.onLineChanged(new LineChangedEvent(savedId));
+
+        // when
+        open();
+
+        // then
+        assertThatThrownBy(() -> lineDao.findById(savedId)).isInstanceOf(CircuitOpenException.class);
+    }
+
+    @Test
+    @DisplayName("허용 기간보다 오래된 조회 결과로는 응답하지 않아야 한다.")
+    void expireOldSnapshot() throws InterruptedException {
+        // given
+        CircuitBreaker expiringBreaker = new CircuitBreaker(1_000L, 50, 4, 2, 60_000L, 1, 4);
+        CircuitBreakerLineDao expiringDao = new CircuitBreakerLineDao(slowLineDao, expiringBreaker, 1L);
+        expiringDao.findAll();
+        expiringDao.findAll();
+        Thread.sleep(10L);
+        slowLineDao.unavailable = true;
+        assertThatThrownBy(expiringDao::findAll).isInstanceOf(QueryTimeoutException.class);
+
+        // when & then
+        assertThatThrownBy(expiringDao::findAll).isInstanceOf(QueryTimeoutException.class);
+        assertThat(expiringBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(expiringDao::findAll).isInstanceOf(CircuitOpenException.class);
+    }
+
+    private void open() {
+        slowLineDao.unavailable = true;
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> circuitBreaker.read(slowLineDao::findAll, () -> null))
+                .isInstanceOf(QueryTimeoutException.class);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private static class SlowLineDao extends FakeLineDao {
+        private boolean unavailable;
+
+        @Override
+        public List<Line> findAll() {
+            if (unavailable) {
+                throw new QueryTimeoutException("timeout");
+            }
+            return super.findAll();
+        }
+
+        @Override
+        public Optional<Line> findById(Long id) {
+            if (unavailable) {
+                throw new QueryTimeoutException("timeout");
+            }
+            return super.findById(id);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package wooteco.subway.dao.breaker;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.QueryTimeoutException;
+
+import wooteco.subway.exception.CircuitOpenException;
+
+class CircuitBreakerTest {
+
+    private final Supplier<String> timeout = () -> {
+        throw new QueryTimeoutException("timeout");
+    };
+
+    @Test
+    @DisplayName("느리거나 실패한 호출이 기준을 넘으면 회로를 열고 마지막 조회 결과로 응답해야 한다.")
+    void openAndServeSnapshot() {
+        // given
+        CircuitBreaker circuitBreaker = circuitBreaker(60_000L);
+        open(circuitBreaker);
+
+        // when
+        String result = circuitBreaker.read(() -> "fresh", () -> "snapshot");
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(result).isEqualTo("snapshot");
+        assertThat(circuitBreaker.getStaleReads()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("느린 호출도 실패로 집계해야 한다.")
+    void countSlowCalls() {
+        // given
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1L, 50, 4, 2, 60_000L, 1, 4);
+        Supplier<String> slow = () -> {
+            try {
+                Thread.sleep(10L);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return "fresh";
+        };
+
+        // when
+        circuitBreaker.read(slow, () -> "snapshot");
+        circuitBreaker.read(slow, () -> "snapshot");
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("회로가 열려 있으면 쓰기 요청은 바로 실패해야 한다.")
+    void failFastOnWrite() {
+        // given
+        CircuitBreaker circuitBreaker = circuitBreaker(60_000L);
+        AtomicInteger writes = new AtomicInteger();
+        open(circuitBreaker);
+
+        // when & then
+        assertThatThrownBy(() -> circuitBreaker.write(writes::incrementAndGet))
+            .isInstanceOf(CircuitOpenException.class);
+        assertThat(writes.get()).isZero();
+        assertThat(circuitBreaker.getRejectedWrites()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("마지막 조회 결과가 없으면 회로가 열려 있을 때 조회도 실패해야 한다.")
+    void failWithoutSnapshot() {
+        // given
+        CircuitBreaker circuitBreaker = circuitBreaker(60_000L);
+        open(circuitBreaker);
+
+        // when & then
+        assertThatThrownBy(() -> circuitBreaker.read(() -> "fresh", () -> null))
+            .isInstanceOf(CircuitOpenException.class);
+    }
+
+    @Test
+    @DisplayName("반개방 상태의 확인 요청이 성공하면 회로를 닫아야 한다.")
+    void closeAfterProbe() {
+        // given
+        CircuitBreaker circuitBreaker = circuitBreaker(0L);
+        AtomicInteger recoveries = new AtomicInteger();
+        circuitBreaker.onRecovery(recoveries::incrementAndGet);
+        open(circuitBreaker);
+
+        // when
+        String result = circuitBreaker.read(() -> "fresh", () -> "snapshot");
+
+        // then
+        assertThat(result).isEqualTo("fresh");
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(recoveries.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("회복 알림이 실패해도 확인 요청의 결과를 돌려주고 다른 알림을 보내야 한다.")
+    void notifyRecoveryAfterProbe() {
+        // given
+        CircuitBreaker circuitBreaker = circuitBreaker(0L);
+        AtomicInteger recoveries = new AtomicInteger();
+        circuitBreaker.onRecovery(() -> {
+            throw new IllegalStateException("알림 실패");
+        });
+        circuitBreaker.onRecovery(recoveries::incrementAndGet);
+        open(circuitBreaker);
+
+        // when
+        String result = circuitBreaker.read(() -> "fresh", () -> "snapshot");
+
+        // then
+        assertThat(result).isEqualTo("fresh");
+        assertThat(recoveries.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반개방 상태의 확인 요청이 실패하면 회로를 다시 열어야 한다.")
+    void reopenAfterFailedProbe() {
+        // given
+        CircuitBreaker circuitBreaker = circuitBreaker(0L);
+        open(circuitBreaker);
+
+        // when
+        circuitBreaker.read(timeout, () -> "snapshot");
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.getTrips()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("데이터 오류는 장애로 집계하지 않고 그대로 던져야 한다.")
+    void propagateDataErrors() {
+        // given
+        CircuitBreaker circuitBreaker = circuitBreaker(60_000L);
+        Supplier<String> duplicate = () -> {
+            throw new DuplicateKeyException("duplicate");
+        };
+
+        // when & then
+        assertThatThrownBy(() -> circuitBreaker.read(duplicate, () -> "snapshot"))
+            .isInstanceOf(DuplicateKeyException.class);
+        assertThatThrownBy(() -> circuitBreaker.read(duplicate, () -> "snapshot"))
+            .isInstanceOf(DuplicateKeyException.class);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("회로가 닫혀 있으면 장애가 나도 마지막 조회 결과로 응답하지 않아야 한다.")
+    void noSnapshotWhileClosed() {
+        // given
+        CircuitBreaker circuitBreaker = circuitBreaker(60_000L);
+
+        // when & then
+        assertThatThrownBy(() -> circuitBreaker.read(timeout, () -> "snapshot"))
+            .isInstanceOf(QueryTimeoutException.class);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getStaleReads()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시를 다시 만드는 조회는 회로가 열려 있으면 마지막 조회 결과 대신 실패해야 한다.")
+    void failFreshReadWhileOpen() {
+        // given
+        CircuitBreaker circuitBreaker = circuitBreaker(60_000L);
+        open(circuitBreaker);
+
+        // when & then
+        assertThatThrownBy(() -> FreshReads.require(() -> circuitBreaker.read(() -> "fresh", () -> "snapshot")))
+            .isInstanceOf(CircuitOpenException.class);
+        assertThat(FreshReads.isRequired()).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시 조회가 한도를 넘으면 버리지 않고 잠시 기다렸다가 처리해야 한다.")
+    void waitForReadPermit() throws Exception {
+        // given
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1_000L, 50, 4, 2, 60_000L, 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        Thread holder = new Thread(() -> circuitBreaker.read(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(50L);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return "first";
+        }, () -> "snapshot"));
+        holder.start();
+        started.await();
+
+        // when
+        String result = circuitBreaker.read(() -> "second", () -> "snapshot");
+        holder.join();
+
+        // then
+        assertThat(result).isEqualTo("second");
+        assertThat(circuitBreaker.getRejectedReads()).isZero();
+    }
+
+    @Test
+    @DisplayName("회로가 열린 동안 응답한 가장 오래된 조회 결과 시각을 알려주고 닫히면 지워야 한다.")
+    void staleSinceWhileOpen() {
+        // given
+        CircuitBreaker circuitBreaker = circuitBreaker(0L);
+        open(circuitBreaker);
+        circuitBreaker.servedSnapshot(1_000L);
+        Optional<Long> whileOpen = circuitBreaker.staleSince();
+
+        // when
+        circuitBreaker.read(() -> "fresh", () -> "snapshot");
+
+        // then
+        assertThat(whileOpen).contains(1_000L);
+        assertThat(circuitBreaker.staleSince()).isEmpty();
+    }
+
+    private void open(CircuitBreaker circuitBreaker) {
+        assertThatThrownBy(() -> circuitBreaker.read(timeout, () -> "snapshot"))
+            .isInstanceOf(QueryTimeoutException.class);
+        circuitBreaker.read(timeout, () -> "snapshot");
+    }
+
+    private CircuitBreaker circuitBreaker(long openMillis) {
+        return new CircuitBreaker(1_000L, 50, 4, 2, openMillis, 1, 4);
+    }
+}
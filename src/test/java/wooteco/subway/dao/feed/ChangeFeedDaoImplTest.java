@@ -0,0 +1,62 @@
+package wooteco.subway.dao.feed;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@JdbcTest
+class ChangeFeedDaoImplTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ChangeFeedDao changeFeedDao;
+
+    @BeforeEach
+    void setUp() {
+        changeFeedDao = new ChangeFeedDaoImpl(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("기록한 순서대로 이후 변경을 조회할 수 있어야 한다.")
+    void findAfter() {
+        // given
+        long lastId = changeFeedDao.findLastId();
+        changeFeedDao.append("node-a", ChangeKind.LINE, 1L, 100L);
+        changeFeedDao.append("node-a", ChangeKind.NETWORK, null, 200L);
+
+        // when
+        List<ChangeFeedEntry> entries = changeFeedDao.findAfter(lastId, 10);
+
+        // then
+        assertThat(entries).hasSize(2);
+        assertThat(entries.get(0).getKind()).isEqualTo(ChangeKind.LINE);
+        assertThat(entries.get(0).getEntityId()).isEqualTo(1L);
+        assertThat(entries.get(1).getEntityId()).isNull();
+        assertThat(changeFeedDao.findLastId()).isEqualTo(entries.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 변경을 삭제해야 한다.")
+    void deleteBefore() {
+        // given
+        long lastId = changeFeedDao.findLastId();
+        changeFeedDao.append("node-a", ChangeKind.STATION, 1L, 100L);
+        changeFeedDao.append("node-a", ChangeKind.STATION, 2L, 300L);
+
+        // when
+        changeFeedDao.deleteBefore(200L);
+
+        // then
+        List<ChangeFeedEntry> entries = changeFeedDao.findAfter(lastId, 10);
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).getEntityId()).isEqualTo(2L);
+    }
+}
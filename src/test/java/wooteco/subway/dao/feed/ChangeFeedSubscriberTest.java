@@ -0,0 +1,241 @@
+package wooteco.subway.dao.feed;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import wooteco.subway.dao.FakeLineDao;
+import wooteco.subway.dao.FakeStationDao;
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.LineChangedEvent;
+import wooteco.subway.domain.NetworkReplacedEvent;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.StationChangedEvent;
+import wooteco.subway.service.LineIndexService;
+import wooteco.subway.service.NetworkService;
+
+class ChangeFeedSubscriberTest {
+
+    private final FakeChangeFeedDao changeFeedDao = new FakeChangeFeedDao();
+    private final ChangeFeedPublisher otherNode = new ChangeFeedPublisher(changeFeedDao, "node-a");
+    private final ChangeFeedPublisher thisNode = new ChangeFeedPublisher(changeFeedDao, "node-b");
+    private final List<Object> events = new ArrayList<>();
+
+    private ChangeFeedSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        subscriber = subscriber(5_000L, 60_000L);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경만 원격 이벤트로 다시 발행해야 한다.")
+    void applyRemoteChanges() {
+        // given
+        otherNode.onLineChanged(new LineChangedEvent(1L));
+        thisNode.onLineChanged(new LineChangedEvent(2L));
+        otherNode.onStationChanged(new StationChangedEvent(3L));
+
+        // when
+        subscriber.poll();
+
+        // then
+        assertThat(events).hasSize(2);
+        assertThat(((LineChangedEvent)events.get(0)).getLineId()).isEqualTo(1L);
+        assertThat(((LineChangedEvent)events.get(0)).isRemote()).isTrue();
+        assertThat(((StationChangedEvent)events.get(1)).getStationId()).isEqualTo(3L);
+        assertThat(subscriber.metrics().getCursor()).isEqualTo(3L);
+        assertThat(subscriber.metrics().getApplied()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("원격 이벤트는 변경 피드에 다시 기록하지 않아야 한다.")
+    void ignoreRemoteEvents() {
+        // when
+        thisNode.onLineChanged(new LineChangedEvent(1L, true));
+        thisNode.onNetworkReplaced(new NetworkReplacedEvent(true));
+
+        // then
+        assertThat(changeFeedDao.findLastId()).isZero();
+    }
+
+    @Test
+    @DisplayName("먼저 발급된 번호가 늦게 커밋되어도 놓치지 않아야 한다.")
+    void waitForLateCommit() {
+        // given
+        long late = changeFeedDao.reserve();
+        otherNode.onLineChanged(new LineChangedEvent(2L));
+        subscriber.poll();
+
+        // when
+        changeFeedDao.commit(late, "node-a", ChangeKind.LINE, 1L, System.currentTimeMillis());
+        subscriber.poll();
+
+        // then
+        List<Long> lineIds = events.stream()
+            .map(event -> ((LineChangedEvent)event).getLineId())
+            .collect(Collectors.toList());
+        assertThat(lineIds).containsExactly(2L, 1L);
+        assertThat(subscriber.metrics().getCursor()).isEqualTo(2L);
+        assertThat(subscriber.metrics().getPendingIds()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나도 채워지지 않는 번호는 건너뛰고 캐시 전체를 무효화해야 한다.")
+    void skipAbandonedId() {
+        // given
+        subscriber = subscriber(5_000L, 0L);
+        changeFeedDao.reserve();
+        otherNode.onLineChanged(new LineChangedEvent(2L));
+
+        // when
+        subscriber.poll();
+
+        // then
+        assertThat(subscriber.metrics().getCursor()).isEqualTo(2L);
+        assertThat(subscriber.metrics().getSkippedIds()).isEqualTo(1L);
+        assertThat(events).hasSize(2);
+        assertThat(events.get(1)).isInstanceOf(NetworkReplacedEvent.class);
+        assertThat(subscriber.metrics().getFullInvalidations()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("전파 지연을 기록해야 한다.")
+    void recordLag() {
+        // given
+        changeFeedDao.append("node-a", ChangeKind.LINE, 1L, System.currentTimeMillis() - 300L);
+
+        // when
+        subscriber.poll();
+
+        // then
+        assertThat(subscriber.metrics().getLastLagMillis()).isGreaterThanOrEqualTo(300L);
+        assertThat(subscriber.metrics().getMaxLagMillis()).isGreaterThanOrEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("최대 지연 허용 시간 동안 읽지 못하면 캐시 전체를 무효화해야 한다.")
+    void invalidateAllWhenStale() throws InterruptedException {
+        // given
+        subscriber = subscriber(10L, 0L);
+        otherNode.onLineChanged(new LineChangedEvent(1L));
+        Thread.sleep(30L);
+
+        // when
+        subscriber.poll();
+
+        // then
+        assertThat(events).hasSize(1);
+        assertThat(((NetworkReplacedEvent)events.get(0)).isRemote()).isTrue();
+        assertThat(subscriber.metrics().getCursor()).isEqualTo(1L);
+        assertThat(subscriber.metrics().getFullInvalidations()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("변경 피드를 읽을 수 없어도 지연 허용 시간이 지나면 캐시 전체를 무효화해야 한다.")
+    void invalidateAllWhileUnavailable() throws InterruptedException {
+        // given
+        subscriber = subscriber(10L, 0L);
+        changeFeedDao.setUnavailable(true);
+        Thread.sleep(30L);
+
+        // when & then
+        assertThatThrownBy(() -> subscriber.poll())
+            .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0)).isInstanceOf(NetworkReplacedEvent.class);
+        assertThat(subscriber.staleSince()).isPresent();
+    }
+
+    @Test
+    @DisplayName("지연 허용 시간 안에 읽었으면 오래된 상태로 보지 않아야 한다.")
+    void freshWithinMaxStaleness() {
+        // when
+        subscriber.poll();
+
+        // then
+        assertThat(subscriber.staleSince()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 리스너가 원격 변경을 반영하지 못해도 나머지 리스너는 반영해야 한다.")
+    void continueAfterListenerFailure() {
+        // given
+        Station gangnam = new Station(1L, "강남역");
+        Station yeoksam = new Station(2L, "역삼역");
+        Station seolleung = new Station(3L, "선릉역");
+        FlakyLineDao lineDao = new FlakyLineDao();
+        Long lineId = lineDao.save(new Line("2호선", "bg-green-600"));
+        lineDao.saveSections(lineId, new Section(gangnam, yeoksam, 10));
+        NetworkService networkService = new NetworkService(lineDao);
+        LineIndexService lineIndexService = new LineIndexService(lineDao, new FakeStationDao());
+        networkService.connected(1L, 2L);
+        lineIndexService.isInUse(1L);
+        ApplicationEventPublisher listeners = event -> {
+            networkService.onLineChanged((LineChangedEvent)event);
+            lineIndexService.onLineChanged((LineChangedEvent)event);
+        };
+        ChangeFeedSubscriber subscriber = new ChangeFeedSubscriber(changeFeedDao, listeners, thisNode.getNodeId(),
+            5_000L, 60_000L, 600_000L);
+        subscriber.initialize();
+        lineDao.saveSections(lineId, new Section(gangnam, yeoksam, 10), new Section(yeoksam, seolleung, 10));
+        otherNode.onLineChanged(new LineChangedEvent(lineId));
+        lineDao.failNext();
+
+        // when
+        subscriber.poll();
+
+        // then
+        assertThat(subscriber.metrics().getCursor()).isEqualTo(1L);
+        assertThat(lineIndexService.isInUse(3L)).isTrue();
+        assertThat(networkService.connected(1L, 3L)).isTrue();
+    }
+
+    private ChangeFeedSubscriber subscriber(long maxStalenessMillis, long gapTimeoutMillis) {
+        ChangeFeedSubscriber subscriber = new ChangeFeedSubscriber(changeFeedDao, events::add,
+            thisNode.getNodeId(), maxStalenessMillis, gapTimeoutMillis, 600_000L);
+        subscriber.initialize();
+        return subscriber;
+    }
+
+    private static class FlakyLineDao extends FakeLineDao {
+        private final Map<Long, List<Section>> sections = new HashMap<>();
+        private int failures;
+
+        void saveSections(Long lineId, Section... lineSections) {
+            sections.put(lineId, List.of(lineSections));
+        }
+
+        void failNext() {
+            failures++;
+        }
+
+        @Override
+        public Optional<Line> findById(Long id) {
+            if (failures > 0) {
+                failures--;
+                throw new DataAccessResourceFailureException("데이터베이스에 연결할 수 없습니다.");
+            }
+            return super.findById(id).map(line -> Line.from(line, sections.get(id)));
+        }
+
+        @Override
+        public List<Line> findAll() {
+            return super.findAll().stream()
+                .map(line -> Line.from(line, sections.get(line.getId())))
+                .collect(Collectors.toList());
+        }
+    }
+}
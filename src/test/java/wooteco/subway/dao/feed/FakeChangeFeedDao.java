@@ -0,0 +1,65 @@
+package wooteco.subway.dao.feed;
+
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+
+public class FakeChangeFeedDao implements ChangeFeedDao {
+
+    private final NavigableMap<Long, ChangeFeedEntry> entries = new TreeMap<>();
+    private long sequence;
+    private boolean unavailable;
+
+    public synchronized void setUnavailable(boolean unavailable) {
+        this.unavailable = unavailable;
+    }
+
+    private void checkAvailable() {
+        if (unavailable) {
+            throw new DataAccessResourceFailureException("변경 피드 저장소에 연결할 수 없습니다.");
+        }
+    }
+
+    @Override
+    public synchronized void append(String nodeId, ChangeKind kind, Long entityId, long createdAt) {
+        commit(reserve(), nodeId, kind, entityId, createdAt);
+    }
+
+    public synchronized long reserve() {
+        return ++sequence;
+    }
+
+    public synchronized void commit(long id, String nodeId, ChangeKind kind, Long entityId, long createdAt) {
+        entries.put(id, new ChangeFeedEntry(id, nodeId, kind, entityId, createdAt));
+    }
+
+    @Override
+    public synchronized List<ChangeFeedEntry> findAfter(long id, int limit) {
+        checkAvailable();
+        return entries.tailMap(id, false).values().stream()
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public synchronized long findLastId() {
+        checkAvailable();
+        if (entries.isEmpty()) {
+            return 0L;
+        }
+        return entries.lastKey();
+    }
+
+    @Override
+    public synchronized int deleteBefore(long createdAt) {
+        List<Long> expired = entries.values().stream()
+            .filter(entry -> entry.getCreatedAt() < createdAt)
+            .map(ChangeFeedEntry::getId)
+            .collect(Collectors.toList());
+        expired.forEach(entries::remove);
+        return expired.size();
+    }
+}
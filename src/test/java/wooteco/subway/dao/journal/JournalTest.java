@@ -0,0 +1,231 @@
+package wooteco.subway.dao.journal;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import wooteco.subway.dao.memory.MemorySnapshotDao;
+import wooteco.subway.dao.memory.MemoryStore;
+import wooteco.subway.dao.snapshot.NetworkSnapshot;
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+class JournalTest {
+    private static final int SEGMENT_BYTES = 4096;
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("저널을 다시 열면 기록된 변경을 모두 복구해야 한다.")
+    void recover() {
+        // given
+        Journal journal = new Journal(directory, SEGMENT_BYTES);
+        MemoryStore store = open(journal);
+        Station station1 = store.saveStation(new Station("강남역"));
+        Station station2 = store.saveStation(new Station("역삼역"));
+        Station station3 = store.saveStation(new Station("선릉역"));
+        Long lineId = store.saveLine(new Line("2호선", "bg-green-600"));
+        store.saveSection(new Section(station1, station2, 3), lineId);
+        Long sectionId = store.saveSection(new Section(station2, station3, 4), lineId);
+        store.compareAndIncrementVersion(lineId, 0L);
+        store.deleteSection(sectionId);
+        journal.close();
+
+        // when
+        Journal reopened = new Journal(directory, SEGMENT_BYTES);
+        MemoryStore recovered = open(reopened);
+
+        // then
+        Line line = recovered.findLine(lineId).get();
+        assertThat(stationNames(line)).containsExactly("강남역", "역삼역");
+        assertThat(line.getVersion()).isEqualTo(1L);
+        assertThat(recovered.saveStation(new Station("삼성역")).getId()).isEqualTo(station3.getId() + 1);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("세그먼트를 넘겨 기록하고 압축한 뒤에도 같은 상태로 복구해야 한다.")
+    void compact() throws IOException {
+        // given
+        Journal journal = new Journal(directory, SEGMENT_BYTES);
+        MemoryStore store = open(journal);
+        List<Station> stations = IntStream.range(0, 200)
+            .mapToObj(i -> store.saveStation(new Station("역" + i)))
+            .collect(Collectors.toList());
+        Long lineId = store.saveLine(new Line("2호선", "bg-green-600"));
+        for (int i = 0; i < 199; i++) {
+            store.saveSection(new Section(stations.get(i), stations.get(i + 1), 1), lineId);
+        }
+
+        // when
+        journal.compact();
+        store.saveStation(new Station("압축 이후 역"));
+        journal.close();
+        MemoryStore recovered = open(new Journal(directory, SEGMENT_BYTES));
+
+        // then
+        assertThat(recovered.findLine(lineId).get().getStations()).hasSize(200);
+        assertThat(recovered.findAllStations()).hasSize(201);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.filter(path -> path.toString().endsWith(".log")).count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 모든 변경이 복구되어야 한다.")
+    void concurrentAppends() {
+        // given
+        Journal journal = new Journal(directory, SEGMENT_BYTES);
+        MemoryStore store = open(journal);
+
+        // when
+        IntStream.range(0, 500).parallel().forEach(i -> store.saveStation(new Station("역" + i)));
+        journal.close();
+        MemoryStore recovered = open(new Journal(directory, SEGMENT_BYTES));
+
+        // then
+        assertThat(recovered.findAllStations()).hasSize(500);
+    }
+
+    @Test
+    @DisplayName("스냅샷으로 교체한 상태를 다시 열어도 그대로 복구해야 한다.")
+    void replaceWithSnapshot() {
+        // given
+        Journal journal = new Journal(directory, SEGMENT_BYTES);
+        MemoryStore store = open(journal);
+        store.saveStation(new Station("교체 전 역"));
+        Station gangnam = new Station(10L, "강남역");
+        Station yeoksam = new Station(11L, "역삼역");
+        Line line = Line.from(new Line(5L, "2호선", "bg-green-600"), List.of(new Section(20L, gangnam, yeoksam, 3)));
+
+        // when
+        new MemorySnapshotDao(store).replace(NetworkSnapshot.of(List.of(gangnam, yeoksam), List.of(line)));
+        journal.close();
+        MemoryStore recovered = open(new Journal(directory, SEGMENT_BYTES));
+
+        // then
+        assertThat(recovered.findAllStations()).hasSize(2);
+        assertThat(stationNames(recovered.findLine(5L).get())).containsExactly("강남역", "역삼역");
+        assertThat(recovered.saveStation(new Station("선릉역")).getId()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("기본 버퍼보다 큰 레코드도 기록하고 복구해야 한다.")
+    void appendLargeRecord() {
+        // given
+        Journal journal = new Journal(directory, 65536);
+        MemoryStore store = open(journal);
+        String name = "역".repeat(3000);
+
+        // when
+        Station station = store.saveStation(new Station(name));
+        journal.close();
+        MemoryStore recovered = open(new Journal(directory, 65536));
+
+        // then
+        assertThat(recovered.findStation(station.getId()).get().getName()).isEqualTo(name);
+    }
+
+    @Test
+    @DisplayName("세그먼트보다 큰 레코드는 기록하지 않고 메모리의 변경도 되돌려야 한다.")
+    void rejectOversizedRecord() {
+        // given
+        Journal journal = new Journal(directory, SEGMENT_BYTES);
+        MemoryStore store = open(journal);
+
+        // then
+        assertThatThrownBy(() -> store.saveStation(new Station("역".repeat(2000))))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(store.findAllStations()).isEmpty();
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("손상된 레코드를 만나면 그 뒤의 레코드와 세그먼트는 복구하지 않아야 한다.")
+    void stopAtCorruptRecord() throws IOException {
+        // given
+        Journal journal = new Journal(directory, SEGMENT_BYTES);
+        MemoryStore store = open(journal);
+        IntStream.range(0, 200).forEach(i -> store.saveStation(new Station("역" + i)));
+        journal.close();
+        corruptSecondRecord(firstSegment());
+
+        // when
+        Journal reopened = new Journal(directory, SEGMENT_BYTES);
+        MemoryStore recovered = open(reopened);
+        recovered.saveStation(new Station("복구 이후 역"));
+        reopened.close();
+        MemoryStore recoveredAgain = open(new Journal(directory, SEGMENT_BYTES));
+
+        // then
+        assertThat(recoveredAgain.findAllStations().stream()
+            .map(Station::getName)
+            .collect(Collectors.toList())).containsExactlyInAnyOrder("역0", "복구 이후 역");
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.filter(path -> path.toString().endsWith(".log")).count()).isEqualTo(1);
+        }
+    }
+
+    private Path firstSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".log"))
+                .sorted()
+                .findFirst()
+                .get();
+        }
+    }
+
+    private void corruptSecondRecord(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(header, 0);
+            int secondBody = Integer.BYTES * 2 + header.flip().getInt() + Integer.BYTES * 2;
+            ByteBuffer body = ByteBuffer.allocate(1);
+            channel.read(body, secondBody);
+            body.put(0, (byte)(body.get(0) ^ 0xFF));
+            channel.write(body.rewind(), secondBody);
+        }
+    }
+
+    private MemoryStore open(Journal journal) {
+        MemoryStore store = new MemoryStore(journal);
+        journal.recover(store);
+        return store;
+    }
+
+    private List<String> stationNames(Line line) {
+        return line.getStations().stream()
+            .map(Station::getName)
+            .collect(Collectors.toList());
+    }
+}
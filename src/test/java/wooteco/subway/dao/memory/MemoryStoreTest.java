@@ -0,0 +1,253 @@
+package wooteco.subway.dao.memory;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.geo.Coordinate;
+
+class MemoryStoreTest {
+    private MemoryStore store;
+    private Station station1;
+    private Station station2;
+    private Station station3;
+
+    @BeforeEach
+    void setUp() {
+        store = new MemoryStore();
+        station1 = store.saveStation(new Station("강남역", new Coordinate(37.4979, 127.0276)));
+        station2 = store.saveStation(new Station("역삼역"));
+        station3 = store.saveStation(new Station("선릉역"));
+    }
+
+    @Test
+    @DisplayName("역과 노선의 이름이 중복되면 예외를 반환해야 한다.")
+    void duplicateName() {
+        // given
+        store.saveLine(new Line("2호선", "bg-green-600"));
+
+        // then
+        assertThatThrownBy(() -> store.saveStation(new Station("강남역")))
+            .isInstanceOf(DuplicateKeyException.class);
+        assertThatThrownBy(() -> store.saveLine(new Line("2호선", "bg-red-600")))
+            .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    @DisplayName("노선을 조회하면 저장된 구간이 순서대로 이어져야 한다.")
+    void findLine() {
+        // given
+        Long lineId = store.saveLine(new Line("2호선", "bg-green-600"));
+        store.saveSection(new Section(station2, station3, 5), lineId);
+        store.saveSection(new Section(station1, station2, 3), lineId);
+
+        // when
+        Line line = store.findLine(lineId).get();
+
+        // then
+        assertThat(stationNames(line)).containsExactly("강남역", "역삼역", "선릉역");
+        assertThat(line.distanceBetween(station1, station3)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("구간에서 참조하는 역은 삭제할 수 없어야 한다.")
+    void deleteReferencedStation() {
+        // given
+        Long lineId = store.saveLine(new Line("2호선", "bg-green-600"));
+        store.saveSection(new Section(station1, station2, 3), lineId);
+
+        // then
+        assertThatThrownBy(() -> store.deleteStation(station2.getId()))
+            .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(store.findStation(station2.getId())).isPresent();
+        assertThat(store.deleteStation(station3.getId())).isTrue();
+        assertThatThrownBy(() -> store.saveSection(new Section(station2, station3, 4), lineId))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("기대한 버전과 같을 때만 노선의 버전을 올려야 한다.")
+    void compareAndIncrementVersion() {
+        // given
+        Long lineId = store.saveLine(new Line("2호선", "bg-green-600"));
+
+        // then
+        assertThat(store.compareAndIncrementVersion(lineId, 0L)).isTrue();
+        assertThat(store.compareAndIncrementVersion(lineId, 0L)).isFalse();
+        assertThat(store.findLine(lineId).get().getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("스냅샷으로 저장한 상태를 그대로 복원해야 한다.")
+    void snapshot() throws IOException {
+        // given
+        Long lineId = store.saveLine(new Line("2호선", "bg-green-600", 900));
+        store.saveSection(new Section(station1, station2, 3), lineId);
+        Path path = Files.createTempFile("memory-store", ".snapshot");
+
+        // when
+        MemorySnapshotFile.write(store.capture(), path);
+        MemoryStore restored = new MemoryStore();
+        restored.restore(MemorySnapshotFile.read(path));
+        Files.deleteIfExists(path);
+
+        // then
+        Line line = restored.findLine(lineId).get();
+        assertThat(line.getExtraFare()).isEqualTo(900);
+        assertThat(stationNames(line)).containsExactly("강남역", "역삼역");
+        assertThat(restored.findStation(station1.getId()).get().getCoordinate().getLatitude()).isEqualTo(37.4979);
+        assertThat(restored.saveStation(new Station("삼성역")).getId()).isEqualTo(station3.getId() + 1);
+    }
+
+    @Test
+    @DisplayName("여러 노선에 동시에 구간을 저장해도 모두 반영되어야 한다.")
+    void concurrentSaves() {
+        // given
+        List<Long> lineIds = IntStream.range(0, 16)
+            .mapToObj(i -> store.saveLine(new Line("노선" + i, "bg-red-600")))
+            .collect(Collectors.toList());
+
+        // when
+        lineIds.parallelStream().forEach(lineId -> store.saveSection(new Section(station1, station2, 3), lineId));
+
+        // then
+        assertThat(store.findAllLines().stream()
+            .filter(line -> line.getSections().size() == 1)
+            .count()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("구간을 한꺼번에 수정하면 바뀐 구간만 기록하고 한 번만 동기화해야 한다.")
+    void updateSectionsOnce() {
+        // given
+        List<String> records = new ArrayList<>();
+        MemoryStore journaled = new MemoryStore(new MutationLog() {
+            @Override
+            public void sectionSaved(long id, long lineId, long upStationId, long downStationId, int distance) {
+                records.add("section " + id);
+            }
+
+            @Override
+            public void sync() {
+                records.add("sync");
+            }
+        });
+        Station gangnam = journaled.saveStation(new Station("강남역"));
+        Station yeoksam = journaled.saveStation(new Station("역삼역"));
+        Station seolleung = journaled.saveStation(new Station("선릉역"));
+        Long lineId = journaled.saveLine(new Line("2호선", "bg-green-600"));
+        Long firstId = journaled.saveSection(new Section(gangnam, yeoksam, 3), lineId);
+        Long secondId = journaled.saveSection(new Section(yeoksam, seolleung, 5), lineId);
+        records.clear();
+
+        // when
+        journaled.updateSections(List.of(new Section(firstId, gangnam, yeoksam, 3),
+            new Section(secondId, yeoksam, seolleung, 4)));
+
+        // then
+        assertThat(records).containsExactly("section " + secondId, "sync");
+        assertThat(journaled.findLine(lineId).get().distanceBetween(gangnam, seolleung)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("구간이 더 이상 참조하지 않는 역은 삭제할 수 있어야 한다.")
+    void deleteReleasedStation() {
+        // given
+        Long lineId = store.saveLine(new Line("2호선", "bg-green-600"));
+        Long sectionId = store.saveSection(new Section(station1, station2, 3), lineId);
+        store.updateSections(List.of(new Section(sectionId, station1, station3, 3)));
+
+        // when
+        boolean deleted = store.deleteStation(station2.getId());
+
+        // then
+        assertThat(deleted).isTrue();
+        assertThatThrownBy(() -> store.deleteStation(station3.getId()))
+            .isInstanceOf(DataIntegrityViolationException.class);
+        store.deleteSection(sectionId);
+        assertThat(store.deleteStation(station3.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("구간 수정 중 하나라도 실패하면 앞서 바꾼 구간도 되돌려야 한다.")
+    void updateSectionsAtomically() {
+        // given
+        Long lineId = store.saveLine(new Line("2호선", "bg-green-600"));
+        Long firstId = store.saveSection(new Section(station1, station2, 3), lineId);
+        Long secondId = store.saveSection(new Section(station2, station3, 5), lineId);
+        Station missing = new Station(999L, "없는역");
+
+        // when
+        assertThatThrownBy(() -> store.updateSections(List.of(new Section(firstId, station1, station2, 2),
+            new Section(secondId, station2, missing, 6))))
+            .isInstanceOf(DataIntegrityViolationException.class);
+
+        // then
+        Line line = store.findLine(lineId).get();
+        assertThat(line.distanceBetween(station1, station3)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 그 안에서 바꾼 노선과 구간, 기록을 모두 되돌려야 한다.")
+    void rollbackWithTransaction() {
+        // given
+        List<String> records = new ArrayList<>();
+        MemoryStore journaled = new MemoryStore(new MutationLog() {
+            @Override
+            public void lineSaved(long id, String name, String color, int extraFare, long version) {
+                records.add("line " + id);
+            }
+
+            @Override
+            public void sectionSaved(long id, long lineId, long upStationId, long downStationId, int distance) {
+                records.add("section " + id);
+            }
+        });
+        Station gangnam = journaled.saveStation(new Station("강남역"));
+        Station yeoksam = journaled.saveStation(new Station("역삼역"));
+        Station seolleung = journaled.saveStation(new Station("선릉역"));
+        Long lineId = journaled.saveLine(new Line("2호선", "bg-green-600"));
+        journaled.saveSection(new Section(gangnam, yeoksam, 3), lineId);
+        records.clear();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(
+            new DataSourceTransactionManager(new DriverManagerDataSource("jdbc:h2:mem:memory-store")));
+
+        // when
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            journaled.compareAndIncrementVersion(lineId, 0L);
+            journaled.saveSection(new Section(yeoksam, seolleung, 5), lineId);
+            throw new IllegalStateException("기록 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        Line line = journaled.findLine(lineId).get();
+        assertThat(line.getVersion()).isZero();
+        assertThat(stationNames(line)).containsExactly("강남역", "역삼역");
+        assertThat(journaled.deleteStation(seolleung.getId())).isTrue();
+        assertThat(records).isEmpty();
+    }
+
+    private List<String> stationNames(Line line) {
+        return line.getStations().stream()
+            .map(Station::getName)
+            .collect(Collectors.toList());
+    }
+}
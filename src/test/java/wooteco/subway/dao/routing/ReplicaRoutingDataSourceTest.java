@@ -0,0 +1,155 @@
+package wooteco.subway.dao.routing;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicaRoutingDataSourceTest {
+    private static final long MAX_LAG_MILLIS = 1000L;
+    private static final long PIN_MILLIS = 60_000L;
+
+    private EmbeddedDatabase primaryDatabase;
+    private EmbeddedDatabase replicaDatabase;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primaryDatabase = database("routing-primary");
+        replicaDatabase = database("routing-replica");
+        new JdbcTemplate(primaryDatabase).update("INSERT INTO STATION (name) VALUES ('주 저장소 역')");
+        new JdbcTemplate(replicaDatabase).update("INSERT INTO STATION (name) VALUES ('복제본 역')");
+
+        routingDataSource = new ReplicaRoutingDataSource(DataSourcePool.primary(primaryDatabase),
+            List.of(DataSourcePool.replica("replica-0", replicaDatabase)), MAX_LAG_MILLIS,
+            PIN_MILLIS);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        PrimaryPin.clear();
+        primaryDatabase.shutdown();
+        replicaDatabase.shutdown();
+    }
+
+    @Test
+    @DisplayName("지연이 허용 범위 안인 복제본으로 읽기 전용 트랜잭션을 보내야 한다.")
+    void routeReadOnlyToReplica() {
+        // given
+        replicateHeartbeat(System.currentTimeMillis());
+        new ReplicaLagMonitor(routingDataSource).check();
+
+        // when
+        String read = readOnlyTransaction.execute(status -> stationName());
+        String written = writeTransaction.execute(status -> stationName());
+
+        // then
+        assertThat(read).isEqualTo("복제본 역");
+        assertThat(written).isEqualTo("주 저장소 역");
+        assertThat(routingDataSource.getReplicas().get(0).getBorrowed()).isEqualTo(1L);
+        assertThat(routingDataSource.getFallbacks()).isZero();
+    }
+
+    @Test
+    @DisplayName("복제본의 지연이 허용 범위를 넘으면 주 저장소에서 읽어야 한다.")
+    void fallbackWhenReplicaLags() {
+        // given
+        replicateHeartbeat(System.currentTimeMillis() - 60_000L);
+        new ReplicaLagMonitor(routingDataSource).check();
+
+        // when
+        String read = readOnlyTransaction.execute(status -> stationName());
+
+        // then
+        assertThat(read).isEqualTo("주 저장소 역");
+        assertThat(routingDataSource.getReplicas().get(0).getLagMillis()).isGreaterThan(MAX_LAG_MILLIS);
+        assertThat(routingDataSource.getFallbacks()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("지연을 측정하지 못한 복제본으로는 읽기를 보내지 않아야 한다.")
+    void skipUnmeasuredReplica() {
+        // when
+        new ReplicaLagMonitor(routingDataSource).check();
+        String read = readOnlyTransaction.execute(status -> stationName());
+
+        // then
+        assertThat(read).isEqualTo("주 저장소 역");
+        assertThat(routingDataSource.getReplicas().get(0).getLagMillis()).isEqualTo(DataSourcePool.UNKNOWN_LAG);
+    }
+
+    @Test
+    @DisplayName("쓰기 직후의 읽기는 복제본이 따라잡을 때까지 주 저장소에서 읽어야 한다.")
+    void readYourWrites() {
+        // given
+        replicateHeartbeat(System.currentTimeMillis());
+        new ReplicaLagMonitor(routingDataSource).check();
+
+        // when
+        writeTransaction.execute(status -> jdbcTemplate.update("UPDATE STATION SET name = '새 역'"));
+        String read = readOnlyTransaction.execute(status -> stationName());
+
+        // then
+        assertThat(read).isEqualTo("새 역");
+        assertThat(routingDataSource.getPinnedReads()).isEqualTo(1L);
+        assertThat(routingDataSource.getReplicas().get(0).getBorrowed()).isZero();
+    }
+
+    @Test
+    @DisplayName("계정을 지정한 연결은 주 저장소로 보내야 한다.")
+    void credentialedConnectionToPrimary() throws SQLException {
+        // when
+        String name;
+        try (Connection connection = routingDataSource.getConnection("sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT name FROM STATION")) {
+            resultSet.next();
+            name = resultSet.getString(1);
+        }
+
+        // then
+        assertThat(name).isEqualTo("주 저장소 역");
+    }
+
+    private EmbeddedDatabase database(String name) {
+        return new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .setName(name)
+            .addScript("schema.sql")
+            .build();
+    }
+
+    private void replicateHeartbeat(long beat) {
+        new JdbcTemplate(replicaDatabase).update("INSERT INTO REPLICA_HEARTBEAT (id, beat_at) VALUES (1, ?)", beat);
+    }
+
+    private String stationName() {
+        return jdbcTemplate.queryForObject("SELECT name FROM STATION", String.class);
+    }
+}
@@ -0,0 +1,57 @@
+package wooteco.subway.dao.shard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ShardPlacementTest {
+
+    @Test
+    @DisplayName("배치 설정이 없으면 슬롯을 샤드 수로 나눈 나머지로 배치해야 한다.")
+    void defaultPlacement() {
+        // given
+        ShardPlacement placement = ShardPlacement.of(4, 2, "");
+
+        // when & then
+        assertThat(placement.shardOf(1L)).isEqualTo(1);
+        assertThat(placement.shardOf(2L)).isEqualTo(0);
+        assertThat(placement.shardOf(7L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("설정한 슬롯별 샤드로 노선을 배치해야 한다.")
+    void configuredPlacement() {
+        // given
+        ShardPlacement placement = ShardPlacement.of(4, 3, "0, 2, 2, 1");
+
+        // when & then
+        assertThat(placement.shardOf(4L)).isEqualTo(0);
+        assertThat(placement.shardOf(5L)).isEqualTo(2);
+        assertThat(placement.shardOf(3L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구간 id는 노선과 같은 샤드에 배치되어야 한다.")
+    void sectionFollowsLine() {
+        // given
+        ShardPlacement placement = ShardPlacement.of(4, 3, "0,2,2,1");
+
+        // when
+        long sectionId = placement.sectionId(10L, 7L);
+
+        // then
+        assertThat(placement.shardOf(sectionId)).isEqualTo(placement.shardOf(7L));
+    }
+
+    @Test
+    @DisplayName("슬롯 수와 맞지 않거나 없는 샤드를 가리키는 배치는 허용하지 않아야 한다.")
+    void invalidPlacement() {
+        assertThatThrownBy(() -> ShardPlacement.of(4, 2, "0,1"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ShardPlacement.of(2, 2, "0,2"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ShardPlacement.of(2, 2, "0,a"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
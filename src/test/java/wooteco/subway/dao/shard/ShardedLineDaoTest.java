@@ -0,0 +1,269 @@
+package wooteco.subway.dao.shard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+class ShardedLineDaoTest {
+
+    private List<EmbeddedDatabase> databases;
+    private Shards shards;
+    private ShardedLineDao lineDao;
+    private ShardedSectionDao sectionDao;
+    private ShardedStationDao stationDao;
+
+    private Station gangnam;
+    private Station yeoksam;
+    private Station seolleung;
+
+    @BeforeEach
+    void setUp() {
+        databases = IntStream.range(0, 3)
+            .mapToObj(i -> new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("shard-" + i)
+                .addScript("schema.sql")
+                .build())
+            .collect(Collectors.toList());
+        shards = new Shards(List.copyOf(databases), ShardPlacement.of(3, 3, ""));
+        lineDao = new ShardedLineDao(shards);
+        sectionDao = new ShardedSectionDao(shards);
+        stationDao = new ShardedStationDao(shards);
+
+        gangnam = stationDao.save(new Station("강남역"));
+        yeoksam = stationDao.save(new Station("역삼역"));
+        seolleung = stationDao.save(new Station("선릉역"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        shards.close();
+        databases.forEach(EmbeddedDatabase::shutdown);
+    }
+
+    @Test
+    @DisplayName("역은 모든 샤드에 복제되어야 한다.")
+    void replicateStations() {
+        for (DataSource database : databases) {
+            Integer count = new JdbcTemplate(database).queryForObject("SELECT COUNT(*) FROM STATION", Integer.class);
+            assertThat(count).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("노선과 구간은 노선 id가 배치된 샤드에만 저장되어야 한다.")
+    void partitionLines() {
+        // when
+        Long lineId = saveLine("2호선");
+
+        // then
+        int shard = shards.getPlacement().shardOf(lineId);
+        for (int i = 0; i < databases.size(); i++) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(databases.get(i));
+            Integer lines = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM LINE", Integer.class);
+            Integer sections = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM SECTION", Integer.class);
+            assertThat(lines).isEqualTo(i == shard ? 1 : 0);
+            assertThat(sections).isEqualTo(i == shard ? 1 : 0);
+        }
+    }
+
+    @Test
+    @DisplayName("모든 샤드의 노선을 id 순서대로 모아서 조회해야 한다.")
+    void scatterGather() {
+        // given
+        List<Long> lineIds = IntStream.rangeClosed(1, 7)
+            .mapToObj(i -> saveLine(i + "호선"))
+            .collect(Collectors.toList());
+
+        // when
+        List<Long> foundIds = lineDao.findAll().stream()
+            .map(Line::getId)
+            .collect(Collectors.toList());
+
+        // then
+        assertThat(foundIds).containsExactlyElementsOf(lineIds);
+    }
+
+    @Test
+    @DisplayName("여러 요청이 동시에 많은 노선을 모아서 조회해도 멈추지 않아야 한다.")
+    void concurrentScatterGather() throws Exception {
+        // given
+        int lineCount = shards.size() * 300;
+        IntStream.rangeClosed(1, lineCount).forEach(i -> saveLine(i + "호선"));
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<List<Line>>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(callers.submit(lineDao::findAll));
+        }
+
+        // then
+        try {
+            for (Future<List<Line>> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS)).hasSize(lineCount);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 다른 샤드에 쓴 역과 노선도 남지 않아야 한다.")
+    void rollbackEveryShard() {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(
+            new DataSourceTransactionManager(databases.get(0)));
+
+        // when
+        transaction.executeWithoutResult(status -> {
+            stationDao.save(new Station("삼성역"));
+            IntStream.rangeClosed(1, 7).forEach(i -> saveLine(i + "호선"));
+            status.setRollbackOnly();
+        });
+
+        // then
+        for (DataSource database : databases) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM STATION", Integer.class)).isEqualTo(3);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM LINE", Integer.class)).isZero();
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM SECTION", Integer.class)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("한 샤드가 커밋 준비에 실패하면 어느 샤드에도 노선이 커밋되지 않아야 한다.")
+    void rollbackEveryShardWhenPrepareFails() throws Exception {
+        // given
+        List<DataSource> dataSources = new ArrayList<>(databases);
+        dataSources.set(2, failingPrepare(databases.get(2)));
+        Shards failingShards = new Shards(dataSources, ShardPlacement.of(3, 3, ""));
+        ShardedLineDao failingLineDao = new ShardedLineDao(failingShards);
+        ShardedSectionDao failingSectionDao = new ShardedSectionDao(failingShards);
+        TransactionTemplate transaction = new TransactionTemplate(
+            new DataSourceTransactionManager(databases.get(0)));
+
+        // when
+        try {
+            assertThatThrownBy(() -> transaction.executeWithoutResult(status -> IntStream.rangeClosed(1, 7)
+                .forEach(i -> {
+                    Long lineId = failingLineDao.save(new Line(i + "호선", "bg-green-600"));
+                    failingSectionDao.save(new Section(gangnam, yeoksam, 10), lineId);
+                })))
+                .isInstanceOf(TransactionSystemException.class);
+        } finally {
+            failingShards.close();
+        }
+
+        // then
+        for (DataSource database : databases) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM LINE", Integer.class)).isZero();
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM SECTION", Integer.class)).isZero();
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM SHARD_COMMIT", Integer.class)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("구간 수정과 삭제는 노선이 있는 샤드로 전달되어야 한다.")
+    void routeSectionChanges() {
+        // given
+        Long lineId = saveLine("2호선");
+        Line line = lineDao.findById(lineId).get();
+
+        // when
+        Section section = new Section(gangnam, seolleung, 3);
+        line.insertSection(section);
+        sectionDao.update(line.getSections());
+        Long sectionId = sectionDao.save(section, lineId);
+
+        // then
+        assertThat(lineDao.findById(lineId).get().getStations())
+            .containsExactly(gangnam, seolleung, yeoksam);
+        assertThat(sectionDao.delete(sectionId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 샤드에 있는 노선과도 이름이 중복될 수 없다.")
+    void duplicateNameAcrossShards() {
+        // given
+        saveLine("2호선");
+
+        // when & then
+        assertThatThrownBy(() -> lineDao.save(new Line("2호선", "bg-red-600")))
+            .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    private Long saveLine(String name) {
+        Long lineId = lineDao.save(new Line(name, "bg-green-600"));
+        sectionDao.save(new Section(gangnam, yeoksam, 10), lineId);
+        return lineId;
+    }
+
+    private DataSource failingPrepare(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, result) -> method.getName().equals("getConnection")
+            ? failingPrepare((Connection)result) : result);
+    }
+
+    private Connection failingPrepare(Connection connection) {
+        return proxy(Connection.class, connection, (method, result) -> method.getName().equals("createStatement")
+            ? failingPrepare((Statement)result) : result);
+    }
+
+    private Statement failingPrepare(Statement statement) {
+        return (Statement)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Statement.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("execute") && String.valueOf(args[0]).startsWith("PREPARE COMMIT")) {
+                    throw new SQLException("커밋 준비 실패");
+                }
+                return invoke(statement, method, args);
+            });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(Class<T> type, T target, BiFunction<Method, Object, Object> wrapper) {
+        return (T)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {type},
+            (proxy, method, args) -> wrapper.apply(method, invoke(target, method, args)));
+    }
+
+    private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+}
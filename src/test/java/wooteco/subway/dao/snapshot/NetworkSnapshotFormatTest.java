@@ -0,0 +1,82 @@
+package wooteco.subway.dao.snapshot;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.geo.Coordinate;
+
+class NetworkSnapshotFormatTest {
+
+    private final Station gangnam = new Station(1L, "강남역", new Coordinate(37.4979, 127.0276));
+    private final Station yeoksam = new Station(2L, "역삼역");
+    private final Station seolleung = new Station(3L, "선릉역");
+
+    @Test
+    @DisplayName("인코딩한 스냅샷을 디코딩하면 역, 노선, 구간 순서가 그대로 복원되어야 한다.")
+    void roundTrip() {
+        // given
+        Line line = Line.from(new Line(7L, "2호선", "bg-green-600", 900, 3L), List.of(
+            new Section(11L, yeoksam, seolleung, 4),
+            new Section(10L, gangnam, yeoksam, 3)));
+        NetworkSnapshot snapshot = NetworkSnapshot.of(List.of(gangnam, yeoksam, seolleung), List.of(line));
+
+        // when
+        NetworkSnapshot decoded = NetworkSnapshotFormat.decode(ByteBuffer.wrap(NetworkSnapshotFormat.encode(snapshot)));
+
+        // then
+        assertThat(decoded.stationCount()).isEqualTo(3);
+        assertThat(decoded.station(0).getCoordinate()).isEqualTo(gangnam.getCoordinate());
+        assertThat(decoded.station(1).hasCoordinate()).isFalse();
+        assertThat(decoded.station(2).getName()).isEqualTo("선릉역");
+        assertThat(decoded.lineCount()).isEqualTo(1);
+        assertThat(decoded.lineName(0)).isEqualTo("2호선");
+        assertThat(decoded.extraFare(0)).isEqualTo(900);
+        assertThat(decoded.version(0)).isEqualTo(3L);
+        assertThat(decoded.endSection(0) - decoded.firstSection(0)).isEqualTo(2);
+        assertThat(decoded.sectionId(0)).isEqualTo(10L);
+        assertThat(decoded.upStationId(1)).isEqualTo(2L);
+        assertThat(decoded.distance(1)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("파일로 저장한 스냅샷을 메모리 매핑으로 읽을 수 있어야 한다.")
+    void map() throws IOException {
+        // given
+        Path directory = Files.createTempDirectory("snapshot");
+        Path path = directory.resolve("network.snapshot");
+        NetworkSnapshotFormat.write(NetworkSnapshot.of(List.of(gangnam, yeoksam), List.of()), path);
+
+        // when
+        NetworkSnapshot mapped = NetworkSnapshotFormat.map(path);
+
+        // then
+        assertThat(mapped.stationCount()).isEqualTo(2);
+        assertThat(mapped.maxStationId()).isEqualTo(2L);
+        Files.delete(path);
+        Files.delete(directory);
+    }
+
+    @Test
+    @DisplayName("손상된 스냅샷은 읽을 수 없어야 한다.")
+    void corrupted() {
+        // given
+        byte[] encoded = NetworkSnapshotFormat.encode(NetworkSnapshot.of(List.of(gangnam, yeoksam), List.of()));
+        encoded[encoded.length / 2] ^= 1;
+
+        // when & then
+        assertThatThrownBy(() -> NetworkSnapshotFormat.decode(ByteBuffer.wrap(encoded)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("올바르지 않은 스냅샷 파일입니다.");
+    }
+}
@@ -210,4 +210,48 @@ class SectionsTest {
         Station station = new Station("xx");
         assertThat(sections1.delete(station)).isEqualTo(-1L);
     }
+
+    @Test
+    @DisplayName("두 역 사이의 거리는 구간 거리의 합이어야 한다.")
+    void distanceBetween() {
+        Sections sections1 = Sections.of(sections);
+        assertThat(sections1.distanceBetween(new Station("4"), new Station("10"))).isEqualTo(15);
+        assertThat(sections1.distanceBetween(new Station("10"), new Station("4"))).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("구간이 삽입되면 두 역 사이의 거리와 역 목록이 갱신되어야 한다.")
+    void distanceBetweenAfterInsert() {
+        Sections sections1 = Sections.of(sections);
+        sections1.insert(new Section(new Station("5"), new Station("6"), 3));
+        sections1.insert(new Section(new Station("1"), new Station("2"), 100));
+
+        assertThat(sections1.distanceBetween(new Station("5"), new Station("8"))).isEqualTo(8);
+        assertThat(sections1.distanceBetween(new Station("1"), new Station("5"))).isEqualTo(107);
+        assertThat(sections1.stationsBetween(new Station("4"), new Station("8")))
+            .containsExactly(new Station("4"), new Station("5"), new Station("6"), new Station("8"));
+    }
+
+    @Test
+    @DisplayName("역이 삭제되면 두 역 사이의 거리와 역 목록이 갱신되어야 한다.")
+    void distanceBetweenAfterDelete() {
+        Sections sections1 = Sections.of(sections);
+        sections1.delete(new Station("4"));
+        sections1.delete(new Station("10"));
+
+        assertThat(sections1.distanceBetween(new Station("2"), new Station("8"))).isEqualTo(15);
+        assertThat(sections1.getStations())
+            .containsExactly(new Station("2"), new Station("6"), new Station("8"));
+        assertThatThrownBy(() -> sections1.distanceBetween(new Station("2"), new Station("4")))
+            .hasMessage("노선에 포함되지 않은 역입니다.")
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("하행에서 상행 방향으로 조회하면 역 목록이 역순이어야 한다.")
+    void stationsBetweenReversed() {
+        Sections sections1 = Sections.of(sections);
+        assertThat(sections1.stationsBetween(new Station("8"), new Station("4")))
+            .containsExactly(new Station("8"), new Station("6"), new Station("4"));
+    }
 }
@@ -0,0 +1,74 @@
+package wooteco.subway.domain.analytics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+class ClosureImpactAnalyzerTest {
+    private Station station1;
+    private Station station2;
+    private List<Line> lines;
+
+    @BeforeEach
+    void setUp() {
+        station1 = new Station(1L, "1");
+        station2 = new Station(2L, "2");
+        Station station3 = new Station(3L, "3");
+        Station station4 = new Station(4L, "4");
+        Line line1 = Line.from(new Line(1L, "1호선", "bg-red-600"), List.of(
+            new Section(1L, station1, station2, 1),
+            new Section(2L, station2, station3, 1)));
+        Line line2 = Line.from(new Line(2L, "2호선", "bg-green-600"), List.of(
+            new Section(3L, station2, station4, 1)));
+        Line line3 = Line.from(new Line(3L, "3호선", "bg-blue-600"), List.of(
+            new Section(4L, station1, station3, 5)));
+        lines = List.of(line1, line2, line3);
+    }
+
+    @Test
+    @DisplayName("역을 폐쇄하면 환승이 끊긴 구간은 단절되고 통과하는 구간은 병합된다.")
+    void closeStation() {
+        // when
+        ClosureImpact impact = ClosureImpactAnalyzer.of(lines, List.of(station2), Set.of()).analyze(2);
+
+        // then
+        assertThat(impact.getEvaluatedPairs()).isEqualTo(3);
+        assertThat(impact.getDisconnectedPairs()).isEqualTo(2);
+        assertThat(impact.getLongerPairs()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("구간을 폐쇄하면 우회 경로로 늘어난 거리를 집계한다.")
+    void closeSection() {
+        // when
+        ClosureImpact impact = ClosureImpactAnalyzer.of(lines, List.of(), Set.of(2L)).analyze(4);
+
+        // then
+        assertThat(impact.getEvaluatedPairs()).isEqualTo(6);
+        assertThat(impact.getLongerPairs()).isEqualTo(3);
+        assertThat(impact.getTotalAddedDistance()).isEqualTo(13);
+        assertThat(impact.getMaxAddedDistance()).isEqualTo(5);
+        assertThat(impact.getDisconnectedPairs()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("폐쇄 시뮬레이션은 원본 노선을 변경하지 않는다.")
+    void keepOriginalLines() {
+        // when
+        ClosureImpactAnalyzer.of(lines, List.of(station2), Set.of()).analyze(1);
+
+        // then
+        assertThat(lines.get(0).getStations()).contains(station2);
+        assertThat(lines.get(0).getSections()).hasSize(2);
+        assertThat(lines.get(1).getSections()).hasSize(1);
+    }
+}
@@ -0,0 +1,73 @@
+package wooteco.subway.domain.analytics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.graph.StationGraph;
+
+class NetworkAnalyzerTest {
+    private StationGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        Station station1 = new Station(1L, "1");
+        Station station2 = new Station(2L, "2");
+        Station station3 = new Station(3L, "3");
+        Station station4 = new Station(4L, "4");
+        Line line1 = Line.from(new Line(1L, "1호선", "bg-red-600"), List.of(
+            new Section(1L, station1, station2, 1),
+            new Section(2L, station2, station3, 1)));
+        Line line2 = Line.from(new Line(2L, "2호선", "bg-green-600"), List.of(
+            new Section(3L, station2, station4, 1)));
+        graph = StationGraph.from(List.of(line1, line2));
+    }
+
+    @Test
+    @DisplayName("가장 많은 최단 경로가 지나는 역의 매개 중심성이 가장 높아야 한다.")
+    void betweenness() {
+        AtomicInteger progress = new AtomicInteger();
+
+        List<StationMetric> metrics = new NetworkAnalyzer(graph).analyze(4, progress);
+
+        StationMetric hub = metrics.get(0);
+        assertThat(hub.getStation().getId()).isEqualTo(2L);
+        assertThat(hub.getBetweenness()).isEqualTo(3.0);
+        assertThat(hub.getDegree()).isEqualTo(3);
+        assertThat(hub.getCloseness()).isEqualTo(1.0);
+        assertThat(metrics.get(3).getBetweenness()).isEqualTo(0.0);
+        assertThat(progress.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("작업자 수와 관계없이 같은 결과를 반환해야 한다.")
+    void sameResultForWorkers() {
+        List<StationMetric> single = new NetworkAnalyzer(graph).analyze(1, new AtomicInteger());
+        List<StationMetric> parallel = new NetworkAnalyzer(graph).analyze(8, new AtomicInteger());
+
+        for (int i = 0; i < single.size(); i++) {
+            assertThat(parallel.get(i).getBetweenness()).isEqualTo(single.get(i).getBetweenness());
+            assertThat(parallel.get(i).getCloseness()).isEqualTo(single.get(i).getCloseness());
+        }
+    }
+
+    @Test
+    @DisplayName("분석 작업이 끝나면 완료 상태와 결과를 가져야 한다.")
+    void runJob() {
+        AnalysisJob job = new AnalysisJob(1L, graph);
+
+        job.run(2);
+
+        assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(job.getProcessed()).isEqualTo(job.getTotal());
+        assertThat(job.getResult()).hasSize(4);
+    }
+}
@@ -0,0 +1,91 @@
+package wooteco.subway.domain.demand;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.graph.StationGraph;
+
+class DemandAssignerTest {
+    private StationGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        Station station1 = new Station(1L, "1");
+        Station station2 = new Station(2L, "2");
+        Station station3 = new Station(3L, "3");
+        Station station4 = new Station(4L, "4");
+        Line line1 = Line.from(new Line(1L, "1호선", "bg-red-600"), List.of(
+            new Section(1L, station1, station2, 1),
+            new Section(2L, station2, station3, 1)));
+        Line line2 = Line.from(new Line(2L, "2호선", "bg-green-600"), List.of(
+            new Section(3L, station2, station4, 1)));
+        graph = StationGraph.from(List.of(line1, line2));
+    }
+
+    @Test
+    @DisplayName("모든 통행을 최단 경로에 배정하고 구간별 부하를 합산한다.")
+    void assign() {
+        // given
+        DemandMatrix matrix = read("source,target,trips\n1,3,10\n1,4,5\n3,4,2\n4,1,1\n");
+
+        // when
+        DemandAssignment assignment = new DemandAssigner(graph).assign(matrix, 4);
+
+        // then
+        Map<Long, Long> loads = assignment.getSectionLoads().stream()
+            .collect(Collectors.toMap(SectionLoad::getSectionId, SectionLoad::getLoad));
+        assertThat(loads).containsEntry(1L, 16L)
+            .containsEntry(2L, 12L)
+            .containsEntry(3L, 8L);
+        assertThat(assignment.getTotalTrips()).isEqualTo(18);
+        assertThat(assignment.getAssignedTrips()).isEqualTo(18);
+        assertThat(assignment.getSectionLoads().get(0).getSectionId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("노선도에 없는 역의 통행은 배정되지 않은 통행으로 집계한다.")
+    void unassigned() {
+        // given
+        DemandMatrix matrix = read("1,3,10\r\n1,99,7\r\n2,2,3\r\n");
+
+        // when
+        DemandAssignment assignment = new DemandAssigner(graph).assign(matrix, 1);
+
+        // then
+        assertThat(assignment.getTotalTrips()).isEqualTo(20);
+        assertThat(assignment.getUnassignedTrips()).isEqualTo(10);
+        assertThat(assignment.getAssignedTrips()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 줄이 있으면 예외가 발생한다.")
+    void invalidFormat() {
+        assertThatThrownBy(() -> read("1,3,10\n1,-4,5\n"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("수요 데이터 형식이 올바르지 않습니다. (2번째 줄)");
+    }
+
+    @Test
+    @DisplayName("첫 줄이 머리글이 아니면서 형식이 올바르지 않으면 예외가 발생한다.")
+    void invalidFirstLine() {
+        assertThatThrownBy(() -> read("1,-3,10\n1,4,5\n"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("수요 데이터 형식이 올바르지 않습니다. (1번째 줄)");
+    }
+
+    private DemandMatrix read(String csv) {
+        return new DemandMatrixReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))).read(graph);
+    }
+}
@@ -0,0 +1,57 @@
+package wooteco.subway.domain.fare;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.graph.StationGraph;
+
+class FareEngineTest {
+    private FareEngine fareEngine;
+
+    @BeforeEach
+    void setUp() {
+        Station station1 = new Station(1L, "1");
+        Station station2 = new Station(2L, "2");
+        Station station3 = new Station(3L, "3");
+        Line line1 = Line.from(new Line(1L, "1호선", "bg-red-600", 0), List.of(
+            new Section(1L, station1, station2, 10)));
+        Line line2 = Line.from(new Line(2L, "신분당선", "bg-red-900", 900), List.of(
+            new Section(2L, station2, station3, 6)));
+        StationGraph graph = StationGraph.from(List.of(line1, line2));
+        fareEngine = new FareEngine(graph, Map.of(1L, 0, 2L, 900), FareTable.standard());
+    }
+
+    @Test
+    @DisplayName("거리 요금에 지나는 노선 중 가장 높은 추가 요금을 더해야 한다.")
+    void price() {
+        List<FareQuote> quotes = fareEngine.price(List.of(
+            new FareQuery(1L, 2L),
+            new FareQuery(1L, 3L),
+            new FareQuery(3L, 2L)));
+
+        assertThat(quotes.get(0).getFare()).isEqualTo(1250);
+        assertThat(quotes.get(1).getDistance()).isEqualTo(16);
+        assertThat(quotes.get(1).getFare()).isEqualTo(1450 + 900);
+        assertThat(quotes.get(2).getFare()).isEqualTo(1250 + 900);
+    }
+
+    @Test
+    @DisplayName("노선에 없는 역이 포함되면 도달할 수 없는 결과를 반환해야 한다.")
+    void unreachable() {
+        List<FareQuote> quotes = fareEngine.price(List.of(
+            new FareQuery(1L, 99L),
+            new FareQuery(99L, 1L)));
+
+        assertThat(quotes.get(0).isReachable()).isFalse();
+        assertThat(quotes.get(1).isReachable()).isFalse();
+    }
+}
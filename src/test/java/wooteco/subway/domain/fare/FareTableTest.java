@@ -0,0 +1,16 @@
+package wooteco.subway.domain.fare;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class FareTableTest {
+
+    @ParameterizedTest(name = "{0}km: {1}원")
+    @CsvSource({"0, 1250", "10, 1250", "11, 1350", "15, 1350", "16, 1450", "50, 2050", "51, 2150", "58, 2150",
+        "59, 2250"})
+    void fareOf(int distance, int expected) {
+        assertThat(FareTable.standard().fareOf(distance)).isEqualTo(expected);
+    }
+}
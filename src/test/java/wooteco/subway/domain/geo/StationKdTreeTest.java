@@ -0,0 +1,99 @@
+package wooteco.subway.domain.geo;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import wooteco.subway.domain.Station;
+
+class StationKdTreeTest {
+    private final StationKdTree tree = new StationKdTree();
+    private final List<Station> stations = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(7);
+        for (long id = 1; id <= 500; id++) {
+            Coordinate coordinate = new Coordinate(37.4 + random.nextDouble() * 0.3,
+                126.8 + random.nextDouble() * 0.4);
+            Station station = new Station(id, "역" + id, coordinate);
+            stations.add(station);
+            tree.insert(station);
+        }
+    }
+
+    @Test
+    @DisplayName("가장 가까운 k개의 역을 거리순으로 반환한다.")
+    void nearest() {
+        // given
+        Coordinate origin = new Coordinate(37.5, 127.0);
+
+        // when
+        List<NearbyStation> nearest = tree.nearest(origin, 5);
+
+        // then
+        List<Long> expected = stations.stream()
+            .sorted(Comparator.comparingDouble(station -> distanceOf(origin, station)))
+            .limit(5)
+            .map(Station::getId)
+            .collect(Collectors.toList());
+        assertThat(nearest.stream().map(nearby -> nearby.getStation().getId()).collect(Collectors.toList()))
+            .isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("삭제한 역은 조회되지 않는다.")
+    void remove() {
+        // given
+        Coordinate origin = new Coordinate(37.5, 127.0);
+        Long closestId = tree.nearest(origin, 1).get(0).getStation().getId();
+
+        // when
+        tree.remove(closestId);
+
+        // then
+        assertThat(tree.size()).isEqualTo(499);
+        assertThat(tree.nearest(origin, 1).get(0).getStation().getId()).isNotEqualTo(closestId);
+    }
+
+    @Test
+    @DisplayName("영역 안에 있는 역을 모두 반환한다.")
+    void within() {
+        // given
+        Coordinate southWest = new Coordinate(37.45, 126.9);
+        Coordinate northEast = new Coordinate(37.55, 127.05);
+
+        // when
+        List<Station> result = tree.within(southWest, northEast);
+
+        // then
+        long expected = stations.stream()
+            .filter(station -> station.getCoordinate().getLatitude() >= 37.45
+                && station.getCoordinate().getLatitude() <= 37.55
+                && station.getCoordinate().getLongitude() >= 126.9
+                && station.getCoordinate().getLongitude() <= 127.05)
+            .count();
+        assertThat(result).hasSize((int)expected);
+    }
+
+    @Test
+    @DisplayName("좌표가 없는 역은 색인하지 않는다.")
+    void withoutCoordinate() {
+        tree.insert(new Station(1000L, "좌표없는역"));
+
+        assertThat(tree.size()).isEqualTo(500);
+    }
+
+    private double distanceOf(Coordinate origin, Station station) {
+        return Coordinate.distanceMeters(origin.getLatitude(), origin.getLongitude(),
+            station.getCoordinate().getLatitude(), station.getCoordinate().getLongitude());
+    }
+}
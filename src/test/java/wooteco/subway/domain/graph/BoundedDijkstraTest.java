@@ -0,0 +1,86 @@
+package wooteco.subway.domain.graph;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+class BoundedDijkstraTest {
+    private StationGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        Station station1 = new Station(1L, "1");
+        Station station2 = new Station(2L, "2");
+        Station station3 = new Station(3L, "3");
+        Station station4 = new Station(4L, "4");
+        Line line1 = Line.from(new Line(1L, "1호선", "bg-red-600"), List.of(
+            new Section(1L, station1, station2, 3),
+            new Section(2L, station2, station3, 4)));
+        Line line2 = Line.from(new Line(2L, "2호선", "bg-green-600"), List.of(
+            new Section(3L, station2, station4, 10)));
+        graph = StationGraph.from(List.of(line1, line2));
+    }
+
+    @Test
+    @DisplayName("탐색 거리 안에 있는 역만 거리순으로 반환해야 한다.")
+    void search() {
+        Reachability reachability = Reachability.of(graph, graph.indexOf(1L), 7);
+
+        assertThat(stationIds(reachability)).containsExactly(1L, 2L, 3L);
+        assertThat(reachability.distance(2)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("노선이 달라도 구간의 거리를 따라 탐색해야 한다.")
+    void searchAcrossLines() {
+        Reachability reachability = Reachability.of(graph, graph.indexOf(3L), 14);
+
+        assertThat(stationIds(reachability)).containsExactly(3L, 2L, 1L, 4L);
+    }
+
+    @Test
+    @DisplayName("같은 스레드에서 반복 탐색해도 이전 탐색 결과가 섞이지 않아야 한다.")
+    void reuseSearchSpace() {
+        Reachability.of(graph, graph.indexOf(1L), 100);
+
+        Reachability reachability = Reachability.of(graph, graph.indexOf(4L), 0);
+
+        assertThat(stationIds(reachability)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("여러 출발역의 결과를 합치면 가장 가까운 거리를 가져야 한다.")
+    void merge() {
+        Reachability fromStation1 = Reachability.of(graph, graph.indexOf(1L), 100);
+        Reachability fromStation4 = Reachability.of(graph, graph.indexOf(4L), 100);
+
+        int[] distances = Reachability.merge(graph.nodeCount(), List.of(fromStation1, fromStation4));
+
+        assertThat(distances[graph.indexOf(2L)]).isEqualTo(3);
+        assertThat(distances[graph.indexOf(4L)]).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("탐색 거리가 음수이면 예외를 반환해야 한다.")
+    void negativeDistance() {
+        assertThatThrownBy(() -> new BoundedDijkstra(graph).search(0, -1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Long> stationIds(Reachability reachability) {
+        List<Long> stationIds = new ArrayList<>();
+        for (int i = 0; i < reachability.size(); i++) {
+            stationIds.add(graph.station(reachability.node(i)).getId());
+        }
+        return stationIds;
+    }
+}
@@ -0,0 +1,55 @@
+package wooteco.subway.domain.index;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NetworkConnectivityTest {
+    private NetworkConnectivity connectivity;
+
+    @BeforeEach
+    void setUp() {
+        connectivity = new NetworkConnectivity();
+        connectivity.replace(1L, new long[] {1L, 2L, 3L});
+        connectivity.replace(2L, new long[] {3L, 4L});
+        connectivity.replace(3L, new long[] {5L, 6L});
+    }
+
+    @Test
+    @DisplayName("노선으로 이어진 역끼리만 연결되어 있어야 한다.")
+    void connected() {
+        assertThat(connectivity.connected(1L, 4L)).isTrue();
+        assertThat(connectivity.connected(1L, 6L)).isFalse();
+        assertThat(connectivity.connected(1L, 99L)).isFalse();
+        assertThat(connectivity.components()).containsExactly(List.of(1L, 2L, 3L, 4L), List.of(5L, 6L));
+    }
+
+    @Test
+    @DisplayName("구간 추가는 재구성 없이 반영되어야 한다.")
+    void extendWithoutRebuild() {
+        // when
+        connectivity.replace(3L, new long[] {4L, 5L, 6L});
+
+        // then
+        assertThat(connectivity.componentCount()).isEqualTo(1);
+        assertThat(connectivity.getRebuildCount()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("여러 번의 삭제는 다음 조회에서 한 번만 재구성되어야 한다.")
+    void rebuildOnceAfterDeletes() {
+        // when
+        connectivity.replace(1L, new long[] {1L, 2L});
+        connectivity.remove(3L);
+
+        // then
+        assertThat(connectivity.connected(1L, 4L)).isFalse();
+        assertThat(connectivity.connected(3L, 4L)).isTrue();
+        assertThat(connectivity.connected(5L, 6L)).isFalse();
+        assertThat(connectivity.getRebuildCount()).isEqualTo(1);
+    }
+}
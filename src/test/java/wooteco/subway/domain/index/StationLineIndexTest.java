@@ -0,0 +1,117 @@
+package wooteco.subway.domain.index;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+class StationLineIndexTest {
+    private final Station station1 = new Station(1L, "1");
+    private final Station station2 = new Station(2L, "2");
+    private final Station station3 = new Station(3L, "3");
+    private final Station station4 = new Station(4L, "4");
+    private StationLineIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StationLineIndex();
+        index.replace(Line.from(new Line(1L, "1호선", "bg-red-600"), List.of(
+            new Section(1L, station1, station2, 3),
+            new Section(2L, station2, station3, 4))));
+        index.replace(Line.from(new Line(2L, "2호선", "bg-green-600"), List.of(
+            new Section(3L, station2, station4, 10))));
+    }
+
+    @Test
+    @DisplayName("역이 등록된 노선과 노선 위의 위치를 반환해야 한다.")
+    void linesOf() {
+        // when
+        List<StationLine> lines = index.linesOf(2L);
+
+        // then
+        assertThat(lines.stream()
+            .map(stationLine -> stationLine.getLine().getId() + ":" + stationLine.getPosition())
+            .collect(Collectors.toList())).containsExactlyInAnyOrder("1:1", "2:0");
+    }
+
+    @Test
+    @DisplayName("노선별 상행, 하행 이웃 역과 구간 거리를 반환해야 한다.")
+    void neighborsOf() {
+        // when
+        List<Neighbor> neighbors = index.neighborsOf(2L);
+
+        // then
+        assertThat(stationIds(neighbors)).containsExactlyInAnyOrder(1L, 3L, 4L);
+        assertThat(neighbors.stream()
+            .filter(neighbor -> neighbor.getStation().getId().equals(3L))
+            .map(Neighbor::getDistance)
+            .collect(Collectors.toList())).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("노선이 바뀌거나 삭제되면 역의 사용 여부가 갱신되어야 한다.")
+    void replaceAndRemove() {
+        // when
+        index.replace(Line.from(new Line(1L, "1호선", "bg-red-600"), List.of(
+            new Section(1L, station1, station2, 3))));
+        index.remove(2L);
+
+        // then
+        assertThat(index.isInUse(3L)).isFalse();
+        assertThat(index.isInUse(4L)).isFalse();
+        assertThat(index.isInUse(2L)).isTrue();
+        assertThat(stationIds(index.neighborsOf(2L))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("두 개 이상의 노선이 지나는 역을 환승역으로, 연결된 노선 쌍과 함께 반환해야 한다.")
+    void interchanges() {
+        // when
+        List<Interchange> interchanges = index.interchanges();
+
+        // then
+        assertThat(interchanges).hasSize(1);
+        assertThat(interchanges.get(0).getStation().getId()).isEqualTo(2L);
+        assertThat(interchanges.get(0).linePairs()).containsExactly(List.of(1L, 2L));
+        assertThat(index.reachableLineIds(1L)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("여러 노선이 동시에 바뀌어도 환승 관계가 일관되게 유지되어야 한다.")
+    void concurrentReplace() {
+        // given
+        Station hub = new Station(100L, "hub");
+
+        // when
+        IntStream.range(0, 64).parallel().forEach(i -> {
+            long lineId = 10L + i;
+            Station other = new Station(1000L + i, "역" + i);
+            Line line = Line.from(new Line(lineId, "노선" + i, "bg-red-600"), List.of(
+                new Section(lineId, hub, other, 1)));
+            index.replace(line);
+            if (i % 2 == 0) {
+                index.remove(lineId);
+            }
+        });
+
+        // then
+        assertThat(index.linesOf(100L)).hasSize(32);
+        assertThat(index.reachableLineIds(100L)).hasSize(32);
+        assertThat(index.interchanges()).hasSize(2);
+    }
+
+    private List<Long> stationIds(List<Neighbor> neighbors) {
+        return neighbors.stream()
+            .map(neighbor -> neighbor.getStation().getId())
+            .collect(Collectors.toList());
+    }
+}
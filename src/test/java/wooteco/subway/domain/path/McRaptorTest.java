@@ -0,0 +1,83 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+class McRaptorTest {
+    private final Station station1 = new Station(1L, "1");
+    private final Station station2 = new Station(2L, "2");
+    private final Station station3 = new Station(3L, "3");
+    private final Station station4 = new Station(4L, "4");
+    private final Station station5 = new Station(5L, "5");
+
+    private RouteNetwork network;
+
+    @BeforeEach
+    void setUp() {
+        Line line1 = Line.from(new Line(1L, "1호선", "bg-red-600"), List.of(
+            new Section(station1, station2, 5),
+            new Section(station2, station3, 5),
+            new Section(station3, station4, 5)));
+        Line line2 = Line.from(new Line(2L, "2호선", "bg-green-600"), List.of(
+            new Section(station1, station5, 2)));
+        Line line3 = Line.from(new Line(3L, "3호선", "bg-orange-600"), List.of(
+            new Section(station5, station4, 3)));
+        network = RouteNetwork.from(List.of(line1, line2, line3));
+    }
+
+    @Test
+    @DisplayName("거리와 환승 횟수 기준으로 지배되지 않는 경로들을 모두 반환해야 한다.")
+    void searchParetoJourneys() {
+        McRaptor raptor = new McRaptor(network, 4);
+
+        List<Journey> journeys = raptor.search(network.indexOf(1L), network.indexOf(4L));
+
+        assertThat(journeys).hasSize(2);
+        assertThat(journeys.get(0).getDistance()).isEqualTo(15);
+        assertThat(journeys.get(0).getTransfers()).isEqualTo(0);
+        assertThat(journeys.get(1).getDistance()).isEqualTo(5);
+        assertThat(journeys.get(1).getTransfers()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("경로의 구간은 탑승한 노선과 지나는 역을 순서대로 가져야 한다.")
+    void journeyLegs() {
+        McRaptor raptor = new McRaptor(network, 4);
+
+        Journey journey = raptor.search(network.indexOf(4L), network.indexOf(2L)).get(0);
+
+        List<Long> stationIds = journey.getLegs().get(0).getStations().stream()
+            .map(Station::getId)
+            .collect(Collectors.toList());
+        assertThat(journey.getDistance()).isEqualTo(10);
+        assertThat(stationIds).containsExactly(4L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("라운드 수를 넘는 환승이 필요한 경로는 반환하지 않는다.")
+    void boundedRounds() {
+        McRaptor raptor = new McRaptor(network, 1);
+
+        List<Journey> journeys = raptor.search(network.indexOf(1L), network.indexOf(4L));
+
+        assertThat(journeys).hasSize(1);
+        assertThat(journeys.get(0).getTransfers()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("라운드 수가 1보다 작으면 예외를 반환해야 한다.")
+    void invalidRounds() {
+        assertThatThrownBy(() -> new McRaptor(network, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package wooteco.subway.domain.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import wooteco.subway.domain.Station;
+
+class StationNameTrieTest {
+    private final StationNameTrie trie = new StationNameTrie();
+
+    @BeforeEach
+    void setUp() {
+        List<String> names = List.of("강남역", "강남구청역", "강변역", "건대입구역", "교대역", "선릉역", "DMC역");
+        for (int i = 0; i < names.size(); i++) {
+            trie.insert(new Station((long)i + 1, names.get(i)));
+        }
+    }
+
+    @Test
+    @DisplayName("입력한 접두어로 시작하는 역을 사전순으로 찾는다.")
+    void prefix() {
+        assertThat(namesOf(trie.search("강남", 10))).containsExactly("강남구청역", "강남역");
+    }
+
+    @Test
+    @DisplayName("초성으로 역 이름을 찾는다.")
+    void initialConsonants() {
+        assertThat(namesOf(trie.search("ㄱㄴ", 10))).containsExactly("강남구청역", "강남역");
+        assertThat(namesOf(trie.search("ㄱ", 10))).containsExactly("강남구청역", "강남역", "강변역", "건대입구역", "교대역");
+    }
+
+    @Test
+    @DisplayName("완성된 글자와 초성을 섞어서 찾을 수 있다.")
+    void mixed() {
+        assertThat(namesOf(trie.search("강ㅂ", 10))).containsExactly("강변역");
+    }
+
+    @Test
+    @DisplayName("입력 중인 마지막 글자는 받침이 있는 글자와도 일치한다.")
+    void composing() {
+        assertThat(namesOf(trie.search("가", 10))).containsExactly("강남구청역", "강남역", "강변역");
+    }
+
+    @Test
+    @DisplayName("정규화한 이름이 같은 역은 모두 찾고 삭제한 역만 뺀다.")
+    void sameNormalizedName() {
+        trie.insert(new Station(8L, "dmc역"));
+        trie.insert(new Station(9L, "D M C 역"));
+
+        trie.remove(8L);
+
+        assertThat(trie.search("dmc", 10)).hasSize(2);
+        assertThat(trie.search("dmc", 10).stream().map(Station::getId).collect(Collectors.toList()))
+            .containsExactly(7L, 9L);
+    }
+
+    @Test
+    @DisplayName("영문은 대소문자를 구분하지 않고 삭제한 역은 찾지 않는다.")
+    void caseInsensitiveAndRemove() {
+        assertThat(namesOf(trie.search("dmc", 10))).containsExactly("DMC역");
+
+        trie.remove(7L);
+
+        assertThat(trie.search("dmc", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 개수만큼만 반환한다.")
+    void limit() {
+        assertThat(trie.search("ㄱ", 2)).hasSize(2);
+    }
+
+    private List<String> namesOf(List<Station> stations) {
+        return stations.stream()
+            .map(Station::getName)
+            .collect(Collectors.toList());
+    }
+}
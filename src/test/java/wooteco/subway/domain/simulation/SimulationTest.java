@@ -0,0 +1,105 @@
+package wooteco.subway.domain.simulation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.demand.DemandMatrix;
+import wooteco.subway.domain.graph.StationGraph;
+
+class SimulationTest {
+    private final SimulationOptions options = new SimulationOptions(0, 600, 60, 30, 60);
+    private Simulation simulation;
+
+    @BeforeEach
+    void setUp() {
+        Station station1 = new Station(1L, "1");
+        Station station2 = new Station(2L, "2");
+        Station station3 = new Station(3L, "3");
+        Station station4 = new Station(4L, "4");
+        Line line1 = Line.from(new Line(1L, "1호선", "bg-red-600"), List.of(
+            new Section(1L, station1, station2, 1),
+            new Section(2L, station2, station3, 1)));
+        Line line2 = Line.from(new Line(2L, "2호선", "bg-green-600"), List.of(
+            new Section(3L, station2, station4, 1)));
+        StationGraph graph = StationGraph.from(List.of(line1, line2));
+
+        DemandMatrix matrix = new DemandMatrix(graph);
+        matrix.add(1L, 4L, 2);
+        matrix.add(1L, 99L, 5);
+        simulation = Simulation.prepare(graph, matrix, options);
+    }
+
+    @Test
+    @DisplayName("승객은 환승 시간을 거쳐 다른 노선으로 이동하며 구간 점유 시계열이 기록된다.")
+    void run() {
+        // when
+        SimulationResult result = simulation.run();
+
+        // then
+        assertThat(result.getAgentCount()).isEqualTo(2);
+        assertThat(result.getArrivedAgents()).isEqualTo(2);
+        assertThat(result.getEvents()).isEqualTo(4);
+        assertThat(result.getUnroutableTrips()).isEqualTo(5);
+        assertThat(occupiedBuckets(result, 0)).containsExactly(2, 3, 7, 8);
+        assertThat(occupiedBuckets(result, 1)).isEmpty();
+        assertThat(occupiedBuckets(result, 2)).containsExactly(4, 9);
+    }
+
+    @Test
+    @DisplayName("같은 시뮬레이션을 반복 실행해도 결과가 같다.")
+    void repeatable() {
+        SimulationResult first = simulation.run();
+        SimulationResult second = simulation.run();
+
+        for (int section = 0; section < first.sectionCount(); section++) {
+            assertThat(occupiedBuckets(second, section)).isEqualTo(occupiedBuckets(first, section));
+        }
+        assertThat(second.getEvents()).isEqualTo(first.getEvents());
+    }
+
+    @Test
+    @DisplayName("점유 시계열을 이진 파일 형식으로 기록한다.")
+    void writeOccupancy() throws IOException {
+        // given
+        SimulationResult result = simulation.run();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        OccupancyWriter.write(result, outputStream);
+
+        // then
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertThat(input.readInt()).isEqualTo(OccupancyWriter.MAGIC);
+        assertThat(input.readShort()).isEqualTo(OccupancyWriter.VERSION);
+        assertThat(input.readInt()).isEqualTo(0);
+        assertThat(input.readInt()).isEqualTo(60);
+        assertThat(input.readInt()).isEqualTo(10);
+        assertThat(input.readInt()).isEqualTo(3);
+        assertThat(input.readLong()).isEqualTo(1L);
+        assertThat(input.readLong()).isEqualTo(1L);
+        assertThat(outputStream.size()).isEqualTo(22 + 3 * (16 + 10 * 4));
+    }
+
+    private List<Integer> occupiedBuckets(SimulationResult result, int section) {
+        List<Integer> buckets = new ArrayList<>();
+        for (int bucket = 0; bucket < result.bucketCount(); bucket++) {
+            if (result.occupancy(section, bucket) > 0) {
+                buckets.add(bucket);
+            }
+        }
+        return buckets;
+    }
+}
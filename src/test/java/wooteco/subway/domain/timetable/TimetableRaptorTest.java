@@ -0,0 +1,102 @@
+package wooteco.subway.domain.timetable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+class TimetableRaptorTest {
+    private List<Line> lines;
+    private TimetableNetwork network;
+    private TimetableRaptor raptor;
+
+    @BeforeEach
+    void setUp() {
+        Station station1 = new Station(1L, "1");
+        Station station2 = new Station(2L, "2");
+        Station station3 = new Station(3L, "3");
+        Station station4 = new Station(4L, "4");
+        Line line1 = Line.from(new Line(1L, "1호선", "bg-red-600"), List.of(
+            new Section(1L, station1, station2, 1),
+            new Section(2L, station2, station3, 1)));
+        Line line2 = Line.from(new Line(2L, "2호선", "bg-green-600"), List.of(
+            new Section(3L, station2, station4, 1)));
+        lines = List.of(line1, line2);
+
+        List<Trip> trips = List.of(
+            trip(1L, "08:10", "08:15", "08:20"),
+            trip(1L, "08:00", "08:05", "08:10"),
+            trip(2L, "08:07", "08:12"),
+            trip(2L, "08:20", "08:25"));
+        network = TimetableNetwork.from(lines, trips);
+        raptor = new TimetableRaptor(network, 4);
+    }
+
+    @Test
+    @DisplayName("출발 시각 이후 가장 빨리 도착하는 환승 경로를 찾는다.")
+    void earliestArrival() {
+        // when
+        RaptorWorkspace workspace = raptor.search(network.indexOf(1L), network.indexOf(4L), ServiceTime.parse("08:00"));
+
+        // then
+        assertThat(workspace.legCount()).isEqualTo(2);
+        assertThat(arrivalOf(workspace)).isEqualTo("08:12:00");
+        assertThat(network.line(workspace.legRoute(0)).getId()).isEqualTo(1L);
+        assertThat(network.stop(network.routeStop(workspace.legRoute(1), workspace.legBoardPosition(1))).getId())
+            .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("앞선 열차를 놓치면 다음 열차로 환승 경로를 찾는다.")
+    void missedTrip() {
+        // when
+        RaptorWorkspace workspace = raptor.search(network.indexOf(1L), network.indexOf(4L), ServiceTime.parse("08:01"));
+
+        // then
+        assertThat(workspace.legCount()).isEqualTo(2);
+        assertThat(arrivalOf(workspace)).isEqualTo("08:25:00");
+    }
+
+    @Test
+    @DisplayName("운행하는 열차가 없는 방향으로는 도착할 수 없다.")
+    void unreachable() {
+        // when
+        RaptorWorkspace workspace = raptor.search(network.indexOf(4L), network.indexOf(1L), ServiceTime.parse("08:00"));
+
+        // then
+        assertThat(workspace.isReached()).isFalse();
+    }
+
+    @Test
+    @DisplayName("앞선 열차를 추월하는 시간표는 등록할 수 없다.")
+    void overtaking() {
+        List<Trip> trips = List.of(
+            trip(1L, "08:00", "08:10", "08:20"),
+            trip(1L, "08:01", "08:05", "08:06"));
+
+        assertThatThrownBy(() -> TimetableNetwork.from(lines, trips))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("앞선 열차를 추월하는 시간표는 등록할 수 없습니다.");
+    }
+
+    private Trip trip(Long lineId, String... departures) {
+        int[] times = new int[departures.length];
+        for (int i = 0; i < departures.length; i++) {
+            times[i] = ServiceTime.parse(departures[i]);
+        }
+        return new Trip(lineId, TripDirection.DOWN, times);
+    }
+
+    private String arrivalOf(RaptorWorkspace workspace) {
+        int last = workspace.legCount() - 1;
+        return ServiceTime.format(
+            network.time(workspace.legRoute(last), workspace.legTrip(last), workspace.legAlightPosition(last)));
+    }
+}
@@ -0,0 +1,62 @@
+package wooteco.subway.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import wooteco.subway.dao.FakeLineDao;
+import wooteco.subway.exception.JobLimitExceededException;
+
+class AnalyticsServiceTest {
+
+    private final ForkJoinPool analysisPool = new ForkJoinPool(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        analysisPool.shutdown();
+        analysisPool.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("진행 중인 분석 작업이 한도를 넘으면 새 작업을 거절해야 한다.")
+    void rejectWhenTooManyJobs() {
+        // given
+        analysisPool.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        AnalyticsService analyticsService = new AnalyticsService(new FakeLineDao(), analysisPool);
+        analyticsService.startCentrality();
+        analyticsService.startCentrality();
+
+        // when & then
+        assertThatThrownBy(analyticsService::startCentrality)
+            .isInstanceOf(JobLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("분석 작업이 끝나면 새 작업을 받을 수 있어야 한다.")
+    void acceptAfterJobsFinish() throws InterruptedException {
+        // given
+        AnalyticsService analyticsService = new AnalyticsService(new FakeLineDao(), analysisPool);
+        analyticsService.startCentrality();
+        analyticsService.startCentrality();
+
+        // when
+        analysisPool.awaitQuiescence(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(analyticsService.startCentrality().getId()).isEqualTo(3L);
+    }
+}
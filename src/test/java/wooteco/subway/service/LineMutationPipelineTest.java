@@ -0,0 +1,312 @@
+package wooteco.subway.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.dao.LineDaoImpl;
+import wooteco.subway.dao.LineHistoryDao;
+import wooteco.subway.dao.SectionDao;
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Station;
+import wooteco.subway.dto.LineRequest;
+import wooteco.subway.dto.LineResponse;
+import wooteco.subway.dto.SectionRequest;
+import wooteco.subway.dto.StationResponse;
+import wooteco.subway.exception.EmptyResultException;
+
+@SpringBootTest
+class LineMutationPipelineTest {
+
+    @Autowired
+    private LineMutationPipeline lineMutationPipeline;
+
+    @Autowired
+    private LineService lineService;
+
+    @Autowired
+    private LineDao lineDao;
+
+    @Autowired
+    private StationDao stationDao;
+
+    @Autowired
+    private SectionDao sectionDao;
+
+    @Autowired
+    private LineHistoryDao lineHistoryDao;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("lineWriterPool")
+    private ExecutorService lineWriterPool;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM SECTION");
+        jdbcTemplate.update("DELETE FROM LINE");
+        jdbcTemplate.update("DELETE FROM STATION");
+    }
+
+    @Test
+    @DisplayName("같은 노선에 몰린 구간 수정 요청을 순서대로 반영하고, 실패한 요청만 예외로 완료해야 한다.")
+    void applyQueuedCommandsInOrder() {
+        // given
+        List<Long> stationIds = new ArrayList<>();
+        for (int i = 0; i <= 20; i++) {
+            stationIds.add(stationDao.save(new Station("역" + i)).getId());
+        }
+        Long lineId = lineService.save(
+            new LineRequest("1호선", "bg-red-600", stationIds.get(0), stationIds.get(1), 5)).getId();
+
+        // when
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int i = 1; i < 20; i++) {
+            results.add(lineMutationPipeline.insertSection(lineId,
+                new SectionRequest(stationIds.get(i), stationIds.get(i + 1), 5)));
+        }
+        CompletableFuture<Void> invalid = lineMutationPipeline.insertSection(lineId,
+            new SectionRequest(stationIds.get(0), stationIds.get(20), 3));
+        results.add(lineMutationPipeline.deleteStation(lineId, stationIds.get(10)));
+
+        // then
+        results.forEach(CompletableFuture::join);
+        assertThatThrownBy(invalid::join).hasCauseInstanceOf(IllegalArgumentException.class);
+
+        Line line = lineDao.findById(lineId).get();
+        List<Long> expected = new ArrayList<>(stationIds);
+        expected.remove(stationIds.get(10));
+        assertThat(line.getStations().stream()
+            .map(Station::getId)
+            .collect(Collectors.toList())).containsExactlyElementsOf(expected);
+        assertThat(line.distanceBetween(line.getStations().get(0), line.getStations().get(19))).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("노선 이름을 바꾼 뒤 구간을 추가해도 이력에는 바뀐 이름이 남아야 한다.")
+    void keepRenameInHistory() {
+        // given
+        List<Long> stationIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            stationIds.add(stationDao.save(new Station("역" + i)).getId());
+        }
+        Long lineId = lineService.save(
+            new LineRequest("1호선", "bg-red-600", stationIds.get(0), stationIds.get(1), 5)).getId();
+        lineMutationPipeline.insertSection(lineId, new SectionRequest(stationIds.get(1), stationIds.get(2), 5))
+            .join();
+
+        // when
+        lineService.updateById(lineId,
+            new LineRequest("신분당선", "bg-red-600", stationIds.get(0), stationIds.get(1), 5));
+        lineMutationPipeline.insertSection(lineId, new SectionRequest(stationIds.get(2), stationIds.get(3), 5))
+            .join();
+
+        // then
+        assertThat(lineService.findById(lineId, String.valueOf(Long.MAX_VALUE)).getName()).isEqualTo("신분당선");
+        assertThat(lineDao.findById(lineId).get().getName()).isEqualTo("신분당선");
+    }
+
+    @Test
+    @DisplayName("대기 중인 명령을 모두 처리한 노선의 작성기는 제거해야 한다.")
+    void evictIdleWriters() throws InterruptedException {
+        // given
+        Long upStationId = stationDao.save(new Station("강남역")).getId();
+        Long downStationId = stationDao.save(new Station("역삼역")).getId();
+        Long newStationId = stationDao.save(new Station("선릉역")).getId();
+        Long lineId = lineService.save(
+            new LineRequest("2호선", "bg-green-600", upStationId, downStationId, 5)).getId();
+
+        // when
+        lineMutationPipeline.insertSection(lineId, new SectionRequest(downStationId, newStationId, 5)).join();
+        lineMutationPipeline.insertSection(999L, new SectionRequest(downStationId, newStationId, 5))
+            .exceptionally(exception -> null)
+            .join();
+
+        // then
+        long deadline = System.currentTimeMillis() + 1000L;
+        while (lineMutationPipeline.activeWriters() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertThat(lineMutationPipeline.activeWriters()).isZero();
+    }
+
+    @Test
+    void insertSection() {
+        // given
+        Long upStationId = stationDao.save(new Station("강남역")).getId();
+        Long downStationId = stationDao.save(new Station("선릉역")).getId();
+        Long newDownStationId = stationDao.save(new Station("교대역")).getId();
+        Long lineId = lineService.save(new LineRequest("1호선", "bg-red-600", upStationId, downStationId, 5)).getId();
+
+        // when
+        lineMutationPipeline.insertSection(lineId, new SectionRequest(upStationId, newDownStationId, 3)).join();
+
+        // then
+        LineResponse lineResponse = lineService.findById(lineId);
+        assertThat(lineResponse.getStations().stream()
+            .map(StationResponse::getName)
+            .collect(Collectors.toList())).containsExactly("강남역", "교대역", "선릉역");
+    }
+
+    @Test
+    void insertInvalidSection() {
+        // given
+        Long upStationId = stationDao.save(new Station("강남역")).getId();
+        Long downStationId = stationDao.save(new Station("선릉역")).getId();
+        Long newUpStationId = stationDao.save(new Station("잠실역")).getId();
+        Long newDownStationId = stationDao.save(new Station("교대역")).getId();
+        Long lineId = lineService.save(new LineRequest("1호선", "bg-red-600", upStationId, downStationId, 5)).getId();
+
+        // when
+        CompletableFuture<Void> result = lineMutationPipeline.insertSection(lineId,
+            new SectionRequest(newUpStationId, newDownStationId, 3));
+
+        // then
+        assertThatThrownBy(result::join).hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void deleteStation() {
+        // given
+        Long upStationId = stationDao.save(new Station("강남역")).getId();
+        Long downStationId = stationDao.save(new Station("선릉역")).getId();
+        Long newDownStationId = stationDao.save(new Station("교대역")).getId();
+        Long lineId = lineService.save(new LineRequest("1호선", "bg-red-600", upStationId, downStationId, 5)).getId();
+        lineMutationPipeline.insertSection(lineId, new SectionRequest(upStationId, newDownStationId, 3)).join();
+
+        // when
+        lineMutationPipeline.deleteStation(lineId, newDownStationId).join();
+
+        // then
+        assertThat(lineService.findById(lineId).getStations().stream()
+            .map(StationResponse::getName)
+            .collect(Collectors.toList())).containsExactly("강남역", "선릉역");
+    }
+
+    @Test
+    @DisplayName("삭제할 구간을 찾지 못했을 경우 예외를 반환해야 합니다.")
+    void deleteNone() {
+        // given
+        Long upStationId = stationDao.save(new Station("강남역")).getId();
+        Long downStationId = stationDao.save(new Station("선릉역")).getId();
+        Long notInLineStationId = stationDao.save(new Station("xx")).getId();
+        Long lineId = lineService.save(new LineRequest("1호선", "bg-red-600", upStationId, downStationId, 5)).getId();
+
+        // when
+        CompletableFuture<Void> result = lineMutationPipeline.deleteStation(lineId, notInLineStationId);
+
+        // then
+        assertThatThrownBy(result::join)
+            .hasCauseInstanceOf(EmptyResultException.class)
+            .hasMessageContaining("삭제할 구간을 찾지 못했습니다.");
+    }
+
+    @Test
+    @DisplayName("묶음의 명령이 모두 실패하면 노선 버전과 이력을 남기지 않아야 한다.")
+    void skipBatchWithoutAppliedCommand() {
+        // given
+        Long upStationId = stationDao.save(new Station("강남역")).getId();
+        Long downStationId = stationDao.save(new Station("선릉역")).getId();
+        Long notInLineStationId = stationDao.save(new Station("xx")).getId();
+        Long lineId = lineService.save(new LineRequest("1호선", "bg-red-600", upStationId, downStationId, 5)).getId();
+        long version = lineDao.findById(lineId).get().getVersion();
+        Integer histories = countHistories(lineId);
+
+        // when
+        lineMutationPipeline.deleteStation(lineId, notInLineStationId)
+            .exceptionally(exception -> null)
+            .join();
+
+        // then
+        assertThat(lineDao.findById(lineId).get().getVersion()).isEqualTo(version);
+        assertThat(countHistories(lineId)).isEqualTo(histories);
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 노선을 수정하면 노선을 다시 읽어 구간을 추가해야 한다.")
+    void retryInsertSectionOnVersionConflict() {
+        // given
+        LineDao racingLineDao = new LineDaoImpl(jdbcTemplate) {
+            private boolean raced;
+
+            @Override
+            public boolean compareAndIncrementVersion(Long id, long expectedVersion) {
+                if (!raced) {
+                    raced = true;
+                    super.compareAndIncrementVersion(id, expectedVersion);
+                }
+                return super.compareAndIncrementVersion(id, expectedVersion);
+            }
+        };
+        LineMutationPipeline racingPipeline = new LineMutationPipeline(racingLineDao, stationDao, sectionDao,
+            lineHistoryDao, transactionManager, eventPublisher, lineWriterPool);
+        Long upStationId = stationDao.save(new Station("강남역")).getId();
+        Long downStationId = stationDao.save(new Station("선릉역")).getId();
+        Long newDownStationId = stationDao.save(new Station("교대역")).getId();
+        Long lineId = lineService.save(new LineRequest("1호선", "bg-red-600", upStationId, downStationId, 5)).getId();
+
+        // when
+        racingPipeline.insertSection(lineId, new SectionRequest(downStationId, newDownStationId, 3)).join();
+
+        // then
+        Line line = lineDao.findById(lineId).get();
+        assertThat(line.getStations()).hasSize(3);
+        assertThat(line.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("버전 충돌이 계속되면 재시도를 멈추고 예외를 반환해야 한다.")
+    void giveUpAfterRepeatedConflicts() {
+        // given
+        LineDao conflictingLineDao = new LineDaoImpl(jdbcTemplate) {
+            @Override
+            public boolean compareAndIncrementVersion(Long id, long expectedVersion) {
+                return false;
+            }
+        };
+        LineMutationPipeline conflictingPipeline = new LineMutationPipeline(conflictingLineDao, stationDao,
+            sectionDao, lineHistoryDao, transactionManager, eventPublisher, lineWriterPool);
+        Long upStationId = stationDao.save(new Station("강남역")).getId();
+        Long downStationId = stationDao.save(new Station("선릉역")).getId();
+        Long newDownStationId = stationDao.save(new Station("교대역")).getId();
+        Long lineId = lineService.save(new LineRequest("1호선", "bg-red-600", upStationId, downStationId, 5)).getId();
+
+        // when
+        CompletableFuture<Void> result = conflictingPipeline.insertSection(lineId,
+            new SectionRequest(downStationId, newDownStationId, 3));
+
+        // then
+        assertThatThrownBy(result::join).hasCauseInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(lineDao.findById(lineId).get().getStations()).hasSize(2);
+    }
+
+    private Integer countHistories(Long lineId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM LINE_HISTORY WHERE line_id = ?", Integer.class,
+            lineId);
+    }
+}
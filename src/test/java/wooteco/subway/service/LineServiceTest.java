@@ -3,6 +3,7 @@ package wooteco.subway.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -11,19 +12,21 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.transaction.annotation.Transactional;
 
 import wooteco.subway.dao.LineDao;
+import wooteco.subway.dao.LineHistoryDao;
 import wooteco.subway.dao.SectionDao;
 import wooteco.subway.dao.StationDao;
 import wooteco.subway.domain.Line;
+import wooteco.subway.domain.LineChangedEvent;
+import wooteco.subway.domain.Section;
 import wooteco.subway.domain.Station;
 import wooteco.subway.dto.LineRequest;
 import wooteco.subway.dto.LineResponse;
-import wooteco.subway.dto.SectionRequest;
 import wooteco.subway.dto.StationResponse;
-import wooteco.subway.exception.EmptyResultException;
 
 @SpringBootTest
 @Transactional
@@ -41,11 +44,17 @@ class LineServiceTest {
     @Autowired
     private SectionDao sectionDao;
 
+    @Autowired
+    private LineHistoryDao lineHistoryDao;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     private LineService lineService;
 
     @BeforeEach
     void setUp() {
-        lineService = new LineService(lineDao, stationDao, sectionDao);
+        lineService = new LineService(lineDao, stationDao, sectionDao, lineHistoryDao, eventPublisher);
 
         upStationId = stationDao.save(new Station("강남역")).getId();
         downStationId = stationDao.save(new Station("선릉역")).getId();
@@ -123,104 +132,88 @@ class LineServiceTest {
     }
 
     @Test
-    void update() {
+    @DisplayName("없는 노선을 삭제하면 노선 변경 이벤트를 발행하지 않아야 한다.")
+    void deleteMissingLine() {
         // given
-        LineRequest originLine = new LineRequest("1호선", "bg-red-600", upStationId, downStationId, 5);
-        LineResponse lineResponse = lineService.save(originLine);
+        List<Object> events = new ArrayList<>();
+        LineService recordingLineService = new LineService(lineDao, stationDao, sectionDao, lineHistoryDao,
+            events::add);
 
         // when
-        LineRequest newLine = new LineRequest("2호선", "bg-green-600", upStationId, downStationId, 5);
-        lineService.updateById(lineResponse.getId(), newLine);
-        Line line = lineDao.findById(lineResponse.getId()).get();
+        boolean deleted = recordingLineService.deleteById(Long.MAX_VALUE);
 
         // then
-        assertThat(line.getName()).isEqualTo(newLine.getName());
+        assertThat(deleted).isFalse();
+        assertThat(events).isEmpty();
     }
 
     @Test
-    void insertSection() {
+    void update() {
         // given
         LineRequest originLine = new LineRequest("1호선", "bg-red-600", upStationId, downStationId, 5);
         LineResponse lineResponse = lineService.save(originLine);
 
         // when
-        Long newDownStationId = stationDao.save(new Station("교대역")).getId();
-        SectionRequest sectionRequest = new SectionRequest(upStationId, newDownStationId, 3);
+        LineRequest newLine = new LineRequest("2호선", "bg-green-600", upStationId, downStationId, 5);
+        lineService.updateById(lineResponse.getId(), newLine);
+        Line line = lineDao.findById(lineResponse.getId()).get();
 
         // then
-        lineService.insertSection(lineResponse.getId(), sectionRequest);
-        LineResponse newLineResponse = lineService.findById(lineResponse.getId());
-        assertAll(
-            () -> assertThat(lineResponse.getId()).isEqualTo(newLineResponse.getId()),
-            () -> assertThat(lineResponse.getName()).isEqualTo(newLineResponse.getName()),
-            () -> assertThat(lineResponse.getColor()).isEqualTo(newLineResponse.getColor()),
-            () -> assertThat(newLineResponse.getStations())
-                .hasSize(3)
-                .contains(StationResponse.from(new Station("강남역")),
-                    StationResponse.from(new Station("교대역")),
-                    StationResponse.from(new Station("선릉역")))
-        );
+        assertThat(line.getName()).isEqualTo(newLine.getName());
     }
 
     @Test
-    void insertInvalidSection() {
+    @DisplayName("추가 요금 없이 노선을 수정하면 기존 추가 요금을 유지해야 한다.")
+    void updateWithoutExtraFare() {
         // given
-        LineRequest originLine = new LineRequest("1호선", "bg-red-600", upStationId, downStationId, 5);
-        LineResponse lineResponse = lineService.save(originLine);
+        LineRequest originLine = new LineRequest("신분당선", "bg-red-600", upStationId, downStationId, 5, 900);
+        Long lineId = lineService.save(originLine).getId();
 
         // when
-        Long newUpStationId = stationDao.save(new Station("잠실역")).getId();
-        Long newDownStationId = stationDao.save(new Station("교대역")).getId();
-        SectionRequest sectionRequest = new SectionRequest(newUpStationId, newDownStationId, 3);
+        lineService.updateById(lineId, new LineRequest("신분당선", "bg-blue-600", upStationId, downStationId, 5));
 
         // then
-        assertThatThrownBy(
-            () -> lineService.insertSection(lineResponse.getId(), sectionRequest)
-        ).isInstanceOf(IllegalArgumentException.class);
+        assertThat(lineDao.findById(lineId).get().getExtraFare()).isEqualTo(900);
     }
 
     @Test
-    void deleteStation() {
+    @DisplayName("노선 위 두 역 사이의 거리와 역 목록을 조회할 수 있어야 합니다.")
+    void findDistanceAndStationsBetween() {
         // given
         LineRequest originLine = new LineRequest("1호선", "bg-red-600", upStationId, downStationId, 5);
         LineResponse lineResponse = lineService.save(originLine);
-        Long newDownStationId = stationDao.save(new Station("교대역")).getId();
-        SectionRequest sectionRequest = new SectionRequest(upStationId, newDownStationId, 3);
-        lineService.insertSection(lineResponse.getId(), sectionRequest);
+        Station newDownStation = stationDao.save(new Station("교대역"));
+        Long newDownStationId = newDownStation.getId();
+        sectionDao.save(new Section(stationDao.findById(downStationId).get(), newDownStation, 3), lineResponse.getId());
 
         // when
-        lineService.deleteStation(lineResponse.getId(), newDownStationId);
+        int distance = lineService.findDistance(lineResponse.getId(), upStationId, newDownStationId).getDistance();
+        List<String> names = lineService.findStationsBetween(lineResponse.getId(), newDownStationId, upStationId)
+            .stream()
+            .map(StationResponse::getName)
+            .collect(Collectors.toList());
 
         // then
-        LineResponse newLineResponse = lineService.findById(lineResponse.getId());
-        assertAll(
-            () -> assertThat(lineResponse.getId()).isEqualTo(newLineResponse.getId()),
-            () -> assertThat(lineResponse.getName()).isEqualTo(newLineResponse.getName()),
-            () -> assertThat(lineResponse.getColor()).isEqualTo(newLineResponse.getColor()),
-            () -> assertThat(newLineResponse.getStations().stream()
-                .map(StationResponse::getName)
-                .collect(Collectors.toList()))
-                .hasSize(2)
-                .contains("강남역", "선릉역")
-        );
+        assertThat(distance).isEqualTo(8);
+        assertThat(names).containsExactly("교대역", "선릉역", "강남역");
     }
 
     @Test
-    @DisplayName("삭제할 구간을 찾지 못했을 경우 예외를 반환해야 합니다.")
-    void deleteNone() {
+    @DisplayName("노선이 변경되면 캐시한 노선 대신 변경된 구간으로 거리를 계산해야 합니다.")
+    void findDistanceAfterLineChanged() {
         // given
         LineRequest originLine = new LineRequest("1호선", "bg-red-600", upStationId, downStationId, 5);
-        LineResponse lineResponse = lineService.save(originLine);
-        Long newDownStationId = stationDao.save(new Station("교대역")).getId();
-        SectionRequest sectionRequest = new SectionRequest(upStationId, newDownStationId, 3);
-        lineService.insertSection(lineResponse.getId(), sectionRequest);
+        Long lineId = lineService.save(originLine).getId();
+        lineService.findDistance(lineId, upStationId, downStationId);
+        Station newDownStation = stationDao.save(new Station("교대역"));
+        Long newDownStationId = newDownStation.getId();
+        sectionDao.save(new Section(stationDao.findById(downStationId).get(), newDownStation, 3), lineId);
 
         // when
-        Long notInLineStationId = stationDao.save(new Station("xx")).getId();
+        lineService.onLineChanged(new LineChangedEvent(lineId));
+        int distance = lineService.findDistance(lineId, upStationId, newDownStationId).getDistance();
 
         // then
-        assertThatThrownBy(() -> lineService.deleteStation(lineResponse.getId(), notInLineStationId))
-            .hasMessage("삭제할 구간을 찾지 못했습니다.")
-            .isInstanceOf(EmptyResultException.class);
+        assertThat(distance).isEqualTo(8);
     }
 }
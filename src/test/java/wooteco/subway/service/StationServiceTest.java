@@ -3,22 +3,33 @@ package wooteco.subway.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DuplicateKeyException;
 
+import wooteco.subway.dao.FakeLineDao;
 import wooteco.subway.dao.FakeStationDao;
 import wooteco.subway.dao.StationDao;
 import wooteco.subway.domain.Station;
+import wooteco.subway.domain.StationChangedEvent;
+import wooteco.subway.dto.NearbyStationResponse;
 import wooteco.subway.dto.StationRequest;
 import wooteco.subway.dto.StationResponse;
 
 class StationServiceTest {
 
     private final StationDao stationDao = new FakeStationDao();
-    private final StationService stationService = new StationService(stationDao);
+    private final List<Object> events = new ArrayList<>();
+    private final StationService stationService = new StationService(stationDao,
+        new LineIndexService(new FakeLineDao(), stationDao), events::add);
 
     @BeforeEach
     void setUp() {
@@ -88,4 +99,88 @@ class StationServiceTest {
             .hasSize(0)
             .doesNotContain(stationResponse);
     }
+
+    @Test
+    void findNearest() {
+        // given
+        StationResponse gangnam = stationService.save(new StationRequest("강남역", 37.4979, 127.0276));
+        stationService.save(new StationRequest("역삼역", 37.5006, 127.0364));
+        StationResponse jamsil = stationService.save(new StationRequest("잠실역", 37.5133, 127.1001));
+
+        // when
+        stationService.deleteById(gangnam.getId());
+        List<NearbyStationResponse> nearest = stationService.findNearest(37.4979, 127.0276, 2);
+
+        // then
+        assertThat(nearest).hasSize(2);
+        assertThat(nearest.get(0).getName()).isEqualTo("역삼역");
+        assertThat(nearest.get(1).getId()).isEqualTo(jamsil.getId());
+    }
+
+    @Test
+    @DisplayName("역 인덱스는 커밋 이후 전달된 변경만 반영한다.")
+    void updateIndexAfterCommit() {
+        // given
+        stationService.search("강남", 10);
+        StationResponse gangnam = stationService.save(new StationRequest("강남역", 37.4979, 127.0276));
+
+        // when
+        List<StationResponse> beforeCommit = stationService.search("강남", 10);
+        commit();
+        List<StationResponse> afterCommit = stationService.search("강남", 10);
+
+        // then
+        assertThat(beforeCommit).isEmpty();
+        assertThat(afterCommit).containsExactly(gangnam);
+    }
+
+    @Test
+    @DisplayName("변경된 역을 다시 읽는 동안에도 인덱스 조회가 막히지 않아야 한다.")
+    void searchWhileReloadingStation() throws Exception {
+        // given
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StationDao slowStationDao = new FakeStationDao() {
+            @Override
+            public Optional<Station> findById(Long id) {
+                reading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.findById(id);
+            }
+        };
+        StationService slowStationService = new StationService(slowStationDao,
+            new LineIndexService(new FakeLineDao(), slowStationDao), event -> {
+        });
+        Station gangnam = slowStationDao.save(new Station("강남역"));
+        slowStationService.search("강남", 10);
+        Thread listener = new Thread(() -> slowStationService.onStationChanged(
+            new StationChangedEvent(gangnam.getId())));
+        listener.start();
+        reading.await();
+
+        // when
+        List<StationResponse> found;
+        try {
+            found = CompletableFuture.supplyAsync(() -> slowStationService.search("강남", 10))
+                .get(1, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            listener.join();
+        }
+
+        // then
+        assertThat(found).hasSize(1);
+        assertThat(found.get(0).getName()).isEqualTo("강남역");
+    }
+
+    private void commit() {
+        for (Object event : events) {
+            stationService.onStationChanged((StationChangedEvent)event);
+        }
+        events.clear();
+    }
 }